@@ -19,6 +19,8 @@ package io.jmix.audit;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties("jmix.audit")
 public class AuditProperties {
 
@@ -26,12 +28,42 @@ public class AuditProperties {
     //ToDo: make system user name globally configurable?
     String systemUsername;
 
+    /**
+     * Whether entity log items are written to the database by a background writer after the business transaction
+     * is committed, instead of being persisted inside it.
+     */
+    boolean entityLogWriteBehind;
+
+    /**
+     * Maximum number of entity log items waiting to be written in the write-behind mode.
+     */
+    int entityLogQueueCapacity;
+
+    /**
+     * Maximum number of entity log items inserted by a single JDBC batch in the write-behind mode.
+     */
+    int entityLogBatchSize;
+
+    /**
+     * How long a committing transaction waits for free space in the full write-behind queue. If the time elapses,
+     * the items are written by the committing thread.
+     */
+    Duration entityLogEnqueueTimeout;
+
     public AuditProperties(
             @DefaultValue("true") boolean enabled,
-            @DefaultValue("system") String systemUsername
+            @DefaultValue("system") String systemUsername,
+            @DefaultValue("false") boolean entityLogWriteBehind,
+            @DefaultValue("10000") int entityLogQueueCapacity,
+            @DefaultValue("500") int entityLogBatchSize,
+            @DefaultValue("1s") Duration entityLogEnqueueTimeout
     ) {
         this.enabled = enabled;
         this.systemUsername = systemUsername;
+        this.entityLogWriteBehind = entityLogWriteBehind;
+        this.entityLogQueueCapacity = entityLogQueueCapacity;
+        this.entityLogBatchSize = entityLogBatchSize;
+        this.entityLogEnqueueTimeout = entityLogEnqueueTimeout;
     }
 
     public boolean isEnabled() {
@@ -41,4 +73,32 @@ public class AuditProperties {
     public String getSystemUsername() {
         return systemUsername;
     }
+
+    /**
+     * @see #entityLogWriteBehind
+     */
+    public boolean isEntityLogWriteBehind() {
+        return entityLogWriteBehind;
+    }
+
+    /**
+     * @see #entityLogQueueCapacity
+     */
+    public int getEntityLogQueueCapacity() {
+        return entityLogQueueCapacity;
+    }
+
+    /**
+     * @see #entityLogBatchSize
+     */
+    public int getEntityLogBatchSize() {
+        return entityLogBatchSize;
+    }
+
+    /**
+     * @see #entityLogEnqueueTimeout
+     */
+    public Duration getEntityLogEnqueueTimeout() {
+        return entityLogEnqueueTimeout;
+    }
 }
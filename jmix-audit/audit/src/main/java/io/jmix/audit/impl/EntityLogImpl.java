@@ -90,6 +90,8 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     protected AttributeChangesProvider attributeChangesProvider;
     @Autowired
     protected EntityEventManager entityEventManager;
+    @Autowired
+    protected EntityLogWriter entityLogWriter;
 
     @PersistenceContext
     protected EntityManager entityManager;
@@ -165,20 +167,59 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         if (items == null || items.isEmpty())
             return;
 
-        Set<EntityLogItem> saved = new LinkedHashSet<>();
+        Map<Object, List<EntityLogItem>> itemsByEntity = new LinkedHashMap<>();
         for (EntityLogItem item : items) {
-            List<EntityLogItem> sameEntityList = items.stream()
-                    .filter(entityLogItem -> entityLogItem.getDbGeneratedIdEntity() != null ?
-                            entityLogItem.getDbGeneratedIdEntity().equals(item.getDbGeneratedIdEntity()) :
-                            entityLogItem.getEntityRef().getObjectEntityId().equals(item.getEntityRef().getObjectEntityId()))
-                    .collect(Collectors.toList());
+            itemsByEntity.computeIfAbsent(getEntityKey(item), key -> new ArrayList<>()).add(item);
+        }
+
+        List<EntityLogItem> deferred = new ArrayList<>();
+        for (List<EntityLogItem> sameEntityList : itemsByEntity.values()) {
             EntityLogItem itemToSave = sameEntityList.get(0);
-            if (!saved.contains(itemToSave)) {
-                computeChanges(itemToSave, sameEntityList);
-                saved.add(itemToSave);
+            computeChanges(itemToSave, sameEntityList);
+            if (properties.isEntityLogWriteBehind()) {
+                entityEventManager.publishEntitySavingEvent(itemToSave, true);//workaround for jmix-framework/jmix#1069
+                deferred.add(itemToSave);
+            } else {
                 saveItem(itemToSave);
             }
         }
+        if (!deferred.isEmpty()) {
+            enqueueAfterCommit(deferred);
+        }
+    }
+
+    protected Object getEntityKey(EntityLogItem item) {
+        return item.getDbGeneratedIdEntity() != null ?
+                item.getDbGeneratedIdEntity() :
+                item.getEntityRef().getObjectEntityId();
+    }
+
+    /**
+     * Passes the items to {@link EntityLogWriter} when the current transaction is committed.
+     */
+    protected void enqueueAfterCommit(List<EntityLogItem> items) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityLogWriter.enqueue(items);
+            return;
+        }
+        EntityLogResourceHolder holder = getEntityLogResourceHolder();
+        if (holder.writeBehindItems == null) {
+            // items are flushed several times in a transaction, so collect them to a set and register one callback
+            Set<EntityLogItem> writeBehindItems = new LinkedHashSet<>();
+            holder.writeBehindItems = writeBehindItems;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    for (EntityLogItem item : writeBehindItems) {
+                        if (item.getDbGeneratedIdEntity() != null) {
+                            item.getEntityRef().setObjectEntityId(EntityValues.getId(item.getDbGeneratedIdEntity()));
+                        }
+                    }
+                    entityLogWriter.enqueue(writeBehindItems);
+                }
+            });
+        }
+        holder.writeBehindItems.addAll(items);
     }
 
     protected void computeChanges(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList) {
@@ -807,6 +848,8 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
 
         protected Map<String, List<EntityLogItem>> itemsMap = new HashMap<>();
 
+        protected Set<EntityLogItem> writeBehindItems;
+
         @Nullable
         protected List<EntityLogItem> getItems(String storeName) {
             return itemsMap.get(storeName);
@@ -825,6 +868,7 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
 
         protected void clearItems() {
             itemsMap.clear();
+            writeBehindItems = null;
         }
     }
 
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.audit.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.audit.AuditProperties;
+import io.jmix.audit.entity.EntityLogItem;
+import io.jmix.audit.entity.ReferenceToEntity;
+import io.jmix.core.Stores;
+import io.jmix.core.TimeSource;
+import io.jmix.data.AuditInfoProvider;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.persistence.DbTypeConverter;
+import io.jmix.data.persistence.DbmsSpecifics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes entity log items to the database in background when {@link AuditProperties#isEntityLogWriteBehind()}
+ * is on.
+ * <p>
+ * Items are accepted after the business transaction is committed and inserted into {@code AUDIT_ENTITY_LOG} by
+ * JDBC batches in a separate thread. When the queue is full, the committing thread waits for
+ * {@link AuditProperties#getEntityLogEnqueueTimeout()} and then writes its items itself, so the queue never grows
+ * beyond {@link AuditProperties#getEntityLogQueueCapacity()}.
+ */
+@Component("audit_EntityLogWriter")
+public class EntityLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityLogWriter.class);
+
+    protected static final String INSERT_SQL = "insert into AUDIT_ENTITY_LOG (ID, CREATE_TS, CREATED_BY, EVENT_TS, " +
+            "USERNAME, SUBSTITUTED_USERNAME, CHANGE_TYPE, ENTITY, ENTITY_INSTANCE_NAME, ENTITY_ID, STRING_ENTITY_ID, " +
+            "INT_ENTITY_ID, LONG_ENTITY_ID, CHANGES, SYS_TENANT_ID) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    protected AuditProperties properties;
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected DbmsSpecifics dbmsSpecifics;
+    @Autowired
+    protected TimeSource timeSource;
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+
+    protected volatile BlockingQueue<QueuedItem> queue;
+    protected volatile ExecutorService executor;
+    protected volatile boolean stopped;
+
+    protected final AtomicLong writtenCount = new AtomicLong();
+    protected final AtomicLong failedCount = new AtomicLong();
+    protected final AtomicLong inlineWriteCount = new AtomicLong();
+
+    /**
+     * Puts the items to the write-behind queue. Must be invoked after the transaction that created the items
+     * has been committed.
+     */
+    public void enqueue(Collection<EntityLogItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Date createTs = timeSource.currentTimestamp();
+        UserDetails currentUser = auditInfoProvider.getCurrentUser();
+        String createdBy = currentUser != null ? currentUser.getUsername() : null;
+        List<EntityLogItem> notQueued = new ArrayList<>();
+        BlockingQueue<QueuedItem> queue = getQueue();
+        long timeoutNanos = properties.getEntityLogEnqueueTimeout().toNanos();
+        for (EntityLogItem item : items) {
+            if (item.getCreateTs() == null) {
+                item.setCreateTs(createTs);
+            }
+            if (item.getCreatedBy() == null) {
+                item.setCreatedBy(createdBy);
+            }
+            if (stopped || !offer(queue, new QueuedItem(item), timeoutNanos)) {
+                notQueued.add(item);
+                // do not wait again for the rest of the items
+                timeoutNanos = 0;
+            }
+        }
+        if (!notQueued.isEmpty()) {
+            log.debug("Entity log queue is full, writing {} items in the current thread", notQueued.size());
+            inlineWriteCount.addAndGet(notQueued.size());
+            write(notQueued);
+        }
+    }
+
+    protected boolean offer(BlockingQueue<QueuedItem> queue, QueuedItem queuedItem, long timeoutNanos) {
+        try {
+            return queue.offer(queuedItem, timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    protected BlockingQueue<QueuedItem> getQueue() {
+        if (queue == null) {
+            synchronized (this) {
+                if (queue == null) {
+                    queue = new LinkedBlockingQueue<>(properties.getEntityLogQueueCapacity());
+                    executor = Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jmix-EntityLogWriter-%d")
+                                    .setDaemon(true)
+                                    .build()
+                    );
+                    executor.execute(this::processQueue);
+                }
+            }
+        }
+        return queue;
+    }
+
+    protected void processQueue() {
+        List<QueuedItem> batch = new ArrayList<>();
+        while (!stopped) {
+            try {
+                QueuedItem first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, Math.max(properties.getEntityLogBatchSize(), 1) - 1);
+                writeQueued(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error processing entity log queue", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void writeQueued(List<QueuedItem> batch) {
+        List<EntityLogItem> items = new ArrayList<>(batch.size());
+        for (QueuedItem queuedItem : batch) {
+            items.add(queuedItem.item);
+        }
+        write(items);
+    }
+
+    protected void write(List<EntityLogItem> items) {
+        DbTypeConverter converter = dbmsSpecifics.getDbTypeConverter(Stores.MAIN);
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(storeAwareLocator.getTransactionManager(Stores.MAIN));
+            // the items may come from afterCommit() of another transaction that is still bound to the thread
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.executeWithoutResult(status ->
+                    storeAwareLocator.getJdbcTemplate(Stores.MAIN).batchUpdate(INSERT_SQL,
+                            new BatchPreparedStatementSetter() {
+                                @Override
+                                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                    setItemValues(ps, items.get(i), converter);
+                                }
+
+                                @Override
+                                public int getBatchSize() {
+                                    return items.size();
+                                }
+                            }));
+            writtenCount.addAndGet(items.size());
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(items.size());
+            log.error("Unable to write {} entity log items", items.size(), e);
+        }
+    }
+
+    protected void setItemValues(PreparedStatement ps, EntityLogItem item, DbTypeConverter converter)
+            throws SQLException {
+        ReferenceToEntity ref = item.getEntityRef();
+        setUuid(ps, 1, item.getId(), converter);
+        setValue(ps, 2, item.getCreateTs(), Types.TIMESTAMP, converter);
+        setValue(ps, 3, item.getCreatedBy(), Types.VARCHAR, converter);
+        setValue(ps, 4, item.getEventTs(), Types.TIMESTAMP, converter);
+        setValue(ps, 5, item.getUsername(), Types.VARCHAR, converter);
+        setValue(ps, 6, item.getSubstitutedUsername(), Types.VARCHAR, converter);
+        setValue(ps, 7, item.getType() != null ? item.getType().getId() : null, Types.VARCHAR, converter);
+        setValue(ps, 8, item.getEntity(), Types.VARCHAR, converter);
+        setValue(ps, 9, item.getEntityInstanceName(), Types.VARCHAR, converter);
+        setUuid(ps, 10, ref.getEntityId(), converter);
+        setValue(ps, 11, ref.getStringEntityId(), Types.VARCHAR, converter);
+        setValue(ps, 12, ref.getIntEntityId(), Types.INTEGER, converter);
+        setValue(ps, 13, ref.getLongEntityId(), Types.BIGINT, converter);
+        setValue(ps, 14, item.getChanges(), Types.VARCHAR, converter);
+        setValue(ps, 15, item.getSysTenantId(), Types.VARCHAR, converter);
+    }
+
+    protected void setUuid(PreparedStatement ps, int index, @Nullable UUID value, DbTypeConverter converter)
+            throws SQLException {
+        setValue(ps, index, value, converter.getSqlType(UUID.class), converter);
+    }
+
+    protected void setValue(PreparedStatement ps, int index, @Nullable Object value, int sqlType,
+                            DbTypeConverter converter) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, converter.getSqlObject(value));
+        }
+    }
+
+    /**
+     * @return number of items waiting to be written
+     */
+    public int getQueueSize() {
+        BlockingQueue<QueuedItem> queue = this.queue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * @return time in milliseconds the oldest queued item has been waiting to be written
+     */
+    public long getLagMillis() {
+        BlockingQueue<QueuedItem> queue = this.queue;
+        QueuedItem oldest = queue == null ? null : queue.peek();
+        return oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAt);
+    }
+
+    /**
+     * @return number of items written to the database
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return number of items that could not be written because of errors
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return number of items written by committing threads because the queue was full
+     */
+    public long getInlineWriteCount() {
+        return inlineWriteCount.get();
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        stopped = true;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<QueuedItem> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                log.info("Writing {} remaining entity log items", remaining.size());
+                writeQueued(remaining);
+            }
+        }
+    }
+
+    protected static class QueuedItem {
+        protected final EntityLogItem item;
+        protected final long enqueuedAt = System.nanoTime();
+
+        protected QueuedItem(EntityLogItem item) {
+            this.item = item;
+        }
+    }
+}
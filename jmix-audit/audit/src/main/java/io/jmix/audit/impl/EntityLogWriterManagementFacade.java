@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.audit.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+@ManagedResource(description = "Provides statistics of the write-behind entity log writer", objectName = "jmix.audit:type=EntityLogWriter")
+@Component("audit_EntityLogWriterManagementFacade")
+public class EntityLogWriterManagementFacade {
+
+    @Autowired
+    private EntityLogWriter entityLogWriter;
+
+    @ManagedAttribute(description = "Number of entity log items waiting to be written")
+    public int getQueueSize() {
+        return entityLogWriter.getQueueSize();
+    }
+
+    @ManagedAttribute(description = "Time in milliseconds the oldest queued entity log item has been waiting")
+    public long getLagMillis() {
+        return entityLogWriter.getLagMillis();
+    }
+
+    @ManagedAttribute(description = "Number of entity log items written to the database")
+    public long getWrittenCount() {
+        return entityLogWriter.getWrittenCount();
+    }
+
+    @ManagedAttribute(description = "Number of entity log items that could not be written")
+    public long getFailedCount() {
+        return entityLogWriter.getFailedCount();
+    }
+
+    @ManagedAttribute(description = "Number of entity log items written by committing threads because the queue was full")
+    public long getInlineWriteCount() {
+        return entityLogWriter.getInlineWriteCount();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogWriter
+import io.jmix.core.entity.EntityValues
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import spock.util.concurrent.PollingConditions
+import test_support.testmodel.IdentityEntity
+
+@TestPropertySource(properties = ["jmix.audit.entityLogWriteBehind=true"])
+class EntityLogWriteBehindTest extends AbstractEntityLogTest {
+
+    @Autowired
+    EntityLogWriter entityLogWriter
+
+    void setup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+            saveEntityLogAutoConfFor('test$IdentityEntity', 'name')
+        }
+
+        initEntityLogAPI()
+    }
+
+    void cleanup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+    }
+
+    def "Log items are written in background after commit"() {
+
+        given:
+
+        def identityEntity = new IdentityEntity(name: 'test1')
+        long writtenCount = entityLogWriter.writtenCount
+
+        when:
+
+        withTransaction {
+            em.persist(identityEntity)
+        }
+        withTransaction {
+            IdentityEntity e = em.find(IdentityEntity, identityEntity.id)
+            e.name = 'test2'
+        }
+        waitForWriter(writtenCount + 2)
+
+        then:
+
+        def items = getEntityLogItems('test$IdentityEntity', identityEntity.id)
+        items.size() == 2
+        items.find { it.type == EntityLogItem.Type.CREATE }
+                .attributes.find { it.name == 'name' }.value == 'test1'
+        items.find { it.type == EntityLogItem.Type.MODIFY }
+                .attributes.find { it.name == 'name' }.oldValue == 'test1'
+        items.every { it.createTs != null }
+        entityLogWriter.failedCount == 0
+
+        cleanup:
+
+        runSqlUpdate("delete from TEST_IDENTITY where id = ${EntityValues.getId(identityEntity)}")
+    }
+
+    def "Changes of the same entity in a transaction are merged into one item"() {
+
+        given:
+
+        def identityEntity = new IdentityEntity(name: 'test1')
+        long writtenCount = entityLogWriter.writtenCount
+
+        when:
+
+        withTransaction {
+            em.persist(identityEntity)
+            em.flush()
+            identityEntity.name = 'test2'
+        }
+        waitForWriter(writtenCount + 1)
+
+        then:
+
+        def items = getEntityLogItems('test$IdentityEntity', identityEntity.id)
+        items.size() == 1
+        items[0].type == EntityLogItem.Type.CREATE
+        items[0].attributes.find { it.name == 'name' }.value == 'test2'
+
+        cleanup:
+
+        runSqlUpdate("delete from TEST_IDENTITY where id = ${EntityValues.getId(identityEntity)}")
+    }
+
+    protected void waitForWriter(long expectedWrittenCount) {
+        new PollingConditions(timeout: 10).eventually {
+            assert entityLogWriter.writtenCount + entityLogWriter.failedCount >= expectedWrittenCount
+        }
+    }
+}
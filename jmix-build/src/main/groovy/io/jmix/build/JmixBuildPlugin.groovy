@@ -8,6 +8,7 @@ import org.gradle.api.plugins.JavaBasePlugin
 import org.gradle.api.plugins.JavaPlugin
 import org.gradle.api.publish.maven.MavenPublication
 import org.gradle.api.publish.tasks.GenerateModuleMetadata
+import org.gradle.api.tasks.JavaExec
 import org.gradle.api.tasks.compile.JavaCompile
 import org.gradle.api.tasks.javadoc.Javadoc
 import org.gradle.api.tasks.testing.Test
@@ -15,6 +16,12 @@ import org.gradle.external.javadoc.JavadocMemberLevel
 
 class JmixBuildPlugin implements Plugin<Project> {
 
+    /**
+     * JMH version used by benchmarks. It is not managed by the BOM, so that benchmark tooling is not exposed
+     * to the BOM consumers.
+     */
+    static final String JMH_VERSION = '1.37'
+
     @Override
     void apply(Project project) {
         JmixBuildExtension extension = project.extensions.create('jmixBuild', JmixBuildExtension)
@@ -28,6 +35,7 @@ class JmixBuildPlugin implements Plugin<Project> {
         setupDependencyManagement(project)
         setupSpotbugs(project)
         setupConfigurationMetadataGeneration(project)
+        setupBenchmarks(project)
     }
 
     private void setupRepositories(Project project) {
@@ -83,7 +91,7 @@ class JmixBuildPlugin implements Plugin<Project> {
     }
 
     private void setupPublishing(Project project) {
-        if (!project.name.startsWith('sample')) {
+        if (!project.name.startsWith('sample') && !project.name.endsWith('benchmarks')) {
             project.with {
                 apply plugin: 'maven-publish'
 
@@ -284,7 +292,6 @@ class JmixBuildPlugin implements Plugin<Project> {
     }
 
     private void setupDependencyManagement(Project project) {
-        def bom = project.rootProject.findProject("bom") ?: "io.jmix.bom:jmix-bom:${project.version}"
         project.with {
             dependencies {
                 api platform(bom)
@@ -299,4 +306,47 @@ class JmixBuildPlugin implements Plugin<Project> {
         //to be able to use additional-spring-configuration-metadata.json in jmix modules
 //        project.tasks.named('compileJava').get().dependsOn('processResources')
     }
+
+    /**
+     * Adds the {@code jmh} source set and task to projects having benchmarks in {@code src/jmh/java}.
+     * Results are written in JSON format to {@code build/reports/jmh/results.json}.
+     * Benchmarks can be filtered with the {@code -PjmhInclude=<regexp>} project property.
+     */
+    private void setupBenchmarks(Project project) {
+        if (!project.file('src/jmh/java').exists()) {
+            return
+        }
+        project.with {
+            sourceSets {
+                jmh {
+                    compileClasspath += sourceSets.main.output
+                    runtimeClasspath += sourceSets.main.output
+                }
+            }
+            configurations {
+                jmhImplementation.extendsFrom implementation
+                jmhRuntimeOnly.extendsFrom runtimeOnly
+            }
+            dependencies {
+                jmhImplementation "org.openjdk.jmh:jmh-core:$JMH_VERSION"
+                jmhAnnotationProcessor "org.openjdk.jmh:jmh-generator-annprocess:$JMH_VERSION"
+            }
+            tasks.register('jmh', JavaExec) {
+                group = 'benchmark'
+                description = 'Runs JMH benchmarks'
+                dependsOn 'jmhClasses'
+                mainClass = 'org.openjdk.jmh.Main'
+                classpath = sourceSets.jmh.runtimeClasspath
+
+                File resultFile = file("$buildDir/reports/jmh/results.json")
+                args = ['-rf', 'json', '-rff', resultFile.absolutePath]
+                if (project.hasProperty('jmhInclude')) {
+                    args += project.property('jmhInclude')
+                }
+                doFirst {
+                    resultFile.parentFile.mkdirs()
+                }
+            }
+        }
+    }
 }
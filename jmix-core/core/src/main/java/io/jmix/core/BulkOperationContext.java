@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Defines a set-based update or delete of entity instances matching a condition. The operation is executed
+ * by the data store as a single statement, without loading the affected instances into memory.
+ *
+ * @see UnconstrainedDataManager#bulkUpdate(Class)
+ * @see UnconstrainedDataManager#bulkDelete(Class)
+ */
+public class BulkOperationContext implements Serializable {
+
+    private static final long serialVersionUID = -4350713745298623316L;
+
+    /**
+     * Type of the bulk operation.
+     */
+    public enum Type {
+        UPDATE,
+        DELETE
+    }
+
+    protected MetaClass entityMetaClass;
+    protected Type type;
+    protected Map<String, Object> values = new LinkedHashMap<>();
+    protected Condition condition;
+    protected Map<String, Object> parameters = new HashMap<>();
+    protected boolean joinTransaction = true;
+    protected List<AccessConstraint<?>> accessConstraints;
+    protected Map<String, Serializable> hints;
+
+    /**
+     * @param entityMetaClass metaclass of affected entities
+     * @param type            operation type
+     */
+    public BulkOperationContext(MetaClass entityMetaClass, Type type) {
+        this.entityMetaClass = entityMetaClass;
+        this.type = type;
+    }
+
+    /**
+     * @return metaclass of affected entities
+     */
+    public MetaClass getEntityMetaClass() {
+        return entityMetaClass;
+    }
+
+    /**
+     * @return operation type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return mutable map of attribute names to values assigned by the update operation
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    /**
+     * Sets a value to be assigned to the attribute of all affected instances.
+     */
+    public BulkOperationContext setValue(String property, @Nullable Object value) {
+        values.put(property, value);
+        return this;
+    }
+
+    /**
+     * @return condition restricting the affected instances, or null if the operation affects all instances
+     */
+    @Nullable
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Sets the condition restricting the affected instances.
+     */
+    public BulkOperationContext setCondition(@Nullable Condition condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    /**
+     * @return mutable map of parameters used by the condition
+     */
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Sets a parameter used by the condition.
+     */
+    public BulkOperationContext setParameter(String name, @Nullable Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * @return custom hints which are used by the operation
+     */
+    public Map<String, Serializable> getHints() {
+        return hints == null ? Collections.emptyMap() : Collections.unmodifiableMap(hints);
+    }
+
+    /**
+     * Sets custom hint that should be used by the operation.
+     */
+    public BulkOperationContext setHint(String hintName, Serializable value) {
+        if (hints == null) {
+            hints = new HashMap<>();
+        }
+        hints.put(hintName, value);
+        return this;
+    }
+
+    /**
+     * Sets custom hints that should be used by the operation.
+     */
+    public BulkOperationContext setHints(Map<String, Serializable> hints) {
+        this.hints = hints;
+        return this;
+    }
+
+    /**
+     * Returns the list of access constraints.
+     */
+    public List<AccessConstraint<?>> getAccessConstraints() {
+        return this.accessConstraints == null ? Collections.emptyList() : this.accessConstraints;
+    }
+
+    /**
+     * Sets the list of access constraints.
+     */
+    public BulkOperationContext setAccessConstraints(List<AccessConstraint<?>> accessConstraints) {
+        this.accessConstraints = accessConstraints;
+        return this;
+    }
+
+    /**
+     * @return whether to join existing transaction or always start a new one
+     */
+    public boolean isJoinTransaction() {
+        return joinTransaction;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public BulkOperationContext setJoinTransaction(boolean joinTransaction) {
+        this.joinTransaction = joinTransaction;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationContext{" +
+                "entity=" + entityMetaClass +
+                ", type=" + type +
+                ", values=" + values.keySet() +
+                ", condition=" + condition +
+                '}';
+    }
+}
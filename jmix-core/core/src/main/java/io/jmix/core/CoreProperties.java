@@ -57,6 +57,12 @@ public class CoreProperties {
     List<Locale> availableLocales;
     int crossDataStoreReferenceLoadingBatchSize;
 
+    /**
+     * Maximum number of threads loading references to entities from different data stores concurrently.
+     * The value of 1 means that the references are loaded sequentially in the calling thread.
+     */
+    int crossDataStoreReferenceLoadingParallelism;
+
     /**
      * Whether to generate identifiers for entities located in additional data stores.
      */
@@ -106,6 +112,25 @@ public class CoreProperties {
      */
     boolean skipNullOrEmptyConditionsByDefault;
 
+    /**
+     * Maximum number of rows fetched by a single follow-up query when a data store loads a page of entities by
+     * batches because in-memory constraints have filtered out some rows.
+     */
+    int loadByBatchesMaxBatchSize;
+
+    /**
+     * Maximum number of rows a data store scans to fill a page of entities filtered by in-memory constraints.
+     * When the limit is reached, a warning is logged and the page is returned with the entities found so far.
+     * Zero or negative value means no limit (default).
+     */
+    int loadByBatchesMaxScannedRows;
+
+    /**
+     * Default number of entities loaded by one query when entities are loaded by
+     * {@link UnconstrainedDataManager#loadStream(LoadContext)}.
+     */
+    int loadStreamFetchSize;
+
     public CoreProperties(
             String webHostName,
             String webPort,
@@ -115,6 +140,7 @@ public class CoreProperties {
             String dbDir,
             List<String> availableLocales,
             @DefaultValue("50") int crossDataStoreReferenceLoadingBatchSize,
+            @DefaultValue("1") int crossDataStoreReferenceLoadingParallelism,
             @DefaultValue("true") boolean idGenerationForEntitiesInAdditionalDataStoresEnabled,
             @DefaultValue("100") int dom4jMaxPoolSize,
             @DefaultValue("1000") int dom4jMaxBorrowWaitMillis,
@@ -126,7 +152,10 @@ public class CoreProperties {
             @DefaultValue("true") boolean triggerFilesEnabled,
             @DefaultValue("5000") Duration triggerFilesProcessInterval,
             @DefaultValue("true") boolean roundDecimalValueByFormat,
-            @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault) {
+            @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault,
+            @DefaultValue("10000") int loadByBatchesMaxBatchSize,
+            @DefaultValue("0") int loadByBatchesMaxScannedRows,
+            @DefaultValue("1000") int loadStreamFetchSize) {
         this.webHostName = webHostName;
         this.webPort = webPort;
         this.confDir = confDir;
@@ -145,6 +174,7 @@ public class CoreProperties {
         }
 
         this.crossDataStoreReferenceLoadingBatchSize = crossDataStoreReferenceLoadingBatchSize;
+        this.crossDataStoreReferenceLoadingParallelism = crossDataStoreReferenceLoadingParallelism;
         this.idGenerationForEntitiesInAdditionalDataStoresEnabled = idGenerationForEntitiesInAdditionalDataStoresEnabled;
         this.dom4jMaxPoolSize = dom4jMaxPoolSize;
         this.dom4jMaxBorrowWaitMillis = dom4jMaxBorrowWaitMillis;
@@ -156,6 +186,9 @@ public class CoreProperties {
         this.triggerFilesProcessInterval = triggerFilesProcessInterval;
         this.roundDecimalValueByFormat = roundDecimalValueByFormat;
         this.skipNullOrEmptyConditionsByDefault = skipNullOrEmptyConditionsByDefault;
+        this.loadByBatchesMaxBatchSize = loadByBatchesMaxBatchSize;
+        this.loadByBatchesMaxScannedRows = loadByBatchesMaxScannedRows;
+        this.loadStreamFetchSize = loadStreamFetchSize;
     }
 
     public String getWebHostName() {
@@ -195,6 +228,13 @@ public class CoreProperties {
         return crossDataStoreReferenceLoadingBatchSize;
     }
 
+    /**
+     * @see #crossDataStoreReferenceLoadingParallelism
+     */
+    public int getCrossDataStoreReferenceLoadingParallelism() {
+        return crossDataStoreReferenceLoadingParallelism;
+    }
+
     /**
      * @see #idGenerationForEntitiesInAdditionalDataStoresEnabled
      */
@@ -266,4 +306,25 @@ public class CoreProperties {
     public boolean isSkipNullOrEmptyConditionsByDefault() {
         return skipNullOrEmptyConditionsByDefault;
     }
+
+    /**
+     * @see #loadByBatchesMaxBatchSize
+     */
+    public int getLoadByBatchesMaxBatchSize() {
+        return loadByBatchesMaxBatchSize;
+    }
+
+    /**
+     * @see #loadByBatchesMaxScannedRows
+     */
+    public int getLoadByBatchesMaxScannedRows() {
+        return loadByBatchesMaxScannedRows;
+    }
+
+    /**
+     * @see #loadStreamFetchSize
+     */
+    public int getLoadStreamFetchSize() {
+        return loadStreamFetchSize;
+    }
 }
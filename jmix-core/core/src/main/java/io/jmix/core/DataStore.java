@@ -84,4 +84,15 @@ public interface DataStore {
      * @return number of key-value pairs in the data store
      */
     long getCount(ValueLoadContext context);
+
+    /**
+     * Executes a set-based update or delete of entity instances matching the condition of the context.
+     *
+     * @return number of affected instances
+     * @throws UnsupportedOperationException if the data store does not support bulk operations
+     */
+    default int executeBulkOperation(BulkOperationContext context) {
+        throw new UnsupportedOperationException(
+                String.format("Data store '%s' does not support bulk operations", getName()));
+    }
 }
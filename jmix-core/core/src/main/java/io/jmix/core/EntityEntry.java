@@ -20,6 +20,7 @@ import io.jmix.core.entity.*;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
 import io.jmix.core.impl.EntityInternals;
+import io.jmix.core.metamodel.model.MetaProperty;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Id;
 import org.springframework.lang.Nullable;
@@ -77,6 +78,27 @@ public interface EntityEntry extends Serializable {
 
     void setAttributeValue(String name, @Nullable Object value, boolean checkEquals);
 
+    /**
+     * Returns the attribute value. Uses the accessor generated for {@link MetaProperty#getOrdinal()} if available,
+     * otherwise falls back to {@link #getAttributeValue(String)}.
+     *
+     * @param property meta-property of the entity's meta-class
+     */
+    @Nullable
+    default <T> T getAttributeValue(MetaProperty property) {
+        return getAttributeValue(property.getName());
+    }
+
+    /**
+     * Sets the attribute value. Uses the accessor generated for {@link MetaProperty#getOrdinal()} if available,
+     * otherwise falls back to {@link #setAttributeValue(String, Object, boolean)}.
+     *
+     * @param property meta-property of the entity's meta-class
+     */
+    default void setAttributeValue(MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        setAttributeValue(property.getName(), value, checkEquals);
+    }
+
     default boolean isEmbeddable() {
         return false;
     }
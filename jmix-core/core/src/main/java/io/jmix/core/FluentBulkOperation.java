@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that provides fluent interface for set-based update and delete of entities.
+ * <p>
+ * Create an instance using {@link UnconstrainedDataManager#bulkUpdate(Class)} or
+ * {@link UnconstrainedDataManager#bulkDelete(Class)}.
+ * <pre>
+ * int count = dataManager.bulkUpdate(Order.class)
+ *         .set("status", OrderStatus.CLOSED)
+ *         .where(PropertyCondition.less("date", date))
+ *         .execute();
+ * </pre>
+ *
+ * @param <E> entity type
+ */
+public class FluentBulkOperation<E> {
+
+    private final BulkOperationContext context;
+    private final UnconstrainedDataManager dataManager;
+
+    public FluentBulkOperation(BulkOperationContext context, UnconstrainedDataManager dataManager) {
+        this.context = context;
+        this.dataManager = dataManager;
+    }
+
+    /**
+     * Sets a value to be assigned to the attribute of all affected instances. Can be used only for update.
+     */
+    public FluentBulkOperation<E> set(String property, @Nullable Object value) {
+        if (context.getType() != BulkOperationContext.Type.UPDATE) {
+            throw new IllegalStateException("Values can be set only for bulk update");
+        }
+        context.setValue(property, value);
+        return this;
+    }
+
+    /**
+     * Sets the condition restricting the affected instances. If the method is invoked several times,
+     * the conditions are combined by AND.
+     */
+    public FluentBulkOperation<E> where(Condition condition) {
+        Condition current = context.getCondition();
+        context.setCondition(current == null ? condition : LogicalCondition.and(current, condition));
+        return this;
+    }
+
+    /**
+     * Sets value for a parameter used by the condition.
+     */
+    public FluentBulkOperation<E> parameter(String name, @Nullable Object value) {
+        context.setParameter(name, value);
+        return this;
+    }
+
+    /**
+     * Sets the map of parameters used by the condition.
+     */
+    public FluentBulkOperation<E> parameters(Map<String, Object> parameters) {
+        context.getParameters().putAll(parameters);
+        return this;
+    }
+
+    /**
+     * Adds a custom hint that should be used by the operation.
+     */
+    public FluentBulkOperation<E> hint(String hintName, Serializable value) {
+        context.setHint(hintName, value);
+        return this;
+    }
+
+    /**
+     * Sets access constraints.
+     */
+    public FluentBulkOperation<E> accessConstraints(Collection<AccessConstraint<?>> accessConstraints) {
+        List<AccessConstraint<?>> constraints = new ArrayList<>(context.getAccessConstraints());
+        constraints.addAll(accessConstraints);
+        context.setAccessConstraints(constraints);
+        return this;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public FluentBulkOperation<E> joinTransaction(boolean join) {
+        context.setJoinTransaction(join);
+        return this;
+    }
+
+    /**
+     * Executes the operation.
+     *
+     * @return number of affected instances
+     */
+    public int execute() {
+        return dataManager.executeBulkOperation(context);
+    }
+}
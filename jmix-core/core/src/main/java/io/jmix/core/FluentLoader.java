@@ -36,6 +36,7 @@ import org.springframework.stereotype.Component;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component("core_FluentLoader")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -520,6 +521,7 @@ public class FluentLoader<E> {
         private int maxResults;
         private Sort sort;
         private boolean cacheable;
+        private int fetchSize;
 
         protected ByQuery(FluentLoader<E> loader, String queryString, ApplicationContext applicationContext) {
             Preconditions.checkNotEmptyString(queryString, "queryString is empty");
@@ -575,6 +577,19 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities lazily by chunks. Each chunk is loaded by a separate query when the stream is consumed.
+         *
+         * @see UnconstrainedDataManager#loadStream(LoadContext, int)
+         * @see #fetchSize(int)
+         */
+        public Stream<E> stream() {
+            LoadContext<E> loadContext = createLoadContext();
+            return fetchSize > 0
+                    ? loader.dataManager.loadStream(loadContext, fetchSize)
+                    : loader.dataManager.loadStream(loadContext);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -712,6 +727,14 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Sets the number of entities loaded by one query when entities are loaded by {@link #stream()}.
+         */
+        public ByQuery<E> fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         /**
          * Sets sorting, for example {@code sort(Sort.by("name"))}
          */
@@ -773,6 +796,7 @@ public class FluentLoader<E> {
         private int maxResults;
         private Sort sort;
         private boolean cacheable;
+        private int fetchSize;
         private Condition condition;
 
         protected ByCondition(FluentLoader<E> loader, String entityName, boolean jpaEntity, Condition condition) {
@@ -790,6 +814,7 @@ public class FluentLoader<E> {
             this.maxResults = byQuery.maxResults;
             this.sort = byQuery.sort;
             this.cacheable = byQuery.cacheable;
+            this.fetchSize = byQuery.fetchSize;
         }
 
         LoadContext<E> createLoadContext() {
@@ -826,6 +851,19 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities lazily by chunks. Each chunk is loaded by a separate query when the stream is consumed.
+         *
+         * @see UnconstrainedDataManager#loadStream(LoadContext, int)
+         * @see #fetchSize(int)
+         */
+        public Stream<E> stream() {
+            LoadContext<E> loadContext = createLoadContext();
+            return fetchSize > 0
+                    ? loader.dataManager.loadStream(loadContext, fetchSize)
+                    : loader.dataManager.loadStream(loadContext);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -955,6 +993,14 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Sets the number of entities loaded by one query when entities are loaded by {@link #stream()}.
+         */
+        public ByCondition<E> fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         /**
          * Sets sorting, for example {@code sort(Sort.by("name"))}
          */
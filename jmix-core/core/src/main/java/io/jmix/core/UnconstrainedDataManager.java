@@ -22,6 +22,7 @@ import org.springframework.lang.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Central interface to provide CRUD functionality for entities.
@@ -62,6 +63,39 @@ public interface UnconstrainedDataManager {
      */
     long getCount(LoadContext<?> context);
 
+    /**
+     * Loads entity instances lazily by chunks of {@link CoreProperties#getLoadStreamFetchSize()} size.
+     *
+     * @param context {@link LoadContext} object, defining what and how to load
+     * @return a stream of entity instances
+     * @see #loadStream(LoadContext, int)
+     */
+    <E> Stream<E> loadStream(LoadContext<E> context);
+
+    /**
+     * Loads entity instances lazily by chunks of the given size.
+     * <p>
+     * Each chunk is loaded by a separate {@link #loadList(LoadContext)} call when the stream is consumed, so access
+     * constraints, fetch plans and entity events are applied to each chunk, and only the current chunk is kept in
+     * memory. Unsorted queries for JPA entities with a simple primary key are paged by the primary key value,
+     * other queries are paged by offset. If the context defines {@code maxResults}, the stream contains at most
+     * {@code maxResults} instances.
+     * <p>
+     * Paging by offset is not suitable for large amounts of data filtered by in-memory constraints. A data store
+     * has to scan all rows preceding the offset to find the filtered entities of a chunk, so the total number of
+     * scanned rows grows quadratically with the number of chunks. Besides, if
+     * {@link CoreProperties#getLoadByBatchesMaxScannedRows()} limits the rows scanned for a single chunk, the stream
+     * ends on the first chunk that is incomplete because of this limit. Use unsorted queries to stream such entities by the primary key.
+     * <p>
+     * When the context joins an existing transaction, all chunks are loaded in it. Set
+     * {@link LoadContext#setJoinTransaction(boolean)} to false to load each chunk in a separate transaction.
+     *
+     * @param context   {@link LoadContext} object, defining what and how to load
+     * @param fetchSize number of entities loaded by one query
+     * @return a stream of entity instances
+     */
+    <E> Stream<E> loadStream(LoadContext<E> context, int fetchSize);
+
     /**
      * Saves entity instances to their data stores.
      *
@@ -121,6 +155,39 @@ public interface UnconstrainedDataManager {
      */
     <E> void remove(Id<E> entityId);
 
+    /**
+     * Executes a set-based update or delete of entity instances defined by the context. The affected instances
+     * are not loaded into memory, so entity listeners and {@code EntityChangedEvent} are not invoked for them.
+     *
+     * @param context {@link BulkOperationContext} object, defining the operation
+     * @return number of affected instances
+     */
+    int executeBulkOperation(BulkOperationContext context);
+
+    /**
+     * Entry point to the fluent API for set-based update of entities.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int count = dataManager.bulkUpdate(Order.class)
+     *         .set("status", OrderStatus.CLOSED)
+     *         .where(PropertyCondition.less("date", date))
+     *         .execute();
+     * </pre>
+     *
+     * @param entityClass class of updated entities
+     */
+    <E> FluentBulkOperation<E> bulkUpdate(Class<E> entityClass);
+
+    /**
+     * Entry point to the fluent API for set-based delete of entities. Soft-deletable entities are marked as deleted
+     * unless soft deletion is turned off by the {@code PersistenceHints.SOFT_DELETION} hint.
+     *
+     * @param entityClass class of deleted entities
+     * @see #bulkUpdate(Class)
+     */
+    <E> FluentBulkOperation<E> bulkDelete(Class<E> entityClass);
+
     /**
      * Loads list of key-value pairs.
      *
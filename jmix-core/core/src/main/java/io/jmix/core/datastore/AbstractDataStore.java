@@ -29,6 +29,7 @@ import org.springframework.lang.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -39,6 +40,25 @@ public abstract class AbstractDataStore implements DataStore {
     protected MetadataTools metadataTools;
     protected EntityStates entityStates;
     protected KeyValueMapper keyValueMapper;
+    protected CoreProperties coreProperties;
+
+    /**
+     * Key of {@link EventSharedState} value containing the number of rows fetched by the query of the requested page.
+     */
+    protected static final String LOADED_ROWS_COUNT_STATE_KEY = "loadedRowsCount";
+
+    /**
+     * Minimal pass-rate used for sizing follow-up batches, so a single batch is not blown up by an estimate
+     * based on a few rows.
+     */
+    protected static final double MIN_BATCH_PASS_RATE = 0.01;
+
+    /**
+     * Maximum number of entity and query combinations the pass-rate statistics are kept for.
+     */
+    protected static final int MAX_BATCH_LOADING_STATISTICS_SIZE = 1000;
+
+    protected final Map<String, BatchLoadingStatistics> batchLoadingStatistics = new ConcurrentHashMap<>();
 
     private static final Logger log = LoggerFactory.getLogger(AbstractDataStore.class);
 
@@ -62,6 +82,11 @@ public abstract class AbstractDataStore implements DataStore {
         this.keyValueMapper = keyValueMapper;
     }
 
+    @Autowired
+    public void setCoreProperties(CoreProperties coreProperties) {
+        this.coreProperties = coreProperties;
+    }
+
     @Nullable
     @Override
     public Object load(LoadContext<?> context) {
@@ -136,6 +161,7 @@ public abstract class AbstractDataStore implements DataStore {
                 if (entities.size() != resultList.size()) {
                     Preconditions.checkNotNull(context.getQuery());
                     if (context.getQuery().getMaxResults() != 0) {
+                        loadState.setValue(LOADED_ROWS_COUNT_STATE_KEY, entities.size());
                         resultList = loadListByBatches(context, resultList.size(), loadState);
                     }
                 }
@@ -363,10 +389,30 @@ public abstract class AbstractDataStore implements DataStore {
         int requestedMax = context.getQuery().getMaxResults();
 
         int expectedSize = requestedMax + requestedFirst;
-        int factor = actualSize == 0 ? 2 : requestedMax / actualSize * 2;
+
+        BatchLoadingStatistics statistics = getOrCreateBatchLoadingStatistics(context);
+        Integer loadedRowsCount = (Integer) eventState.getValue(LOADED_ROWS_COUNT_STATE_KEY);
+        long rowsFetched = 0;
+        if (loadedRowsCount != null) {
+            statistics.updatePassRate(loadedRowsCount, actualSize);
+            rowsFetched = loadedRowsCount;
+        }
+
+        int maxBatchSize = getLoadByBatchesMaxBatchSize();
+        int maxScannedRows = coreProperties != null ? coreProperties.getLoadByBatchesMaxScannedRows() : 0;
+
+        int maxResults;
+        double passRate = statistics.getPassRate();
+        if (Double.isNaN(passRate)) {
+            int factor = actualSize == 0 ? 2 : requestedMax / actualSize * 2;
+            maxResults = Math.min((requestedFirst + requestedMax) * factor, maxBatchSize);
+        } else {
+            maxResults = getNextBatchSize(expectedSize, passRate, maxBatchSize);
+        }
 
         int firstResult = 0;
-        int maxResults = (requestedFirst + requestedMax) * factor;
+        long batchRowsFetched = 0;
+        long batchRowsPassed = 0;
         int i = 0;
         while (entities.size() < expectedSize) {
             if (i++ > 100000) {
@@ -384,14 +430,38 @@ public abstract class AbstractDataStore implements DataStore {
             if (list.size() == 0) {
                 break;
             }
+            int fetchedSize = list.size();
 
             DataStoreEntityLoadingEvent loadEvent = new DataStoreEntityLoadingEvent(context, list, eventState);
             fireEvent(loadEvent);
 
-            entities.addAll(loadEvent.getResultEntities());
+            List<Object> passedEntities = loadEvent.getResultEntities();
+            entities.addAll(passedEntities);
             firstResult = firstResult + maxResults;
+
+            rowsFetched += fetchedSize;
+            batchRowsFetched += fetchedSize;
+            batchRowsPassed += passedEntities.size();
+
+            if (fetchedSize < maxResults) {
+                // no more rows
+                break;
+            }
+            if (maxScannedRows > 0 && batchRowsFetched >= maxScannedRows && entities.size() < expectedSize) {
+                log.warn("Loading by batches. Scanned {} rows, returning incomplete page of {} entities for {}",
+                        batchRowsFetched, entities.size(), context);
+                break;
+            }
+
+            double observedPassRate = (double) batchRowsPassed / batchRowsFetched;
+            maxResults = getNextBatchSize(expectedSize - entities.size(), observedPassRate, maxBatchSize);
+            if (maxScannedRows > 0) {
+                maxResults = (int) Math.max(Math.min(maxResults, maxScannedRows - batchRowsFetched), 1);
+            }
         }
 
+        statistics.updatePassRate(batchRowsFetched, batchRowsPassed);
+
         // Copy by iteration because subList() returns non-serializable class
         int max = Math.min(requestedFirst + requestedMax, entities.size());
         List<Object> resultList = new ArrayList<>(max - requestedFirst);
@@ -404,9 +474,60 @@ public abstract class AbstractDataStore implements DataStore {
             j++;
         }
 
+        statistics.registerRequest(rowsFetched, resultList.size());
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded by batches: store={}, metaClass={}, rowsFetched={}, rowsReturned={}, {}",
+                    getName(), context.getEntityMetaClass(), rowsFetched, resultList.size(), statistics);
+        }
+
         return resultList;
     }
 
+    /**
+     * Returns the size of the next batch expected to contain the remaining number of entities.
+     */
+    protected int getNextBatchSize(int remaining, double passRate, int maxBatchSize) {
+        double expectedRows = Math.ceil(remaining / Math.max(passRate, MIN_BATCH_PASS_RATE) * 1.2);
+        return (int) Math.max(Math.min(expectedRows, maxBatchSize), Math.min(remaining, maxBatchSize));
+    }
+
+    protected int getLoadByBatchesMaxBatchSize() {
+        int maxBatchSize = coreProperties != null ? coreProperties.getLoadByBatchesMaxBatchSize() : 0;
+        return maxBatchSize > 0 ? maxBatchSize : Integer.MAX_VALUE;
+    }
+
+    protected BatchLoadingStatistics getOrCreateBatchLoadingStatistics(LoadContext<?> context) {
+        String key = getBatchLoadingStatisticsKey(context);
+        BatchLoadingStatistics statistics = batchLoadingStatistics.get(key);
+        if (statistics == null) {
+            if (batchLoadingStatistics.size() >= MAX_BATCH_LOADING_STATISTICS_SIZE) {
+                // don't let dynamically built queries grow the map infinitely
+                return new BatchLoadingStatistics();
+            }
+            statistics = batchLoadingStatistics.computeIfAbsent(key, k -> new BatchLoadingStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the key of pass-rate statistics for the entity and the query of the context. The share of rows
+     * passing in-memory constraints depends on the query conditions and on the predicates of the current user,
+     * so the classes of constraints don't identify it.
+     */
+    protected String getBatchLoadingStatisticsKey(LoadContext<?> context) {
+        LoadContext.Query query = context.getQuery();
+        String queryString = query != null ? query.getQueryString() : "";
+        return context.getEntityMetaClass().getName() + "[" + queryString + "]";
+    }
+
+    /**
+     * Returns statistics of loading pages of entities filtered by in-memory constraints, by entity names and
+     * query strings.
+     */
+    public Map<String, BatchLoadingStatistics> getBatchLoadingStatistics() {
+        return Collections.unmodifiableMap(batchLoadingStatistics);
+    }
+
     protected List<Object> checkAndReorderLoadedEntities(LoadContext<?> context, List<Object> entities) {
         List<Object> result = new ArrayList<>(context.getIds().size());
         Map<Object, Object> idToEntityMap = entities.stream().collect(Collectors.toMap(EntityValues::getId, Function.identity()));
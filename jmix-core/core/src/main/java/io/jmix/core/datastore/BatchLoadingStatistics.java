@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.datastore;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of loading pages of entities filtered by in-memory constraints, collected by
+ * {@link AbstractDataStore} for an entity and a query.
+ * <p>
+ * The pass-rate is the share of fetched rows that are not filtered out by the constraints. It is used to size
+ * the follow-up queries.
+ */
+public class BatchLoadingStatistics {
+
+    /**
+     * Weight of the latest observation in the pass-rate estimate.
+     */
+    protected static final double PASS_RATE_WEIGHT = 0.5;
+
+    protected volatile double passRate = Double.NaN;
+
+    protected final LongAdder requests = new LongAdder();
+    protected final LongAdder rowsFetched = new LongAdder();
+    protected final LongAdder rowsReturned = new LongAdder();
+
+    /**
+     * @return estimated share of rows passing the constraints or {@code NaN} if nothing has been observed yet
+     */
+    public double getPassRate() {
+        return passRate;
+    }
+
+    public void updatePassRate(long fetched, long passed) {
+        if (fetched <= 0) {
+            return;
+        }
+        double observed = (double) passed / fetched;
+        double current = passRate;
+        passRate = Double.isNaN(current) ? observed : current + (observed - current) * PASS_RATE_WEIGHT;
+    }
+
+    public void registerRequest(long fetched, long returned) {
+        requests.increment();
+        rowsFetched.add(fetched);
+        rowsReturned.add(returned);
+    }
+
+    /**
+     * @return number of pages loaded by batches
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return number of rows fetched from the database
+     */
+    public long getRowsFetched() {
+        return rowsFetched.sum();
+    }
+
+    /**
+     * @return number of entities returned to callers
+     */
+    public long getRowsReturned() {
+        return rowsReturned.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchLoadingStatistics{" +
+                "passRate=" + passRate +
+                ", requests=" + getRequests() +
+                ", rowsFetched=" + getRowsFetched() +
+                ", rowsReturned=" + getRowsReturned() +
+                '}';
+    }
+}
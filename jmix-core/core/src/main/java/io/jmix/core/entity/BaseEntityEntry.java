@@ -22,6 +22,7 @@ import io.jmix.core.EntityEntryExtraState;
 import io.jmix.core.EntityValuesProvider;
 import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.util.ReflectionHelper;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
 import io.jmix.core.metamodel.model.utils.MethodsCache;
@@ -57,6 +58,18 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
     public static final int MANAGED = 4;
     public static final int REMOVED = 8;
 
+    /**
+     * Simple name of the nested entity entry class generated by the entity enhancer.
+     */
+    public static final String GEN_ENTITY_ENTRY_CLASS_NAME = "JmixEntityEntry";
+
+    /**
+     * Name of the static field with attribute names generated in entity entry classes by the entity enhancer.
+     */
+    public static final String ATTRIBUTE_NAMES_FIELD_NAME = "ATTRIBUTE_NAMES";
+
+    protected static final String[] NO_ATTRIBUTE_NAMES = new String[0];
+
     protected static final int PROPERTY_CHANGE_LISTENERS_INITIAL_CAPACITY = 1;
     protected static final int WEAK_PROPERTY_CHANGE_LISTENERS_INITIAL_CAPACITY = 4;
 
@@ -93,10 +106,12 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
     public void setAttributeValue(@NonNull String name, Object value, boolean checkEquals) {
         EntityValuesProvider valuesProvider = null;
         if (entityValuesProviders != null) {
-            valuesProvider = entityValuesProviders.values().stream()
-                    .filter(provider -> provider.supportAttribute(name))
-                    .findFirst()
-                    .orElse(null);
+            for (EntityValuesProvider provider : entityValuesProviders.values()) {
+                if (provider.supportAttribute(name)) {
+                    valuesProvider = provider;
+                    break;
+                }
+            }
         }
         if (valuesProvider != null) {
             valuesProvider.setAttributeValue(name, value, checkEquals);
@@ -109,6 +124,56 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAttributeValue(MetaProperty property) {
+        if (entityValuesProviders == null && hasOrdinalAccessor(property)) {
+            return (T) getAttributeValue(property.getOrdinal());
+        }
+        return getAttributeValue(property.getName());
+    }
+
+    @Override
+    public void setAttributeValue(MetaProperty property, Object value, boolean checkEquals) {
+        if (entityValuesProviders == null && hasOrdinalAccessor(property)) {
+            int ordinal = property.getOrdinal();
+            if (!checkEquals || !EntityValues.propertyValueEquals(getAttributeValue(ordinal), value)) {
+                setAttributeValue(ordinal, value);
+            }
+        } else {
+            setAttributeValue(property.getName(), value, checkEquals);
+        }
+    }
+
+    protected boolean hasOrdinalAccessor(MetaProperty property) {
+        int ordinal = property.getOrdinal();
+        String[] attributeNames = getAttributeNames();
+        return ordinal >= 0 && ordinal < attributeNames.length && attributeNames[ordinal].equals(property.getName());
+    }
+
+    /**
+     * Returns names of attributes having generated accessors, indexed by {@link MetaProperty#getOrdinal()}.
+     * Overridden by the entity enhancer.
+     */
+    protected String[] getAttributeNames() {
+        return NO_ATTRIBUTE_NAMES;
+    }
+
+    /**
+     * Returns the attribute value by its ordinal. Overridden by the entity enhancer.
+     */
+    @Nullable
+    protected Object getAttributeValue(int ordinal) {
+        throw new IllegalArgumentException("No attribute accessor with ordinal " + ordinal);
+    }
+
+    /**
+     * Sets the attribute value by its ordinal. Overridden by the entity enhancer.
+     */
+    protected void setAttributeValue(int ordinal, @Nullable Object value) {
+        throw new IllegalArgumentException("No attribute accessor with ordinal " + ordinal);
+    }
+
     @Override
     public boolean isNew() {
         return (state & NEW) == NEW;
@@ -18,6 +18,7 @@ package io.jmix.core.entity;
 
 import io.jmix.core.Entity;
 import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.PropertyPath;
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -100,6 +101,31 @@ public class EntityValues {
         return getEntityEntry(entity).getAttributeValue(name);
     }
 
+    /**
+     * Set an attribute value using the accessor generated for the property ordinal if available.
+     *
+     * @param property    meta-property of the entity's meta-class
+     * @param value       attribute value
+     * @param checkEquals check equals for previous and new value.
+     *                    If flag is true and objects equals, then setter will not be invoked
+     * @see MetaProperty#getOrdinal()
+     */
+    public static void setValue(Object entity, MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        getEntityEntry(entity).setAttributeValue(property, value, checkEquals);
+    }
+
+    /**
+     * Get an attribute value using the accessor generated for the property ordinal if available.
+     *
+     * @param property meta-property of the entity's meta-class
+     * @return attribute value
+     * @see MetaProperty#getOrdinal()
+     */
+    @Nullable
+    public static <T> T getValue(Object entity, MetaProperty property) {
+        return getEntityEntry(entity).getAttributeValue(property);
+    }
+
     /**
      * Get an attribute value. Locates the attribute by the given path in object graph starting from this instance.
      * <br>
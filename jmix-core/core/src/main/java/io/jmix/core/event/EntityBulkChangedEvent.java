@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.event;
+
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * A Spring application event that is sent right after a set-based update or delete of entities is executed in the
+ * data store.
+ * <p>
+ * Instances affected by a bulk operation are not loaded into memory, so {@link EntityChangedEvent} is not sent for them.
+ * This event summarizes the whole operation instead. Use it to keep caches, entity log or other derived data in sync.
+ * The event is sent inside the transaction which executed the operation, so {@code @TransactionalEventListener}
+ * can be used to handle it after commit.
+ *
+ * @param <E> entity type
+ */
+public class EntityBulkChangedEvent<E> extends ApplicationEvent implements ResolvableTypeProvider {
+
+    private MetaClass metaClass;
+    private EntityChangedEvent.Type type;
+    private Map<String, Object> values;
+    private Condition condition;
+    private int affectedCount;
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public EntityBulkChangedEvent(Object source, MetaClass metaClass, EntityChangedEvent.Type type,
+                                  Map<String, Object> values, @Nullable Condition condition, int affectedCount) {
+        super(source);
+        this.metaClass = metaClass;
+        this.type = type;
+        this.values = values;
+        this.condition = condition;
+        this.affectedCount = affectedCount;
+    }
+
+    /**
+     * Returns the metaclass of affected entities.
+     */
+    public MetaClass getMetaClass() {
+        return metaClass;
+    }
+
+    /**
+     * Returns the event type: {@code UPDATED} or {@code DELETED}.
+     */
+    public EntityChangedEvent.Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns attribute values assigned by the operation. For soft deletion, contains the values of the deletion
+     * attributes.
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the condition restricting the affected instances, or null if all instances were affected.
+     */
+    @Nullable
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Returns the number of affected instances.
+     */
+    public int getAffectedCount() {
+        return affectedCount;
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forClass(metaClass.getJavaClass()));
+    }
+
+    @Override
+    public String toString() {
+        return "EntityBulkChangedEvent{" +
+                "metaClass=" + metaClass +
+                ", type=" + type +
+                ", values=" + values +
+                ", affectedCount=" + affectedCount +
+                '}';
+    }
+}
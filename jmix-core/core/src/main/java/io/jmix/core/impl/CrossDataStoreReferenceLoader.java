@@ -20,6 +20,7 @@ import com.google.common.collect.Sets;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.impl.CrossDataStoreReferenceLoadingSupport.LoadedReferences;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import org.slf4j.Logger;
@@ -30,6 +31,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +60,9 @@ public class CrossDataStoreReferenceLoader {
     @Autowired
     private EntityStates entityStates;
 
+    @Autowired
+    private CrossDataStoreReferenceLoadingSupport loadingSupport;
+
     private MetaClass metaClass;
 
     private FetchPlan fetchPlan;
@@ -132,15 +138,22 @@ public class CrossDataStoreReferenceLoader {
                 entityCrossDataStorePropertyList.add(new EntityCrossDataStoreProperty(affectedEntity, crossDataStoreProperty));
             }
         }
-        if (entityCrossDataStorePropertyList.size() == 1) {
-            loadOne(entityCrossDataStorePropertyList.get(0));
-        } else {
-            entityCrossDataStorePropertyList.stream()
-                    .collect(Collectors.groupingBy(EntityCrossDataStoreProperty::getCrossProp))
-                    .forEach((ap, eapList) ->
-                            loadMany(ap, eapList.stream().map(eap -> eap.entity).collect(Collectors.toList()))
-                    );
-        }
+
+        // the outermost loader creates the identity map shared by all nested DataManager calls
+        LoadedReferences loadedReferences = loadingSupport.getLoadedReferences();
+        boolean nested = loadedReferences != null;
+        LoadedReferences references = nested ? loadedReferences : new LoadedReferences();
+        loadingSupport.withLoadedReferences(references, () -> {
+            if (entityCrossDataStorePropertyList.size() == 1) {
+                loadOne(entityCrossDataStorePropertyList.get(0), references);
+            } else {
+                Map<CrossDataStoreProperty, List<Object>> entitiesByProperty = entityCrossDataStorePropertyList.stream()
+                        .collect(Collectors.groupingBy(EntityCrossDataStoreProperty::getCrossProp, LinkedHashMap::new,
+                                Collectors.mapping(eap -> eap.entity, Collectors.toList())));
+                loadMany(entitiesByProperty, references, nested);
+            }
+            return null;
+        });
     }
 
     private Set<Object> getAffectedEntities(Collection entities,
@@ -182,7 +195,7 @@ public class CrossDataStoreReferenceLoader {
         return resultSet;
     }
 
-    private void loadOne(EntityCrossDataStoreProperty entityCrossDataStoreProperty) {
+    private void loadOne(EntityCrossDataStoreProperty entityCrossDataStoreProperty, LoadedReferences references) {
         Object entity = entityCrossDataStoreProperty.entity;
         CrossDataStoreProperty aProp = entityCrossDataStoreProperty.crossProp;
         Object id = EntityValues.getValue(entity, aProp.relatedPropertyName);
@@ -193,109 +206,212 @@ public class CrossDataStoreReferenceLoader {
             EntityValues.setValue(entity, aProp.property.getName(), fakeInstance);
 
         } else {
-            LoadContext<?> loadContext = new LoadContext<>(aProp.property.getRange().asClass())
-                    .setId(id);
+            MetaClass cdsrMetaClass = aProp.property.getRange().asClass();
             assert aProp.fetchPlanProperty != null;
-            if (aProp.fetchPlanProperty.getFetchPlan() != null)
-                loadContext.setFetchPlan(aProp.fetchPlanProperty.getFetchPlan());
-            loadContext.setJoinTransaction(joinTransaction);
-            Object relatedEntity = dataManager.load(loadContext);
+            FetchPlan propertyFetchPlan = aProp.fetchPlanProperty.getFetchPlan();
+            Object relatedEntity = references.get(cdsrMetaClass, propertyFetchPlan, id);
+            if (relatedEntity == null) {
+                LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass)
+                        .setId(id);
+                if (propertyFetchPlan != null)
+                    loadContext.setFetchPlan(propertyFetchPlan);
+                loadContext.setJoinTransaction(joinTransaction);
+
+                long start = System.nanoTime();
+                relatedEntity = dataManager.load(loadContext);
+                loadingSupport.registerLoading(cdsrMetaClass.getStore().getName(), relatedEntity == null ? 0 : 1,
+                        System.nanoTime() - start);
+                if (relatedEntity != null) {
+                    references.put(cdsrMetaClass, propertyFetchPlan, id, relatedEntity);
+                }
+            }
             EntityValues.setValue(entity, aProp.property.getName(), relatedEntity);
         }
 
     }
 
-    private void loadMany(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
-        int offset = 0, limit = properties.getCrossDataStoreReferenceLoadingBatchSize();
-        while (true) {
-            int end = offset + limit;
-            List<Object> batch = entities.subList(offset, Math.min(end, entities.size()));
-            loadBatch(crossDataStoreProperty, batch);
-            if (end >= entities.size())
-                break;
-            else
-                offset += limit;
+    private void loadMany(Map<CrossDataStoreProperty, List<Object>> entitiesByProperty,
+                          LoadedReferences references, boolean nested) {
+        int limit = properties.getCrossDataStoreReferenceLoadingBatchSize();
+        List<LoadBatchTask> tasks = new ArrayList<>();
+        entitiesByProperty.forEach((crossDataStoreProperty, entities) -> {
+            int offset = 0;
+            while (true) {
+                int end = offset + limit;
+                List<Object> batch = entities.subList(offset, Math.min(end, entities.size()));
+                if (crossDataStoreProperty.needsFakeInstance()) {
+                    setFakeInstances(crossDataStoreProperty, batch);
+                } else {
+                    tasks.add(new LoadBatchTask(crossDataStoreProperty, batch));
+                }
+                if (end >= entities.size())
+                    break;
+                else
+                    offset += limit;
+            }
+        });
+
+        // Nested loaders run in the caller thread: waiting for nested tasks in the pool threads could exhaust the pool.
+        // Loading JPA entities in the current transaction must be done in the thread bound to the transaction.
+        boolean concurrent = !nested && loadingSupport.getParallelism() > 1;
+        for (LoadBatchTask task : tasks) {
+            if (concurrent && task.isConcurrent()) {
+                task.future = loadingSupport.submit(references, () -> loadBatch(task.crossDataStoreProperty, task.ids, references));
+            }
+        }
+        for (LoadBatchTask task : tasks) {
+            Map<Object, Object> loadedEntities;
+            if (task.future != null) {
+                loadedEntities = getLoadedEntities(task.future);
+            } else {
+                loadedEntities = loadBatch(task.crossDataStoreProperty, task.ids, references);
+            }
+            setLoadedEntities(task.crossDataStoreProperty, task.entities, loadedEntities);
         }
     }
 
-    private void loadBatch(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
-        List<Object> idList = entities.stream()
-                .map(e -> EntityValues.getValue(e, crossDataStoreProperty.relatedPropertyName))
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
-
-        if (idList.isEmpty())
-            return;
+    private Map<Object, Object> getLoadedEntities(Future<Map<Object, Object>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading cross data store references", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Error loading cross data store references", cause);
+        }
+    }
 
+    private void setFakeInstances(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
         MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
+        for (Object entity : entities) {
+            Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
+            if (id != null) {
+                Object fakeInstance = metadata.create(cdsrMetaClass, id);
+                entityStates.makePatch(fakeInstance);
 
-        if (crossDataStoreProperty.needsFakeInstance()) {
-            for (Object entity : entities) {
-                Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                if (id != null) {
-                    Object fakeInstance = metadata.create(cdsrMetaClass, id);
-                    entityStates.makePatch(fakeInstance);
+                EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+            }
+        }
+    }
 
-                    EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+    private void setLoadedEntities(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities,
+                                   Map<Object, Object> loadedEntities) {
+        if (loadedEntities.isEmpty())
+            return;
+
+        for (Object entity : entities) {
+            Object relatedPropertyValue = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
+            if (relatedPropertyValue != null) {
+                Object loadedEntity = loadedEntities.get(relatedPropertyValue);
+                if (loadedEntity != null) {
+                    EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), loadedEntity);
                 }
             }
-        } else {
-            LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
-
-            if (metadataTools.isJpa(crossDataStoreProperty.property)) {
-                // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
-                // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
-                MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
-                if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
-                    String queryString = String.format(
-                            "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
-                    loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
-                } else {
-                    // composite key entity
-                    StringBuilder sb = new StringBuilder("select e from ");
-                    sb.append(cdsrMetaClass).append(" e where ");
-
-                    MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
-                    for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
-                        MetaProperty property = it.next();
-                        sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
-                        sb.append(" in :list_").append(property.getName());
-                        if (it.hasNext())
-                            sb.append(" and ");
-                    }
-                    LoadContext.Query query = new LoadContext.Query(sb.toString());
-                    for (MetaProperty property : idMetaClass.getProperties()) {
-                        List<Object> propList = idList.stream()
-                                .map(o -> EntityValues.getValue(o, property.getName()))
-                                .collect(Collectors.toList());
-                        query.setParameter("list_" + property.getName(), propList);
-                    }
-                    loadContext.setQuery(query);
-                }
+        }
+    }
+
+    /**
+     * Loads referenced entities that are not loaded yet within the current call tree.
+     *
+     * @return loaded entities by ids
+     */
+    private Map<Object, Object> loadBatch(CrossDataStoreProperty crossDataStoreProperty, List<Object> ids,
+                                          LoadedReferences references) {
+        MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
+        assert crossDataStoreProperty.fetchPlanProperty != null;
+        FetchPlan propertyFetchPlan = crossDataStoreProperty.fetchPlanProperty.getFetchPlan();
+
+        Map<Object, Object> result = new HashMap<>();
+        List<Object> idList = new ArrayList<>();
+        for (Object id : ids) {
+            Object loadedEntity = references.get(cdsrMetaClass, propertyFetchPlan, id);
+            if (loadedEntity != null) {
+                result.put(id, loadedEntity);
             } else {
-                // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
-                loadContext.setIds(idList);
+                idList.add(id);
             }
+        }
 
-            assert crossDataStoreProperty.fetchPlanProperty != null;
-            loadContext.setFetchPlan(crossDataStoreProperty.fetchPlanProperty.getFetchPlan());
-            loadContext.setJoinTransaction(joinTransaction);
-
-            List<?> loadedEntities = dataManager.loadList(loadContext);
-
-            for (Object entity : entities) {
-                Object relatedPropertyValue = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                loadedEntities.stream()
-                        .filter(e -> {
-                            Object id = EntityValues.getId(e);
-                            assert id != null;
-                            return id.equals(relatedPropertyValue);
-                        })
-                        .findAny()
-                        .ifPresent(e -> EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), e)
-                        );
+        if (idList.isEmpty())
+            return result;
+
+        LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
+
+        if (metadataTools.isJpa(crossDataStoreProperty.property)) {
+            // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
+            // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
+            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
+            if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
+                String queryString = String.format(
+                        "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
+                loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
+            } else {
+                // composite key entity
+                StringBuilder sb = new StringBuilder("select e from ");
+                sb.append(cdsrMetaClass).append(" e where ");
+
+                MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
+                for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
+                    MetaProperty property = it.next();
+                    sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
+                    sb.append(" in :list_").append(property.getName());
+                    if (it.hasNext())
+                        sb.append(" and ");
+                }
+                LoadContext.Query query = new LoadContext.Query(sb.toString());
+                for (MetaProperty property : idMetaClass.getProperties()) {
+                    List<Object> propList = idList.stream()
+                            .map(o -> EntityValues.getValue(o, property.getName()))
+                            .collect(Collectors.toList());
+                    query.setParameter("list_" + property.getName(), propList);
+                }
+                loadContext.setQuery(query);
             }
+        } else {
+            // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
+            loadContext.setIds(idList);
+        }
+
+        loadContext.setFetchPlan(propertyFetchPlan);
+        loadContext.setJoinTransaction(joinTransaction);
+
+        long start = System.nanoTime();
+        List<?> loadedEntities = dataManager.loadList(loadContext);
+        loadingSupport.registerLoading(cdsrMetaClass.getStore().getName(), loadedEntities.size(), System.nanoTime() - start);
+
+        for (Object loadedEntity : loadedEntities) {
+            Object id = EntityValues.getId(loadedEntity);
+            assert id != null;
+            result.put(id, loadedEntity);
+            references.put(cdsrMetaClass, propertyFetchPlan, id, loadedEntity);
+        }
+        return result;
+    }
+
+    private class LoadBatchTask {
+
+        private final CrossDataStoreProperty crossDataStoreProperty;
+        private final List<Object> entities;
+        // collected in the caller thread, so the entities are not accessed concurrently
+        private final List<Object> ids;
+        private Future<Map<Object, Object>> future;
+
+        private LoadBatchTask(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
+            this.crossDataStoreProperty = crossDataStoreProperty;
+            this.entities = entities;
+            this.ids = entities.stream()
+                    .map(e -> EntityValues.getValue(e, crossDataStoreProperty.relatedPropertyName))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+
+        private boolean isConcurrent() {
+            return !joinTransaction || !metadataTools.isJpa(crossDataStoreProperty.property);
         }
     }
 
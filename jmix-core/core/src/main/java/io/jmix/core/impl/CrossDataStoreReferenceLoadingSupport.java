@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.metamodel.model.MetaClass;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * INTERNAL.
+ * Shared state of {@link CrossDataStoreReferenceLoader} instances: the executor for concurrent loading,
+ * the identity map of references loaded within a single {@code DataManager} call tree and loading statistics
+ * per data store.
+ */
+@Component("core_CrossDataStoreReferenceLoadingSupport")
+public class CrossDataStoreReferenceLoadingSupport {
+
+    private static final ThreadLocal<LoadedReferences> loadedReferences = new ThreadLocal<>();
+
+    @Autowired
+    protected CoreProperties properties;
+
+    protected final Map<String, StoreStatistics> statistics = new ConcurrentHashMap<>();
+
+    protected volatile ExecutorService executor;
+
+    /**
+     * Returns the identity map of the current call tree or null if the current thread is not loading
+     * cross data store references.
+     */
+    @Nullable
+    public LoadedReferences getLoadedReferences() {
+        return loadedReferences.get();
+    }
+
+    /**
+     * Executes the action with the provided identity map bound to the current thread.
+     */
+    public <T> T withLoadedReferences(LoadedReferences references, Supplier<T> action) {
+        LoadedReferences previous = loadedReferences.get();
+        loadedReferences.set(references);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                loadedReferences.remove();
+            } else {
+                loadedReferences.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Executes the action in a separate thread with the security context and identity map of the current thread.
+     */
+    public <T> Future<T> submit(LoadedReferences references, Supplier<T> action) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return getExecutor().submit(() -> {
+            // the context is not shared, so authentication changes in the worker do not affect the caller
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(authentication);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return withLoadedReferences(references, action);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+    }
+
+    public int getParallelism() {
+        return Math.max(properties.getCrossDataStoreReferenceLoadingParallelism(), 1);
+    }
+
+    protected ExecutorService getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(getParallelism(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jmix-CrossDataStoreLoader-%d")
+                                    .setDaemon(true)
+                                    .build());
+                }
+            }
+        }
+        return executor;
+    }
+
+    public void registerLoading(String storeName, int loadedCount, long timeNanos) {
+        StoreStatistics storeStatistics = statistics.computeIfAbsent(storeName, k -> new StoreStatistics());
+        storeStatistics.requests.increment();
+        storeStatistics.entities.add(loadedCount);
+        storeStatistics.timeNanos.add(timeNanos);
+    }
+
+    /**
+     * @return loading statistics by data store names
+     */
+    public Map<String, StoreStatistics> getStatistics() {
+        return new TreeMap<>(statistics);
+    }
+
+    public void resetStatistics() {
+        statistics.clear();
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * References loaded within a single {@code DataManager} call tree, by entity class, fetch plan and id.
+     */
+    public static class LoadedReferences {
+
+        protected final Map<ReferenceKey, Object> entities = new ConcurrentHashMap<>();
+
+        @Nullable
+        public Object get(MetaClass metaClass, @Nullable FetchPlan fetchPlan, Object id) {
+            return entities.get(new ReferenceKey(metaClass, fetchPlan, id));
+        }
+
+        public void put(MetaClass metaClass, @Nullable FetchPlan fetchPlan, Object id, Object entity) {
+            entities.putIfAbsent(new ReferenceKey(metaClass, fetchPlan, id), entity);
+        }
+    }
+
+    protected static class ReferenceKey {
+
+        protected final MetaClass metaClass;
+        protected final FetchPlan fetchPlan;
+        protected final Object id;
+
+        protected ReferenceKey(MetaClass metaClass, @Nullable FetchPlan fetchPlan, Object id) {
+            this.metaClass = metaClass;
+            this.fetchPlan = fetchPlan;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ReferenceKey that = (ReferenceKey) o;
+            // fetch plans are compared by identity: the same fetch plan property yields the same instance
+            return metaClass.equals(that.metaClass) && fetchPlan == that.fetchPlan && id.equals(that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metaClass, System.identityHashCode(fetchPlan), id);
+        }
+    }
+
+    public static class StoreStatistics {
+
+        protected final LongAdder requests = new LongAdder();
+        protected final LongAdder entities = new LongAdder();
+        protected final LongAdder timeNanos = new LongAdder();
+
+        /**
+         * @return number of load requests to the data store
+         */
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        /**
+         * @return number of entities loaded from the data store
+         */
+        public long getEntities() {
+            return entities.sum();
+        }
+
+        /**
+         * @return total time of load requests to the data store in milliseconds
+         */
+        public long getTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(timeNanos.sum());
+        }
+
+        @Override
+        public String toString() {
+            return "requests=" + getRequests() + ", entities=" + getEntities() + ", timeMillis=" + getTimeMillis();
+        }
+    }
+}
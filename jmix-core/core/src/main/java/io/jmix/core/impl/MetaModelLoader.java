@@ -27,6 +27,7 @@ import io.jmix.core.annotation.DeletedBy;
 import io.jmix.core.annotation.DeletedDate;
 import io.jmix.core.annotation.TenantId;
 import io.jmix.core.common.util.ReflectionHelper;
+import io.jmix.core.entity.BaseEntityEntry;
 import io.jmix.core.entity.annotation.JmixEmbedded;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
@@ -154,6 +155,10 @@ public class MetaModelLoader {
         for (MetaClass metaClass : session.getClasses()) {
             initInheritedProperties(metaClass);
         }
+
+        for (MetaClass metaClass : session.getClasses()) {
+            initPropertyOrdinals(metaClass);
+        }
     }
 
     protected void initAncestors(Session session, MetaClass metaClass) {
@@ -210,6 +215,37 @@ public class MetaModelLoader {
         }
     }
 
+    /**
+     * Assigns ordinals of the index-based accessors generated by the enhancer in the entity entry class.
+     * Inherited properties are shared with the ancestor, so the first assigned ordinal is kept.
+     */
+    protected void initPropertyOrdinals(MetaClass metaClass) {
+        String[] attributeNames = getEnhancedAttributeNames(metaClass.getJavaClass());
+        for (int i = 0; i < attributeNames.length; i++) {
+            MetaProperty property = metaClass.findProperty(attributeNames[i]);
+            if (property instanceof MetaPropertyImpl && property.getOrdinal() < 0) {
+                ((MetaPropertyImpl) property).setOrdinal(i);
+            }
+        }
+    }
+
+    protected String[] getEnhancedAttributeNames(Class<?> javaClass) {
+        try {
+            Class<?> entryClass = Class.forName(javaClass.getName() + "$" + BaseEntityEntry.GEN_ENTITY_ENTRY_CLASS_NAME,
+                    false, javaClass.getClassLoader());
+            Field field = entryClass.getField(BaseEntityEntry.ATTRIBUTE_NAMES_FIELD_NAME);
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String[].class) {
+                String[] names = (String[]) field.get(null);
+                if (names != null) {
+                    return names;
+                }
+            }
+        } catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException | LinkageError e) {
+            log.trace("Class {} has no generated attribute accessors", javaClass.getName());
+        }
+        return new String[0];
+    }
+
     @Nullable
     protected MetaClassImpl createClass(Session session, Class<?> javaClass) {
         if (!Entity.class.isAssignableFrom(javaClass)) {
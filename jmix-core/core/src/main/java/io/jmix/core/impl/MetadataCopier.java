@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import io.jmix.core.*;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.metamodel.datatype.EnumClass;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.*;
+
+/**
+ * Copies graphs of entities by walking their metadata instead of serializing them.
+ * <p>
+ * Only loaded attributes are copied, unloaded references keep their lazy loading state. The entity entry state
+ * (new/detached flags, loaded properties, security and extra state) is copied by {@link EntitySystemStateSupport}.
+ * Entities referenced several times in the graph are copied once. Values of immutable types are shared with the
+ * source, other values which cannot be copied using metadata are copied by {@link SerializingCopier}.
+ */
+@Primary
+@Component("core_MetadataCopier")
+public class MetadataCopier implements Copier {
+
+    protected static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class, Locale.class, URI.class,
+            Currency.class, Class.class);
+
+    private final Metadata metadata;
+    private final MetadataTools metadataTools;
+    private final EntityStates entityStates;
+    private final EntitySystemStateSupport entitySystemStateSupport;
+    private final SerializingCopier serializingCopier;
+
+    public MetadataCopier(Metadata metadata,
+                          MetadataTools metadataTools,
+                          EntityStates entityStates,
+                          EntitySystemStateSupport entitySystemStateSupport,
+                          SerializingCopier serializingCopier) {
+        this.metadata = metadata;
+        this.metadataTools = metadataTools;
+        this.entityStates = entityStates;
+        this.entitySystemStateSupport = entitySystemStateSupport;
+        this.serializingCopier = serializingCopier;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T copy(T source) {
+        if (!(source instanceof Entity || source instanceof Collection || source instanceof Map)
+                || source instanceof KeyValueEntity) {
+            return serializingCopier.copy(source);
+        }
+        GraphCopy graphCopy = new GraphCopy();
+        Object result = graphCopy.copyValue(source);
+        graphCopy.copyEntityStates();
+        return (T) result;
+    }
+
+    /**
+     * State of copying a single object graph.
+     */
+    protected class GraphCopy {
+
+        protected final Map<Object, Object> copies = new IdentityHashMap<>();
+        protected final Deque<Object> entitiesToFill = new ArrayDeque<>();
+
+        /**
+         * Returns a copy of the value. Entities are instantiated and registered, their attributes are copied later
+         * by {@link #copyEntityStates()} to avoid deep recursion on long reference chains.
+         */
+        @Nullable
+        protected Object copyValue(@Nullable Object value) {
+            if (value == null || isImmutable(value)) {
+                return value;
+            }
+            if (value instanceof Entity && !(value instanceof KeyValueEntity)) {
+                Object copy = copies.get(value);
+                if (copy == null) {
+                    copy = createInstance(value);
+                    copies.put(value, copy);
+                    entitiesToFill.add(value);
+                }
+                return copy;
+            }
+            if (value instanceof Collection<?> collection) {
+                Collection<Object> copy = collection instanceof List ?
+                        new ArrayList<>(collection.size()) : new LinkedHashSet<>();
+                for (Object item : collection) {
+                    copy.add(copyValue(item));
+                }
+                return copy;
+            }
+            if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+                }
+                return copy;
+            }
+            if (value instanceof Date date) {
+                return date.clone();
+            }
+            if (value instanceof byte[] bytes) {
+                return bytes.clone();
+            }
+            return serializingCopier.copy(value);
+        }
+
+        protected void copyEntityStates() {
+            Object source;
+            while ((source = entitiesToFill.poll()) != null) {
+                copyEntityState(source, copies.get(source));
+            }
+        }
+
+        protected void copyEntityState(Object source, Object destination) {
+            MetaClass metaClass = metadata.getClass(source);
+            boolean srcNew = entityStates.isNew(source);
+            List<MetaProperty> lazyProperties = null;
+
+            for (MetaProperty property : metaClass.getProperties()) {
+                if (metadataTools.isMethodBased(property) && property.isReadOnly()) {
+                    continue;
+                }
+                if (srcNew || entityStates.isLoaded(source, property.getName())) {
+                    setPropertyValue(destination, property, copyValue(EntityValues.getValue(source, property)));
+                } else if (property.getRange().isClass() && !metadataTools.isMethodBased(property)) {
+                    if (lazyProperties == null) {
+                        lazyProperties = new ArrayList<>();
+                    }
+                    lazyProperties.add(property);
+                }
+            }
+
+            // copy system state after attributes to avoid notifying the copied property change listeners
+            entitySystemStateSupport.copySystemState((Entity) source, (Entity) destination);
+
+            if (lazyProperties != null) {
+                for (MetaProperty property : lazyProperties) {
+                    entitySystemStateSupport.mergeLazyLoadingState((Entity) source, (Entity) destination, property,
+                            collection -> collection);
+                }
+            }
+        }
+    }
+
+    protected boolean isImmutable(Object value) {
+        return IMMUTABLE_TYPES.contains(value.getClass())
+                || value instanceof Enum
+                || value.getClass().getPackageName().equals("java.time");
+    }
+
+    protected Object createInstance(Object entity) {
+        try {
+            return entity.getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Cannot create an instance of " + entity.getClass(), e);
+        }
+    }
+
+    protected void setPropertyValue(Object entity, MetaProperty property, @Nullable Object value) {
+        if (!property.isReadOnly()) {
+            EntityValues.setValue(entity, property, value, false);
+        } else {
+            AnnotatedElement annotatedElement = property.getAnnotatedElement();
+            if (annotatedElement instanceof Field field) {
+                field.setAccessible(true);
+                if (value instanceof EnumClass) {
+                    value = ((EnumClass<?>) value).getId();
+                }
+                try {
+                    field.set(entity, value);
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException("Unable to set property value", e);
+                }
+            }
+        }
+    }
+}
@@ -23,6 +23,9 @@ import io.jmix.core.entity.EntityValues;
 import io.jmix.core.entity.KeyValueEntity;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -38,6 +41,9 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Primary
 @Component("core_UnconstrainedDataManager")
@@ -49,6 +55,13 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
 
     protected static final AtomicLong txCount = new AtomicLong();
 
+    /**
+     * Matches queries selecting the root entity without explicit ordering, e.g. {@code select e from Foo e where ...}.
+     */
+    protected static final Pattern ROOT_ENTITY_QUERY_PATTERN = Pattern.compile(
+            "\\s*select\\s+(?:distinct\\s+)?(\\w+)\\s+from\\s+[\\w$]+\\s+(?:as\\s+)?\\1\\b(?:(?!\\border\\s+by\\b).)*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
     @Autowired
     protected Metadata metadata;
 
@@ -125,6 +138,41 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return storage.getCount(context);
     }
 
+    @Override
+    public <E> Stream<E> loadStream(LoadContext<E> context) {
+        return loadStream(context, properties.getLoadStreamFetchSize());
+    }
+
+    @Override
+    public <E> Stream<E> loadStream(LoadContext<E> context, int fetchSize) {
+        Preconditions.checkNotNullArgument(context.getQuery(), "query is null");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        }
+        LoadStreamIterator<E> iterator = new LoadStreamIterator<>(context, fetchSize, isKeysetPagingApplicable(context));
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns true if chunks of {@link #loadStream(LoadContext, int)} can be loaded by the primary key condition
+     * instead of offset: the query selects JPA entities with a simple primary key without sorting.
+     */
+    protected boolean isKeysetPagingApplicable(LoadContext<?> context) {
+        LoadContext.Query query = context.getQuery();
+        MetaClass metaClass = getEffectiveMetaClassFromContext(context);
+        if (query == null
+                || !context.getIds().isEmpty()
+                || !metadataTools.isJpaEntity(metaClass)
+                || metadataTools.hasCompositePrimaryKey(metaClass)
+                || metadataTools.getPrimaryKeyName(metaClass) == null
+                || (query.getSort() != null && !query.getSort().getOrders().isEmpty())) {
+            return false;
+        }
+        String queryString = query.getQueryString();
+        return queryString == null || ROOT_ENTITY_QUERY_PATTERN.matcher(queryString).matches();
+    }
+
     @Override
     public EntitySet save(Object... entities) {
         return save(new SaveContext().saving(entities));
@@ -270,6 +318,26 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return dataStore.save(context);
     }
 
+    @Override
+    public int executeBulkOperation(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        DataStore store = dataStoreFactory.get(getStoreName(metaClass));
+        context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+        return store.executeBulkOperation(context);
+    }
+
+    @Override
+    public <E> FluentBulkOperation<E> bulkUpdate(Class<E> entityClass) {
+        return new FluentBulkOperation<>(
+                new BulkOperationContext(metadata.getClass(entityClass), BulkOperationContext.Type.UPDATE), this);
+    }
+
+    @Override
+    public <E> FluentBulkOperation<E> bulkDelete(Class<E> entityClass) {
+        return new FluentBulkOperation<>(
+                new BulkOperationContext(metadata.getClass(entityClass), BulkOperationContext.Type.DELETE), this);
+    }
+
     @Override
     public List<KeyValueEntity> loadValues(ValueLoadContext context) {
         DataStore store = dataStoreFactory.get(getStoreName(context.getStoreName()));
@@ -430,4 +498,83 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
     protected List<AccessConstraint<?>> getAppliedConstraints() {
         return Collections.emptyList();
     }
+
+    /**
+     * Loads chunks of entities for {@link #loadStream(LoadContext, int)} on demand.
+     */
+    protected class LoadStreamIterator<E> implements Iterator<E> {
+
+        protected final LoadContext<E> context;
+        protected final int fetchSize;
+        protected final boolean keysetPaging;
+        protected final int maxResults;
+        protected final String primaryKeyName;
+
+        protected Iterator<E> chunkIterator = Collections.emptyIterator();
+        protected Object lastId;
+        protected int loaded;
+        protected boolean exhausted;
+
+        public LoadStreamIterator(LoadContext<E> context, int fetchSize, boolean keysetPaging) {
+            this.context = context;
+            this.fetchSize = fetchSize;
+            this.keysetPaging = keysetPaging;
+            LoadContext.Query query = Objects.requireNonNull(context.getQuery());
+            this.maxResults = query.getMaxResults();
+            this.primaryKeyName = keysetPaging ? metadataTools.getPrimaryKeyName(getEffectiveMetaClassFromContext(context)) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!chunkIterator.hasNext() && !exhausted) {
+                chunkIterator = loadChunk().iterator();
+            }
+            return chunkIterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunkIterator.next();
+        }
+
+        protected List<E> loadChunk() {
+            int size = maxResults > 0 ? Math.min(fetchSize, maxResults - loaded) : fetchSize;
+
+            LoadContext<E> chunkContext = createChunkLoadContext(size);
+            List<E> entities = loadList(chunkContext);
+
+            loaded += entities.size();
+            if (!entities.isEmpty() && keysetPaging) {
+                lastId = EntityValues.getId(entities.get(entities.size() - 1));
+            }
+            // loaded chunk can be smaller than requested because of in-memory constraints,
+            // only an empty chunk reliably means the end of the keyset
+            exhausted = (maxResults > 0 && loaded >= maxResults)
+                    || (keysetPaging ? entities.isEmpty() : entities.size() < size);
+            return entities;
+        }
+
+        protected LoadContext<E> createChunkLoadContext(int size) {
+            @SuppressWarnings("unchecked")
+            LoadContext<E> chunkContext = (LoadContext<E>) context.copy();
+            LoadContext.Query query = Objects.requireNonNull(chunkContext.getQuery());
+            query.setMaxResults(size);
+            if (keysetPaging) {
+                query.setSort(Sort.by(primaryKeyName));
+                if (lastId != null) {
+                    Condition keyCondition = PropertyCondition.greater(primaryKeyName, lastId);
+                    query.setCondition(query.getCondition() == null
+                            ? keyCondition
+                            : LogicalCondition.and(query.getCondition(), keyCondition));
+                    query.setFirstResult(0);
+                }
+            } else {
+                query.setFirstResult(context.getQuery().getFirstResult() + loaded);
+            }
+            return chunkContext;
+        }
+    }
 }
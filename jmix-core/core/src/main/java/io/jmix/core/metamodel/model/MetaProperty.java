@@ -114,4 +114,18 @@ public interface MetaProperty extends MetadataObject {
     Class<?> getDeclaringClass();
 
     Store getStore();
+
+    /**
+     * Returns the index of the attribute accessor generated by the entity enhancer. The index is the same in all
+     * entities inheriting the attribute if their superclasses are enhanced identically.
+     * <p>
+     * The ordinal is used by {@link io.jmix.core.EntityEntry#getAttributeValue(MetaProperty)} and
+     * {@link io.jmix.core.EntityEntry#setAttributeValue(MetaProperty, Object, boolean)} to access attributes
+     * without lookup by name.
+     *
+     * @return ordinal of the attribute or -1 if the attribute has no generated accessor
+     */
+    default int getOrdinal() {
+        return -1;
+    }
 }
\ No newline at end of file
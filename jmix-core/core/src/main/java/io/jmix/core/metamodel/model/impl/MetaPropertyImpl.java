@@ -40,6 +40,8 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
     private Class<?> javaType;
     private Class<?> declaringClass;
 
+    private int ordinal = -1;
+
     public MetaPropertyImpl(MetaClass domain, String name) {
         this.domain = domain;
         this.session = domain.getSession();
@@ -62,6 +64,7 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
         annotatedElement = prototype.annotatedElement;
         javaType = prototype.javaType;
         declaringClass = prototype.declaringClass;
+        ordinal = prototype.ordinal;
     }
 
     @Override
@@ -138,6 +141,15 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
 
     }
 
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     @Override
     public Type getType() {
         return type;
@@ -172,6 +172,23 @@ class JmixEntitiesMetadataTest extends Specification {
         EntityValues.getId(customer) == customer.getId()
     }
 
+    def "index-based attribute accessors"() {
+        def metaClass = metadata.getClass(CustomerObjectWithGeneratedId)
+        def nameProperty = metaClass.getProperty('name')
+        def customer = metadata.create(CustomerObjectWithGeneratedId)
+
+        expect:
+        nameProperty.ordinal >= 0
+
+        when:
+        EntityValues.setValue(customer, nameProperty, 'abc', true)
+
+        then:
+        customer.getName() == 'abc'
+        EntityValues.<String>getValue(customer, nameProperty) == 'abc'
+        EntityValues.<UUID>getValue(customer, metaClass.getProperty('id')) == customer.getId()
+    }
+
     def "DTO Enum property loaded to metadata"() {
         expect: "Property 'orderState' loaded to metadata and has correct type"
         metadata.getClass(OrderObject).getProperty("orderState").type == MetaProperty.Type.ENUM
@@ -31,6 +31,7 @@ public class TestCoreProperties extends CoreProperties {
                               String dbDir,
                               List<String> availableLocales,
                               int crossDataStoreReferenceLoadingBatchSize,
+                              int crossDataStoreReferenceLoadingParallelism,
                               boolean idGenerationForEntitiesInAdditionalDataStoresEnabled,
                               int dom4jMaxPoolSize,
                               int dom4jMaxBorrowWaitMillis,
@@ -42,13 +43,17 @@ public class TestCoreProperties extends CoreProperties {
                               boolean triggerFilesEnabled,
                               Duration triggerFilesProcessInterval,
                               boolean roundDecimalValueByFormat,
-                              boolean skipNullOrEmptyConditionsByDefault) {
+                              boolean skipNullOrEmptyConditionsByDefault,
+                              int loadByBatchesMaxBatchSize,
+                              int loadByBatchesMaxScannedRows) {
         super(webHostName, webPort, confDir, workDir, tempDir, dbDir, availableLocales,
-                crossDataStoreReferenceLoadingBatchSize, idGenerationForEntitiesInAdditionalDataStoresEnabled,
+                crossDataStoreReferenceLoadingBatchSize, crossDataStoreReferenceLoadingParallelism,
+                idGenerationForEntitiesInAdditionalDataStoresEnabled,
                 dom4jMaxPoolSize, dom4jMaxBorrowWaitMillis, anonymousAuthenticationTokenKey, defaultFileStorage,
                 entitySerializationTokenRequired, entitySerializationTokenEncryptionKey,
                 legacyFetchPlanSerializationAttributeName, triggerFilesEnabled, triggerFilesProcessInterval,
-                roundDecimalValueByFormat, skipNullOrEmptyConditionsByDefault);
+                roundDecimalValueByFormat, skipNullOrEmptyConditionsByDefault, loadByBatchesMaxBatchSize,
+                loadByBatchesMaxScannedRows);
     }
 
     public static Builder builder() {
@@ -64,6 +69,7 @@ public class TestCoreProperties extends CoreProperties {
         String dbDir;
         List<String> availableLocales;
         int crossDataStoreReferenceLoadingBatchSize = 50;
+        int crossDataStoreReferenceLoadingParallelism = 1;
         boolean idGenerationForEntitiesInAdditionalDataStoresEnabled = true;
         int dom4jMaxPoolSize = 100;
         int dom4jMaxBorrowWaitMillis = 1000;
@@ -76,6 +82,8 @@ public class TestCoreProperties extends CoreProperties {
         Duration triggerFilesProcessInterval = Duration.ofSeconds(5000);
         boolean roundDecimalValueByFormat = true;
         boolean skipNullOrEmptyConditionsByDefault = false;
+        int loadByBatchesMaxBatchSize = 10000;
+        int loadByBatchesMaxScannedRows = 100000;
 
         public Builder setWebHostName(String webHostName) {
             this.webHostName = webHostName;
@@ -117,6 +125,11 @@ public class TestCoreProperties extends CoreProperties {
             return this;
         }
 
+        public Builder setCrossDataStoreReferenceLoadingParallelism(int crossDataStoreReferenceLoadingParallelism) {
+            this.crossDataStoreReferenceLoadingParallelism = crossDataStoreReferenceLoadingParallelism;
+            return this;
+        }
+
         public Builder setIdGenerationForEntitiesInAdditionalDataStoresEnabled(boolean idGenerationForEntitiesInAdditionalDataStoresEnabled) {
             this.idGenerationForEntitiesInAdditionalDataStoresEnabled = idGenerationForEntitiesInAdditionalDataStoresEnabled;
             return this;
@@ -177,6 +190,16 @@ public class TestCoreProperties extends CoreProperties {
             return this;
         }
 
+        public Builder setLoadByBatchesMaxBatchSize(int loadByBatchesMaxBatchSize) {
+            this.loadByBatchesMaxBatchSize = loadByBatchesMaxBatchSize;
+            return this;
+        }
+
+        public Builder setLoadByBatchesMaxScannedRows(int loadByBatchesMaxScannedRows) {
+            this.loadByBatchesMaxScannedRows = loadByBatchesMaxScannedRows;
+            return this;
+        }
+
         public TestCoreProperties build() {
             return new TestCoreProperties(
                     this.webHostName,
@@ -187,6 +210,7 @@ public class TestCoreProperties extends CoreProperties {
                     this.dbDir,
                     this.availableLocales,
                     this.crossDataStoreReferenceLoadingBatchSize,
+                    this.crossDataStoreReferenceLoadingParallelism,
                     this.idGenerationForEntitiesInAdditionalDataStoresEnabled,
                     this.dom4jMaxPoolSize,
                     this.dom4jMaxBorrowWaitMillis,
@@ -198,7 +222,9 @@ public class TestCoreProperties extends CoreProperties {
                     this.triggerFilesEnabled,
                     this.triggerFilesProcessInterval,
                     this.roundDecimalValueByFormat,
-                    this.skipNullOrEmptyConditionsByDefault);
+                    this.skipNullOrEmptyConditionsByDefault,
+                    this.loadByBatchesMaxBatchSize,
+                    this.loadByBatchesMaxScannedRows);
         }
     }
 }
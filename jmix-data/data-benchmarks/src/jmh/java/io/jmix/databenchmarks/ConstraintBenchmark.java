@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.databenchmarks.entity.BenchmarkCustomer;
+import io.jmix.databenchmarks.entity.BenchmarkOrder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of row-level constraints: JPQL conditions of orders and in-memory predicates of customers
+ * (see {@link io.jmix.databenchmarks.role.BenchmarkRowLevelRole}) compared to loading without constraints.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=ConstraintBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConstraintBenchmark {
+
+    @Param({"10000"})
+    public int orders;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private DataBenchmarkContext context;
+    private DataManager dataManager;
+    private UnconstrainedDataManager unconstrainedDataManager;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        context.authenticate(DataBenchmarkContext.RESTRICTED_USER);
+        context.getBean(BenchmarkDataGenerator.class).generate(orders, 1);
+
+        dataManager = context.getBean(DataManager.class);
+        unconstrainedDataManager = context.getBean(UnconstrainedDataManager.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> loadOrdersJpqlConstraint() {
+        return dataManager.load(BenchmarkOrder.class).all().maxResults(pageSize).list();
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> loadOrdersUnconstrained() {
+        return unconstrainedDataManager.load(BenchmarkOrder.class).all().maxResults(pageSize).list();
+    }
+
+    @Benchmark
+    public List<BenchmarkCustomer> loadCustomersPredicateConstraint() {
+        return dataManager.load(BenchmarkCustomer.class).all().maxResults(pageSize).list();
+    }
+
+    @Benchmark
+    public List<BenchmarkCustomer> loadCustomersUnconstrained() {
+        return unconstrainedDataManager.load(BenchmarkCustomer.class).all().maxResults(pageSize).list();
+    }
+}
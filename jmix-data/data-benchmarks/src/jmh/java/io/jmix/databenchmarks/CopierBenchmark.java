@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.impl.MetadataCopier;
+import io.jmix.core.impl.SerializingCopier;
+import io.jmix.databenchmarks.entity.BenchmarkOrder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deep copying of loaded entity graphs by walking metadata and by serialization round-trip.
+ * With default parameters, the copied graph contains about 1000 entities: orders, lines, customers and products.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=CopierBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CopierBenchmark {
+
+    @Param({"150"})
+    public int orders;
+
+    @Param({"5"})
+    public int linesPerOrder;
+
+    private DataBenchmarkContext context;
+    private MetadataCopier metadataCopier;
+    private SerializingCopier serializingCopier;
+    private List<BenchmarkOrder> loadedOrders;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        context.authenticate(DataBenchmarkContext.FULL_ACCESS_USER);
+        BenchmarkDataGenerator generator = context.getBean(BenchmarkDataGenerator.class);
+        generator.generate(orders, linesPerOrder);
+
+        metadataCopier = context.getBean(MetadataCopier.class);
+        serializingCopier = context.getBean(SerializingCopier.class);
+        loadedOrders = context.getBean(DataManager.class).load(BenchmarkOrder.class)
+                .all()
+                .fetchPlan(generator.orderDeepFetchPlan())
+                .list();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> metadataCopy() {
+        return metadataCopier.copy(loadedOrders);
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> serializingCopy() {
+        return serializingCopier.copy(loadedOrders);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.FetchPlan;
+import io.jmix.databenchmarks.entity.BenchmarkOrder;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of entities by {@code DataManager} with fetch plans of different depth.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=DataManagerLoadBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataManagerLoadBenchmark {
+
+    @Param({"1000", "10000"})
+    public int orders;
+
+    @Param({"5"})
+    public int linesPerOrder;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private DataBenchmarkContext context;
+    private DataManager dataManager;
+    private FetchPlan deepFetchPlan;
+    private UUID orderId;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        context.authenticate(DataBenchmarkContext.FULL_ACCESS_USER);
+        BenchmarkDataGenerator generator = context.getBean(BenchmarkDataGenerator.class);
+        generator.generate(orders, linesPerOrder);
+
+        dataManager = context.getBean(DataManager.class);
+        deepFetchPlan = generator.orderDeepFetchPlan();
+        orderId = dataManager.load(BenchmarkOrder.class).all().maxResults(1).one().getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> loadPageBaseFetchPlan() {
+        return dataManager.load(BenchmarkOrder.class)
+                .all()
+                .maxResults(pageSize)
+                .list();
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> loadPageDeepFetchPlan() {
+        return dataManager.load(BenchmarkOrder.class)
+                .all()
+                .fetchPlan(deepFetchPlan)
+                .maxResults(pageSize)
+                .list();
+    }
+
+    @Benchmark
+    public List<BenchmarkOrder> loadPageByQuery() {
+        return dataManager.load(BenchmarkOrder.class)
+                .query("e.amount > :amount")
+                .parameter("amount", BigDecimal.ZERO)
+                .fetchPlan(deepFetchPlan)
+                .maxResults(pageSize)
+                .list();
+    }
+
+    @Benchmark
+    public BenchmarkOrder loadById() {
+        return dataManager.load(BenchmarkOrder.class)
+                .id(orderId)
+                .fetchPlan(deepFetchPlan)
+                .one();
+    }
+}
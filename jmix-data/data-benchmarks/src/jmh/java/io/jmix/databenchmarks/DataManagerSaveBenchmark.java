@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.EntitySet;
+import io.jmix.core.SaveContext;
+import io.jmix.databenchmarks.entity.BenchmarkCustomer;
+import io.jmix.databenchmarks.entity.BenchmarkOrder;
+import io.jmix.databenchmarks.entity.BenchmarkProduct;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving of new orders with lines by {@code DataManager} in batches of different size.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=DataManagerSaveBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataManagerSaveBenchmark {
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    @Param({"5"})
+    public int linesPerOrder;
+
+    private DataBenchmarkContext context;
+    private DataManager dataManager;
+    private BenchmarkDataGenerator generator;
+    private List<BenchmarkCustomer> customers;
+    private List<BenchmarkProduct> products;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        context.authenticate(DataBenchmarkContext.FULL_ACCESS_USER);
+        generator = context.getBean(BenchmarkDataGenerator.class);
+        generator.generate(100, 1);
+        generator.deleteOrders();
+
+        dataManager = context.getBean(DataManager.class);
+        customers = dataManager.load(BenchmarkCustomer.class).all().list();
+        products = dataManager.load(BenchmarkProduct.class).all().list();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteOrders() {
+        generator.deleteOrders();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EntitySet saveOrders() {
+        SaveContext saveContext = new SaveContext();
+        for (int i = 0; i < batchSize; i++) {
+            int index = counter++;
+            BenchmarkOrder order = generator.createOrder(index, customers.get(index % customers.size()),
+                    products, linesPerOrder);
+            saveContext.saving(order).saving(order.getLines());
+        }
+        return dataManager.save(saveContext);
+    }
+}
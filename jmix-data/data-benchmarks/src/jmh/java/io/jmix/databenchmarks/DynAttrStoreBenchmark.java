@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.Metadata;
+import io.jmix.core.SaveContext;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.databenchmarks.entity.BenchmarkCustomer;
+import io.jmix.dynattr.AttributeType;
+import io.jmix.dynattr.DynAttrMetadata;
+import io.jmix.dynattr.DynAttrQueryHints;
+import io.jmix.dynattr.model.Category;
+import io.jmix.dynattr.model.CategoryAttribute;
+import io.jmix.dynattr.model.ReferenceToEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving of entities with changed dynamic attributes. The number of SELECT statements per operation is
+ * reported as a secondary result and should not grow with the number of saved entities.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=DynAttrStoreBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DynAttrStoreBenchmark {
+
+    private static final String ENTITY_NAME = "bench_Customer";
+
+    @Param({"10", "100", "1000"})
+    public int batchSize;
+
+    private DataBenchmarkContext context;
+    private UnconstrainedDataManager dataManager;
+    private StatementCountingDataSource dataSource;
+    private List<BenchmarkCustomer> customers;
+    private int counter;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Statements {
+        public long selects;
+        public long modifications;
+    }
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        context.authenticate(DataBenchmarkContext.FULL_ACCESS_USER);
+        context.getBean(BenchmarkDataGenerator.class).generate(batchSize * 10, 1);
+        createAttributes();
+
+        dataManager = context.getBean(UnconstrainedDataManager.class);
+        dataSource = context.getBean(StatementCountingDataSource.class);
+    }
+
+    protected void createAttributes() {
+        Metadata metadata = context.getBean(Metadata.class);
+
+        Category category = metadata.create(Category.class);
+        category.setName("customer");
+        category.setEntityType(ENTITY_NAME);
+
+        CategoryAttribute note = createAttribute(metadata, category, "note", AttributeType.STRING);
+        CategoryAttribute score = createAttribute(metadata, category, "score", AttributeType.INTEGER);
+
+        context.getBean(UnconstrainedDataManager.class).save(category, note, score);
+        context.getBean(DynAttrMetadata.class).reload();
+    }
+
+    protected CategoryAttribute createAttribute(Metadata metadata, Category category, String code, AttributeType type) {
+        CategoryAttribute attribute = metadata.create(CategoryAttribute.class);
+        attribute.setName(code);
+        attribute.setCode(code);
+        attribute.setDataType(type);
+        attribute.setCategoryEntityType(ENTITY_NAME);
+        attribute.setCategory(category);
+        attribute.setDefaultEntity(new ReferenceToEntity());
+        return attribute;
+    }
+
+    @Setup(Level.Invocation)
+    public void changeAttributes() {
+        customers = dataManager.load(BenchmarkCustomer.class)
+                .all()
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .maxResults(batchSize)
+                .list();
+        int value = counter++;
+        for (BenchmarkCustomer customer : customers) {
+            EntityValues.setValue(customer, "+note", "note-" + value);
+            EntityValues.setValue(customer, "+score", value);
+        }
+        dataSource.reset();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void saveChangedAttributes(Statements statements) {
+        dataManager.save(new SaveContext().saving(customers));
+        statements.selects += dataSource.getSelects();
+        statements.modifications += dataSource.getModifications();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.EntitySerialization;
+import io.jmix.core.EntityStates;
+import io.jmix.core.FetchPlan;
+import io.jmix.databenchmarks.entity.BenchmarkOrder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checks of loaded entity state and serialization of entity graphs to JSON and back.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=EntityStatesBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EntityStatesBenchmark {
+
+    @Param({"100"})
+    public int orders;
+
+    @Param({"5"})
+    public int linesPerOrder;
+
+    private DataBenchmarkContext context;
+    private EntityStates entityStates;
+    private EntitySerialization entitySerialization;
+    private FetchPlan deepFetchPlan;
+    private List<BenchmarkOrder> loadedOrders;
+    private String json;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        context.authenticate(DataBenchmarkContext.FULL_ACCESS_USER);
+        BenchmarkDataGenerator generator = context.getBean(BenchmarkDataGenerator.class);
+        generator.generate(orders, linesPerOrder);
+
+        entityStates = context.getBean(EntityStates.class);
+        entitySerialization = context.getBean(EntitySerialization.class);
+        deepFetchPlan = generator.orderDeepFetchPlan();
+        loadedOrders = context.getBean(DataManager.class).load(BenchmarkOrder.class)
+                .all()
+                .fetchPlan(deepFetchPlan)
+                .list();
+        json = entitySerialization.toJson(loadedOrders.get(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void isLoadedWithFetchPlan(Blackhole blackhole) {
+        for (BenchmarkOrder order : loadedOrders) {
+            blackhole.consume(entityStates.isLoadedWithFetchPlan(order, deepFetchPlan));
+        }
+    }
+
+    @Benchmark
+    public void isLoadedAttribute(Blackhole blackhole) {
+        for (BenchmarkOrder order : loadedOrders) {
+            blackhole.consume(entityStates.isLoaded(order, "customer"));
+            blackhole.consume(entityStates.isDetached(order));
+        }
+    }
+
+    @Benchmark
+    public String serializeToJson() {
+        return entitySerialization.toJson(loadedOrders.get(0));
+    }
+
+    @Benchmark
+    public BenchmarkOrder deserializeFromJson() {
+        return entitySerialization.entityFromJson(json, null);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.FetchPlan;
+import io.jmix.eclipselink.impl.FetchGroupDescription;
+import io.jmix.eclipselink.impl.FetchGroupDescriptionCache;
+import io.jmix.eclipselink.impl.FetchGroupManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures calculation of EclipseLink fetch groups for fetch plans passed to queries.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=FetchGroupBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FetchGroupBenchmark {
+
+    private static final String QUERY = "select e from bench_Order e";
+
+    private DataBenchmarkContext context;
+    private FetchGroupManager fetchGroupManager;
+    private FetchGroupDescriptionCache descriptionCache;
+    private FetchPlan deepFetchPlan;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start();
+        fetchGroupManager = context.getBean(FetchGroupManager.class);
+        descriptionCache = context.getBean(FetchGroupDescriptionCache.class);
+        deepFetchPlan = context.getBean(BenchmarkDataGenerator.class).orderDeepFetchPlan();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public FetchGroupDescription calculateFetchGroup() {
+        return fetchGroupManager.calculateFetchGroup(QUERY, deepFetchPlan, false, true);
+    }
+
+    @Benchmark
+    public FetchGroupDescription calculateFetchGroupUncached() {
+        descriptionCache.invalidateAll();
+        return fetchGroupManager.calculateFetchGroup(QUERY, deepFetchPlan, false, true);
+    }
+}
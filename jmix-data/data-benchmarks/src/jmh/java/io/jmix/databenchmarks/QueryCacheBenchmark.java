@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.DataManager;
+import io.jmix.databenchmarks.entity.BenchmarkCustomer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of cacheable queries with the query cache and the entity cache turned on and off.
+ * <p>
+ * Run with {@code ./gradlew :data-benchmarks:jmh -PjmhInclude=QueryCacheBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QueryCacheBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    @Param({"10000"})
+    public int orders;
+
+    private DataBenchmarkContext context;
+    private DataManager dataManager;
+
+    @Setup
+    public void setup() {
+        context = DataBenchmarkContext.start(Map.of(
+                "jmix.eclipselink.query-cache-enabled", cacheEnabled,
+                "eclipselink.cache.shared.bench_Customer", cacheEnabled));
+        context.authenticate(DataBenchmarkContext.FULL_ACCESS_USER);
+        context.getBean(BenchmarkDataGenerator.class).generate(orders, 1);
+
+        dataManager = context.getBean(DataManager.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BenchmarkCustomer> loadCacheableQuery() {
+        return dataManager.load(BenchmarkCustomer.class)
+                .query("e.grade = :grade")
+                .parameter("grade", 1)
+                .cacheable(true)
+                .list();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.FetchPlan;
+import io.jmix.core.FetchPlans;
+import io.jmix.core.Metadata;
+import io.jmix.core.SaveContext;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.databenchmarks.entity.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates benchmark data sets of the given size and provides fetch plans used by benchmarks.
+ */
+@Component("bench_DataGenerator")
+public class BenchmarkDataGenerator {
+
+    protected static final int SAVE_BATCH_SIZE = 500;
+
+    @Autowired
+    protected UnconstrainedDataManager dataManager;
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected FetchPlans fetchPlans;
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected final Random random = new Random(42);
+
+    /**
+     * Creates orders with lines referencing generated customers and products.
+     *
+     * @param orders        number of orders
+     * @param linesPerOrder number of lines of each order
+     */
+    public void generate(int orders, int linesPerOrder) {
+        int customerCount = Math.max(orders / 10, 1);
+        int productCount = Math.max(orders / 5, 1);
+
+        List<BenchmarkCategory> categories = new ArrayList<>();
+        for (int i = 0; i < Math.max(productCount / 20, 1); i++) {
+            BenchmarkCategory category = metadata.create(BenchmarkCategory.class);
+            category.setName("category-" + i);
+            categories.add(category);
+        }
+        List<BenchmarkProduct> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            BenchmarkProduct product = metadata.create(BenchmarkProduct.class);
+            product.setName("product-" + i);
+            product.setPrice(BigDecimal.valueOf(random.nextInt(10000), 2));
+            product.setCategory(categories.get(i % categories.size()));
+            products.add(product);
+        }
+        List<BenchmarkCustomer> customers = new ArrayList<>();
+        for (int i = 0; i < customerCount; i++) {
+            customers.add(createCustomer(i));
+        }
+        save(categories);
+        save(products);
+        save(customers);
+
+        List<Object> batch = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            BenchmarkOrder order = createOrder(i, customers.get(i % customers.size()), products, linesPerOrder);
+            batch.add(order);
+            batch.addAll(order.getLines());
+            if (batch.size() >= SAVE_BATCH_SIZE) {
+                save(batch);
+                batch.clear();
+            }
+        }
+        save(batch);
+    }
+
+    public BenchmarkCustomer createCustomer(int index) {
+        BenchmarkCustomer customer = metadata.create(BenchmarkCustomer.class);
+        customer.setName("customer-" + index);
+        customer.setEmail("customer-" + index + "@example.com");
+        customer.setGrade(index % 10);
+        return customer;
+    }
+
+    /**
+     * Creates a new order with lines without saving it.
+     */
+    public BenchmarkOrder createOrder(int index, BenchmarkCustomer customer, List<BenchmarkProduct> products,
+                                      int linesPerOrder) {
+        BenchmarkOrder order = metadata.create(BenchmarkOrder.class);
+        order.setNumber(String.format("order-%08d", index));
+        order.setDate(new Date());
+        order.setCustomer(customer);
+
+        List<BenchmarkOrderLine> lines = new ArrayList<>(linesPerOrder);
+        BigDecimal amount = BigDecimal.ZERO;
+        for (int j = 0; j < linesPerOrder; j++) {
+            BenchmarkOrderLine line = metadata.create(BenchmarkOrderLine.class);
+            BenchmarkProduct product = products.get(random.nextInt(products.size()));
+            line.setOrder(order);
+            line.setProduct(product);
+            line.setQuantity(random.nextInt(10) + 1);
+            line.setPrice(product.getPrice());
+            amount = amount.add(product.getPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+            lines.add(line);
+        }
+        order.setLines(lines);
+        order.setAmount(amount);
+        return order;
+    }
+
+    protected void save(List<?> entities) {
+        if (!entities.isEmpty()) {
+            dataManager.save(new SaveContext().saving(entities).setDiscardSaved(true));
+        }
+    }
+
+    /**
+     * Deletes all orders and order lines.
+     */
+    public void deleteOrders() {
+        jdbcTemplate.update("delete from BENCH_ORDER_LINE");
+        jdbcTemplate.update("delete from BENCH_ORDER");
+    }
+
+    /**
+     * Deletes all generated data.
+     */
+    public void deleteAll() {
+        deleteOrders();
+        jdbcTemplate.update("delete from BENCH_CUSTOMER");
+        jdbcTemplate.update("delete from BENCH_PRODUCT");
+        jdbcTemplate.update("delete from BENCH_CATEGORY");
+    }
+
+    /**
+     * Returns the fetch plan of orders with customers and lines with products and categories.
+     */
+    public FetchPlan orderDeepFetchPlan() {
+        return fetchPlans.builder(BenchmarkOrder.class)
+                .addFetchPlan(FetchPlan.BASE)
+                .add("customer", FetchPlan.BASE)
+                .add("lines", lines -> lines
+                        .addFetchPlan(FetchPlan.BASE)
+                        .add("product", product -> product
+                                .addFetchPlan(FetchPlan.BASE)
+                                .add("category", FetchPlan.BASE)))
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.JmixModules;
+import io.jmix.core.Resources;
+import io.jmix.core.Stores;
+import io.jmix.core.annotation.JmixModule;
+import io.jmix.core.cluster.ClusterApplicationEventChannelSupplier;
+import io.jmix.core.cluster.LocalApplicationEventChannelSupplier;
+import io.jmix.core.impl.JmixMessageSource;
+import io.jmix.core.security.InMemoryUserRepository;
+import io.jmix.core.security.UserRepository;
+import io.jmix.data.impl.JmixEntityManagerFactoryBean;
+import io.jmix.data.persistence.DbmsSpecifics;
+import io.jmix.dynattr.DynAttrConfiguration;
+import io.jmix.eclipselink.EclipselinkConfiguration;
+import io.jmix.eclipselink.impl.JmixEclipselinkTransactionManager;
+import io.jmix.security.SecurityConfiguration;
+import io.jmix.security.StandardSecurityConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Application configuration of data benchmarks: the data stack with security and dynamic attributes on an embedded
+ * HSQLDB database.
+ * Tables are created by EclipseLink on startup.
+ */
+@Configuration
+@ComponentScan
+@PropertySource("classpath:/io/jmix/databenchmarks/benchmark-app.properties")
+@JmixModule(dependsOn = {SecurityConfiguration.class, EclipselinkConfiguration.class, DynAttrConfiguration.class})
+@Import(DataBenchmarkConfiguration.BenchmarkSecurityConfiguration.class)
+public class DataBenchmarkConfiguration {
+
+    @Bean
+    public UserRepository userRepository() {
+        return new InMemoryUserRepository();
+    }
+
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    @Bean
+    public MessageSource messageSource(JmixModules modules, Resources resources) {
+        return new JmixMessageSource(modules, resources);
+    }
+
+    @Bean
+    @Primary
+    StatementCountingDataSource dataSource() {
+        return new StatementCountingDataSource(new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.HSQL)
+                .build());
+    }
+
+    @Bean
+    @Primary
+    LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                JpaVendorAdapter jpaVendorAdapter,
+                                                                DbmsSpecifics dbmsSpecifics,
+                                                                JmixModules jmixModules,
+                                                                Resources resources) {
+        return new JmixEntityManagerFactoryBean(Stores.MAIN, dataSource, jpaVendorAdapter, dbmsSpecifics, jmixModules, resources);
+    }
+
+    @Bean
+    @Primary
+    PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JmixEclipselinkTransactionManager(Stores.MAIN, entityManagerFactory);
+    }
+
+    @Bean
+    @Primary
+    JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    public CacheManager cacheManager() {
+        return new ConcurrentMapCacheManager();
+    }
+
+    @Bean
+    public ClusterApplicationEventChannelSupplier clusterApplicationEventChannelSupplier() {
+        return new LocalApplicationEventChannelSupplier();
+    }
+
+    @EnableWebSecurity
+    public static class BenchmarkSecurityConfiguration extends StandardSecurityConfiguration {
+    }
+}
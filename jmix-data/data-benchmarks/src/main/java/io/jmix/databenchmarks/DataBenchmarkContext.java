@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import io.jmix.core.security.InMemoryUserRepository;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.databenchmarks.role.BenchmarkFullAccessRole;
+import io.jmix.databenchmarks.role.BenchmarkRowLevelRole;
+import io.jmix.security.role.RoleGrantedAuthorityUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Application context of data benchmarks with registered users.
+ * <p>
+ * Benchmarks start the context in a {@code @Setup} method, authenticate the benchmark thread and close
+ * the context in a {@code @TearDown} method.
+ */
+public class DataBenchmarkContext implements AutoCloseable {
+
+    /**
+     * User with full access to benchmark entities.
+     */
+    public static final String FULL_ACCESS_USER = "bench-admin";
+
+    /**
+     * User with full access and row-level constraints, see {@link BenchmarkRowLevelRole}.
+     */
+    public static final String RESTRICTED_USER = "bench-restricted";
+
+    protected final AnnotationConfigApplicationContext context;
+
+    protected DataBenchmarkContext(AnnotationConfigApplicationContext context) {
+        this.context = context;
+    }
+
+    public static DataBenchmarkContext start() {
+        return start(Collections.emptyMap());
+    }
+
+    /**
+     * Starts the context.
+     *
+     * @param properties application properties overriding the defaults
+     */
+    public static DataBenchmarkContext start(Map<String, Object> properties) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.register(DataBenchmarkConfiguration.class);
+        context.refresh();
+
+        DataBenchmarkContext benchmarkContext = new DataBenchmarkContext(context);
+        benchmarkContext.registerUsers();
+        return benchmarkContext;
+    }
+
+    protected void registerUsers() {
+        InMemoryUserRepository userRepository = getBean(InMemoryUserRepository.class);
+        RoleGrantedAuthorityUtils authorityUtils = getBean(RoleGrantedAuthorityUtils.class);
+
+        userRepository.addUser(User.builder()
+                .username(FULL_ACCESS_USER)
+                .password("{noop}" + FULL_ACCESS_USER)
+                .authorities(authorityUtils.createResourceRoleGrantedAuthority(BenchmarkFullAccessRole.CODE))
+                .build());
+        userRepository.addUser(User.builder()
+                .username(RESTRICTED_USER)
+                .password("{noop}" + RESTRICTED_USER)
+                .authorities(
+                        authorityUtils.createResourceRoleGrantedAuthority(BenchmarkFullAccessRole.CODE),
+                        authorityUtils.createRowLevelRoleGrantedAuthority(BenchmarkRowLevelRole.CODE))
+                .build());
+    }
+
+    public <T> T getBean(Class<T> beanClass) {
+        return context.getBean(beanClass);
+    }
+
+    /**
+     * Authenticates the current thread as the given user till {@link #close()}.
+     */
+    public void authenticate(String username) {
+        getBean(SystemAuthenticator.class).begin(username);
+    }
+
+    @Override
+    public void close() {
+        getBean(SystemAuthenticator.class).end();
+        context.close();
+    }
+}
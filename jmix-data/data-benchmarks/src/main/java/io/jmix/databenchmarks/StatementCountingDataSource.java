@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data source counting prepared SQL statements, used by benchmarks to report the number of database round-trips
+ * along with the execution time.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    protected final LongAdder selects = new LongAdder();
+    protected final LongAdder modifications = new LongAdder();
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return createProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return createProxy(super.getConnection(username, password));
+    }
+
+    protected Connection createProxy(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String) {
+                registerStatement((String) args[0]);
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}, handler);
+    }
+
+    protected void registerStatement(String sql) {
+        if (sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+            selects.increment();
+        } else {
+            modifications.increment();
+        }
+    }
+
+    /**
+     * @return number of prepared SELECT statements
+     */
+    public long getSelects() {
+        return selects.sum();
+    }
+
+    /**
+     * @return number of prepared INSERT, UPDATE and DELETE statements
+     */
+    public long getModifications() {
+        return modifications.sum();
+    }
+
+    public void reset() {
+        selects.reset();
+        modifications.reset();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks.entity;
+
+import io.jmix.core.DeletePolicy;
+import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.core.metamodel.annotation.Composition;
+import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+@JmixEntity
+@Entity(name = "bench_Order")
+@Table(name = "BENCH_ORDER")
+public class BenchmarkOrder extends BenchmarkEntity {
+
+    @InstanceName
+    @Column(name = "NUM")
+    private String number;
+
+    @Column(name = "DATE_")
+    private Date date;
+
+    @Column(name = "AMOUNT")
+    private BigDecimal amount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "CUSTOMER_ID")
+    private BenchmarkCustomer customer;
+
+    @Composition
+    @OnDelete(DeletePolicy.CASCADE)
+    @OneToMany(mappedBy = "order")
+    private List<BenchmarkOrderLine> lines;
+
+    public String getNumber() {
+        return number;
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public void setDate(Date date) {
+        this.date = date;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BenchmarkCustomer getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(BenchmarkCustomer customer) {
+        this.customer = customer;
+    }
+
+    public List<BenchmarkOrderLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<BenchmarkOrderLine> lines) {
+        this.lines = lines;
+    }
+}
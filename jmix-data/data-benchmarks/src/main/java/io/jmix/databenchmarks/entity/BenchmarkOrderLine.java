@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks.entity;
+
+import io.jmix.core.metamodel.annotation.JmixEntity;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+@JmixEntity
+@Entity(name = "bench_OrderLine")
+@Table(name = "BENCH_ORDER_LINE")
+public class BenchmarkOrderLine extends BenchmarkEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ORDER_ID")
+    private BenchmarkOrder order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PRODUCT_ID")
+    private BenchmarkProduct product;
+
+    @Column(name = "QUANTITY")
+    private Integer quantity;
+
+    @Column(name = "PRICE")
+    private BigDecimal price;
+
+    public BenchmarkOrder getOrder() {
+        return order;
+    }
+
+    public void setOrder(BenchmarkOrder order) {
+        this.order = order;
+    }
+
+    public BenchmarkProduct getProduct() {
+        return product;
+    }
+
+    public void setProduct(BenchmarkProduct product) {
+        this.product = product;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+}
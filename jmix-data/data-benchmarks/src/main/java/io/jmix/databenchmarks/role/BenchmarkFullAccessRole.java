@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks.role;
+
+import io.jmix.databenchmarks.entity.*;
+import io.jmix.security.model.EntityAttributePolicyAction;
+import io.jmix.security.model.EntityPolicyAction;
+import io.jmix.security.role.annotation.EntityAttributePolicy;
+import io.jmix.security.role.annotation.EntityPolicy;
+import io.jmix.security.role.annotation.ResourceRole;
+
+@ResourceRole(code = BenchmarkFullAccessRole.CODE, name = BenchmarkFullAccessRole.CODE)
+public interface BenchmarkFullAccessRole {
+
+    String CODE = "bench-full-access";
+
+    @EntityPolicy(entityClass = BenchmarkCategory.class, actions = EntityPolicyAction.ALL)
+    @EntityPolicy(entityClass = BenchmarkProduct.class, actions = EntityPolicyAction.ALL)
+    @EntityPolicy(entityClass = BenchmarkCustomer.class, actions = EntityPolicyAction.ALL)
+    @EntityPolicy(entityClass = BenchmarkOrder.class, actions = EntityPolicyAction.ALL)
+    @EntityPolicy(entityClass = BenchmarkOrderLine.class, actions = EntityPolicyAction.ALL)
+    @EntityAttributePolicy(entityClass = BenchmarkCategory.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
+    @EntityAttributePolicy(entityClass = BenchmarkProduct.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
+    @EntityAttributePolicy(entityClass = BenchmarkCustomer.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
+    @EntityAttributePolicy(entityClass = BenchmarkOrder.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
+    @EntityAttributePolicy(entityClass = BenchmarkOrderLine.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
+    void policies();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.databenchmarks.role;
+
+import io.jmix.databenchmarks.entity.BenchmarkCustomer;
+import io.jmix.databenchmarks.entity.BenchmarkOrder;
+import io.jmix.security.model.RowLevelPolicyAction;
+import io.jmix.security.model.RowLevelPredicate;
+import io.jmix.security.role.annotation.JpqlRowLevelPolicy;
+import io.jmix.security.role.annotation.PredicateRowLevelPolicy;
+import io.jmix.security.role.annotation.RowLevelRole;
+
+/**
+ * Restricts orders by a JPQL condition and customers by an in-memory predicate passing a half of instances.
+ */
+@RowLevelRole(code = BenchmarkRowLevelRole.CODE, name = BenchmarkRowLevelRole.CODE)
+public interface BenchmarkRowLevelRole {
+
+    String CODE = "bench-row-level";
+
+    @JpqlRowLevelPolicy(entityClass = BenchmarkOrder.class, where = "{E}.amount >= 0")
+    void orders();
+
+    @PredicateRowLevelPolicy(entityClass = BenchmarkCustomer.class, actions = RowLevelPolicyAction.READ)
+    static RowLevelPredicate<BenchmarkCustomer> evenGradeCustomers() {
+        return customer -> customer.getGrade() != null && customer.getGrade() % 2 == 0;
+    }
+}
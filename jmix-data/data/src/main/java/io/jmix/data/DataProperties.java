@@ -25,6 +25,13 @@ public class DataProperties {
 
     boolean useReadOnlyTransactionForLoad;
     int numberIdCacheSize;
+
+    /**
+     * Share of a cached block of ids that has to be used before the next block is fetched from the sequence
+     * in background, e.g. 0.5 means prefetching when half of the block is used. Zero disables prefetching.
+     * Prefetching is not performed if {@link #numberIdCacheSize} is 1.
+     */
+    double numberIdCachePrefetchThreshold;
     boolean useEntityDataStoreForIdSequence;
 
     /**
@@ -33,17 +40,26 @@ public class DataProperties {
     String uniqueConstraintViolationPattern;
     boolean useUserLocaleForRelativeDateTimeMoments;
 
+    /**
+     * Maximum number of parsed JPQL query trees kept in the cache. Zero disables the cache.
+     */
+    int queryTreeCacheSize;
+
     public DataProperties(
             @DefaultValue("true") boolean useReadOnlyTransactionForLoad,
             @DefaultValue("100") int numberIdCacheSize,
+            @DefaultValue("0.5") double numberIdCachePrefetchThreshold,
             boolean useEntityDataStoreForIdSequence,
             @Nullable String uniqueConstraintViolationPattern,
-            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments) {
+            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments,
+            @DefaultValue("1000") int queryTreeCacheSize) {
         this.useReadOnlyTransactionForLoad = useReadOnlyTransactionForLoad;
         this.numberIdCacheSize = numberIdCacheSize;
+        this.numberIdCachePrefetchThreshold = numberIdCachePrefetchThreshold;
         this.useEntityDataStoreForIdSequence = useEntityDataStoreForIdSequence;
         this.uniqueConstraintViolationPattern = uniqueConstraintViolationPattern;
         this.useUserLocaleForRelativeDateTimeMoments = useUserLocaleForRelativeDateTimeMoments;
+        this.queryTreeCacheSize = queryTreeCacheSize;
     }
 
     public boolean isUseReadOnlyTransactionForLoad() {
@@ -54,6 +70,13 @@ public class DataProperties {
         return numberIdCacheSize;
     }
 
+    /**
+     * @see #numberIdCachePrefetchThreshold
+     */
+    public double getNumberIdCachePrefetchThreshold() {
+        return numberIdCachePrefetchThreshold;
+    }
+
     public boolean isUseEntityDataStoreForIdSequence() {
         return useEntityDataStoreForIdSequence;
     }
@@ -69,4 +92,11 @@ public class DataProperties {
     public boolean isUseUserLocaleForRelativeDateTimeMoments() {
         return useUserLocaleForRelativeDateTimeMoments;
     }
+
+    /**
+     * @see #queryTreeCacheSize
+     */
+    public int getQueryTreeCacheSize() {
+        return queryTreeCacheSize;
+    }
 }
@@ -17,6 +17,7 @@
 package io.jmix.data.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.annotation.Internal;
@@ -24,18 +25,29 @@ import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.data.DataProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Intermediate cache for generated ids of entities with long/integer PK.
  * The cache size is determined by the {@code jmix.data.numberIdCacheSize} property.
+ * <p>
+ * Ids are taken from the current block without locking. When the share of the block defined by the
+ * {@code jmix.data.numberIdCachePrefetchThreshold} property is used, the next block is fetched from the sequence
+ * in background, so callers wait for the database only if the current block is drained before the fetch completes.
+ * Blocks of a single id are never prefetched.
  */
 @Component("data_NumberIdCache")
 public class NumberIdCache {
@@ -51,13 +63,22 @@ public class NumberIdCache {
 
     protected ConcurrentMap<String, Generator> cache = new ConcurrentHashMap<>();
 
+    protected volatile ExecutorService prefetchExecutor;
+
+    private static final Logger log = LoggerFactory.getLogger(NumberIdCache.class);
+
     protected class Generator {
-        protected long counter;
-        protected long sequenceValue;
         protected String entityName;
         protected String sequenceName;
         protected boolean cached;
 
+        protected volatile Block block;
+        protected final AtomicReference<CompletableFuture<Long>> nextBlockStart = new AtomicReference<>();
+
+        protected final LongAdder blocksFetched = new LongAdder();
+        protected final LongAdder stalls = new LongAdder();
+        protected final LongAdder stallTimeNanos = new LongAdder();
+
         public Generator(String entityName,
                          @Nullable String sequenceName,
                          boolean cached) {
@@ -65,7 +86,7 @@ public class NumberIdCache {
             this.sequenceName = sequenceName;
             this.cached = cached;
             if (useIdCache()) {
-                createCachedCounter();
+                block = createBlock(fetchBlockStart());
             }
         }
 
@@ -73,23 +94,172 @@ public class NumberIdCache {
             return dataProperties.getNumberIdCacheSize() != 0 && cached;
         }
 
-        protected void createCachedCounter() {
-            sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
-            counter = sequenceValue;
+        protected long fetchBlockStart() {
+            long start = numberIdWorker.createCachedLongId(entityName, sequenceName);
+            blocksFetched.increment();
+            return start;
         }
 
-        public synchronized long getNext() {
+        protected Block createBlock(long start) {
+            int size = dataProperties.getNumberIdCacheSize();
+            double threshold = dataProperties.getNumberIdCachePrefetchThreshold();
+            // a block of one id would be prefetched on each call, consuming sequence values ahead of use
+            long prefetchAt = threshold > 0 && threshold < 1 && size > 1
+                    ? start + Math.max(1, (long) (size * threshold))
+                    : Long.MAX_VALUE;
+            return new Block(start, size, prefetchAt);
+        }
+
+        public long getNext() {
             if (!useIdCache()) {
                 return numberIdWorker.createLongId(entityName, sequenceName);
+            }
+            while (true) {
+                Block current = block;
+                if (current == null) {
+                    // the cache has been switched on after this generator was created
+                    switchBlock(null);
+                    continue;
+                }
+                long next = current.counter.incrementAndGet();
+                if (next <= current.end) {
+                    if (next == current.prefetchAt) {
+                        prefetchNextBlock();
+                    }
+                    return next;
+                }
+                switchBlock(current);
+            }
+        }
+
+        protected void prefetchNextBlock() {
+            CompletableFuture<Long> future = new CompletableFuture<>();
+            if (nextBlockStart.compareAndSet(null, future)) {
+                try {
+                    getPrefetchExecutor().execute(() -> {
+                        try {
+                            future.complete(fetchBlockStart());
+                        } catch (Throwable e) {
+                            future.completeExceptionally(e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    nextBlockStart.compareAndSet(future, null);
+                }
+            }
+        }
+
+        /**
+         * Replaces the exhausted block with the prefetched one, or fetches a new block if the prefetch has not
+         * been started. Only the first thread that sees the exhausted block performs the switch, other threads
+         * wait on the monitor and then continue with the new block.
+         */
+        protected synchronized void switchBlock(@Nullable Block exhausted) {
+            if (block != exhausted) {
+                return;
+            }
+            long stallStart = System.nanoTime();
+            CompletableFuture<Long> future = nextBlockStart.getAndSet(null);
+            boolean stalled = future == null || !future.isDone();
+            long start;
+            if (future != null) {
+                try {
+                    start = future.join();
+                } catch (CompletionException | CancellationException e) {
+                    log.warn("Unable to prefetch ids for {}, fetching them synchronously", entityName, e);
+                    start = fetchBlockStart();
+                }
             } else {
-                long next = ++counter;
-                if (next > sequenceValue + dataProperties.getNumberIdCacheSize()) {
-                    createCachedCounter();
-                    next = ++counter;
+                start = fetchBlockStart();
+            }
+            if (stalled) {
+                stalls.increment();
+                stallTimeNanos.add(System.nanoTime() - stallStart);
+            }
+            block = createBlock(start);
+        }
+
+        protected void awaitPrefetch() {
+            CompletableFuture<Long> future = nextBlockStart.get();
+            if (future != null) {
+                try {
+                    future.join();
+                } catch (CompletionException | CancellationException e) {
+                    // ignore, the generator is discarded
                 }
-                return next;
             }
         }
+
+        protected NumberIdStatistics getStatistics() {
+            return new NumberIdStatistics(entityName, sequenceName, blocksFetched.sum(), stalls.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(stallTimeNanos.sum()));
+        }
+    }
+
+    /**
+     * Range of ids {@code (start, start + size]} obtained by a single sequence call.
+     */
+    protected static class Block {
+        protected final long end;
+        protected final long prefetchAt;
+        protected final AtomicLong counter;
+
+        public Block(long start, int size, long prefetchAt) {
+            this.end = start + size;
+            this.prefetchAt = prefetchAt;
+            this.counter = new AtomicLong(start);
+        }
+    }
+
+    /**
+     * Statistics of an id generator.
+     */
+    public static class NumberIdStatistics {
+
+        protected final String entityName;
+        protected final String sequenceName;
+        protected final long blocksFetched;
+        protected final long stalls;
+        protected final long stallTimeMillis;
+
+        public NumberIdStatistics(String entityName, @Nullable String sequenceName,
+                                  long blocksFetched, long stalls, long stallTimeMillis) {
+            this.entityName = entityName;
+            this.sequenceName = sequenceName;
+            this.blocksFetched = blocksFetched;
+            this.stalls = stalls;
+            this.stallTimeMillis = stallTimeMillis;
+        }
+
+        public String getEntityName() {
+            return entityName;
+        }
+
+        @Nullable
+        public String getSequenceName() {
+            return sequenceName;
+        }
+
+        /**
+         * @return number of blocks of ids obtained from the sequence
+         */
+        public long getBlocksFetched() {
+            return blocksFetched;
+        }
+
+        /**
+         * @return number of times the callers had to wait for a block to be fetched
+         */
+        public long getStalls() {
+            return stalls;
+        }
+
+        /**
+         * @return total time the callers waited for blocks to be fetched
+         */
+        public long getStallTimeMillis() {
+            return stallTimeMillis;
+        }
     }
 
     protected static class SequenceParams {
@@ -146,14 +316,47 @@ public class NumberIdCache {
         }
     }
 
+    /**
+     * Returns statistics of id generators keyed by entity or sequence name.
+     */
+    public Map<String, NumberIdStatistics> getStatistics() {
+        Map<String, NumberIdStatistics> result = new TreeMap<>();
+        cache.forEach((key, generator) -> result.put(key, generator.getStatistics()));
+        return result;
+    }
+
     /**
      * INTERNAL. Used by tests.
      */
     @Internal
     public void reset() {
+        cache.values().forEach(Generator::awaitPrefetch);
         cache.clear();
     }
 
+    protected ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            synchronized (this) {
+                if (prefetchExecutor == null) {
+                    prefetchExecutor = Executors.newCachedThreadPool(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jmix-NumberIdPrefetch-%d")
+                                    .setDaemon(true)
+                                    .build()
+                    );
+                }
+            }
+        }
+        return prefetchExecutor;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
     protected String getCacheKey(String entityName, @Nullable String sequenceName) {
         return sequenceName == null ? entityName : sequenceName;
     }
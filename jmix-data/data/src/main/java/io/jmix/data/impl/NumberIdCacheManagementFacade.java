@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@ManagedResource(description = "Provides statistics of cached number id generators", objectName = "jmix.data:type=NumberIdCache")
+@Component("data_NumberIdCacheManagementFacade")
+public class NumberIdCacheManagementFacade {
+
+    @Autowired
+    private NumberIdCache numberIdCache;
+
+    @ManagedAttribute(description = "Total number of id blocks obtained from sequences")
+    public long getBlocksFetched() {
+        return numberIdCache.getStatistics().values().stream()
+                .mapToLong(NumberIdCache.NumberIdStatistics::getBlocksFetched)
+                .sum();
+    }
+
+    @ManagedAttribute(description = "Total number of times id generation waited for a sequence")
+    public long getStalls() {
+        return numberIdCache.getStatistics().values().stream()
+                .mapToLong(NumberIdCache.NumberIdStatistics::getStalls)
+                .sum();
+    }
+
+    @ManagedAttribute(description = "Total time in milliseconds id generation waited for sequences")
+    public long getStallTimeMillis() {
+        return numberIdCache.getStatistics().values().stream()
+                .mapToLong(NumberIdCache.NumberIdStatistics::getStallTimeMillis)
+                .sum();
+    }
+
+    @ManagedOperation(description = "Print statistics of each id generator")
+    public String printStatistics() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, NumberIdCache.NumberIdStatistics> entry : numberIdCache.getStatistics().entrySet()) {
+            NumberIdCache.NumberIdStatistics statistics = entry.getValue();
+            sb.append(entry.getKey())
+                    .append(": blocksFetched=").append(statistics.getBlocksFetched())
+                    .append(", stalls=").append(statistics.getStalls())
+                    .append(", stallTimeMillis=").append(statistics.getStallTimeMillis())
+                    .append("\n");
+        }
+        return sb.toString();
+    }
+}
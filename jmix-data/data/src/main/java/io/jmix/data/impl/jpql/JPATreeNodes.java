@@ -18,6 +18,7 @@ package io.jmix.data.impl.jpql;
 
 import io.jmix.data.impl.jpql.antlr2.JPA2Lexer;
 import io.jmix.data.impl.jpql.tree.AggregateExpressionNode;
+import io.jmix.data.impl.jpql.tree.BaseCustomNode;
 import io.jmix.data.impl.jpql.tree.JoinVariableNode;
 import io.jmix.data.impl.jpql.tree.OrderByNode;
 import io.jmix.data.impl.jpql.tree.PathNode;
@@ -104,4 +105,18 @@ public class JPATreeNodes {
         node.addChild(createRPAREN());
         return node;
     }
+
+    /**
+     * Creates a deep copy of the given tree. Custom nodes copy their own state and children in
+     * {@link Tree#dupNode()}, plain ANTLR nodes are copied together with their children here.
+     */
+    public static Tree dupTree(CommonTree node) {
+        Tree copy = node.dupNode();
+        if (!(node instanceof BaseCustomNode)) {
+            for (int i = 0; i < node.getChildCount(); i++) {
+                copy.addChild(dupTree((CommonTree) node.getChild(i)));
+            }
+        }
+        return copy;
+    }
 }
@@ -56,6 +56,23 @@ public class QueryTree {
         new TreeVisitor().visit(tree, idVarSelector);
     }
 
+    protected QueryTree(DomainModel model, String queryString, CommonTree tree) {
+        this.model = model;
+        this.queryString = queryString;
+        this.tree = tree;
+
+        this.idVarSelector = new IdVarSelector(model);
+        new TreeVisitor().visit(tree, idVarSelector);
+    }
+
+    /**
+     * Creates an independent copy of this query tree. The AST is duplicated and the variable context
+     * is rebuilt for the copy, so the returned tree can be transformed without affecting this one.
+     */
+    public QueryTree copy() {
+        return new QueryTree(model, queryString, (CommonTree) JPATreeNodes.dupTree(tree));
+    }
+
     public DomainModel getModel() {
         return model;
     }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.jmix.core.annotation.Internal;
+import io.jmix.data.DataProperties;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * INTERNAL.
+ * Bounded cache of parsed and analyzed JPQL query trees keyed by query text.
+ * <p>
+ * Cached trees are never returned directly: {@link #getTree(DomainModel, String)} returns a copy
+ * that can be freely transformed by the caller. Trees parsed for another {@link DomainModel}
+ * instance are considered stale, so the cache is cleared when the domain model is rebuilt.
+ */
+@Internal
+@Component("data_QueryTreeCache")
+public class QueryTreeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryTreeCache.class);
+
+    @Autowired
+    protected DataProperties dataProperties;
+
+    protected volatile DomainModel domainModel;
+
+    protected Cache<String, QueryTree> trees;
+
+    @PostConstruct
+    protected void init() {
+        trees = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(dataProperties.getQueryTreeCacheSize(), 0))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a query tree for the given query, parsing it only if it is not cached yet.
+     *
+     * @param model domain model to resolve entities
+     * @param query JPQL query text
+     * @return a copy of the cached tree owned by the caller
+     * @throws JPA2RecognitionException if the query cannot be parsed
+     */
+    public QueryTree getTree(DomainModel model, String query) {
+        if (!isEnabled()) {
+            return new QueryTree(model, query);
+        }
+
+        checkDomainModel(model);
+
+        QueryTree tree = trees.getIfPresent(query);
+        if (tree == null || tree.getModel() != model) {
+            tree = new QueryTree(model, query);
+            trees.put(query, tree);
+        }
+        return tree.copy();
+    }
+
+    public boolean isEnabled() {
+        return dataProperties.getQueryTreeCacheSize() > 0;
+    }
+
+    /**
+     * Discards all cached query trees.
+     */
+    public void invalidateAll() {
+        trees.invalidateAll();
+    }
+
+    public long size() {
+        return trees.size();
+    }
+
+    public CacheStats getStats() {
+        return trees.stats();
+    }
+
+    protected void checkDomainModel(DomainModel model) {
+        if (model != domainModel) {
+            synchronized (this) {
+                if (model != domainModel) {
+                    if (domainModel != null) {
+                        log.debug("Domain model has been rebuilt, discarding cached query trees");
+                    }
+                    trees.invalidateAll();
+                    domainModel = model;
+                }
+            }
+        }
+    }
+}
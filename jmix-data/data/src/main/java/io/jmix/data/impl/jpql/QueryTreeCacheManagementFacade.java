@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+@ManagedResource(description = "Manages cache of parsed JPQL queries", objectName = "jmix.data:type=QueryTreeCache")
+@Component("data_QueryTreeCacheManagementFacade")
+public class QueryTreeCacheManagementFacade {
+
+    @Autowired
+    private QueryTreeCache queryTreeCache;
+
+    @ManagedAttribute(description = "Current number of cached query trees")
+    public long getSize() {
+        return queryTreeCache.size();
+    }
+
+    @ManagedAttribute(description = "Number of times a query tree was found in the cache")
+    public long getHitCount() {
+        return queryTreeCache.getStats().hitCount();
+    }
+
+    @ManagedAttribute(description = "Number of times a query had to be parsed")
+    public long getMissCount() {
+        return queryTreeCache.getStats().missCount();
+    }
+
+    @ManagedAttribute(description = "Ratio of cache hits to all requests")
+    public double getHitRate() {
+        return queryTreeCache.getStats().hitRate();
+    }
+
+    @ManagedOperation(description = "Discard all cached query trees")
+    public String evictAll() {
+        queryTreeCache.invalidateAll();
+        return "Done";
+    }
+}
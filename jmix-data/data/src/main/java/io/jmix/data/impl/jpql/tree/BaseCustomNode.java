@@ -17,10 +17,10 @@
 package io.jmix.data.impl.jpql.tree;
 
 import io.jmix.data.impl.jpql.ErrorRec;
+import io.jmix.data.impl.jpql.JPATreeNodes;
 import io.jmix.data.impl.jpql.QueryBuilder;
 import org.antlr.runtime.Token;
 import org.antlr.runtime.tree.CommonTree;
-import org.antlr.runtime.tree.Tree;
 
 import java.util.List;
 
@@ -52,10 +52,11 @@ public class BaseCustomNode extends CommonTree implements TreeToQueryCapable {
     }
 
     protected void dupChildren(CommonTree result) {
+        if (children == null) {
+            return;
+        }
         for (Object child : children) {
-            CommonTree t = (CommonTree) child;
-            Tree copy = t.dupNode();
-            result.addChild(copy);
+            result.addChild(JPATreeNodes.dupTree((CommonTree) child));
         }
     }
 }
\ No newline at end of file
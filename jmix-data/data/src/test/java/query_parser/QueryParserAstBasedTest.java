@@ -19,9 +19,13 @@ package query_parser;
 import io.jmix.data.impl.jpql.DomainModel;
 import io.jmix.data.impl.jpql.JpqlSyntaxException;
 import io.jmix.data.impl.jpql.QueryParserAstBased;
+import io.jmix.data.impl.jpql.QueryTree;
+import io.jmix.data.impl.jpql.QueryTreeAnalyzer;
+import io.jmix.data.impl.jpql.TreeToQuery;
 import io.jmix.data.impl.jpql.model.EntityBuilder;
 import io.jmix.data.impl.jpql.model.JpqlEntityModel;
 import io.jmix.data.impl.jpql.transform.QueryTransformerAstBased;
+import io.jmix.data.impl.jpql.transform.QueryTreeTransformer;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
@@ -441,6 +445,25 @@ public class QueryParserAstBasedTest {
         parser.getEntityAlias();
     }
 
+    @Test
+    public void testQueryTreeCopy() {
+        DomainModel model = prepareDomainModel();
+        QueryTree original = new QueryTree(model,
+                "select h from sec_GroupHierarchy h join h.group g where h.createdBy = :par order by g.name"
+        );
+        String originalQuery = original.visit(new TreeToQuery()).getQueryString();
+
+        QueryTree copy = original.copy();
+        assertEquals(originalQuery, copy.visit(new TreeToQuery()).getQueryString());
+        assertEquals("sec_Group", copy.getQueryVariableContext().getEntityByVariableName("g").getName());
+
+        new QueryTreeTransformer(copy).replaceWithCount(
+                new QueryTreeAnalyzer(copy).getMainIdentificationVariableNode().getVariableName()
+        );
+        assertNotEquals(originalQuery, copy.visit(new TreeToQuery()).getQueryString());
+        assertEquals(originalQuery, original.visit(new TreeToQuery()).getQueryString());
+    }
+
     private DomainModel prepareDomainModel() {
         EntityBuilder builder = EntityBuilder.create();
         builder.startNewEntity("sec_GroupHierarchy");
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl.entitycache;
+
+import com.google.common.collect.Sets;
+import io.jmix.core.CacheOperations;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares invalidation by types using the reverse index of {@link StandardQueryCache} with a full scan
+ * of cache entries. Each invocation invalidates queries related to one entity type and puts them back.
+ * <p>
+ * Run with {@code ./gradlew :eclipselink:jmh -PjmhInclude=QueryCacheInvalidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QueryCacheInvalidationBenchmark {
+
+    private static final int TYPE_COUNT = 200;
+
+    @Param({"10000", "100000", "1000000"})
+    public int entries;
+
+    private StandardQueryCache indexedCache;
+    private StandardQueryCache scanningCache;
+
+    private final Map<String, List<QueryKey>> keysByType = new HashMap<>();
+    private final Map<QueryKey, QueryResult> results = new HashMap<>();
+    private int nextType;
+
+    @Setup
+    public void setUp() {
+        indexedCache = createCache(new StandardQueryCache());
+        scanningCache = createCache(new ScanningQueryCache());
+
+        for (int i = 0; i < entries; i++) {
+            String type = typeName(i % TYPE_COUNT);
+            String relatedType = typeName((i * 31) % TYPE_COUNT);
+
+            QueryKey queryKey = new QueryKey("select e from " + type + " e where e.number = " + i,
+                    0, 0, true, false, null, null, Collections.emptyMap());
+            QueryResult queryResult = new QueryResult(Collections.singletonList(i), type, Sets.newHashSet(type, relatedType));
+
+            keysByType.computeIfAbsent(type, t -> new ArrayList<>()).add(queryKey);
+            if (!relatedType.equals(type)) {
+                keysByType.computeIfAbsent(relatedType, t -> new ArrayList<>()).add(queryKey);
+            }
+            results.put(queryKey, queryResult);
+
+            indexedCache.put(queryKey, queryResult);
+            scanningCache.put(queryKey, queryResult);
+        }
+    }
+
+    @Benchmark
+    public void indexedInvalidation() {
+        invalidateAndRestore(indexedCache);
+    }
+
+    @Benchmark
+    public void scanInvalidation() {
+        invalidateAndRestore(scanningCache);
+    }
+
+    private void invalidateAndRestore(StandardQueryCache cache) {
+        String type = typeName(nextType++ % TYPE_COUNT);
+        cache.invalidate(type);
+        for (QueryKey queryKey : keysByType.getOrDefault(type, Collections.emptyList())) {
+            cache.put(queryKey, results.get(queryKey));
+        }
+    }
+
+    private StandardQueryCache createCache(StandardQueryCache cache) {
+        cache.queries = new ConcurrentMapCache(StandardQueryCache.QUERY_CACHE_NAME);
+        cache.cacheOperations = new CacheOperations();
+        return cache;
+    }
+
+    private static String typeName(int i) {
+        return "test_Entity" + i;
+    }
+
+    /**
+     * Invalidation as it is performed for shared caches: iterates over all cache entries.
+     */
+    public static class ScanningQueryCache extends StandardQueryCache {
+
+        @Override
+        protected boolean isLocalCache() {
+            return false;
+        }
+    }
+}
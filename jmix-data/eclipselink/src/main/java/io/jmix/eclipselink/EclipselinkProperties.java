@@ -30,11 +30,18 @@ public class EclipselinkProperties {
      */
     @Experimental
     boolean disableLazyLoading;
+    /**
+     * Maximum number of fetch group descriptions calculated for fetch plans and queries kept in the cache.
+     * Zero disables the cache.
+     */
+    int fetchGroupCacheSize;
 
     public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled,
-                                 @DefaultValue("false") boolean disableLazyLoading) {
+                                 @DefaultValue("false") boolean disableLazyLoading,
+                                 @DefaultValue("1000") int fetchGroupCacheSize) {
         this.queryCacheEnabled = queryCacheEnabled;
         this.disableLazyLoading = disableLazyLoading;
+        this.fetchGroupCacheSize = fetchGroupCacheSize;
     }
 
     public boolean isQueryCacheEnabled() {
@@ -47,4 +54,11 @@ public class EclipselinkProperties {
     public boolean isDisableLazyLoading() {
         return disableLazyLoading;
     }
+
+    /**
+     * @see #fetchGroupCacheSize
+     */
+    public int getFetchGroupCacheSize() {
+        return fetchGroupCacheSize;
+    }
 }
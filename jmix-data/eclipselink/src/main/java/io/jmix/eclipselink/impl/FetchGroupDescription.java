@@ -56,4 +56,16 @@ public class FetchGroupDescription {
     public boolean hasBatches() {
         return batches;
     }
+
+    /**
+     * @return a copy of this description that throws {@link UnsupportedOperationException} on modification,
+     * so it can be shared between queries
+     */
+    public FetchGroupDescription toUnmodifiable() {
+        FetchGroupDescription copy = new FetchGroupDescription();
+        copy.fetchGroupAttributes = Collections.unmodifiableSet(new TreeSet<>(fetchGroupAttributes));
+        copy.fetchHints = Collections.unmodifiableMap(new TreeMap<>(fetchHints));
+        copy.batches = batches;
+        return copy;
+    }
 }
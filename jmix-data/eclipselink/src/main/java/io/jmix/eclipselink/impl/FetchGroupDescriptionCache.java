@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.FetchPlanProperty;
+import io.jmix.core.annotation.Internal;
+import io.jmix.eclipselink.EclipselinkProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * INTERNAL.
+ * Bounded cache of {@link FetchGroupDescription}s calculated by {@link FetchGroupManager}.
+ * <p>
+ * Descriptions are keyed by the structure of the fetch plan (entity classes, properties and fetch modes, but not
+ * fetch plan names), the query text and the loading flags. Cached descriptions are unmodifiable.
+ */
+@Internal
+@Component("eclipselink_FetchGroupDescriptionCache")
+public class FetchGroupDescriptionCache {
+
+    @Autowired
+    protected EclipselinkProperties properties;
+
+    protected Cache<Key, FetchGroupDescription> descriptions;
+
+    @PostConstruct
+    protected void init() {
+        descriptions = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(properties.getFetchGroupCacheSize(), 0))
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.getFetchGroupCacheSize() > 0;
+    }
+
+    /**
+     * Creates a cache key for the given calculation inputs.
+     */
+    public Key createKey(String queryString, FetchPlan fetchPlan, boolean singleResultExpected, boolean useFetchGroup) {
+        StringBuilder sb = new StringBuilder();
+        appendFingerprint(sb, fetchPlan);
+        return new Key(sb.toString(), queryString, singleResultExpected, useFetchGroup);
+    }
+
+    @Nullable
+    public FetchGroupDescription get(Key key) {
+        return descriptions.getIfPresent(key);
+    }
+
+    /**
+     * Caches an unmodifiable copy of the description.
+     *
+     * @return the cached description
+     */
+    public FetchGroupDescription put(Key key, FetchGroupDescription description) {
+        FetchGroupDescription unmodifiable = description.toUnmodifiable();
+        descriptions.put(key, unmodifiable);
+        return unmodifiable;
+    }
+
+    /**
+     * Discards all cached descriptions.
+     */
+    public void invalidateAll() {
+        descriptions.invalidateAll();
+    }
+
+    public long size() {
+        return descriptions.size();
+    }
+
+    public CacheStats getStats() {
+        return descriptions.stats();
+    }
+
+    protected void appendFingerprint(StringBuilder sb, FetchPlan fetchPlan) {
+        sb.append(fetchPlan.getEntityClass().getName());
+        if (fetchPlan.loadPartialEntities()) {
+            sb.append('!');
+        }
+        sb.append('{');
+        for (FetchPlanProperty property : fetchPlan.getProperties()) {
+            sb.append(property.getName()).append(':').append(property.getFetchMode().ordinal());
+            if (property.getFetchPlan() != null) {
+                appendFingerprint(sb, property.getFetchPlan());
+            }
+            sb.append(',');
+        }
+        sb.append('}');
+    }
+
+    public record Key(String fetchPlanFingerprint, String queryString, boolean singleResultExpected,
+                      boolean useFetchGroup) {
+    }
+}
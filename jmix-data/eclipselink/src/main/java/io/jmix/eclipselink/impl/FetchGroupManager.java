@@ -64,6 +64,9 @@ public class FetchGroupManager {
     @Autowired
     private FetchPlans fetchPlans;
 
+    @Autowired
+    private FetchGroupDescriptionCache descriptionCache;
+
     public void setFetchPlan(JpaQuery query, String queryString, @Nullable FetchPlan fetchPlan, boolean singleResultExpected) {
         Preconditions.checkNotNullArgument(query, "query is null");
         if (fetchPlan != null) {
@@ -133,10 +136,31 @@ public class FetchGroupManager {
         }
     }
 
+    /**
+     * Calculates fetch group attributes and fetch hints for the given query and fetch plan. The result is taken from
+     * {@link FetchGroupDescriptionCache} if it is enabled, so the returned description may be unmodifiable.
+     */
     public FetchGroupDescription calculateFetchGroup(String queryString,
                                                      FetchPlan fetchPlan,
                                                      boolean singleResultExpected,
                                                      boolean useFetchGroup) {
+        if (!descriptionCache.isEnabled()) {
+            return doCalculateFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+        }
+
+        FetchGroupDescriptionCache.Key key = descriptionCache.createKey(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+        FetchGroupDescription description = descriptionCache.get(key);
+        if (description == null) {
+            description = descriptionCache.put(key,
+                    doCalculateFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup));
+        }
+        return description;
+    }
+
+    private FetchGroupDescription doCalculateFetchGroup(String queryString,
+                                                        FetchPlan fetchPlan,
+                                                        boolean singleResultExpected,
+                                                        boolean useFetchGroup) {
         Set<FetchGroupField> fetchGroupFields = new LinkedHashSet<>();
 
         fetchPlan = completeFetchPlan(fetchPlan);
@@ -20,20 +20,23 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.jmix.core.Id;
 import io.jmix.core.*;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.accesscontext.EntityAttributeContext;
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
 import io.jmix.core.datastore.AbstractDataStore;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.event.EntityBulkChangedEvent;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
-import io.jmix.data.DataProperties;
-import io.jmix.data.PersistenceHints;
-import io.jmix.data.QueryTransformerFactory;
-import io.jmix.data.StoreAwareLocator;
+import io.jmix.core.security.AccessDeniedException;
+import io.jmix.data.*;
 import io.jmix.data.accesscontext.ReadEntityQueryContext;
 import io.jmix.data.exception.UniqueConstraintViolationException;
 import io.jmix.data.impl.EntityChangedEventInfo;
 import io.jmix.data.impl.EntityEventManager;
 import io.jmix.data.impl.JpqlQueryBuilder;
+import io.jmix.data.impl.converters.AuditConversionService;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.EclipselinkProperties;
 import io.jmix.eclipselink.impl.lazyloading.LazyLoadingContext;
@@ -48,6 +51,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
+import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -55,6 +59,9 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
@@ -124,6 +131,15 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected FetchPlanRepository fetchPlanRepository;
 
+    @Autowired
+    protected TimeSource timeSource;
+
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+
+    @Autowired
+    protected AuditConversionService auditConverter;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
@@ -408,6 +424,223 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return result;
     }
 
+    @Override
+    public int executeBulkOperation(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        log.debug("executeBulkOperation: {}", context);
+
+        checkBulkOperationPermitted(context, metaClass);
+
+        int count;
+        Object transaction = beginSaveTransaction(context.isJoinTransaction());
+        try {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+            Map<String, Object> values;
+            try {
+                em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+
+                boolean softDelete = context.getType() == BulkOperationContext.Type.DELETE
+                        && metadataTools.isSoftDeletable(metaClass.getJavaClass())
+                        && PersistenceHints.isSoftDeletion(em);
+                if (softDelete) {
+                    values = getSoftDeletionValues(metaClass);
+                } else if (context.getType() == BulkOperationContext.Type.UPDATE) {
+                    values = new LinkedHashMap<>(context.getValues());
+                    getUpdateAuditValues(metaClass).forEach(values::putIfAbsent);
+                } else {
+                    values = context.getValues();
+                }
+
+                Query query = createBulkOperationQuery(em, context, metaClass, values, softDelete);
+                count = query.executeUpdate();
+            } finally {
+                em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            }
+
+            applicationContext.publishEvent(new EntityBulkChangedEvent<>(this, metaClass,
+                    context.getType() == BulkOperationContext.Type.UPDATE ?
+                            EntityChangedEvent.Type.UPDATED : EntityChangedEvent.Type.DELETED,
+                    Collections.unmodifiableMap(values), context.getCondition(), count));
+
+            commitTransaction(transaction);
+        } finally {
+            LazyLoadingContext.setEnabled();
+            rollbackTransaction(transaction);
+        }
+        return count;
+    }
+
+    /**
+     * Checks entity and attribute permissions for the bulk operation. In-memory row-level constraints cannot be
+     * evaluated without loading instances, so their presence denies the operation.
+     */
+    protected void checkBulkOperationPermitted(BulkOperationContext context, MetaClass metaClass) {
+        boolean update = context.getType() == BulkOperationContext.Type.UPDATE;
+
+        for (String property : context.getValues().keySet()) {
+            MetaProperty metaProperty = metaClass.findProperty(property);
+            if (metaProperty == null
+                    || !metadataTools.isJpa(metaProperty)
+                    || metaProperty.getRange().getCardinality().isMany()
+                    || metaProperty.getName().equals(metadataTools.getPrimaryKeyName(metaClass))) {
+                throw new IllegalArgumentException(String.format(
+                        "Property '%s' of %s cannot be changed by bulk update", property, metaClass.getName()));
+            }
+        }
+
+        if (context.getAccessConstraints().isEmpty()) {
+            return;
+        }
+
+        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
+        accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+        if (update ? !entityContext.isUpdatePermitted() : !entityContext.isDeletePermitted()) {
+            throw new AccessDeniedException("entity", metaClass.getName(), update ? "update" : "delete");
+        }
+
+        InMemoryCrudEntityContext inMemoryContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
+        accessManager.applyConstraints(inMemoryContext, context.getAccessConstraints());
+        if ((update ? inMemoryContext.updatePredicate() : inMemoryContext.deletePredicate()) != null) {
+            log.debug("Bulk operation on {} is denied by in-memory row-level constraints", metaClass.getName());
+            throw new AccessDeniedException("entity", metaClass.getName(), update ? "update" : "delete");
+        }
+
+        for (String property : context.getValues().keySet()) {
+            EntityAttributeContext attributeContext = new EntityAttributeContext(metaClass, property);
+            accessManager.applyConstraints(attributeContext, context.getAccessConstraints());
+            if (!attributeContext.canModify()) {
+                throw new AccessDeniedException("attribute", metaClass.getName() + "." + property, "modify");
+            }
+        }
+    }
+
+    protected Map<String, Object> getSoftDeletionValues(MetaClass metaClass) {
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        String deletedDateProperty = metadataTools.findDeletedDateProperty(metaClass.getJavaClass());
+        if (deletedDateProperty != null) {
+            values.put(deletedDateProperty, auditConverter.convert(timeSource.currentTimestamp(),
+                    metaClass.getProperty(deletedDateProperty).getJavaType()));
+        }
+
+        String deletedByProperty = metadataTools.findDeletedByProperty(metaClass.getJavaClass());
+        if (deletedByProperty != null) {
+            values.put(deletedByProperty, auditConverter.convert(auditInfoProvider.getCurrentUser(),
+                    metaClass.getProperty(deletedByProperty).getJavaType()));
+        }
+        return values;
+    }
+
+    /**
+     * Returns values of the last modification audit properties set by the bulk update.
+     */
+    protected Map<String, Object> getUpdateAuditValues(MetaClass metaClass) {
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        String lastModifiedDateProperty = metadataTools.findLastModifiedDateProperty(metaClass.getJavaClass());
+        if (lastModifiedDateProperty != null) {
+            values.put(lastModifiedDateProperty, auditConverter.convert(timeSource.currentTimestamp(),
+                    metaClass.getProperty(lastModifiedDateProperty).getJavaType()));
+        }
+
+        String lastModifiedByProperty = findPropertyByAnnotation(metaClass, LastModifiedBy.class);
+        if (lastModifiedByProperty != null) {
+            values.put(lastModifiedByProperty, auditConverter.convert(auditInfoProvider.getCurrentUser(),
+                    metaClass.getProperty(lastModifiedByProperty).getJavaType()));
+        }
+        return values;
+    }
+
+    @Nullable
+    protected String findPropertyByAnnotation(MetaClass metaClass, Class<? extends Annotation> annotationClass) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            AnnotatedElement annotatedElement = property.getAnnotatedElement();
+            if (annotatedElement != null && annotatedElement.isAnnotationPresent(annotationClass)) {
+                return property.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a single JPQL UPDATE or DELETE statement for the bulk operation. If row-level constraints modify
+     * the selection of affected instances, they are applied through an id subquery. The UPDATE statement
+     * increments the optimistic lock version of versioned entities.
+     */
+    protected Query createBulkOperationQuery(EntityManager em, BulkOperationContext context, MetaClass metaClass,
+                                             Map<String, Object> values, boolean softDelete) {
+        String entityName = metaClass.getName();
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        String selectQuery = String.format("select e from %s e", entityName);
+
+        JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setEntityName(entityName)
+                .setQueryString(softDelete ?
+                        String.format("%s where e.%s is null", selectQuery,
+                                metadataTools.findDeletedDateProperty(metaClass.getJavaClass())) :
+                        selectQuery)
+                .setCondition(context.getCondition())
+                .setQueryParameters(new HashMap<>(context.getParameters()));
+
+        String resultQuery = queryBuilder.getResultQueryString();
+        Map<String, Object> parameters = new HashMap<>(queryBuilder.getResultParameters());
+
+        JmixQuery<?> constrainedQuery = (JmixQuery<?>) em.createQuery(resultQuery);
+        ReadEntityQueryContext queryContext = new ReadEntityQueryContext(constrainedQuery, metaClass, queryTransformerFactory);
+        accessManager.applyConstraints(queryContext, context.getAccessConstraints());
+        String constrainedQueryString = queryContext.getResultQuery().getQueryString();
+
+        String alias;
+        String whereClause;
+        if (constrainedQueryString.equals(resultQuery) && resultQuery.startsWith(selectQuery)) {
+            alias = "e";
+            whereClause = resultQuery.substring(selectQuery.length());
+        } else {
+            QueryTransformer transformer = queryTransformerFactory.transformer(constrainedQueryString);
+            transformer.replaceWithSelectId(pkName);
+            alias = "u";
+            whereClause = String.format(" where u.%s in (%s)", pkName, transformer.getResult());
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (context.getType() == BulkOperationContext.Type.DELETE && !softDelete) {
+            sb.append("delete from ").append(entityName).append(" ").append(alias);
+        } else {
+            sb.append("update ").append(entityName).append(" ").append(alias).append(" set ");
+            int i = 0;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                String paramName = "bulk_" + entry.getKey() + "_" + i++;
+                sb.append(alias).append(".").append(entry.getKey()).append(" = :").append(paramName);
+                parameters.put(paramName, entry.getValue());
+            }
+            String versionProperty = findPropertyByAnnotation(metaClass, Version.class);
+            if (versionProperty != null) {
+                sb.append(", ").append(alias).append(".").append(versionProperty)
+                        .append(" = ").append(alias).append(".").append(versionProperty).append(" + 1");
+            }
+        }
+        sb.append(whereClause);
+
+        String queryString = sb.toString();
+        log.debug("Bulk operation query: {}", queryString);
+
+        Query query = em.createQuery(queryString);
+        Set<String> paramNames = queryTransformerFactory.parser(queryString).getParamNames();
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            if (paramNames.contains(entry.getKey())) {
+                query.setParameter(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<String, Serializable> hint : context.getHints().entrySet()) {
+            query.setHint(hint.getKey(), hint.getValue());
+        }
+        return query;
+    }
+
     @Override
     protected List<Object> loadAllValues(ValueLoadContext context) {
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
@@ -18,6 +18,7 @@ package io.jmix.eclipselink.impl.entitycache;
 
 import io.jmix.core.Metadata;
 import io.jmix.core.common.util.Preconditions;
+import io.jmix.eclipselink.impl.FetchGroupDescriptionCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jmx.export.annotation.*;
 import org.springframework.stereotype.Component;
@@ -35,6 +36,9 @@ public class QueryCacheManagementFacade {
     @Autowired
     private Metadata metadata;
 
+    @Autowired
+    private FetchGroupDescriptionCache fetchGroupDescriptionCache;
+
     @ManagedAttribute(description = "Current number of cached queries")
     public long getSize() {
         return queryCache.size();
@@ -57,4 +61,30 @@ public class QueryCacheManagementFacade {
         queryCacheMgr.invalidate(entityName);
         return "Done";
     }
+
+    @ManagedAttribute(description = "Current number of cached fetch group descriptions")
+    public long getFetchGroupCacheSize() {
+        return fetchGroupDescriptionCache.size();
+    }
+
+    @ManagedAttribute(description = "Number of times a fetch group description was found in the cache")
+    public long getFetchGroupCacheHitCount() {
+        return fetchGroupDescriptionCache.getStats().hitCount();
+    }
+
+    @ManagedAttribute(description = "Number of times a fetch group description had to be calculated")
+    public long getFetchGroupCacheMissCount() {
+        return fetchGroupDescriptionCache.getStats().missCount();
+    }
+
+    @ManagedAttribute(description = "Ratio of fetch group cache hits to all requests")
+    public double getFetchGroupCacheHitRate() {
+        return fetchGroupDescriptionCache.getStats().hitRate();
+    }
+
+    @ManagedOperation(description = "Discard all cached fetch group descriptions")
+    public String evictFetchGroups() {
+        fetchGroupDescriptionCache.invalidateAll();
+        return "Done";
+    }
 }
@@ -24,18 +24,38 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Query cache backed by the {@value #QUERY_CACHE_NAME} Spring cache.
+ * <p>
+ * If the cache is node-local (see {@link #isLocalCache()}), keeps a reverse index from entity names to the keys
+ * of cached queries, so invalidation by types evicts only the affected entries instead of scanning the whole cache.
+ * The index is supported only for {@link ConcurrentMapCache}, which neither evicts nor expires entries by itself,
+ * so the index stays consistent with the cache. Other cache providers may be shared or distributed and may evict
+ * entries on their own, so such a cache is scanned if it is iterable and cleared completely otherwise.
+ */
 @Component("eclipselink_QueryCache")
 public class StandardQueryCache implements QueryCache {
 
     protected Cache queries;
 
+    protected final Map<String, Set<QueryKey>> keysByType = new ConcurrentHashMap<>();
+    protected final Map<QueryKey, Set<String>> typesByKey = new ConcurrentHashMap<>();
+    /**
+     * Puts hold the read lock and invalidations hold the write lock, so an entry is never put to the cache
+     * without being visible in the index to a concurrent invalidation.
+     */
+    protected final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
     @Autowired
     protected CacheManager cacheManager;
     @Autowired
@@ -60,7 +80,18 @@ public class StandardQueryCache implements QueryCache {
 
     @Override
     public void put(QueryKey queryKey, QueryResult queryResult) {
-        queries.put(queryKey, queryResult);
+        if (!isLocalCache()) {
+            queries.put(queryKey, queryResult);
+            return;
+        }
+
+        indexLock.readLock().lock();
+        try {
+            addToIndex(queryKey, queryResult);
+            queries.put(queryKey, queryResult);
+        } finally {
+            indexLock.readLock().unlock();
+        }
     }
 
     @Override
@@ -76,28 +107,56 @@ public class StandardQueryCache implements QueryCache {
     }
 
     protected void invalidateByTypes(Set<String> typeNames) {
-        if (cacheOperations.isIterableCache(queries)) {
-            Set<QueryKey> evicted = new HashSet<>();
+        if (!isLocalCache()) {
+            if (cacheOperations.isIterableCache(queries)) {
+                evictByScan(typeNames);
+            } else {
+                queries.invalidate();
+            }
+            return;
+        }
 
-            cacheOperations.<QueryKey, QueryResult>forEach(queries, (queryKey, queryResult) -> {
-                if (CollectionUtils.containsAny(queryResult.getRelatedTypes(), typeNames)) {
-                    evicted.add(queryKey);
+        indexLock.writeLock().lock();
+        try {
+            for (String typeName : typeNames) {
+                Set<QueryKey> keys = keysByType.remove(typeName);
+                if (keys != null) {
+                    for (QueryKey queryKey : keys) {
+                        queries.evictIfPresent(queryKey);
+                        removeFromIndex(queryKey);
+                    }
                 }
-            });
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
 
-            for (QueryKey queryKey : evicted) {
-                queries.evictIfPresent(queryKey);
+    protected void evictByScan(Set<String> typeNames) {
+        Set<QueryKey> evicted = new HashSet<>();
 
+        cacheOperations.<QueryKey, QueryResult>forEach(queries, (queryKey, queryResult) -> {
+            if (CollectionUtils.containsAny(queryResult.getRelatedTypes(), typeNames)) {
+                evicted.add(queryKey);
             }
-        } else {
-            queries.invalidate();
+        });
+
+        for (QueryKey queryKey : evicted) {
+            queries.evictIfPresent(queryKey);
         }
     }
 
     @Override
     public void invalidateAll() {
         log.debug("Invalidate all cache");
-        queries.invalidate();
+        indexLock.writeLock().lock();
+        try {
+            queries.invalidate();
+            keysByType.clear();
+            typesByKey.clear();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -110,4 +169,46 @@ public class StandardQueryCache implements QueryCache {
             return 0;
         }
     }
+
+    /**
+     * @return true if the cache is held in memory of this node, so all its entries are put through this instance
+     * and can be tracked by the type index
+     */
+    protected boolean isLocalCache() {
+        return queries instanceof ConcurrentMapCache;
+    }
+
+    protected void addToIndex(QueryKey queryKey, QueryResult queryResult) {
+        Set<String> types = queryResult.getRelatedTypes() != null
+                ? new HashSet<>(queryResult.getRelatedTypes())
+                : Collections.emptySet();
+
+        Set<String> previousTypes = typesByKey.put(queryKey, types);
+        if (previousTypes != null) {
+            for (String type : previousTypes) {
+                if (!types.contains(type)) {
+                    removeKeyOfType(type, queryKey);
+                }
+            }
+        }
+        for (String type : types) {
+            keysByType.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet()).add(queryKey);
+        }
+    }
+
+    protected void removeFromIndex(QueryKey queryKey) {
+        Set<String> types = typesByKey.remove(queryKey);
+        if (types != null) {
+            for (String type : types) {
+                removeKeyOfType(type, queryKey);
+            }
+        }
+    }
+
+    protected void removeKeyOfType(String type, QueryKey queryKey) {
+        keysByType.computeIfPresent(type, (t, keys) -> {
+            keys.remove(queryKey);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cache
+
+import io.jmix.core.CacheOperations
+import io.jmix.eclipselink.impl.entitycache.QueryKey
+import io.jmix.eclipselink.impl.entitycache.QueryResult
+import io.jmix.eclipselink.impl.entitycache.StandardQueryCache
+import org.springframework.cache.concurrent.ConcurrentMapCache
+import spock.lang.Specification
+
+class StandardQueryCacheTest extends Specification {
+
+    def "local cache is invalidated through the type index"() {
+        def queryCache = createCache(new StandardQueryCache())
+        def orderKey = createKey('select e from test_Order e')
+        def customerKey = createKey('select e from test_Customer e')
+
+        queryCache.put(orderKey, new QueryResult([1], 'test_Order', ['test_Order', 'test_Customer'] as Set))
+        queryCache.put(customerKey, new QueryResult([2], 'test_Customer', ['test_Customer'] as Set))
+
+        when:
+        queryCache.invalidate('test_Order')
+
+        then:
+        queryCache.get(orderKey) == null
+        queryCache.get(customerKey) != null
+
+        when:
+        queryCache.invalidate('test_Customer')
+
+        then:
+        queryCache.get(customerKey) == null
+        queryCache.size() == 0
+    }
+
+    def "shared cache is scanned for entries put by other nodes"() {
+        def queryCache = createCache(new SharedQueryCache())
+        def orderKey = createKey('select e from test_Order e')
+        def customerKey = createKey('select e from test_Customer e')
+
+        // entries put by another node do not go through this instance
+        queryCache.queries.put(orderKey, new QueryResult([1], 'test_Order', ['test_Order'] as Set))
+        queryCache.queries.put(customerKey, new QueryResult([2], 'test_Customer', ['test_Customer'] as Set))
+
+        when:
+        queryCache.invalidate('test_Order')
+
+        then:
+        queryCache.get(orderKey) == null
+        queryCache.get(customerKey) != null
+    }
+
+    private static StandardQueryCache createCache(StandardQueryCache queryCache) {
+        queryCache.queries = new ConcurrentMapCache(StandardQueryCache.QUERY_CACHE_NAME)
+        queryCache.cacheOperations = new CacheOperations()
+        return queryCache
+    }
+
+    private static QueryKey createKey(String query) {
+        return new QueryKey(query, 0, 0, true, false, null, null, Collections.emptyMap())
+    }
+
+    static class SharedQueryCache extends StandardQueryCache {
+
+        @Override
+        protected boolean isLocalCache() {
+            return false
+        }
+    }
+}
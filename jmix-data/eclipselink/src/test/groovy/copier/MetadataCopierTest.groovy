@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package copier
+
+import io.jmix.core.Copier
+import io.jmix.core.DataManager
+import io.jmix.core.EntityStates
+import io.jmix.core.FetchPlan
+import io.jmix.core.impl.MetadataCopier
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+import test_support.entity.sales.Order
+
+class MetadataCopierTest extends DataSpec {
+
+    @Autowired
+    Copier copier
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    EntityStates entityStates
+
+    def "copier walks the graph using metadata"() {
+        expect:
+        copier instanceof MetadataCopier
+    }
+
+    def "copy keeps loaded state and shares immutable values"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'cust-1'
+        def order = dataManager.create(Order)
+        order.number = 'order-1'
+        order.date = new Date()
+        order.amount = 10.5
+        order.customer = customer
+        dataManager.save(customer, order)
+
+        def loaded = dataManager.load(Order).id(order.id).fetchPlan(FetchPlan.LOCAL).one()
+
+        when:
+        def copy = copier.copy(loaded)
+
+        then:
+        !copy.is(loaded)
+        copy == loaded
+        entityStates.isDetached(copy)
+        !entityStates.isNew(copy)
+        !entityStates.isLoaded(copy, 'customer')
+
+        copy.number.is(loaded.number)
+        copy.amount.is(loaded.amount)
+        copy.date == loaded.date
+        !copy.date.is(loaded.date)
+    }
+
+    def "copy preserves identity of shared references"() {
+        def customer = new Customer(name: 'cust-1')
+        def order1 = new Order(customer: customer)
+        def order2 = new Order(customer: customer)
+
+        when:
+        List<Order> copies = copier.copy([order1, order2])
+
+        then:
+        copies[0] == order1
+        copies[1] == order2
+        copies[0].customer.is(copies[1].customer)
+        !copies[0].customer.is(customer)
+        entityStates.isNew(copies[0])
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.TimeSource
+import io.jmix.core.constraint.RowLevelConstraint
+import io.jmix.core.event.EntityChangedEvent
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.core.security.InMemoryUserRepository
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.data.accesscontext.ReadEntityQueryContext
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.core.userdetails.User
+import org.springframework.security.core.userdetails.UserDetails
+import test_support.DataSpec
+import test_support.entity.sales.Product
+import test_support.listeners.TestBulkChangedEventListener
+
+class BulkOperationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    TimeSource timeSource
+
+    @Autowired
+    SystemAuthenticator authenticator
+
+    @Autowired
+    InMemoryUserRepository userRepository
+
+    @Autowired
+    TestBulkChangedEventListener bulkChangedEventListener
+
+    UserDetails admin
+
+    List<Product> products
+
+    def setup() {
+        admin = User.builder()
+                .username('admin')
+                .password('{noop}admin123')
+                .authorities(Collections.emptyList())
+                .build()
+        userRepository.addUser(admin)
+        authenticator.begin('admin')
+
+        products = (1..4).collect { i ->
+            def product = dataManager.create(Product)
+            product.name = "p$i"
+            product.quantity = i
+            product
+        }
+        dataManager.save(*products)
+        bulkChangedEventListener.events.clear()
+    }
+
+    def cleanup() {
+        bulkChangedEventListener.events.clear()
+        authenticator.end()
+        userRepository.removeUser(admin)
+    }
+
+    def "bulk update increments version and sets last modification audit values"() {
+        def versions = loadProducts().collectEntries { [it.name, it.version] }
+
+        when:
+        Date beforeUpdate = timeSource.currentTimestamp()
+        int count = dataManager.bulkUpdate(Product)
+                .set("quantity", 10)
+                .where(PropertyCondition.greater("quantity", 2))
+                .execute()
+        Date afterUpdate = timeSource.currentTimestamp()
+
+        then:
+        count == 2
+
+        def loaded = loadProducts()
+        loaded.findAll { it.name in ['p3', 'p4'] }.every {
+            it.quantity == 10 &&
+                    it.version == versions[it.name] + 1 &&
+                    it.updatedBy == 'admin' &&
+                    beforeOrEquals(beforeUpdate, it.updateTs) &&
+                    afterOrEquals(afterUpdate, it.updateTs)
+        }
+        loaded.findAll { it.name in ['p1', 'p2'] }.every {
+            it.version == versions[it.name]
+        }
+    }
+
+    def "bulk update applies JPQL row-level constraints"() {
+        def constraint = new NameConstraint("{E}.name <> 'p4'")
+
+        when:
+        int count = dataManager.bulkUpdate(Product)
+                .set("quantity", 10)
+                .where(PropertyCondition.greater("quantity", 2))
+                .accessConstraints([constraint])
+                .execute()
+
+        then:
+        count == 1
+        loadProducts().collectEntries { [it.name, it.quantity] } == [p1: 1, p2: 2, p3: 10, p4: 4]
+
+        when:
+        count = dataManager.bulkDelete(Product)
+                .accessConstraints([new NameConstraint("{E}.name in ('p1', 'p2')")])
+                .execute()
+
+        then:
+        count == 2
+        loadProducts()*.name.toSet() == ['p3', 'p4'].toSet()
+    }
+
+    def "bulk operations publish EntityBulkChangedEvent"() {
+        when:
+        dataManager.bulkUpdate(Product)
+                .set("quantity", 10)
+                .where(PropertyCondition.greater("quantity", 2))
+                .execute()
+
+        then:
+        bulkChangedEventListener.events.size() == 1
+        def updateEvent = bulkChangedEventListener.events[0]
+        updateEvent.metaClass.javaClass == Product
+        updateEvent.type == EntityChangedEvent.Type.UPDATED
+        updateEvent.affectedCount == 2
+        updateEvent.condition instanceof PropertyCondition
+        updateEvent.values.quantity == 10
+        updateEvent.values.updatedBy == 'admin'
+        updateEvent.values.updateTs != null
+
+        when:
+        bulkChangedEventListener.events.clear()
+        dataManager.bulkDelete(Product)
+                .where(PropertyCondition.equal("quantity", 10))
+                .execute()
+
+        then:
+        bulkChangedEventListener.events.size() == 1
+        def deleteEvent = bulkChangedEventListener.events[0]
+        deleteEvent.type == EntityChangedEvent.Type.DELETED
+        deleteEvent.affectedCount == 2
+    }
+
+    private List<Product> loadProducts() {
+        dataManager.load(Product).all().list()
+    }
+
+    static boolean beforeOrEquals(Date first, Date second) {
+        return first.before(second) || first.equals(second)
+    }
+
+    static boolean afterOrEquals(Date first, Date second) {
+        return first.after(second) || first.equals(second)
+    }
+
+    static class NameConstraint implements RowLevelConstraint<ReadEntityQueryContext> {
+
+        String where
+
+        NameConstraint(String where) {
+            this.where = where
+        }
+
+        @Override
+        Class<ReadEntityQueryContext> getContextType() {
+            return ReadEntityQueryContext.class
+        }
+
+        @Override
+        void applyTo(ReadEntityQueryContext context) {
+            if (context.entityClass.javaClass == Product) {
+                context.addJoinAndWhere(null, where)
+            }
+        }
+    }
+}
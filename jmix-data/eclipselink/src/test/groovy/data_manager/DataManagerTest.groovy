@@ -27,6 +27,8 @@ import test_support.entity.sales.OrderLineA
 import test_support.entity.sales.Product
 import test_support.entity.sec.User
 
+import java.util.stream.Collectors
+
 class DataManagerTest extends DataSpec {
 
     @Autowired
@@ -282,6 +284,102 @@ class DataManagerTest extends DataSpec {
         list2 == [line2, line1]
     }
 
+    def "load stream"() {
+
+        def products = (1..5).collect { i ->
+            def product = dataManager.create(Product)
+            product.name = "p$i"
+            product.quantity = i
+            product
+        }
+        dataManager.save(*products)
+
+        when: "unsorted entities are loaded by key ranges"
+
+        def streamed = dataManager.load(Product)
+                .query("e.quantity > ?1", 1)
+                .fetchSize(2)
+                .stream()
+                .collect(Collectors.toList())
+
+        then:
+
+        streamed.size() == 4
+        streamed.toSet() == products.subList(1, 5).toSet()
+
+        when: "sorted entities are loaded by offset"
+
+        def sorted = dataManager.load(Product)
+                .all()
+                .sort(Sort.by(Sort.Direction.DESC, "name"))
+                .fetchSize(2)
+                .stream()
+                .collect(Collectors.toList())
+
+        then:
+
+        sorted == products.reverse()
+
+        when: "max results limits the stream"
+
+        def limited = dataManager.load(Product)
+                .all()
+                .maxResults(3)
+                .fetchSize(2)
+                .stream()
+                .collect(Collectors.toList())
+
+        then:
+
+        limited.size() == 3
+        limited.toSet().size() == 3
+    }
+
+    def "bulk update and delete"() {
+
+        def products = (1..4).collect { i ->
+            def product = dataManager.create(Product)
+            product.name = "p$i"
+            product.quantity = i
+            product
+        }
+        dataManager.save(*products)
+
+        when:
+
+        def updated = dataManager.bulkUpdate(Product)
+                .set("quantity", 10)
+                .where(PropertyCondition.greater("quantity", 2))
+                .execute()
+
+        then:
+
+        updated == 2
+        dataManager.load(Product).all().list().collectEntries { [it.name, it.quantity] } ==
+                [p1: 1, p2: 2, p3: 10, p4: 10]
+
+        when:
+
+        def deleted = dataManager.bulkDelete(Product)
+                .where(PropertyCondition.equal("quantity", 10))
+                .execute()
+
+        then:
+
+        deleted == 2
+        dataManager.load(Product).all().list()*.name.toSet() == ['p1', 'p2'].toSet()
+
+        when:
+
+        dataManager.bulkUpdate(Product)
+                .set("id", UUID.randomUUID())
+                .execute()
+
+        then:
+
+        thrown(IllegalArgumentException)
+    }
+
     def "load by condition"() {
 
         def product1 = dataManager.create(Product)
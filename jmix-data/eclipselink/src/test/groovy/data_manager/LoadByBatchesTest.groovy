@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.JmixOrder
+import io.jmix.core.SaveContext
+import io.jmix.core.Stores
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext
+import io.jmix.core.constraint.InMemoryConstraint
+import io.jmix.core.constraint.RowLevelConstraint
+import io.jmix.core.datastore.AbstractDataStore
+import io.jmix.core.datastore.DataStoreEntityLoadingEvent
+import io.jmix.core.datastore.DataStoreEventListener
+import io.jmix.core.impl.DataStoreFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import test_support.DataSpec
+import test_support.entity.TestAppEntity
+
+import java.util.function.Predicate
+
+@TestPropertySource(properties = ["jmix.core.load-by-batches-max-scanned-rows = 30"])
+class LoadByBatchesTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    DataStoreFactory dataStoreFactory
+
+    AbstractDataStore dataStore
+    BatchRecorder batchRecorder
+
+    def setup() {
+        SaveContext saveContext = new SaveContext()
+        for (int i = 0; i < 100; i++) {
+            TestAppEntity entity = dataManager.create(TestAppEntity)
+            entity.name = "entity-$i"
+            entity.number = String.format("%03d", i)
+            saveContext.saving(entity)
+        }
+        dataManager.save(saveContext)
+
+        dataStore = (AbstractDataStore) dataStoreFactory.get(Stores.MAIN)
+        batchRecorder = new BatchRecorder()
+        dataStore.registerInterceptor(batchRecorder)
+    }
+
+    def cleanup() {
+        dataStore.listeners.remove(batchRecorder)
+    }
+
+    def "follow-up batches are sized by the pass-rate of the query"() {
+        def query = "select e from test_TestAppEntity e where e.name like 'entity-%' order by e.number"
+        def constraint = new TestConstraint({ TestAppEntity e -> Integer.parseInt(e.number) % 4 == 0 })
+
+        when: "the pass-rate is unknown"
+        List<TestAppEntity> page = loadPage(query, constraint)
+
+        then: "the first follow-up batch is sized by the rows of the requested page and the next one by the observed pass-rate"
+        page*.number == ["000", "004", "008", "012", "016"]
+        batchRecorder.batchSizes == [5, 15, 5]
+
+        when: "the same query is executed again"
+        batchRecorder.batchSizes.clear()
+        page = loadPage(query, constraint)
+
+        then: "a single follow-up batch is enough"
+        page*.number == ["000", "004", "008", "012", "016"]
+        batchRecorder.batchSizes == [5, 17]
+
+        def statistics = dataStore.getBatchLoadingStatistics().find { it.key.contains(query) }?.value
+        statistics.requests == 2
+        statistics.rowsReturned == 10
+    }
+
+    def "statistics are collected separately for different queries"() {
+        def query1 = "select e from test_TestAppEntity e where e.number >= '000' order by e.number"
+        def query2 = "select e from test_TestAppEntity e where e.number >= '050' order by e.number"
+
+        when:
+        loadPage(query1, new TestConstraint({ TestAppEntity e -> Integer.parseInt(e.number) % 2 == 0 }))
+        loadPage(query2, new TestConstraint({ TestAppEntity e -> Integer.parseInt(e.number) % 10 == 0 }))
+
+        then:
+        def statistics = dataStore.getBatchLoadingStatistics()
+        def statistics1 = statistics.find { it.key.contains(query1) }.value
+        def statistics2 = statistics.find { it.key.contains(query2) }.value
+        statistics1.requests == 1
+        statistics2.requests == 1
+        statistics1.passRate > statistics2.passRate
+    }
+
+    def "scanning stops when the limit of scanned rows is reached"() {
+        def query = "select e from test_TestAppEntity e where e.number is not null order by e.number"
+        def constraint = new TestConstraint({ TestAppEntity e -> Integer.parseInt(e.number) % 4 == 0 && Integer.parseInt(e.number) < 10 })
+
+        when:
+        List<TestAppEntity> page = loadPage(query, constraint)
+
+        then: "an incomplete page is returned"
+        page*.number == ["000", "004", "008"]
+
+        and: "follow-up batches don't exceed the limit of 30 rows"
+        batchRecorder.batchSizes[0] == 5
+        batchRecorder.batchSizes.drop(1).sum() == 30
+    }
+
+    private List<TestAppEntity> loadPage(String query, TestConstraint constraint) {
+        return dataManager.load(TestAppEntity)
+                .query(query)
+                .maxResults(5)
+                .accessConstraints([constraint])
+                .list()
+    }
+
+    static class TestConstraint implements InMemoryConstraint<InMemoryCrudEntityContext>, RowLevelConstraint<InMemoryCrudEntityContext> {
+
+        Predicate<TestAppEntity> predicate
+
+        TestConstraint(Predicate<TestAppEntity> predicate) {
+            this.predicate = predicate
+        }
+
+        @Override
+        Class<InMemoryCrudEntityContext> getContextType() {
+            return InMemoryCrudEntityContext.class
+        }
+
+        @Override
+        void applyTo(InMemoryCrudEntityContext context) {
+            if (context.entityClass.javaClass == TestAppEntity) {
+                context.addReadPredicate({ entity, applicationContext -> predicate.test((TestAppEntity) entity) })
+            }
+        }
+    }
+
+    /**
+     * Records the number of rows fetched by each query before in-memory constraints are applied.
+     */
+    static class BatchRecorder implements DataStoreEventListener {
+
+        List<Integer> batchSizes = []
+
+        @Override
+        void entityLoading(DataStoreEntityLoadingEvent event) {
+            if (event.loadContext.entityMetaClass.javaClass == TestAppEntity) {
+                batchSizes.add(event.entities.size())
+            }
+        }
+
+        @Override
+        int getOrder() {
+            return JmixOrder.HIGHEST_PRECEDENCE
+        }
+    }
+}
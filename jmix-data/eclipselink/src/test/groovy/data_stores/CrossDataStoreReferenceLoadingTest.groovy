@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_stores
+
+import io.jmix.core.DataManager
+import io.jmix.core.FetchPlans
+import io.jmix.core.Metadata
+import io.jmix.core.impl.CrossDataStoreReferenceLoadingSupport
+import io.jmix.core.impl.CrossDataStoreReferenceLoadingSupport.LoadedReferences
+import io.jmix.core.impl.DataStoreFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import test_support.DataSpec
+import test_support.TestInMemoryDataStore
+import test_support.entity.multidb.Db1Order
+import test_support.entity.multidb.MainReport
+import test_support.entity.multidb.Mem1Customer
+
+@TestPropertySource(properties = [
+        "jmix.core.cross-data-store-reference-loading-parallelism = 4",
+        "jmix.core.cross-data-store-reference-loading-batch-size = 2"
+])
+class CrossDataStoreReferenceLoadingTest extends DataSpec {
+
+    @Autowired
+    Metadata metadata
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    FetchPlans fetchPlans
+    @Autowired
+    DataStoreFactory dataStoreFactory
+    @Autowired
+    CrossDataStoreReferenceLoadingSupport loadingSupport
+
+    TestInMemoryDataStore mem1Store
+
+    def setup() {
+        mem1Store = (TestInMemoryDataStore) dataStoreFactory.get("mem1")
+        mem1Store.clear()
+    }
+
+    def cleanup() {
+        mem1Store.clear()
+    }
+
+    def "reference repeated in nested loading is loaded once per call tree"() {
+        Mem1Customer customer = createCustomer("John Doe")
+        MainReport report1 = createReport(createOrder(customer))
+        MainReport report2 = createReport(createOrder(customer))
+        mem1Store.clearLoadingThreads()
+
+        when:
+        List<MainReport> reports = dataManager.load(MainReport)
+                .ids(report1.id, report2.id)
+                .fetchPlan(fetchPlans.builder(MainReport)
+                        .add("db1Order", { it.add("mem1Customer") })
+                        .build())
+                .list()
+
+        then:
+        reports.size() == 2
+        reports[0].db1Order.mem1Customer == customer
+        reports[0].db1Order.mem1Customer.is(reports[1].db1Order.mem1Customer)
+
+        mem1Store.loadingThreads.size() == 1
+        loadingSupport.getLoadedReferences() == null
+    }
+
+    def "references are shared by DataManager calls within the same call tree"() {
+        Mem1Customer customer = createCustomer("John Doe")
+        Db1Order order1 = createOrder(customer)
+        Db1Order order2 = createOrder(customer)
+        mem1Store.clearLoadingThreads()
+
+        when:
+        List<Db1Order> orders = loadingSupport.withLoadedReferences(new LoadedReferences(), {
+            [loadOrder(order1), loadOrder(order2)]
+        })
+
+        then: "the second call takes the reference loaded by the first one"
+        orders[0].mem1Customer == customer
+        orders[0].mem1Customer.is(orders[1].mem1Customer)
+        mem1Store.loadingThreads.size() == 1
+
+        when: "loading outside of the call tree"
+        Db1Order order = loadOrder(order1)
+
+        then:
+        order.mem1Customer == customer
+        mem1Store.loadingThreads.size() == 2
+    }
+
+    def "batches of references are loaded concurrently"() {
+        List<Db1Order> orders = (1..5).collect { createOrder(createCustomer("Customer $it")) }
+        mem1Store.clearLoadingThreads()
+
+        when:
+        List<Db1Order> loadedOrders = dataManager.load(Db1Order)
+                .ids(orders*.id)
+                .fetchPlan({ it.add("mem1Customer") })
+                .list()
+
+        then: "each batch of 2 ids is loaded by a separate request in the loading pool"
+        loadedOrders.size() == 5
+        loadedOrders.every { it.mem1Customer != null && it.mem1Customer.id == it.mem1CustomerId }
+
+        mem1Store.loadingThreads.size() == 3
+        mem1Store.loadingThreads.every { it.startsWith("jmix-CrossDataStoreLoader-") }
+        loadingSupport.getLoadedReferences() == null
+    }
+
+    def "identity map is unbound when loading of references fails"() {
+        Db1Order order1 = createOrder(createCustomer("John Doe"))
+        Db1Order order2 = createOrder(createCustomer("Jane Doe"))
+        mem1Store.setLoadException(new IllegalStateException("Store is not available"))
+
+        when: "a single reference is loaded in the caller thread"
+        loadOrder(order1)
+
+        then:
+        thrown(IllegalStateException)
+        loadingSupport.getLoadedReferences() == null
+
+        when: "references are loaded in the loading pool"
+        dataManager.load(Db1Order)
+                .ids(order1.id, order2.id)
+                .fetchPlan({ it.add("mem1Customer") })
+                .list()
+
+        then:
+        thrown(IllegalStateException)
+        loadingSupport.getLoadedReferences() == null
+
+        when: "the store is available again"
+        mem1Store.setLoadException(null)
+        mem1Store.clearLoadingThreads()
+        Db1Order order = loadOrder(order1)
+
+        then: "the reference is loaded from the store"
+        order.mem1Customer.name == "John Doe"
+        mem1Store.loadingThreads.size() == 1
+    }
+
+    private Mem1Customer createCustomer(String name) {
+        Mem1Customer customer = metadata.create(Mem1Customer)
+        customer.setName(name)
+        return dataManager.save(customer)
+    }
+
+    private Db1Order createOrder(Mem1Customer customer) {
+        Db1Order order = metadata.create(Db1Order)
+        order.setOrderDate(new Date())
+        order.setMem1Customer(customer)
+        return dataManager.save(order)
+    }
+
+    private MainReport createReport(Db1Order order) {
+        MainReport report = metadata.create(MainReport)
+        report.setDb1Order(order)
+        return dataManager.save(report)
+    }
+
+    private Db1Order loadOrder(Db1Order order) {
+        return dataManager.load(Db1Order)
+                .id(order.id)
+                .fetchPlan({ it.add("mem1Customer") })
+                .one()
+    }
+}
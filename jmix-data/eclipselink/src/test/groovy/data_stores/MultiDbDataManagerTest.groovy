@@ -6,6 +6,7 @@
 package data_stores
 
 import io.jmix.core.*
+import io.jmix.core.impl.CrossDataStoreReferenceLoadingSupport
 import io.jmix.core.impl.DataStoreFactory
 import io.jmix.core.impl.NoopDataStore
 import io.jmix.data.StoreAwareLocator
@@ -40,6 +41,8 @@ class MultiDbDataManagerTest extends DataSpec {
     DataStoreFactory dataStoreFactory
     @Autowired
     FetchPlans fetchPlans
+    @Autowired
+    CrossDataStoreReferenceLoadingSupport crossDataStoreReferenceLoadingSupport
 
     Colour colour
 
@@ -162,6 +165,35 @@ class MultiDbDataManagerTest extends DataSpec {
         loadedOrder.mem1Customer != null
     }
 
+    void testCrossDataStoreReferenceLoadedOnce() {
+        Mem1Customer customer = metadata.create(Mem1Customer)
+        customer.setName("John Doe")
+        Mem1Customer committedCustomer = dataManager.save(customer)
+
+        Db1Order order1 = metadata.create(Db1Order.class)
+        order1.setOrderDate(new Date())
+        order1.setMem1Customer(committedCustomer)
+        Db1Order order2 = metadata.create(Db1Order.class)
+        order2.setOrderDate(new Date())
+        order2.setMem1Customer(committedCustomer)
+        dataManager.save(order1, order2)
+
+        crossDataStoreReferenceLoadingSupport.resetStatistics()
+
+        when:
+        List<Db1Order> loadedOrders = dataManager.load(Db1Order)
+                .ids(order1.id, order2.id)
+                .fetchPlan({ builder -> builder.add("mem1Customer") })
+                .list()
+
+        then: "the same referenced instance is loaded by a single request"
+        loadedOrders.size() == 2
+        loadedOrders[0].mem1Customer == committedCustomer
+        loadedOrders[0].mem1Customer.is(loadedOrders[1].mem1Customer)
+
+        crossDataStoreReferenceLoadingSupport.getStatistics().get("mem1").requests == 1
+    }
+
     void testNestedCrossDatastoreEntitiesSaving() {
         when:
         Db1Order order = metadata.create(Db1Order)
@@ -19,6 +19,7 @@ package entity_annotations
 import io.jmix.core.DataManager
 import io.jmix.core.TimeSource
 import io.jmix.core.entity.EntityEntrySoftDelete
+import io.jmix.core.querycondition.PropertyCondition
 import io.jmix.core.security.SystemAuthenticator
 import io.jmix.core.security.InMemoryUserRepository
 import io.jmix.data.PersistenceHints
@@ -122,6 +123,38 @@ class SoftDeleteTest extends DataSpec {
         authenticator.end()
     }
 
+    def "Bulk delete should mark SoftDelete entities as deleted"() {
+        setup:
+        SoftDeleteEntity entity = dataManager.save(dataManager.create(SoftDeleteEntity))
+
+        when:
+        Date beforeDelete = timeSource.currentTimestamp()
+        int count = dataManager.bulkDelete(SoftDeleteEntity)
+                .where(PropertyCondition.equal("id", entity.id))
+                .execute()
+        Date afterDelete = timeSource.currentTimestamp()
+
+        then:
+        count == 1
+        !dataManager.load(SoftDeleteEntity).id(entity.id).optional().isPresent()
+
+        when:
+        entity = dataManager.load(SoftDeleteEntity).id(entity.id)
+                .hint(PersistenceHints.SOFT_DELETION, false).one()
+
+        then:
+        beforeOrEquals(beforeDelete, entity.timeOfDeletion)
+        afterOrEquals(afterDelete, entity.timeOfDeletion)
+
+        when: "deleted instances are not affected by repeated bulk delete"
+        count = dataManager.bulkDelete(SoftDeleteEntity)
+                .where(PropertyCondition.equal("id", entity.id))
+                .execute()
+
+        then:
+        count == 0
+    }
+
     @Ignore
     def "Soft deletion for many to many collection"() {
         setup:
@@ -212,4 +212,41 @@ class FetchGroupManagerTest extends DataSpec {
         entityStates.isLoaded(order.orderLines[0], 'product')
         entityStates.isLoaded(order.orderLines[0].product, 'quantity')
     }
+
+    def "fetch group descriptions are cached by fetch plan structure and query"() {
+        def fetchPlan1 = fetchPlans.builder(Order)
+                .addFetchPlan(FetchPlan.BASE)
+                .add('customer', FetchPlan.BASE)
+                .build()
+        def fetchPlan2 = fetchPlans.builder(Order)
+                .addFetchPlan(FetchPlan.BASE)
+                .add('customer', FetchPlan.BASE)
+                .build()
+        def batchFetchPlan = fetchPlans.builder(Order)
+                .addFetchPlan(FetchPlan.BASE)
+                .add('customer', { it.addFetchPlan(FetchPlan.BASE) }, FetchMode.BATCH)
+                .build()
+
+        when:
+        def description1 = fetchGroupManager.calculateFetchGroup('select o from sales_Order o', fetchPlan1, false, true)
+        def description2 = fetchGroupManager.calculateFetchGroup('select o from sales_Order o', fetchPlan2, false, true)
+
+        then:
+        description1.is(description2)
+        description1.hints['o.customer'] == QueryHints.LEFT_FETCH
+
+        when:
+        def otherAlias = fetchGroupManager.calculateFetchGroup('select e from sales_Order e', fetchPlan1, false, true)
+        def batch = fetchGroupManager.calculateFetchGroup('select o from sales_Order o', batchFetchPlan, false, true)
+
+        then:
+        otherAlias.hints['e.customer'] == QueryHints.LEFT_FETCH
+        batch.hints['o.customer'] == QueryHints.BATCH
+
+        when:
+        description1.addAttribute('number')
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jpql_transform
+
+import io.jmix.data.QueryTransformerFactory
+import io.jmix.data.impl.jpql.QueryTreeCache
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+
+class QueryTreeCacheTest extends DataSpec {
+
+    static final String QUERY = 'select o from sales_Order o where o.number = :number'
+
+    @Autowired
+    QueryTransformerFactory queryTransformerFactory
+
+    @Autowired
+    QueryTreeCache queryTreeCache
+
+    def "parser and transformer use cached tree for the same query"() {
+        queryTreeCache.invalidateAll()
+        def missCount = queryTreeCache.stats.missCount()
+        def hitCount = queryTreeCache.stats.hitCount()
+
+        when:
+        def alias = queryTransformerFactory.parser(QUERY).getEntityAlias()
+
+        then:
+        alias == 'o'
+        queryTreeCache.size() == 1
+        queryTreeCache.stats.missCount() == missCount + 1
+
+        when:
+        queryTransformerFactory.parser(QUERY).getEntityName()
+        def originalResult = queryTransformerFactory.transformer(QUERY).getResult()
+
+        then:
+        queryTreeCache.size() == 1
+        queryTreeCache.stats.missCount() == missCount + 1
+        queryTreeCache.stats.hitCount() == hitCount + 2
+        originalResult.contains('o.number = :number')
+    }
+
+    def "changes of a copy do not affect cached tree"() {
+        queryTreeCache.invalidateAll()
+        def originalResult = queryTransformerFactory.transformer(QUERY).getResult()
+
+        when:
+        def transformer = queryTransformerFactory.transformer(QUERY)
+        transformer.replaceWithCount()
+        def countResult = transformer.getResult()
+
+        then:
+        countResult != originalResult
+        countResult.contains('count(o)')
+
+        when:
+        def result = queryTransformerFactory.transformer(QUERY).getResult()
+
+        then:
+        result == originalResult
+        queryTransformerFactory.parser(QUERY).getEntityAlias() == 'o'
+        queryTreeCache.size() == 1
+    }
+}
@@ -73,8 +73,8 @@ class NumberIdConcurrencyTest extends DataSpec {
     }
 
     protected void cleanupSequences() {
-        numberIdWorker.reset()
         numberIdCache.reset()
+        numberIdWorker.reset()
 
         if (sequenceExists()) {
             def sql = sequenceSupport.deleteSequenceSql(getSequenceName('test$NumberIdSingleTableRoot'))
@@ -102,6 +102,51 @@ class NumberIdConcurrencyTest extends DataSpec {
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
     }
 
+    def "generating ids without prefetching of blocks"() {
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 20)
+        DataConfigPropertiesAccess.setNumberIdCachePrefetchThreshold(dataProperties, 0)
+
+        when:
+
+        generateSomeEntities(500)
+
+        then:
+
+        countEntities() == 500
+
+        def statistics = numberIdCache.getStatistics()['test$NumberIdSingleTableRoot']
+        statistics.blocksFetched == 25
+        // the first block is fetched when the generator is created
+        statistics.stalls == 24
+
+        cleanup:
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
+        DataConfigPropertiesAccess.setNumberIdCachePrefetchThreshold(dataProperties, 0.5)
+    }
+
+    def "generating ids with prefetching of blocks"() {
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 20)
+
+        when:
+
+        generateSomeEntities(500)
+
+        then:
+
+        countEntities() == 500
+
+        def statistics = numberIdCache.getStatistics()['test$NumberIdSingleTableRoot']
+        statistics.blocksFetched >= 25
+        statistics.stalls < statistics.blocksFetched / 2
+
+        cleanup:
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
+    }
+
     def "generating ids with increment 20"() {
 
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 20)
@@ -24,4 +24,8 @@ public class DataConfigPropertiesAccess {
     public static void setNumberIdCacheSize(DataProperties properties, int value) {
         properties.numberIdCacheSize = value;
     }
+
+    public static void setNumberIdCachePrefetchThreshold(DataProperties properties, double value) {
+        properties.numberIdCachePrefetchThreshold = value;
+    }
 }
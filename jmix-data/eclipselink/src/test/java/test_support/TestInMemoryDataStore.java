@@ -36,6 +36,10 @@ public class TestInMemoryDataStore implements DataStore {
 
     private Map<String, Map<Object, Object>> entities = new ConcurrentHashMap<>();
 
+    private List<String> loadingThreads = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile RuntimeException loadException;
+
     @Autowired
     private Metadata metadata;
 
@@ -52,6 +56,7 @@ public class TestInMemoryDataStore implements DataStore {
     @Nullable
     @Override
     public Object load(LoadContext<?> context) {
+        registerLoading();
         Map<Object, Object> instances = entities.get(context.getEntityMetaClass().getName());
         if (instances == null)
             return null;
@@ -61,6 +66,7 @@ public class TestInMemoryDataStore implements DataStore {
 
     @Override
     public List<Object> loadList(LoadContext<?> context) {
+        registerLoading();
         Map<Object, Object> instances = entities.get(context.getEntityMetaClass().getName());
         if (instances == null)
             return Collections.emptyList();
@@ -115,5 +121,32 @@ public class TestInMemoryDataStore implements DataStore {
 
     public void clear() {
         entities.clear();
+        loadingThreads.clear();
+        loadException = null;
+    }
+
+    /**
+     * @return names of threads that executed load requests, one element per request
+     */
+    public List<String> getLoadingThreads() {
+        return new ArrayList<>(loadingThreads);
+    }
+
+    public void clearLoadingThreads() {
+        loadingThreads.clear();
+    }
+
+    /**
+     * Makes subsequent load requests throw the provided exception.
+     */
+    public void setLoadException(@Nullable RuntimeException loadException) {
+        this.loadException = loadException;
+    }
+
+    private void registerLoading() {
+        loadingThreads.add(Thread.currentThread().getName());
+        if (loadException != null) {
+            throw loadException;
+        }
     }
 }
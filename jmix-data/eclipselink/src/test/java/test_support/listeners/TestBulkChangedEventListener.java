@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.listeners;
+
+import io.jmix.core.event.EntityBulkChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component("test_TestBulkChangedEventListener")
+public class TestBulkChangedEventListener {
+
+    public final List<EntityBulkChangedEvent<?>> events = new ArrayList<>();
+
+    @EventListener
+    public void onBulkChanged(EntityBulkChangedEvent<?> event) {
+        events.add(event);
+    }
+}
@@ -18,6 +18,7 @@ package io.jmix.dataimport;
 
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.extractor.data.ImportedData;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
 import io.jmix.dataimport.result.ImportResult;
 
 import java.io.InputStream;
@@ -37,7 +38,7 @@ import java.io.InputStream;
 public interface DataImporter {
     /**
      * Creates the entities using data from the given byte array (XLSX, CSV, JSON, XML) and specified import configuration
-     * and saves these entities to the database.
+     * and saves these entities to the database. The data items are read lazily while importing.
      *
      * @param configuration import configuration
      * @param content       source (XLSX, CSV, JSON, XML) that contains data for the entities to import
@@ -47,7 +48,7 @@ public interface DataImporter {
 
     /**
      * Creates the entities using data from the given input stream (XLSX, CSV, JSON, XML) and specified import configuration
-     * and saves these entities to the database.
+     * and saves these entities to the database. The data items are read lazily while importing.
      *
      * @param configuration import configuration
      * @param inputStream   source (XLSX, CSV, JSON, XML) that contains data for the entities to import
@@ -64,4 +65,22 @@ public interface DataImporter {
      * @return object that contains result of import execution
      */
     ImportResult importData(ImportConfiguration configuration, ImportedData importedData);
+
+    /**
+     * Creates the entities using data items from the given {@link ImportedDataIterator} and specified import configuration
+     * and saves these entities to the database. The items are read from the iterator while importing,
+     * the iterator is closed after import.
+     * <p>
+     * The default implementation reads all items to {@link ImportedData} and delegates to
+     * {@link #importData(ImportConfiguration, ImportedData)}.
+     *
+     * @param configuration        import configuration
+     * @param importedDataIterator iterator over imported data items
+     * @return object that contains result of import execution
+     */
+    default ImportResult importData(ImportConfiguration configuration, ImportedDataIterator importedDataIterator) {
+        try (ImportedDataIterator iterator = importedDataIterator) {
+            return importData(configuration, iterator.toImportedData());
+        }
+    }
 }
@@ -22,7 +22,10 @@ import io.jmix.dataimport.extractor.data.ImportedData;
 
 import org.springframework.lang.Nullable;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Executes import for a given import configuration and {@link ImportedData}.
@@ -69,4 +72,25 @@ public interface DuplicateEntityManager {
      */
     @Nullable
     Object load(Class entityClass, Map<String, Object> propertyValues, @Nullable FetchPlan fetchPlan);
+
+    /**
+     * Loads entities having the same values as any of the given property values. Entities are loaded in chunks,
+     * so only one query is executed for several property values.
+     * <p>
+     * Property values containing empty strings or collections should be loaded one by one
+     * using {@link #load(Class, Map, FetchPlan)} since such values are skipped in the load conditions.
+     *
+     * @param entityClass    class of entities to load
+     * @param propertyValues list of property values
+     * @param fetchPlan      fetch plan
+     * @return loaded entities
+     */
+    default List<Object> loadAll(Class entityClass, Collection<Map<String, Object>> propertyValues, @Nullable FetchPlan fetchPlan) {
+        return propertyValues.stream()
+                .filter(values -> !values.isEmpty())
+                .map(values -> load(entityClass, values, fetchPlan))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
 }
@@ -23,6 +23,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 /**
@@ -40,6 +41,7 @@ import java.util.function.Predicate;
  *     <li>Entity initializer: a consumer that is executed after pre-import check and allows to make additional changes with extracted entity before import.</li>
  *     <li>Input data charset: this parameter is required if CSV is input data format. Default value: UTF-8.</li>
  *     <li>Unique entity configurations: list of {@link UniqueEntityConfiguration}.</li>
+ *     <li>Import progress listener: a consumer that receives the number of processed data items during import.</li>
  * </ol>
  * <br>
  * Import configuration can be created by constructor or by {@link ImportConfigurationBuilder}.
@@ -97,6 +99,8 @@ public class ImportConfiguration {
     protected Predicate<EntityExtractionResult> preImportPredicate;
     protected Consumer<Object> entityInitializer;
 
+    protected IntConsumer importProgressListener;
+
     public ImportConfiguration(Class entityClass, String inputDataFormat) {
         this.entityClass = entityClass;
         this.inputDataFormat = inputDataFormat;
@@ -344,6 +348,28 @@ public class ImportConfiguration {
         return this;
     }
 
+    /**
+     * Gets a listener that receives the number of processed data items during import.
+     *
+     * @return listener that receives the number of processed data items
+     */
+    public IntConsumer getImportProgressListener() {
+        return importProgressListener;
+    }
+
+    /**
+     * Sets a listener that receives the number of processed data items during import. The listener is notified
+     * after each imported batch if {@link ImportTransactionStrategy#TRANSACTION_PER_BATCH} is used, after each item
+     * if {@link ImportTransactionStrategy#TRANSACTION_PER_ENTITY} is used and once after the import otherwise.
+     *
+     * @param importProgressListener listener that receives the number of processed data items
+     * @return current instance of import configuration
+     */
+    public ImportConfiguration setImportProgressListener(IntConsumer importProgressListener) {
+        this.importProgressListener = importProgressListener;
+        return this;
+    }
+
     /**
      * Creates an instance of {@link ImportConfigurationBuilder} for the specified entity class and import configuration code.
      *
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 /**
@@ -42,6 +43,7 @@ import java.util.function.Predicate;
  *     <li>Entity initializer: a consumer that is executed after pre-import check and allows to make additional changes with extracted entity before import.</li>
  *     <li>Input data charset: this parameter is required if CSV is input data format. Default value: UTF-8</li>
  *     <li>Unique entity configurations: list of {@link UniqueEntityConfiguration}.</li>
+ *     <li>Import progress listener: a consumer that receives the number of processed data items during import.</li>
  * </ol>
  */
 public class ImportConfigurationBuilder {
@@ -62,6 +64,8 @@ public class ImportConfigurationBuilder {
     private Predicate<EntityExtractionResult> preImportPredicate;
     private Consumer<Object> entityInitializer;
 
+    private IntConsumer importProgressListener;
+
     private List<UniqueEntityConfiguration> uniqueEntityConfigurations = new ArrayList<>();
 
     protected ImportConfigurationBuilder(Class entityClass, String inputDataFormat) {
@@ -237,6 +241,18 @@ public class ImportConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Sets a listener that receives the number of processed data items during import.
+     *
+     * @param importProgressListener listener that receives the number of processed data items
+     * @return current instance of builder
+     * @see ImportConfiguration#setImportProgressListener(IntConsumer)
+     */
+    public ImportConfigurationBuilder withImportProgressListener(IntConsumer importProgressListener) {
+        this.importProgressListener = importProgressListener;
+        return this;
+    }
+
     /**
      * Creates an instance of {@link ImportConfiguration} based on the specified parameters.
      *
@@ -253,6 +269,7 @@ public class ImportConfigurationBuilder {
                 .setInputDataCharset(this.inputDataCharset)
                 .setPreImportPredicate(this.preImportPredicate)
                 .setEntityInitializer(entityInitializer)
+                .setImportProgressListener(importProgressListener)
                 .setUniqueEntityConfigurations(this.uniqueEntityConfigurations);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.extractor.data;
+
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for {@link ImportedDataIterator} implementations that read items from the input data lazily.
+ */
+public abstract class AbstractImportedDataIterator implements ImportedDataIterator {
+
+    protected List<String> dataFieldNames = new ArrayList<>();
+
+    protected ImportedDataItem nextItem;
+    protected boolean finished;
+    protected boolean closed;
+
+    @Override
+    public List<String> getDataFieldNames() {
+        return dataFieldNames;
+    }
+
+    protected void addDataFieldName(String dataFieldName) {
+        if (!dataFieldNames.contains(dataFieldName)) {
+            dataFieldNames.add(dataFieldName);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextItem == null && !finished) {
+            nextItem = readNext();
+            if (nextItem == null) {
+                finished = true;
+                close();
+            }
+        }
+        return nextItem != null;
+    }
+
+    @Override
+    public ImportedDataItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportedDataItem item = nextItem;
+        nextItem = null;
+        return item;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            finished = true;
+            closeSource();
+        }
+    }
+
+    /**
+     * Reads the next item from the input data.
+     *
+     * @return next item or null if there are no more items
+     */
+    @Nullable
+    protected abstract ImportedDataItem readNext();
+
+    /**
+     * Releases the resources associated with the input data.
+     */
+    protected abstract void closeSource();
+}
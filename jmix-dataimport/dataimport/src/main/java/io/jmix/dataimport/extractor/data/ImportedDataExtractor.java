@@ -44,6 +44,34 @@ public interface ImportedDataExtractor {
      */
     ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData);
 
+    /**
+     * Parses input data specified as input stream lazily: the items are read one by one while iterating.
+     * The returned iterator must be closed after usage.
+     * <br>
+     * The default implementation reads all items using {@link #extract(ImportConfiguration, InputStream)}.
+     *
+     * @param importConfiguration import configuration
+     * @param inputStream input data
+     * @return an iterator over {@link ImportedDataItem}s with raw values for entity properties
+     */
+    default ImportedDataIterator iterate(ImportConfiguration importConfiguration, InputStream inputStream) {
+        return ImportedDataIterator.of(extract(importConfiguration, inputStream));
+    }
+
+    /**
+     * Parses input data specified as a byte array lazily: the items are read one by one while iterating.
+     * The returned iterator must be closed after usage.
+     * <br>
+     * The default implementation reads all items using {@link #extract(ImportConfiguration, byte[])}.
+     *
+     * @param importConfiguration import configuration
+     * @param inputData input data
+     * @return an iterator over {@link ImportedDataItem}s with raw values for entity properties
+     */
+    default ImportedDataIterator iterate(ImportConfiguration importConfiguration, byte[] inputData) {
+        return ImportedDataIterator.of(extract(importConfiguration, inputData));
+    }
+
     /**
      * @return supported format of input data
      */
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.extractor.data;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Iterates over {@link ImportedDataItem}s read from the input data one by one, so the whole input data is not kept
+ * in memory. The iterator must be closed after usage to release the resources associated with the input data.
+ *
+ * @see ImportedDataExtractor#iterate(io.jmix.dataimport.configuration.ImportConfiguration, java.io.InputStream)
+ */
+public interface ImportedDataIterator extends Iterator<ImportedDataItem>, Closeable {
+
+    /**
+     * Returns names of the fields from input data. For CSV and XLSX the names are read from the first row,
+     * for JSON and XML the names are collected from the items that have already been read.
+     *
+     * @return names of the fields from input data
+     */
+    List<String> getDataFieldNames();
+
+    /**
+     * Reads all remaining items and creates an instance of {@link ImportedData} containing them.
+     *
+     * @return an instance of {@link ImportedData} containing the remaining items
+     */
+    default ImportedData toImportedData() {
+        ImportedData importedData = new ImportedData();
+        while (hasNext()) {
+            importedData.addItem(next());
+        }
+        getDataFieldNames().forEach(importedData::addDataFieldName);
+        return importedData;
+    }
+
+    @Override
+    void close();
+
+    /**
+     * Creates an iterator over the items of the given {@link ImportedData}.
+     *
+     * @param importedData imported data
+     * @return iterator over the items of the imported data
+     */
+    static ImportedDataIterator of(ImportedData importedData) {
+        Iterator<ImportedDataItem> iterator = importedData.getItems().iterator();
+        return new ImportedDataIterator() {
+            @Override
+            public List<String> getDataFieldNames() {
+                return importedData.getDataFieldNames();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ImportedDataItem next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -21,39 +21,47 @@ import com.opencsv.exceptions.CsvException;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
+import io.jmix.dataimport.extractor.data.AbstractImportedDataIterator;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
-import org.apache.commons.collections4.CollectionUtils;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
+import org.apache.commons.io.IOUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
 import java.util.Arrays;
-import java.util.List;
 
 @Component("datimp_CsvDataExtractor")
 public class CsvDataExtractor implements ImportedDataExtractor {
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, InputStream inputStream) {
-        CSVReader csvReader;
-        try {
-            csvReader = new CSVReader(new InputStreamReader(inputStream, importConfiguration.getInputDataCharset()));
-        } catch (UnsupportedEncodingException e) {
-            throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
+        try (ImportedDataIterator iterator = iterate(importConfiguration, inputStream)) {
+            return iterator.toImportedData();
         }
-        return getImportedData(csvReader);
     }
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData) {
+        return extract(importConfiguration, new ByteArrayInputStream(inputData));
+    }
+
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, InputStream inputStream) {
         CSVReader csvReader;
         try {
-            csvReader = new CSVReader(new InputStreamReader(new ByteArrayInputStream(inputData), importConfiguration.getInputDataCharset()));
+            csvReader = new CSVReader(new InputStreamReader(inputStream, importConfiguration.getInputDataCharset()));
         } catch (UnsupportedEncodingException e) {
             throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
         }
-        return getImportedData(csvReader);
+        return new CsvDataIterator(csvReader);
+    }
+
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, byte[] inputData) {
+        return iterate(importConfiguration, new ByteArrayInputStream(inputData));
     }
 
     @Override
@@ -61,28 +69,55 @@ public class CsvDataExtractor implements ImportedDataExtractor {
         return InputDataFormat.CSV;
     }
 
-    protected ImportedData getImportedData(CSVReader csvReader) {
-        List<String[]> strings;
-        try {
-            strings = csvReader.readAll();
-        } catch (IOException | CsvException e) {
-            throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
+    /**
+     * Reads CSV lines one by one. The first line contains column names.
+     */
+    protected static class CsvDataIterator extends AbstractImportedDataIterator {
+
+        protected CSVReader csvReader;
+        protected int itemIndex = 0;
+
+        public CsvDataIterator(CSVReader csvReader) {
+            this.csvReader = csvReader;
+
+            String[] columnNames = readLine();
+            if (columnNames != null) {
+                this.dataFieldNames = Arrays.asList(columnNames);
+            }
         }
-        ImportedData importedData = new ImportedData();
-        if (CollectionUtils.isNotEmpty(strings)) {
-            List<String> columnNames = Arrays.asList(strings.get(0));
-            importedData.setDataFieldNames(columnNames);
-            for (int i = 1; i < strings.size(); i++) {
-                ImportedDataItem importedDataItem = new ImportedDataItem();
-                importedDataItem.setItemIndex(i);
-                String[] values = strings.get(i);
-                for (int j = 0; j < values.length; j++) {
-                    importedDataItem.addRawValue(columnNames.get(j), values[j]);
-                }
-                importedData.addItem(importedDataItem);
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNext() {
+            if (dataFieldNames.isEmpty()) {
+                return null;
+            }
+            String[] values = readLine();
+            if (values == null) {
+                return null;
             }
 
+            ImportedDataItem importedDataItem = new ImportedDataItem();
+            importedDataItem.setItemIndex(++itemIndex);
+            for (int j = 0; j < values.length; j++) {
+                importedDataItem.addRawValue(dataFieldNames.get(j), values[j]);
+            }
+            return importedDataItem;
+        }
+
+        @Nullable
+        protected String[] readLine() {
+            try {
+                return csvReader.readNext();
+            } catch (IOException | CsvException e) {
+                close();
+                throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
+            }
+        }
+
+        @Override
+        protected void closeSource() {
+            IOUtils.closeQuietly(csvReader);
         }
-        return importedData;
     }
 }
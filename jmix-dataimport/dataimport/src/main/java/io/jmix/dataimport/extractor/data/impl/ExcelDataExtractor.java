@@ -19,41 +19,80 @@ package io.jmix.dataimport.extractor.data.impl;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
+import io.jmix.dataimport.extractor.data.AbstractImportedDataIterator;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Component("datimp_ExcelDataExtractor")
 public class ExcelDataExtractor implements ImportedDataExtractor {
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, InputStream inputStream) {
-        Workbook workbook;
-        try {
-            workbook = WorkbookFactory.create(inputStream);
-        } catch (IOException e) {
-            throw new ImportException(e, "I/O error occurs during Excel data reading:" + e.getMessage());
+        try (ImportedDataIterator iterator = iterate(importConfiguration, inputStream)) {
+            return iterator.toImportedData();
         }
-        return getImportedData(workbook);
     }
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData) {
-        Workbook workbook;
+        return extract(importConfiguration, new ByteArrayInputStream(inputData));
+    }
+
+    /**
+     * Reads rows of the first sheet one by one. XLSX files are copied to a temporary file and the sheet is parsed
+     * by StAX, so the workbook is not loaded into memory. Other Excel formats are read using {@link WorkbookFactory}.
+     */
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, InputStream inputStream) {
         try {
-            workbook = WorkbookFactory.create(new ByteArrayInputStream(inputData));
+            InputStream dataStream = FileMagic.prepareToCheckMagic(inputStream);
+            if (FileMagic.valueOf(dataStream) != FileMagic.OOXML) {
+                try (Workbook workbook = WorkbookFactory.create(dataStream)) {
+                    return ImportedDataIterator.of(getImportedData(workbook));
+                }
+            }
+            return new XlsxDataIterator(copyToTempFile(dataStream));
         } catch (IOException e) {
             throw new ImportException(e, "I/O error occurs during Excel data reading:" + e.getMessage());
         }
-        return getImportedData(workbook);
+    }
+
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, byte[] inputData) {
+        return iterate(importConfiguration, new ByteArrayInputStream(inputData));
     }
 
     @Override
@@ -90,4 +129,212 @@ public class ExcelDataExtractor implements ImportedDataExtractor {
 
         return importedData;
     }
+
+    protected File copyToTempFile(InputStream inputStream) throws IOException {
+        File file = Files.createTempFile("jmix-dataimport", ".xlsx").toFile();
+        try {
+            Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    protected XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    /**
+     * Reads rows of the first sheet of XLSX file. The first row contains column names.
+     * Cell values are formatted the same way as {@link DataFormatter#formatCellValue(Cell)} does,
+     * cached results are used for formula cells.
+     */
+    protected class XlsxDataIterator extends AbstractImportedDataIterator {
+
+        protected File file;
+        protected OPCPackage opcPackage;
+        protected InputStream sheetInputStream;
+        protected XMLStreamReader sheetReader;
+
+        protected SharedStrings sharedStrings;
+        protected StylesTable stylesTable;
+        protected DataFormatter dataFormatter = new DataFormatter();
+
+        protected int rowNum = -1;
+
+        public XlsxDataIterator(File file) {
+            this.file = file;
+            try {
+                opcPackage = OPCPackage.open(file, PackageAccess.READ);
+                XSSFReader xssfReader = new XSSFReader(opcPackage);
+                sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+                stylesTable = xssfReader.getStylesTable();
+
+                Iterator<InputStream> sheets = xssfReader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    close();
+                    return;
+                }
+                sheetInputStream = sheets.next();
+                sheetReader = createXmlInputFactory().createXMLStreamReader(sheetInputStream);
+
+                Map<Integer, String> headerRow = readRow();
+                if (headerRow != null) {
+                    dataFieldNames.addAll(headerRow.values());
+                }
+            } catch (IOException | OpenXML4JException | SAXException | XMLStreamException e) {
+                close();
+                throw new ImportException(e, "I/O error occurs during Excel data reading:" + e.getMessage());
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNext() {
+            if (sheetReader == null) {
+                return null;
+            }
+
+            Map<Integer, String> row;
+            try {
+                row = readRow();
+            } catch (XMLStreamException e) {
+                close();
+                throw new ImportException(e, "I/O error occurs during Excel data reading:" + e.getMessage());
+            }
+            if (row == null) {
+                return null;
+            }
+
+            ImportedDataItem dataItem = new ImportedDataItem();
+            dataItem.setItemIndex(rowNum);
+            for (int i = 0; i < dataFieldNames.size(); i++) {
+                dataItem.addRawValue(dataFieldNames.get(i), row.getOrDefault(i, ""));
+            }
+            return dataItem;
+        }
+
+        /**
+         * @return formatted cell values by column indexes or null if there are no more rows
+         */
+        @Nullable
+        protected Map<Integer, String> readRow() throws XMLStreamException {
+            while (sheetReader.hasNext()) {
+                int event = sheetReader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(sheetReader.getLocalName())) {
+                    String rowReference = sheetReader.getAttributeValue(null, "r");
+                    rowNum = rowReference != null ? Integer.parseInt(rowReference) - 1 : rowNum + 1;
+                    return readCells();
+                } else if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(sheetReader.getLocalName())) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        protected Map<Integer, String> readCells() throws XMLStreamException {
+            Map<Integer, String> cells = new TreeMap<>();
+            int columnIndex = -1;
+            while (sheetReader.hasNext()) {
+                int event = sheetReader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheetReader.getLocalName())) {
+                    String cellReference = sheetReader.getAttributeValue(null, "r");
+                    columnIndex = cellReference != null ? new CellReference(cellReference).getCol() : columnIndex + 1;
+                    cells.put(columnIndex, readCellValue());
+                } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheetReader.getLocalName())) {
+                    break;
+                }
+            }
+            return cells;
+        }
+
+        protected String readCellValue() throws XMLStreamException {
+            String cellType = sheetReader.getAttributeValue(null, "t");
+            String styleIndex = sheetReader.getAttributeValue(null, "s");
+
+            String value = null;
+            StringBuilder inlineString = null;
+            while (sheetReader.hasNext()) {
+                int event = sheetReader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = sheetReader.getLocalName();
+                    if ("v".equals(name)) {
+                        value = sheetReader.getElementText();
+                    } else if ("t".equals(name) && "inlineStr".equals(cellType)) {
+                        if (inlineString == null) {
+                            inlineString = new StringBuilder();
+                        }
+                        inlineString.append(sheetReader.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheetReader.getLocalName())) {
+                    break;
+                }
+            }
+
+            if (inlineString != null) {
+                return inlineString.toString();
+            }
+            return value == null ? "" : formatCellValue(cellType, styleIndex, value);
+        }
+
+        protected String formatCellValue(@Nullable String cellType, @Nullable String styleIndex, String value) {
+            if (cellType == null || "n".equals(cellType)) {
+                return formatNumericValue(styleIndex, value);
+            }
+            switch (cellType) {
+                case "b":
+                    return "0".equals(value) ? "FALSE" : "TRUE";
+                case "s":
+                    return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+                default:
+                    return value;
+            }
+        }
+
+        protected String formatNumericValue(@Nullable String styleIndex, String value) {
+            XSSFCellStyle style = null;
+            if (styleIndex != null) {
+                style = stylesTable.getStyleAt(Integer.parseInt(styleIndex));
+            } else if (stylesTable.getNumCellStyles() > 0) {
+                style = stylesTable.getStyleAt(0);
+            }
+
+            int formatIndex = 0;
+            String formatString = null;
+            if (style != null) {
+                formatIndex = style.getDataFormat();
+                formatString = style.getDataFormatString();
+                if (formatString == null) {
+                    formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+                }
+            }
+            if (formatString == null) {
+                formatString = "General";
+            }
+            return dataFormatter.formatRawCellContents(Double.parseDouble(value), formatIndex, formatString);
+        }
+
+        @Override
+        protected void closeSource() {
+            if (sheetReader != null) {
+                try {
+                    sheetReader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+            IOUtils.closeQuietly(sheetInputStream);
+            if (opcPackage != null) {
+                opcPackage.revert();
+            }
+            FileUtils.deleteQuietly(file);
+        }
+    }
 }
@@ -16,20 +16,23 @@
 
 package io.jmix.dataimport.extractor.data.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.extractor.data.*;
+import org.apache.commons.io.IOUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
 @Component("datimp_JsonDataExtractor")
@@ -37,67 +40,32 @@ public class JsonDataExtractor implements ImportedDataExtractor {
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, InputStream inputStream) {
-        ObjectMapper mapper = new ObjectMapper();
-        try {
-            JsonNode rootNode = mapper.readTree(inputStream);
-            return getImportedData(rootNode);
-        } catch (JsonProcessingException e) {
-            throw new ImportException(e, "Error while parsing JSON: " + e.getMessage());
-        } catch (IOException e) {
-            throw new ImportException(e, "I/O error: " + e.getMessage());
+        try (ImportedDataIterator iterator = iterate(importConfiguration, inputStream)) {
+            return iterator.toImportedData();
         }
     }
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData) {
-        ObjectMapper mapper = new ObjectMapper();
-        try {
-            JsonNode rootNode = mapper.readTree(inputData);
-            return getImportedData(rootNode);
-        } catch (JsonProcessingException e) {
-            throw new ImportException(e, "Error while parsing JSON: " + e.getMessage());
-        } catch (IOException e) {
-            throw new ImportException(e, "I/O error: " + e.getMessage());
-        }
+        return extract(importConfiguration, new ByteArrayInputStream(inputData));
     }
 
+    /**
+     * Reads elements of the root JSON array one by one. If the root node is a JSON object, it is considered as one item.
+     */
     @Override
-    public String getSupportedDataFormat() {
-        return InputDataFormat.JSON;
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, InputStream inputStream) {
+        return new JsonDataIterator(inputStream);
     }
 
-    protected ImportedData getImportedData(JsonNode rootNode) {
-        ImportedData importedData = new ImportedData();
-        if (rootNode.isArray()) {
-            Iterator<JsonNode> iterator = rootNode.elements();
-            int itemIndex = 1;
-            List<String> dataFieldNames = new ArrayList<>();
-
-            while (iterator.hasNext()) {
-                JsonNode entityJsonNode = iterator.next();
-                ImportedDataItem importedDataItem = createImportedDataItem(entityJsonNode, itemIndex);
-                importedData.addItem(importedDataItem);
-                itemIndex++;
-
-                Iterator<String> dataFieldNamesIterator = entityJsonNode.fieldNames();
-                while (dataFieldNamesIterator.hasNext()) {
-                    String dataFieldName = dataFieldNamesIterator.next();
-                    if (!dataFieldNames.contains(dataFieldName)) {
-                        dataFieldNames.add(dataFieldName);
-                    }
-                }
-            }
-            importedData.setDataFieldNames(dataFieldNames);
-        } else if (rootNode.isObject()) {
-            Iterator<String> dataFieldNamesIterator = rootNode.fieldNames();
-            while (dataFieldNamesIterator.hasNext()) {
-                importedData.addDataFieldName(dataFieldNamesIterator.next());
-            }
-            ImportedDataItem importedDataItem = createImportedDataItem(rootNode, 1);
-            importedData.addItem(importedDataItem);
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, byte[] inputData) {
+        return iterate(importConfiguration, new ByteArrayInputStream(inputData));
+    }
 
-        }
-        return importedData;
+    @Override
+    public String getSupportedDataFormat() {
+        return InputDataFormat.JSON;
     }
 
     protected ImportedDataItem createImportedDataItem(JsonNode jsonNode, int itemIndex) {
@@ -148,5 +116,58 @@ public class JsonDataExtractor implements ImportedDataExtractor {
         return listObject;
     }
 
+    protected ImportException createImportException(IOException e) {
+        return e instanceof JsonProcessingException
+                ? new ImportException(e, "Error while parsing JSON: " + e.getMessage())
+                : new ImportException(e, "I/O error: " + e.getMessage());
+    }
+
+    protected class JsonDataIterator extends AbstractImportedDataIterator {
+
+        protected ObjectMapper mapper = new ObjectMapper();
+        protected JsonParser parser;
+        protected boolean arrayRoot;
+        protected int itemIndex = 0;
+
+        public JsonDataIterator(InputStream inputStream) {
+            try {
+                this.parser = mapper.getFactory().createParser(inputStream);
+                JsonToken rootToken = parser.nextToken();
+                this.arrayRoot = rootToken == JsonToken.START_ARRAY;
+                if (!arrayRoot && rootToken != JsonToken.START_OBJECT) {
+                    close();
+                }
+            } catch (IOException e) {
+                close();
+                throw createImportException(e);
+            }
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNext() {
+            try {
+                if (arrayRoot) {
+                    JsonToken token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        return null;
+                    }
+                } else if (itemIndex > 0) {
+                    return null;
+                }
 
+                JsonNode entityJsonNode = mapper.readTree(parser);
+                entityJsonNode.fieldNames().forEachRemaining(this::addDataFieldName);
+                return createImportedDataItem(entityJsonNode, ++itemIndex);
+            } catch (IOException e) {
+                close();
+                throw createImportException(e);
+            }
+        }
+
+        @Override
+        protected void closeSource() {
+            IOUtils.closeQuietly(parser);
+        }
+    }
 }
@@ -16,37 +16,58 @@
 
 package io.jmix.dataimport.extractor.data.impl;
 
-import io.jmix.core.common.util.Dom4j;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
+import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.extractor.data.*;
-import org.apache.commons.collections4.CollectionUtils;
-import org.dom4j.Document;
+import org.apache.commons.io.IOUtils;
+import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
-import org.dom4j.Node;
+import org.dom4j.io.STAXEventReader;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component("datimp_XmlDataExtractor")
 public class XmlDataExtractor implements ImportedDataExtractor {
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, InputStream inputStream) {
-        Document document = Dom4j.readDocument(inputStream);
-        return getImportedData(document);
+        try (ImportedDataIterator iterator = iterate(importConfiguration, inputStream)) {
+            return iterator.toImportedData();
+        }
     }
 
     @Override
     public ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData) {
-        Document document = Dom4j.readDocument(new ByteArrayInputStream(inputData));
-        return getImportedData(document);
+        return extract(importConfiguration, new ByteArrayInputStream(inputData));
+    }
+
+    /**
+     * Reads child elements of the root element one by one. If the first child element of the root element
+     * has no child elements, the root element is considered as one item.
+     */
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, InputStream inputStream) {
+        return new XmlDataIterator(inputStream);
+    }
+
+    @Override
+    public ImportedDataIterator iterate(ImportConfiguration importConfiguration, byte[] inputData) {
+        return iterate(importConfiguration, new ByteArrayInputStream(inputData));
     }
 
     @Override
@@ -54,38 +75,12 @@ public class XmlDataExtractor implements ImportedDataExtractor {
         return InputDataFormat.XML;
     }
 
-    protected ImportedData getImportedData(Document document) {
-        Element rootElement = document.getRootElement();
-        boolean containsSimpleValues = containsSimpleValues(rootElement);
-        ImportedData importedData = new ImportedData();
-        if (!containsSimpleValues) {
-            List<Element> elements = rootElement.elements();
-            if (CollectionUtils.isNotEmpty(elements)) {
-                int itemIndex = 1;
-                List<String> dataFieldNames = new ArrayList<>();
-                for (Element element : elements) {
-                    ImportedDataItem importedDataItem = createImportedDataItem(element, itemIndex);
-                    importedData.addItem(importedDataItem);
-                    itemIndex++;
-
-                    element.elements().forEach(child -> {
-                        String name = child.getName();
-                        if (!dataFieldNames.contains(name)) {
-                            dataFieldNames.add(name);
-                        }
-                    });
-                }
-                importedData.setDataFieldNames(dataFieldNames);
-            }
-        } else {
-            ImportedDataItem importedDataItem = createImportedDataItem(rootElement, 1);
-            importedData.addItem(importedDataItem);
-            importedData.setDataFieldNames(rootElement.elements()
-                    .stream().map(Node::getName)
-                    .distinct()
-                    .collect(Collectors.toList()));
-        }
-        return importedData;
+    protected XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return xmlInputFactory;
     }
 
     protected ImportedDataItem createImportedDataItem(Element parentElement, int itemIndex) {
@@ -146,4 +141,106 @@ public class XmlDataExtractor implements ImportedDataExtractor {
         });
         return elementMap;
     }
+
+    protected class XmlDataIterator extends AbstractImportedDataIterator {
+
+        protected Reader reader;
+        protected XMLEventReader eventReader;
+        protected STAXEventReader staxEventReader = new STAXEventReader();
+
+        protected Element pendingElement;
+        protected Element rootElement;
+        protected int itemIndex = 0;
+
+        public XmlDataIterator(InputStream inputStream) {
+            this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+            try {
+                this.eventReader = createXmlInputFactory().createXMLEventReader(reader);
+                XMLEvent rootEvent = nextStartElement();
+                if (rootEvent == null) {
+                    return;
+                }
+                eventReader.nextEvent();
+
+                Element firstElement = readChildElement();
+                if (firstElement != null && firstElement.isTextOnly()) {
+                    rootElement = DocumentHelper.createElement(rootEvent.asStartElement().getName().getLocalPart());
+                    for (Element element = firstElement; element != null; element = readChildElement()) {
+                        rootElement.add(element);
+                    }
+                } else {
+                    pendingElement = firstElement;
+                }
+            } catch (XMLStreamException e) {
+                close();
+                throw new ImportException(e, "Error while parsing XML: " + e.getMessage());
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Nullable
+        @Override
+        protected ImportedDataItem readNext() {
+            if (rootElement != null) {
+                if (itemIndex > 0) {
+                    return null;
+                }
+                rootElement.elements().forEach(element -> addDataFieldName(element.getName()));
+                return createImportedDataItem(rootElement, ++itemIndex);
+            }
+
+            Element element = pendingElement;
+            pendingElement = null;
+            try {
+                if (element == null && itemIndex > 0) {
+                    element = readChildElement();
+                }
+            } catch (XMLStreamException e) {
+                close();
+                throw new ImportException(e, "Error while parsing XML: " + e.getMessage());
+            }
+            if (element == null) {
+                return null;
+            }
+
+            element.elements().forEach(child -> addDataFieldName(child.getName()));
+            return createImportedDataItem(element, ++itemIndex);
+        }
+
+        @Nullable
+        protected XMLEvent nextStartElement() throws XMLStreamException {
+            while (eventReader.hasNext()) {
+                XMLEvent event = eventReader.peek();
+                if (event.isStartElement()) {
+                    return event;
+                }
+                if (event.isEndElement()) {
+                    return null;
+                }
+                eventReader.nextEvent();
+            }
+            return null;
+        }
+
+        @Nullable
+        protected Element readChildElement() throws XMLStreamException {
+            return nextStartElement() != null
+                    ? staxEventReader.readElement(eventReader)
+                    : null;
+        }
+
+        @Override
+        protected void closeSource() {
+            if (eventReader != null) {
+                try {
+                    eventReader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+            IOUtils.closeQuietly(reader);
+        }
+    }
 }
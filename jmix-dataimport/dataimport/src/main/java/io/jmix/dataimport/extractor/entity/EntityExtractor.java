@@ -19,7 +19,9 @@ package io.jmix.dataimport.extractor.entity;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.property.populator.ReferenceValuesCache;
 
+import org.springframework.lang.Nullable;
 import java.util.List;
 
 /**
@@ -53,4 +55,32 @@ public interface EntityExtractor {
      * @return extraction results for each extracted entity
      */
     List<EntityExtractionResult> extractEntities(ImportConfiguration importConfiguration, List<ImportedDataItem> importedDataItems);
+
+    /**
+     * Creates an entity using {@link ImportConfiguration#entityClass} and populates the properties for which mappings are set in import configuration.
+     * Existing references are searched in the specified cache first.
+     *
+     * @param importConfiguration  import configuration
+     * @param dataItem             source of raw values for the entity
+     * @param referenceValuesCache cache of the references loaded during the import
+     * @return extraction result with entity which properties are populated by values
+     */
+    default EntityExtractionResult extractEntity(ImportConfiguration importConfiguration, ImportedDataItem dataItem,
+                                                 @Nullable ReferenceValuesCache referenceValuesCache) {
+        return extractEntity(importConfiguration, dataItem);
+    }
+
+    /**
+     * Creates an entity for each {@link ImportedDataItem} from the specified list.
+     * Existing references for all data items are loaded in bulk and put to the specified cache.
+     *
+     * @param importConfiguration  import configuration
+     * @param importedDataItems    imported data items
+     * @param referenceValuesCache cache of the references loaded during the import
+     * @return extraction results for each extracted entity
+     */
+    default List<EntityExtractionResult> extractEntities(ImportConfiguration importConfiguration, List<ImportedDataItem> importedDataItems,
+                                                         @Nullable ReferenceValuesCache referenceValuesCache) {
+        return extractEntities(importConfiguration, importedDataItems);
+    }
 }
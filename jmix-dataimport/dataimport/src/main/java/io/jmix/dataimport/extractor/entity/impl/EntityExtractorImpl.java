@@ -25,9 +25,11 @@ import io.jmix.dataimport.extractor.entity.EntityExtractionResult;
 import io.jmix.dataimport.extractor.entity.EntityExtractor;
 import io.jmix.dataimport.property.populator.EntityInfo;
 import io.jmix.dataimport.property.populator.EntityPropertiesPopulator;
+import io.jmix.dataimport.property.populator.ReferenceValuesCache;
 import io.jmix.dataimport.property.populator.impl.CreatedReference;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -41,8 +43,17 @@ public class EntityExtractorImpl implements EntityExtractor {
 
     @Override
     public EntityExtractionResult extractEntity(ImportConfiguration importConfiguration, ImportedDataItem dataItem) {
+        return extractEntity(importConfiguration, dataItem, null);
+    }
+
+    @Override
+    public EntityExtractionResult extractEntity(ImportConfiguration importConfiguration, ImportedDataItem dataItem,
+                                                @Nullable ReferenceValuesCache referenceValuesCache) {
+        if (referenceValuesCache != null) {
+            referenceValuesCache.clearMissing();
+        }
         Object entity = metadata.create(importConfiguration.getEntityClass());
-        EntityInfo entityInfo = entityPropertiesPopulator.populateProperties(entity, importConfiguration, dataItem);
+        EntityInfo entityInfo = entityPropertiesPopulator.populateProperties(entity, importConfiguration, dataItem, null, referenceValuesCache);
         return new EntityExtractionResult(entityInfo.getEntity(), dataItem);
     }
 
@@ -53,11 +64,23 @@ public class EntityExtractorImpl implements EntityExtractor {
 
     @Override
     public List<EntityExtractionResult> extractEntities(ImportConfiguration importConfiguration, List<ImportedDataItem> importedDataItems) {
+        return extractEntities(importConfiguration, importedDataItems, null);
+    }
+
+    @Override
+    public List<EntityExtractionResult> extractEntities(ImportConfiguration importConfiguration, List<ImportedDataItem> importedDataItems,
+                                                        @Nullable ReferenceValuesCache referenceValuesCache) {
+        if (referenceValuesCache != null) {
+            // references missing before might be created by the previously imported entities
+            referenceValuesCache.clearMissing();
+            entityPropertiesPopulator.loadReferences(importConfiguration, importedDataItems, referenceValuesCache);
+        }
         List<EntityExtractionResult> entityExtractionResults = new ArrayList<>();
         Map<PropertyMapping, List<Object>> createdReferences = new HashMap<>();
         importedDataItems.forEach(importedDataItem -> {
             Object entityToPopulate = metadata.create(importConfiguration.getEntityClass());
-            EntityInfo entityInfo = entityPropertiesPopulator.populateProperties(entityToPopulate, importConfiguration, importedDataItem, createdReferences);
+            EntityInfo entityInfo = entityPropertiesPopulator.populateProperties(entityToPopulate, importConfiguration, importedDataItem,
+                    createdReferences, referenceValuesCache);
             entityExtractionResults.add(new EntityExtractionResult(entityInfo.getEntity(), importedDataItem));
             fillCreatedReferences(entityInfo, createdReferences);
         });
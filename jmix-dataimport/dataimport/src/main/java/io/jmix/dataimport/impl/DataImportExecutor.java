@@ -34,10 +34,12 @@ import io.jmix.dataimport.configuration.mapping.SimplePropertyMapping;
 import io.jmix.dataimport.exception.ImportUniqueAbortException;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
 import io.jmix.dataimport.extractor.entity.EntityExtractionResult;
 import io.jmix.dataimport.extractor.entity.EntityExtractor;
 import io.jmix.dataimport.property.populator.EntityInfo;
 import io.jmix.dataimport.property.populator.EntityPropertiesPopulator;
+import io.jmix.dataimport.property.populator.ReferenceValuesCache;
 import io.jmix.dataimport.result.EntityImportError;
 import io.jmix.dataimport.result.EntityImportErrorType;
 import io.jmix.dataimport.result.ImportResult;
@@ -51,14 +53,14 @@ import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import jakarta.persistence.PersistenceException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 /**
- * Executes import for a given import configuration and {@link ImportedData}.
+ * Executes import for a given import configuration and {@link ImportedData} or {@link ImportedDataIterator}.
+ * Items are read from the iterator lazily, so only the current batch is kept in memory
+ * if {@link ImportTransactionStrategy#TRANSACTION_PER_BATCH} is used.
  */
 @Component("datimp_DataImportExecutor")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -88,10 +90,21 @@ public class DataImportExecutor {
 
     protected ImportConfiguration importConfiguration;
     protected ImportedData importedData;
+    protected ImportedDataIterator importedDataIterator;
+
+    protected int processedItemsCount;
+    protected Set<Object> importedEntityIds = new HashSet<>();
+    protected ReferenceValuesCache referenceValuesCache = new ReferenceValuesCache();
 
     public DataImportExecutor(ImportConfiguration importConfiguration, ImportedData importedData) {
         this.importConfiguration = importConfiguration;
         this.importedData = importedData;
+        this.importedDataIterator = ImportedDataIterator.of(importedData);
+    }
+
+    public DataImportExecutor(ImportConfiguration importConfiguration, ImportedDataIterator importedDataIterator) {
+        this.importConfiguration = importConfiguration;
+        this.importedDataIterator = importedDataIterator;
     }
 
     public ImportResult importData() {
@@ -99,12 +112,16 @@ public class DataImportExecutor {
             throw new IllegalStateException("Import configuration is not set to execute data import");
         }
 
-        if (importConfiguration.getTransactionStrategy() == ImportTransactionStrategy.SINGLE_TRANSACTION) {
-            importInOneTransaction();
-        } else if (importConfiguration.getTransactionStrategy() == ImportTransactionStrategy.TRANSACTION_PER_BATCH) {
-            importByBatches();
-        } else {
-            importInMultipleTransactions();
+        try {
+            if (importConfiguration.getTransactionStrategy() == ImportTransactionStrategy.SINGLE_TRANSACTION) {
+                importInOneTransaction();
+            } else if (importConfiguration.getTransactionStrategy() == ImportTransactionStrategy.TRANSACTION_PER_BATCH) {
+                importByBatches();
+            } else {
+                importInMultipleTransactions();
+            }
+        } finally {
+            importedDataIterator.close();
         }
 
         return importResult;
@@ -112,9 +129,11 @@ public class DataImportExecutor {
 
     protected void importInOneTransaction() {
         try {
+            List<ImportedDataItem> importedDataItems = null;
             List<EntityExtractionResult> extractionResults = null;
             try {
-                extractionResults = entityExtractor.extractEntities(importConfiguration, importedData);
+                importedDataItems = readItems(Integer.MAX_VALUE);
+                extractionResults = entityExtractor.extractEntities(importConfiguration, importedDataItems, referenceValuesCache);
             } catch (Exception e) {
                 createErrorResult(e, "Entities extraction failed: " + e.getMessage());
             }
@@ -123,6 +142,7 @@ public class DataImportExecutor {
                 List<Object> entitiesToImport = checkExtractionResults(extractionResults);
                 List<Object> importedEntities = importEntities(entitiesToImport);
                 importResult.setImportedEntityIds(importedEntities);
+                onItemsProcessed(importedDataItems.size());
             }
         } catch (ImportUniqueAbortException e) {
             createErrorResult(e, String.format("Unique violation occurred with Unique Policy ABORT for entity: '%s' with data item: '%s'. Found entity: '%s'",
@@ -134,12 +154,19 @@ public class DataImportExecutor {
     }
 
     protected void importByBatches() {
-        int offset = 0;
         int batchSize = importConfiguration.getImportBatchSize();
-        List<ImportedDataItem> allItems = importedData.getItems();
         while (true) {
-            int end = offset + batchSize;
-            List<ImportedDataItem> importedDataItemsBatch = allItems.subList(offset, Math.min(end, allItems.size()));
+            List<ImportedDataItem> importedDataItemsBatch;
+            try {
+                importedDataItemsBatch = readItems(batchSize);
+            } catch (Exception e) {
+                createErrorResult(e, "Unable to read the input data: " + e.getMessage());
+                break;
+            }
+            if (importedDataItemsBatch.isEmpty()) {
+                break;
+            }
+
             try {
                 processBatch(importedDataItemsBatch);
             } catch (ImportUniqueAbortException e) {
@@ -148,11 +175,40 @@ public class DataImportExecutor {
                         e.getExistingEntity()));
                 break;
             }
-            if (end >= allItems.size()) {
-                break;
-            } else {
-                offset += batchSize;
-            }
+            onItemsProcessed(importedDataItemsBatch.size());
+        }
+    }
+
+    /**
+     * Reads the next items from the input data.
+     *
+     * @param maxCount maximum number of items to read
+     * @return read items or empty list if there are no more items
+     */
+    protected List<ImportedDataItem> readItems(int maxCount) {
+        List<ImportedDataItem> items = new ArrayList<>();
+        while (items.size() < maxCount && importedDataIterator.hasNext()) {
+            items.add(importedDataIterator.next());
+        }
+        return items;
+    }
+
+    /**
+     * Notifies {@link ImportConfiguration#getImportProgressListener()} about processed data items.
+     *
+     * @param count number of the data items processed since the previous notification
+     */
+    protected void onItemsProcessed(int count) {
+        processedItemsCount += count;
+        IntConsumer importProgressListener = importConfiguration.getImportProgressListener();
+        if (importProgressListener != null) {
+            importProgressListener.accept(processedItemsCount);
+        }
+    }
+
+    protected void addImportedEntityId(Object importedEntityId) {
+        if (importedEntityIds.add(importedEntityId)) {
+            importResult.addImportedEntityId(importedEntityId);
         }
     }
 
@@ -160,7 +216,7 @@ public class DataImportExecutor {
         List<EntityExtractionResult> extractionResults = null;
         try {
             try {
-                extractionResults = entityExtractor.extractEntities(importConfiguration, importedDataItemsBatch);
+                extractionResults = entityExtractor.extractEntities(importConfiguration, importedDataItemsBatch, referenceValuesCache);
             } catch (Exception e) {
                 importResult.setSuccess(false);
                 importedDataItemsBatch.forEach(dataItem -> importResult.addFailedEntity(new EntityImportError()
@@ -172,9 +228,7 @@ public class DataImportExecutor {
             if (extractionResults != null) {
                 List<Object> entitiesToImport = checkExtractionResults(extractionResults);
                 Collection<Object> importedEntities = importEntities(entitiesToImport);
-                importedEntities.stream()
-                        .filter(importedEntityId -> !importResult.getImportedEntityIds().contains(importedEntityId))
-                        .forEach(importedEntityId -> importResult.addImportedEntityId(importedEntityId));
+                importedEntities.forEach(this::addImportedEntityId);
             }
         } catch (ImportUniqueAbortException e) {
             throw e;
@@ -194,10 +248,21 @@ public class DataImportExecutor {
     protected void importInMultipleTransactions() {
         try {
             importResult.setSuccess(true);
-            importedData.getItems().forEach(dataItem -> {
+            while (true) {
+                ImportedDataItem dataItem;
+                try {
+                    if (!importedDataIterator.hasNext()) {
+                        break;
+                    }
+                    dataItem = importedDataIterator.next();
+                } catch (Exception e) {
+                    createErrorResult(e, "Unable to read the input data: " + e.getMessage());
+                    break;
+                }
+
                 EntityExtractionResult extractionResult = null;
                 try {
-                    extractionResult = entityExtractor.extractEntity(importConfiguration, dataItem);
+                    extractionResult = entityExtractor.extractEntity(importConfiguration, dataItem, referenceValuesCache);
                 } catch (Exception e) {
                     log.error(String.format("Entity extraction failed for data item: %s", dataItem.toString()), e);
                     importResult.setSuccess(false);
@@ -212,7 +277,8 @@ public class DataImportExecutor {
                         importEntity(extractionResult);
                     }
                 }
-            });
+                onItemsProcessed(1);
+            }
         } catch (ImportUniqueAbortException e) {
             String errorMessage = String.format("Unique violation occurred with Unique Policy ABORT for data row: %s. Found entity: %s",
                     e.getImportedDataItem(),
@@ -222,9 +288,10 @@ public class DataImportExecutor {
     }
 
     protected List<Object> checkExtractionResults(List<EntityExtractionResult> extractionResults) {
-        List<EntityExtractionResult> processedResults = new ArrayList<>(); //to search duplicates
+        Map<UniqueEntityConfiguration, Map<PropertyValuesKey, Object>> existingEntities = loadDuplicateEntities(extractionResults);
+        Map<UniqueEntityConfiguration, Map<PropertyValuesKey, EntityExtractionResult>> processedResults = new HashMap<>(); //to search duplicates
         return extractionResults.stream()
-                .filter(extractionResult -> checkEntityDuplicate(extractionResult, processedResults))
+                .filter(extractionResult -> checkEntityDuplicate(extractionResult, existingEntities, processedResults))
                 .filter(this::checkPreImportPredicate)
                 .map(EntityExtractionResult::getEntity)
                 .distinct()
@@ -274,21 +341,110 @@ public class DataImportExecutor {
         }
     }
 
-    protected boolean checkEntityDuplicate(EntityExtractionResult entityExtractionResult, List<EntityExtractionResult> processedResults) {
+    protected boolean checkEntityDuplicate(EntityExtractionResult entityExtractionResult,
+                                           Map<UniqueEntityConfiguration, Map<PropertyValuesKey, Object>> existingEntities,
+                                           Map<UniqueEntityConfiguration, Map<PropertyValuesKey, EntityExtractionResult>> processedResults) {
         boolean needToImport = true;
         if (CollectionUtils.isNotEmpty(importConfiguration.getUniqueEntityConfigurations())) {
             Object extractedEntity = entityExtractionResult.getEntity();
             for (UniqueEntityConfiguration configuration : importConfiguration.getUniqueEntityConfigurations()) {
-                Object existingEntity = getDuplicateEntity(extractedEntity, configuration, processedResults);
+                Object existingEntity = getDuplicateEntity(extractedEntity, configuration, existingEntities.get(configuration),
+                        processedResults.computeIfAbsent(configuration, key -> new HashMap<>()));
                 if (existingEntity != null) {
                     needToImport = processExistingEntity(entityExtractionResult, configuration, existingEntity);
                 }
             }
+            for (UniqueEntityConfiguration configuration : importConfiguration.getUniqueEntityConfigurations()) {
+                PropertyValuesKey key = PropertyValuesKey.of(entityExtractionResult.getEntity(), configuration.getEntityPropertyNames());
+                processedResults.get(configuration).putIfAbsent(key, entityExtractionResult);
+            }
         }
-        processedResults.add(entityExtractionResult);
         return needToImport;
     }
 
+    /**
+     * Loads in bulk the existing entities that are duplicates of the extracted entities by each unique entity configuration.
+     * For configurations with {@link DuplicateEntityPolicy#UPDATE} policy, duplicates are loaded with all the properties
+     * updated by import.
+     * Configurations for which the loaded entities cannot be matched with the extracted ones are not included to the result:
+     * duplicates for such configurations are loaded for each extracted entity separately.
+     *
+     * @param extractionResults extraction results
+     * @return loaded duplicates by unique property values for each unique entity configuration
+     */
+    protected Map<UniqueEntityConfiguration, Map<PropertyValuesKey, Object>> loadDuplicateEntities(List<EntityExtractionResult> extractionResults) {
+        Map<UniqueEntityConfiguration, Map<PropertyValuesKey, Object>> existingEntities = new HashMap<>();
+        if (CollectionUtils.isNotEmpty(importConfiguration.getUniqueEntityConfigurations())) {
+            for (UniqueEntityConfiguration configuration : importConfiguration.getUniqueEntityConfigurations()) {
+                Map<PropertyValuesKey, Object> duplicates = loadDuplicateEntities(extractionResults, configuration);
+                if (duplicates != null) {
+                    existingEntities.put(configuration, duplicates);
+                }
+            }
+        }
+        return existingEntities;
+    }
+
+    @Nullable
+    protected Map<PropertyValuesKey, Object> loadDuplicateEntities(List<EntityExtractionResult> extractionResults,
+                                                                   UniqueEntityConfiguration configuration) {
+        List<String> propertyNames = configuration.getEntityPropertyNames();
+        List<Map<String, Object>> propertyValues = extractionResults.stream()
+                .map(extractionResult -> getPropertyValues(extractionResult.getEntity(), propertyNames))
+                .collect(Collectors.toList());
+        FetchPlanBuilder fetchPlanBuilder = fetchPlans.builder(importConfiguration.getEntityClass())
+                .addFetchPlan(FetchPlan.BASE)
+                .addAll(propertyNames.toArray(new String[0]));
+        if (configuration.getDuplicateEntityPolicy() == DuplicateEntityPolicy.UPDATE) {
+            // fetch all the properties updated by import
+            extractionResults.forEach(extractionResult ->
+                    fetchPlanBuilder.merge(getFetchPlanBuilder(createEntityImportPlan(extractionResult.getEntity())).build()));
+        }
+        List<Object> loadedEntities = duplicateEntityManager.loadAll(importConfiguration.getEntityClass(), propertyValues,
+                fetchPlanBuilder.build());
+
+        Set<PropertyValuesKey> keys = propertyValues.stream()
+                .map(PropertyValuesKey::of)
+                .collect(Collectors.toSet());
+        Map<PropertyValuesKey, Object> duplicates = new HashMap<>();
+        for (Object loadedEntity : loadedEntities) {
+            PropertyValuesKey key = PropertyValuesKey.of(loadedEntity, propertyNames);
+            if (!keys.contains(key)) {
+                // the database compares values differently, e.g. ignoring case
+                return null;
+            }
+            duplicates.putIfAbsent(key, loadedEntity);
+        }
+        return duplicates;
+    }
+
+    protected Map<String, Object> getPropertyValues(Object entity, List<String> propertyNames) {
+        Map<String, Object> propertyValues = new HashMap<>();
+        propertyNames.forEach(propertyName -> propertyValues.put(propertyName, EntityValues.getValueEx(entity, propertyName)));
+        return propertyValues;
+    }
+
+    @Nullable
+    protected Object getDuplicateEntity(Object extractedEntity, UniqueEntityConfiguration configuration,
+                                        @Nullable Map<PropertyValuesKey, Object> existingEntities,
+                                        Map<PropertyValuesKey, EntityExtractionResult> processedResults) {
+        Map<String, Object> propertyValues = getPropertyValues(extractedEntity, configuration.getEntityPropertyNames());
+        PropertyValuesKey key = PropertyValuesKey.of(propertyValues);
+        Object existingEntity;
+        if (existingEntities == null || PropertyValuesKey.hasEmptyValues(propertyValues)) {
+            existingEntity = getDuplicateEntity(extractedEntity, configuration, null);
+        } else {
+            existingEntity = existingEntities.get(key);
+        }
+        if (existingEntity == null) {
+            EntityExtractionResult duplicateResult = processedResults.get(key);
+            if (duplicateResult != null) {
+                existingEntity = duplicateResult.getEntity();
+            }
+        }
+        return existingEntity;
+    }
+
     @Nullable
     protected Object getDuplicateEntity(Object extractedEntity, UniqueEntityConfiguration configuration, @Nullable List<EntityExtractionResult> processedResults) {
         FetchPlan fetchPlan = getFetchPlanBuilder(createEntityImportPlan(extractedEntity)).build();
@@ -328,10 +484,7 @@ public class DataImportExecutor {
     protected void importEntity(EntityExtractionResult entityExtractionResult) {
         try {
             Collection<Object> importedEntities = importEntities(Collections.singletonList(entityExtractionResult.getEntity()));
-            Object importedEntityId = importedEntities.iterator().next();
-            if (!importResult.getImportedEntityIds().contains(importedEntityId)) {
-                importResult.addImportedEntityId(importedEntityId);
-            }
+            addImportedEntityId(importedEntities.iterator().next());
         } catch (EntityValidationException e) {
             log.error(String.format("Import failed for entity: %s, data item: %s",
                     entityImportExport.exportEntitiesToJSON(Collections.singletonList(entityExtractionResult.getEntity())),
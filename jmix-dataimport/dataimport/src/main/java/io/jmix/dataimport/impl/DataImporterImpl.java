@@ -21,6 +21,7 @@ import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractors;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
 import io.jmix.dataimport.result.ImportResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,8 +46,8 @@ public class DataImporterImpl implements DataImporter {
         try {
             importConfigurationValidator.validate(configuration);
             ImportedDataExtractor dataExtractor = importedDataExtractors.getExtractor(configuration.getInputDataFormat());
-            ImportedData importedData = dataExtractor.extract(configuration, content);
-            return importData(configuration, importedData);
+            ImportedDataIterator importedDataIterator = dataExtractor.iterate(configuration, content);
+            return importData(configuration, importedDataIterator);
         } catch (Exception e) {
             log.error("Import failed: ", e);
             return new ImportResult()
@@ -61,8 +62,8 @@ public class DataImporterImpl implements DataImporter {
         try {
             importConfigurationValidator.validate(configuration);
             ImportedDataExtractor dataExtractor = importedDataExtractors.getExtractor(configuration.getInputDataFormat());
-            ImportedData importedData = dataExtractor.extract(configuration, inputStream);
-            return importData(configuration, importedData);
+            ImportedDataIterator importedDataIterator = dataExtractor.iterate(configuration, inputStream);
+            return importData(configuration, importedDataIterator);
         } catch (Exception e) {
             log.error("Import failed: ", e);
             return new ImportResult()
@@ -77,4 +78,10 @@ public class DataImporterImpl implements DataImporter {
         return dataImportExecutor.importData();
     }
 
+    @Override
+    public ImportResult importData(ImportConfiguration configuration, ImportedDataIterator importedDataIterator) {
+        DataImportExecutor dataImportExecutor = dataImportExecutors.getObject(configuration, importedDataIterator);
+        return dataImportExecutor.importData();
+    }
+
 }
@@ -19,20 +19,27 @@ package io.jmix.dataimport.impl;
 import io.jmix.core.DataManager;
 import io.jmix.core.FetchPlan;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.querycondition.Condition;
 import io.jmix.core.querycondition.LogicalCondition;
 import io.jmix.core.querycondition.PropertyCondition;
 import io.jmix.dataimport.DuplicateEntityManager;
 import io.jmix.dataimport.configuration.UniqueEntityConfiguration;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component("datimp_DuplicateEntityManager")
 public class DuplicateEntityManagerImpl implements DuplicateEntityManager {
+    /**
+     * Maximum number of property values used in a condition of one query in {@link #loadAll(Class, Collection, FetchPlan)}.
+     */
+    protected static final int LOAD_CHUNK_SIZE = 100;
+
     @Autowired
     protected DataManager dataManager;
 
@@ -108,4 +115,50 @@ public class DuplicateEntityManagerImpl implements DuplicateEntityManager {
         });
         return loadByCondition(entityClass, fetchPlan, condition);
     }
+
+    @Override
+    public List<Object> loadAll(Class entityClass, Collection<Map<String, Object>> propertyValues, @Nullable FetchPlan fetchPlan) {
+        List<Map<String, Object>> valuesToLoad = propertyValues.stream()
+                .filter(values -> !values.isEmpty() && !PropertyValuesKey.hasEmptyValues(values))
+                .distinct()
+                .collect(Collectors.toList());
+
+        List<Object> result = new ArrayList<>();
+        for (List<Map<String, Object>> chunk : ListUtils.partition(valuesToLoad, LOAD_CHUNK_SIZE)) {
+            List<Object> loadedEntities = dataManager.load(entityClass)
+                    .condition(createCondition(chunk))
+                    .fetchPlan(fetchPlan)
+                    .list();
+            result.addAll(loadedEntities);
+        }
+        return result;
+    }
+
+    protected Condition createCondition(List<Map<String, Object>> propertyValues) {
+        Set<String> propertyNames = propertyValues.get(0).keySet();
+        boolean singleProperty = propertyNames.size() == 1
+                && propertyValues.stream().allMatch(values -> values.keySet().equals(propertyNames)
+                && values.values().iterator().next() != null);
+        if (singleProperty) {
+            String propertyName = propertyNames.iterator().next();
+            List<Object> values = propertyValues.stream()
+                    .map(valuesMap -> valuesMap.get(propertyName))
+                    .collect(Collectors.toList());
+            return PropertyCondition.inList(propertyName, values);
+        }
+
+        LogicalCondition condition = LogicalCondition.or();
+        propertyValues.forEach(values -> {
+            LogicalCondition valuesCondition = LogicalCondition.and();
+            values.forEach((propertyName, propertyValue) -> {
+                if (propertyValue != null) {
+                    valuesCondition.add(PropertyCondition.equal(propertyName, propertyValue));
+                } else {
+                    valuesCondition.add(PropertyCondition.isSet(propertyName, false));
+                }
+            });
+            condition.add(valuesCondition);
+        });
+        return condition;
+    }
 }
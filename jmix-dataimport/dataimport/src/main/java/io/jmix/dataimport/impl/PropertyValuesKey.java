@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.impl;
+
+import io.jmix.core.entity.EntityValues;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Key built from the property values of an entity that can be used to match entities having the same values
+ * in hash-based collections. Entities are compared by their identifiers, numbers - ignoring the scale.
+ */
+public final class PropertyValuesKey {
+    private final Map<String, Object> values;
+
+    private PropertyValuesKey(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a key from the specified property values of an entity.
+     *
+     * @param entity        entity
+     * @param propertyNames names or paths of the entity properties
+     * @return created key
+     */
+    public static PropertyValuesKey of(Object entity, Collection<String> propertyNames) {
+        Map<String, Object> values = new HashMap<>();
+        for (String propertyName : propertyNames) {
+            values.put(propertyName, normalize(EntityValues.getValueEx(entity, propertyName)));
+        }
+        return new PropertyValuesKey(values);
+    }
+
+    /**
+     * Creates a key from the property values.
+     *
+     * @param propertyValues property values by property names
+     * @return created key
+     */
+    public static PropertyValuesKey of(Map<String, Object> propertyValues) {
+        Map<String, Object> values = new HashMap<>();
+        propertyValues.forEach((propertyName, value) -> values.put(propertyName, normalize(value)));
+        return new PropertyValuesKey(values);
+    }
+
+    /**
+     * Checks whether the specified property values contain an empty string or an empty collection.
+     * Such values are skipped in the conditions used to load entities, so entities with them cannot be loaded in bulk.
+     *
+     * @param propertyValues property values by property names
+     * @return true if at least one value is empty
+     */
+    public static boolean hasEmptyValues(Map<String, Object> propertyValues) {
+        return propertyValues.values().stream()
+                .anyMatch(value -> (value instanceof String && StringUtils.isEmpty((String) value))
+                        || (value instanceof Collection && ((Collection<?>) value).isEmpty()));
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros();
+        } else if (value instanceof Date) {
+            return new Date(((Date) value).getTime());
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return values.equals(((PropertyValuesKey) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
@@ -55,6 +55,36 @@ public interface EntityPropertiesPopulator {
     EntityInfo populateProperties(Object entity, ImportConfiguration importConfiguration, ImportedDataItem dataItem,
                                   @Nullable Map<PropertyMapping, List<Object>> createdReferences);
 
+    /**
+     * Populates the entity properties for which mappings are set in the import configuration by values.
+     * Existing references are searched in the specified cache first, loaded references are put to the cache.
+     *
+     * @param entity               entity which properties are populated by values
+     * @param importConfiguration  import configuration
+     * @param dataItem             source of raw values of properties
+     * @param createdReferences    map that contains already created reference entity by property mappings
+     * @param referenceValuesCache cache of the references loaded during the import
+     * @return object that contains entity populated by property values and info about created references
+     * @see #populateProperties(Object, ImportConfiguration, ImportedDataItem, Map)
+     */
+    default EntityInfo populateProperties(Object entity, ImportConfiguration importConfiguration, ImportedDataItem dataItem,
+                                          @Nullable Map<PropertyMapping, List<Object>> createdReferences,
+                                          @Nullable ReferenceValuesCache referenceValuesCache) {
+        return populateProperties(entity, importConfiguration, dataItem, createdReferences);
+    }
+
+    /**
+     * Loads in bulk the existing references required to populate the entities from the specified data items
+     * and puts them to the cache, so that the references are not loaded for each data item separately.
+     *
+     * @param importConfiguration  import configuration
+     * @param dataItems            sources of raw values of properties
+     * @param referenceValuesCache cache to put loaded references
+     */
+    default void loadReferences(ImportConfiguration importConfiguration, List<ImportedDataItem> dataItems,
+                                ReferenceValuesCache referenceValuesCache) {
+    }
+
     /**
      * Populates the reference entity properties for which mappings are set in the reference mapping by values.
      *
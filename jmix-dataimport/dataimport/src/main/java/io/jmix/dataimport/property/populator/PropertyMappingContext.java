@@ -32,6 +32,7 @@ public class PropertyMappingContext {
     protected RawValuesSource rawValuesSource;
     protected MetaClass ownerEntityMetaClass;
     protected PropertyMapping propertyMapping;
+    protected ReferenceValuesCache referenceValuesCache;
 
     public PropertyMappingContext(PropertyMapping propertyMapping) {
         this.propertyMapping = propertyMapping;
@@ -73,6 +74,16 @@ public class PropertyMappingContext {
         return propertyMapping;
     }
 
+    @Nullable
+    public ReferenceValuesCache getReferenceValuesCache() {
+        return referenceValuesCache;
+    }
+
+    public PropertyMappingContext setReferenceValuesCache(@Nullable ReferenceValuesCache referenceValuesCache) {
+        this.referenceValuesCache = referenceValuesCache;
+        return this;
+    }
+
     @Nullable
     public Object getRawValue() {
         if (propertyMapping.getDataFieldName() == null) {
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.property.populator;
+
+import io.jmix.dataimport.impl.PropertyValuesKey;
+
+import org.springframework.lang.Nullable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of the reference entities loaded by lookup property values during one import.
+ * When the cache is full, the least recently used references are evicted.
+ * <p>
+ * Besides found references, the cache stores the lookup values for which a reference is missing in the database.
+ * Such values become outdated when the references created by the import are stored, so they should be removed
+ * using {@link #clearMissing()} before the next portion of data items is processed.
+ */
+public class ReferenceValuesCache {
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    protected static final Object MISSING = new Object();
+
+    protected final Map<List<Object>, Object> references;
+
+    public ReferenceValuesCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ReferenceValuesCache(int maxSize) {
+        this.references = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Checks whether the result of the lookup by the specified property values is cached.
+     *
+     * @param entityClass    class of reference entity
+     * @param propertyValues lookup property values
+     * @return true if the reference or its absence is cached
+     */
+    public boolean contains(Class<?> entityClass, Map<String, Object> propertyValues) {
+        return references.containsKey(createKey(entityClass, propertyValues));
+    }
+
+    /**
+     * Returns the cached reference loaded by the specified property values.
+     *
+     * @param entityClass    class of reference entity
+     * @param propertyValues lookup property values
+     * @return cached reference or null if it is not cached or missing
+     */
+    @Nullable
+    public Object get(Class<?> entityClass, Map<String, Object> propertyValues) {
+        Object reference = references.get(createKey(entityClass, propertyValues));
+        return reference == MISSING ? null : reference;
+    }
+
+    /**
+     * Caches the reference loaded by the specified property values.
+     *
+     * @param entityClass    class of reference entity
+     * @param propertyValues lookup property values
+     * @param reference      loaded reference
+     */
+    public void put(Class<?> entityClass, Map<String, Object> propertyValues, Object reference) {
+        references.put(createKey(entityClass, propertyValues), reference);
+    }
+
+    /**
+     * Caches the absence of the reference with the specified property values.
+     *
+     * @param entityClass    class of reference entity
+     * @param propertyValues lookup property values
+     */
+    public void putMissing(Class<?> entityClass, Map<String, Object> propertyValues) {
+        references.put(createKey(entityClass, propertyValues), MISSING);
+    }
+
+    /**
+     * Removes cached absences of references.
+     */
+    public void clearMissing() {
+        references.values().removeIf(reference -> reference == MISSING);
+    }
+
+    protected List<Object> createKey(Class<?> entityClass, Map<String, Object> propertyValues) {
+        return Arrays.asList(entityClass, PropertyValuesKey.of(propertyValues));
+    }
+}
@@ -24,6 +24,7 @@ import io.jmix.dataimport.extractor.data.ImportedDataItem;
 import io.jmix.dataimport.extractor.data.RawValuesSource;
 import io.jmix.dataimport.property.populator.EntityInfo;
 import io.jmix.dataimport.property.populator.EntityPropertiesPopulator;
+import io.jmix.dataimport.property.populator.ReferenceValuesCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
@@ -51,19 +52,42 @@ public class EntityPropertiesPopulatorImpl implements EntityPropertiesPopulator
                                          ImportConfiguration importConfiguration,
                                          ImportedDataItem dataItem,
                                          @Nullable Map<PropertyMapping, List<Object>> createdReferences) {
+        return populateProperties(entity, importConfiguration, dataItem, createdReferences, null);
+    }
+
+    @Override
+    public EntityInfo populateProperties(Object entity,
+                                         ImportConfiguration importConfiguration,
+                                         ImportedDataItem dataItem,
+                                         @Nullable Map<PropertyMapping, List<Object>> createdReferences,
+                                         @Nullable ReferenceValuesCache referenceValuesCache) {
         importConfiguration.getPropertyMappings()
-                .forEach(propertyMapping -> populateProperty(entity, propertyMapping, importConfiguration, dataItem, createdReferences));
+                .forEach(propertyMapping -> populateProperty(entity, propertyMapping, importConfiguration, dataItem, createdReferences, referenceValuesCache));
         return new EntityInfo(entity)
                 .setCreatedReferences(getCreatedReferences(entity, importConfiguration));
     }
 
+    @Override
+    public void loadReferences(ImportConfiguration importConfiguration, List<ImportedDataItem> dataItems,
+                               ReferenceValuesCache referenceValuesCache) {
+        propertyValueProvider.loadReferences(importConfiguration, dataItems, referenceValuesCache);
+    }
+
     protected void populateProperty(Object entity, PropertyMapping propertyMapping,
                                     ImportConfiguration importConfiguration,
                                     RawValuesSource rawValuesSource,
                                     @Nullable Map<PropertyMapping, List<Object>> createdReferences) {
+        populateProperty(entity, propertyMapping, importConfiguration, rawValuesSource, createdReferences, null);
+    }
+
+    protected void populateProperty(Object entity, PropertyMapping propertyMapping,
+                                    ImportConfiguration importConfiguration,
+                                    RawValuesSource rawValuesSource,
+                                    @Nullable Map<PropertyMapping, List<Object>> createdReferences,
+                                    @Nullable ReferenceValuesCache referenceValuesCache) {
         Object value = null;
         if (propertyMapping instanceof ReferencePropertyMapping || propertyMapping instanceof ReferenceMultiFieldPropertyMapping) {
-            value = propertyValueProvider.getReferenceValue(propertyMapping, importConfiguration, rawValuesSource, entity, createdReferences);
+            value = propertyValueProvider.getReferenceValue(propertyMapping, importConfiguration, rawValuesSource, entity, createdReferences, referenceValuesCache);
         } else if (propertyMapping instanceof SimplePropertyMapping) {
             value = propertyValueProvider.getSimpleValue((SimplePropertyMapping) propertyMapping, importConfiguration, rawValuesSource, entity);
         } else if (propertyMapping instanceof CustomPropertyMapping) {
@@ -17,14 +17,17 @@
 package io.jmix.dataimport.property.populator.impl;
 
 import io.jmix.core.Metadata;
+import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.configuration.mapping.*;
 import io.jmix.dataimport.extractor.data.RawValuesSource;
 import io.jmix.dataimport.property.populator.PropertyMappingContext;
+import io.jmix.dataimport.property.populator.ReferenceValuesCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -65,23 +68,66 @@ public class PropertyValueProvider {
                                     RawValuesSource rawValuesSource,
                                     Object propertyOwnerEntity,
                                     @Nullable Map<PropertyMapping, List<Object>> createdReferences) {
+        return getReferenceValue(propertyMapping, importConfiguration, rawValuesSource, propertyOwnerEntity, createdReferences, null);
+    }
+
+    @Nullable
+    public Object getReferenceValue(PropertyMapping propertyMapping,
+                                    ImportConfiguration importConfiguration,
+                                    RawValuesSource rawValuesSource,
+                                    Object propertyOwnerEntity,
+                                    @Nullable Map<PropertyMapping, List<Object>> createdReferences,
+                                    @Nullable ReferenceValuesCache referenceValuesCache) {
 
         if (propertyMapping instanceof ReferenceMultiFieldPropertyMapping) {
-            return processMultiFieldMapping(propertyOwnerEntity, importConfiguration, propertyMapping, rawValuesSource, createdReferences);
+            return processMultiFieldMapping(propertyOwnerEntity, importConfiguration, propertyMapping, rawValuesSource, createdReferences, referenceValuesCache);
         } else if (propertyMapping instanceof ReferencePropertyMapping) {
-            PropertyMappingContext propertyMappingContext = createContext(propertyOwnerEntity, importConfiguration, propertyMapping, rawValuesSource);
+            PropertyMappingContext propertyMappingContext = createContext(propertyOwnerEntity, importConfiguration, propertyMapping, rawValuesSource)
+                    .setReferenceValuesCache(referenceValuesCache);
             return referenceValueProvider.getSingleEntity(propertyMappingContext, getCreatedReferences(propertyMapping, createdReferences));
         }
         return null;
     }
 
+    /**
+     * Loads in bulk the existing references for the reference property mappings from the import configuration
+     * and puts them to the specified cache.
+     *
+     * @param importConfiguration  import configuration
+     * @param rawValuesSources     sources of raw values for the imported entities
+     * @param referenceValuesCache cache to put loaded references
+     */
+    public void loadReferences(ImportConfiguration importConfiguration,
+                               List<? extends RawValuesSource> rawValuesSources,
+                               ReferenceValuesCache referenceValuesCache) {
+        MetaClass entityMetaClass = metadata.getClass(importConfiguration.getEntityClass());
+        importConfiguration.getPropertyMappings().stream()
+                .filter(propertyMapping -> propertyMapping instanceof ReferencePropertyMapping
+                        || propertyMapping instanceof ReferenceMultiFieldPropertyMapping)
+                .forEach(propertyMapping -> {
+                    List<PropertyMappingContext> contexts = new ArrayList<>();
+                    for (RawValuesSource rawValuesSource : rawValuesSources) {
+                        RawValuesSource propertyRawValuesSource = propertyMapping instanceof ReferenceMultiFieldPropertyMapping
+                                ? getRawValueSource(rawValuesSource, propertyMapping)
+                                : rawValuesSource;
+                        contexts.add(new PropertyMappingContext(propertyMapping)
+                                .setImportConfiguration(importConfiguration)
+                                .setRawValuesSource(propertyRawValuesSource)
+                                .setOwnerEntityMetaClass(entityMetaClass));
+                    }
+                    referenceValueProvider.loadReferences(contexts, referenceValuesCache);
+                });
+    }
+
     @Nullable
     protected Object processMultiFieldMapping(Object propertyOwnerEntity,
                                               ImportConfiguration importConfiguration,
                                               PropertyMapping propertyMapping,
                                               RawValuesSource rawValuesSource,
-                                              @Nullable Map<PropertyMapping, List<Object>> createdReferences) {
-        PropertyMappingContext propertyMappingContext = createContext(propertyOwnerEntity, importConfiguration, propertyMapping, getRawValueSource(rawValuesSource, propertyMapping));
+                                              @Nullable Map<PropertyMapping, List<Object>> createdReferences,
+                                              @Nullable ReferenceValuesCache referenceValuesCache) {
+        PropertyMappingContext propertyMappingContext = createContext(propertyOwnerEntity, importConfiguration, propertyMapping, getRawValueSource(rawValuesSource, propertyMapping))
+                .setReferenceValuesCache(referenceValuesCache);
         boolean isCollection = propertyMappingContext.getMetaProperty().getRange().getCardinality().isMany();
         if (isCollection) {
             return referenceValueProvider.getEntityCollection(propertyOwnerEntity, propertyMappingContext);
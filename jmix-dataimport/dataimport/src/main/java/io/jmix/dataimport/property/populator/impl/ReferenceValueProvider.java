@@ -26,17 +26,17 @@ import io.jmix.dataimport.configuration.mapping.ReferenceImportPolicy;
 import io.jmix.dataimport.configuration.mapping.ReferenceMultiFieldPropertyMapping;
 import io.jmix.dataimport.configuration.mapping.ReferencePropertyMapping;
 import io.jmix.dataimport.exception.ImportException;
+import io.jmix.dataimport.impl.PropertyValuesKey;
 import io.jmix.dataimport.property.populator.PropertyMappingContext;
 import io.jmix.dataimport.property.populator.PropertyMappingUtils;
+import io.jmix.dataimport.property.populator.ReferenceValuesCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Component("datimp_ReferenceValueProvider")
 public class ReferenceValueProvider {
@@ -174,12 +174,83 @@ public class ReferenceValueProvider {
         Map<String, Object> propertyValues = propertyMappingUtils.getPropertyValues(context);
 
         if (!propertyValues.isEmpty()) {
-            return duplicateEntityManager.load(referenceMetaClass.getJavaClass(), propertyValues, null);
+            Class<?> referenceClass = referenceMetaClass.getJavaClass();
+            ReferenceValuesCache referenceValuesCache = context.getReferenceValuesCache();
+            if (referenceValuesCache != null && referenceValuesCache.contains(referenceClass, propertyValues)) {
+                return referenceValuesCache.get(referenceClass, propertyValues);
+            }
+
+            Object reference = duplicateEntityManager.load(referenceClass, propertyValues, null);
+            if (referenceValuesCache != null && !PropertyValuesKey.hasEmptyValues(propertyValues)) {
+                if (reference != null) {
+                    referenceValuesCache.put(referenceClass, propertyValues, reference);
+                } else {
+                    referenceValuesCache.putMissing(referenceClass, propertyValues);
+                }
+            }
+            return reference;
         }
 
         return null;
     }
 
+    /**
+     * Loads the existing references for the specified contexts of one reference property mapping in bulk
+     * and puts them to the cache. The absence of a reference is cached too if all loaded references
+     * are matched with the lookup property values.
+     *
+     * @param contexts             contexts of one reference property mapping for different data items
+     * @param referenceValuesCache cache to put loaded references
+     */
+    public void loadReferences(List<PropertyMappingContext> contexts, ReferenceValuesCache referenceValuesCache) {
+        if (contexts.isEmpty() || !isLoadedByLookup(contexts.get(0))) {
+            return;
+        }
+        MetaClass referenceMetaClass = contexts.get(0).getMetaProperty().getRange().asClass();
+        Class<?> referenceClass = referenceMetaClass.getJavaClass();
+
+        Map<PropertyValuesKey, Map<String, Object>> propertyValuesToLoad = new LinkedHashMap<>();
+        for (PropertyMappingContext context : contexts) {
+            Map<String, Object> propertyValues = propertyMappingUtils.getPropertyValues(context);
+            if (!propertyValues.isEmpty()
+                    && !PropertyValuesKey.hasEmptyValues(propertyValues)
+                    && !referenceValuesCache.contains(referenceClass, propertyValues)) {
+                propertyValuesToLoad.putIfAbsent(PropertyValuesKey.of(propertyValues), propertyValues);
+            }
+        }
+        if (propertyValuesToLoad.isEmpty()) {
+            return;
+        }
+
+        List<Object> loadedReferences = duplicateEntityManager.loadAll(referenceClass, propertyValuesToLoad.values(), null);
+        Set<String> lookupPropertyNames = propertyValuesToLoad.values().iterator().next().keySet();
+        int matchedReferences = 0;
+        for (Object loadedReference : loadedReferences) {
+            Map<String, Object> propertyValues = propertyValuesToLoad.remove(PropertyValuesKey.of(loadedReference, lookupPropertyNames));
+            if (propertyValues != null) {
+                referenceValuesCache.put(referenceClass, propertyValues, loadedReference);
+                matchedReferences++;
+            }
+        }
+        // otherwise the database compares values differently, so missing references are resolved one by one
+        if (matchedReferences == loadedReferences.size()) {
+            propertyValuesToLoad.values().forEach(propertyValues -> referenceValuesCache.putMissing(referenceClass, propertyValues));
+        }
+    }
+
+    protected boolean isLoadedByLookup(PropertyMappingContext context) {
+        ReferenceImportPolicy referenceImportPolicy = getReferenceImportPolicy(context.getPropertyMapping());
+        if (referenceImportPolicy == null || referenceImportPolicy == ReferenceImportPolicy.CREATE) {
+            return false;
+        }
+        MetaProperty referenceMetaProperty = context.getMetaProperty();
+        if (metadataTools.isEmbedded(referenceMetaProperty)) {
+            return false;
+        }
+        Range.Cardinality cardinality = referenceMetaProperty.getRange().getCardinality();
+        return cardinality == Range.Cardinality.MANY_TO_ONE || cardinality == Range.Cardinality.ONE_TO_ONE;
+    }
+
     protected void logIgnoredReference(PropertyMappingContext context) {
         log.trace(String.format("Existing value not found for property [%s] in entity [%s] by values [%s], but new one is not created by policy.",
                 context.getPropertyMapping().getEntityPropertyName(),
@@ -71,6 +71,30 @@ class ImportInTransactionsPerBatchTest extends DataImportSpec {
         checkProduct(importedProduct, 'Cotek Battery Charger', 30.1, false)
     }
 
+    def 'test import progress is reported after each batch'() {
+        given:
+        def processedItems = []
+        def importConfig = ImportConfiguration.builder(Product, InputDataFormat.XML)
+                .addSimplePropertyMapping("name", "name")
+                .addSimplePropertyMapping("price", "price")
+                .addSimplePropertyMapping("special", "special")
+                .withBooleanFormats("Yes", "No")
+                .withTransactionStrategy(ImportTransactionStrategy.TRANSACTION_PER_BATCH)
+                .withImportBatchSize(1)
+                .withImportProgressListener({ int count -> processedItems << count })
+                .build()
+
+        def xmlContent = resources.getResourceAsStream("/test_support/input_data_files/xml/list_of_products.xml")
+
+        when: 'data imported'
+        def result = dataImporter.importData(importConfig, xmlContent)
+
+        then:
+        result.success
+        result.importedEntityIds.size() == 2
+        processedItems == [1, 2]
+    }
+
     def 'test import with existing and new one-to-one references'() {
         given:
         def importConfig = ImportConfiguration.builder(Customer, InputDataFormat.JSON)
@@ -152,6 +176,40 @@ class ImportInTransactionsPerBatchTest extends DataImportSpec {
         checkCustomer(order3.customer, 'Tom Smith', 't.smith@mail.com', null)
     }
 
+    def 'test many-to-one reference created in previous batch is used in next batches'() {
+        given:
+        def importConfig = ImportConfiguration.builder(Order, InputDataFormat.CSV)
+                .addSimplePropertyMapping("orderNumber", "Order Num")
+                .addSimplePropertyMapping("date", "Order Date")
+                .addSimplePropertyMapping("amount", "Order Amount")
+                .addPropertyMapping(ReferenceMultiFieldPropertyMapping.builder("customer", ReferenceImportPolicy.CREATE_IF_MISSING)
+                        .addSimplePropertyMapping("name", "Customer Name")
+                        .addSimplePropertyMapping("email", "Customer Email")
+                        .lookupByAllSimpleProperties()
+                        .build())
+                .withDateFormat('dd/MM/yyyy HH:mm')
+                .withTransactionStrategy(ImportTransactionStrategy.TRANSACTION_PER_BATCH)
+                .withImportBatchSize(1)
+                .build()
+
+        def csvContent = resources.getResourceAsStream("/test_support/input_data_files/csv/orders.csv")
+
+        when: 'data imported'
+        def result = dataImporter.importData(importConfig, csvContent)
+
+        then:
+        result.success
+        result.importedEntityIds.size() == 3
+
+        def order1 = loadEntity(Order, result.importedEntityIds[0], "order-with-customer") as Order
+        def order2 = loadEntity(Order, result.importedEntityIds[1], "order-with-customer") as Order
+        order1.customer != null
+        order2.customer == order1.customer
+
+        def order3 = loadEntity(Order, result.importedEntityIds[2], "order-with-customer") as Order
+        checkCustomer(order3.customer, 'Tom Smith', 't.smith@mail.com', null)
+    }
+
     def 'test import with one-to-many composition for new entity to import'() {
         given:
         def importConfig = ImportConfiguration.builder(Customer, InputDataFormat.CSV)
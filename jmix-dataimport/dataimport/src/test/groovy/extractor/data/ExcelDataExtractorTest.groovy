@@ -90,4 +90,32 @@ class ExcelDataExtractorTest extends DataImportSpec {
         secondProduct.getRawValue('Special') == 'No'
         secondProduct.getRawValue('Price') == '5.10'
     }
+
+    def "test imported data items are read lazily"() {
+        given:
+        def inputStream = resources.getResourceAsStream("test_support/input_data_files/xlsx/products.xlsx")
+
+        ImportConfiguration importConfiguration = new ImportConfiguration(Product, InputDataFormat.XLSX)
+
+        when: 'imported data iterator created'
+        def iterator = excelDataExtractor.iterate(importConfiguration, inputStream)
+
+        then:
+        iterator.dataFieldNames == ['Product Name', 'Special', 'Price']
+
+        iterator.hasNext()
+        def firstProduct = iterator.next()
+        firstProduct.itemIndex == 1
+        firstProduct.getRawValue('Product Name') == 'Outback Power Nano-Carbon Battery 12V'
+
+        iterator.hasNext()
+        def secondProduct = iterator.next()
+        secondProduct.itemIndex == 2
+        secondProduct.getRawValue('Price') == '5.10'
+
+        !iterator.hasNext()
+
+        cleanup:
+        iterator?.close()
+    }
 }
@@ -16,7 +16,10 @@
 
 package io.jmix.dynattr.impl;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.CrudEntityContext;
@@ -81,12 +84,17 @@ public class DynAttrManagerImpl implements DynAttrManager {
 
     @Override
     public void storeValues(Collection<Object> entities, Collection<AccessConstraint<?>> accessConstraints) {
-        storeAwareLocator.getTransactionTemplate(dynamicAttributesStore)
-                .executeWithoutResult(status -> {
-                    for (Object entity : entities) {
-                        doStoreValues(entity, accessConstraints);
-                    }
-                });
+        Multimap<MetaClass, Object> entitiesToStore = collectEntitiesToStore(entities);
+        if (!entitiesToStore.isEmpty()) {
+            storeAwareLocator.getTransactionTemplate(dynamicAttributesStore)
+                    .executeWithoutResult(status -> {
+                        StoreOperations operations = new StoreOperations();
+                        for (MetaClass metaClass : entitiesToStore.keySet()) {
+                            doStoreValues(metaClass, entitiesToStore.get(metaClass), accessConstraints, operations);
+                        }
+                        operations.execute(storeAwareLocator.getEntityManager(dynamicAttributesStore));
+                    });
+        }
     }
 
     @Override
@@ -111,61 +119,88 @@ public class DynAttrManagerImpl implements DynAttrManager {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    protected void doStoreValues(Object entity, Collection<AccessConstraint<?>> accessConstraints) {
-        DynamicAttributesState state = getExtraState(entity, DynamicAttributesState.class);
-        if (state != null && state.getDynamicAttributes() != null) {
-            EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
+    /**
+     * Returns entities having changed dynamic attributes grouped by entity class.
+     */
+    protected Multimap<MetaClass, Object> collectEntitiesToStore(Collection<Object> entities) {
+        Multimap<MetaClass, Object> entitiesByType = LinkedHashMultimap.create();
+        for (Object entity : entities) {
+            DynamicAttributesState state = getExtraState(entity, DynamicAttributesState.class);
+            if (state != null && state.getDynamicAttributes() != null
+                    && state.getDynamicAttributes().getChanges().hasChanges()) {
+                entitiesByType.put(metadata.getClass(entity), entity);
+            }
+        }
+        return entitiesByType;
+    }
 
-            DynamicAttributes dynamicModel = state.getDynamicAttributes();
-            DynamicAttributes.Changes changes = dynamicModel.getChanges();
+    /**
+     * Loads existing values of all entities of the given class by batches of
+     * {@link #MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH} ids and registers the required changes in {@code operations}.
+     */
+    protected void doStoreValues(MetaClass metaClass, Collection<Object> entities,
+                                 Collection<AccessConstraint<?>> accessConstraints, StoreOperations operations) {
+        List<Object> ids = entities.stream()
+                .map(e -> referenceToEntitySupport.getReferenceId(e))
+                .collect(Collectors.toList());
 
-            if (changes.hasChanges()) {
+        Multimap<Object, CategoryAttributeValue> allAttributeValues = ArrayListMultimap.create();
+        for (List<Object> currentIds : Lists.partition(ids, MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH)) {
+            for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
+                allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
+            }
+        }
 
-                MetaClass metaClass = metadata.getClass(entity);
-                List<CategoryAttributeValue> attributeValues = loadValues(metaClass, accessConstraints,
-                        Collections.singletonList(referenceToEntitySupport.getReferenceId(entity)));
+        for (Object entity : entities) {
+            doStoreValues(metaClass, entity, allAttributeValues.get(referenceToEntitySupport.getReferenceId(entity)),
+                    operations);
+        }
+    }
+
+    protected void doStoreValues(MetaClass metaClass, Object entity, Collection<CategoryAttributeValue> attributeValues,
+                                 StoreOperations operations) {
+        DynamicAttributesState state = getExtraState(entity, DynamicAttributesState.class);
+        DynamicAttributes dynamicModel = Objects.requireNonNull(state).getDynamicAttributes();
+        DynamicAttributes.Changes changes = Objects.requireNonNull(dynamicModel).getChanges();
+
+        for (CategoryAttributeValue attributeValue : attributeValues) {
+            String attributeName = attributeValue.getCode();
+            if (changes.isDeleted(attributeName)) {
+                setValueToCategoryAttributeValue(attributeValue, null);
+                operations.remove(attributeValue);
+            } else if (changes.isUpdated(attributeName)) {
+                setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
+
+                if (BooleanUtils.isTrue(attributeValue.getCategoryAttribute().getIsCollection())) {
+                    doStoreCollectionValue(attributeValue, operations);
+                }
+            }
+        }
 
-                for (CategoryAttributeValue attributeValue : attributeValues) {
-                    String attributeName = attributeValue.getCode();
-                    if (changes.isDeleted(attributeName)) {
-                        setValueToCategoryAttributeValue(attributeValue, null);
-                        entityManager.remove(attributeValue);
-                    } else if (changes.isUpdated(attributeName)) {
+        Set<String> existing = attributeValues.stream().map(CategoryAttributeValue::getCode).collect(Collectors.toSet());
+        List<String> toPersist = Stream.concat(
+                        changes.getCreated().keySet().stream(),
+                        changes.getUpdated().keySet().stream().filter(a -> !existing.contains(a))) //Haulmont/jmix-data#43
+                .collect(Collectors.toList());
+
+        for (String attributeName : toPersist) {
+            dynAttrMetadata.getAttributeByCode(metaClass, attributeName)
+                    .ifPresent(attribute -> {
+                        CategoryAttributeValue attributeValue = metadata.create(CategoryAttributeValue.class);
                         setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
+                        attributeValue.setObjectEntityId(referenceToEntitySupport.getReferenceId(entity));
+                        attributeValue.setCode(attributeName);
+                        attributeValue.setCategoryAttribute((CategoryAttribute) attribute.getSource());
 
-                        if (BooleanUtils.isTrue(attributeValue.getCategoryAttribute().getIsCollection())) {
-                            doStoreCollectionValue(attributeValue);
-                        }
-                    }
-                }
+                        operations.persist(attributeValue);
 
-                List<String> existing = attributeValues.stream().map(CategoryAttributeValue::getCode).collect(Collectors.toList());
-                List<String> toPersist = Stream.concat(
-                                changes.getCreated().keySet().stream(),
-                                changes.getUpdated().keySet().stream().filter(a -> !existing.contains(a))) //Haulmont/jmix-data#43
-                        .collect(Collectors.toList());
-
-                for (String attributeName : toPersist) {
-                    dynAttrMetadata.getAttributeByCode(metaClass, attributeName)
-                            .ifPresent(attribute -> {
-                                CategoryAttributeValue attributeValue = metadata.create(CategoryAttributeValue.class);
-                                setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
-                                attributeValue.setObjectEntityId(referenceToEntitySupport.getReferenceId(entity));
-                                attributeValue.setCode(attributeName);
-                                attributeValue.setCategoryAttribute((CategoryAttribute) attribute.getSource());
-
-                                entityManager.persist(attributeValue);
-
-                                if (attribute.isCollection()) {
-                                    doStoreCollectionValue(attributeValue);
-                                }
-                            });
-                }
-            }
-            //todo: refresh state
-            //state.setValues(mergedValues);
+                        if (attribute.isCollection()) {
+                            doStoreCollectionValue(attributeValue, operations);
+                        }
+                    });
         }
+        //todo: refresh state
+        //state.setValues(mergedValues);
     }
 
     /**
@@ -175,8 +210,12 @@ public class DynAttrManagerImpl implements DynAttrManager {
      * @param collectionAttributeValue
      */
     protected void doStoreCollectionValue(CategoryAttributeValue collectionAttributeValue) {
-        EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
+        StoreOperations operations = new StoreOperations();
+        doStoreCollectionValue(collectionAttributeValue, operations);
+        operations.execute(storeAwareLocator.getEntityManager(dynamicAttributesStore));
+    }
 
+    protected void doStoreCollectionValue(CategoryAttributeValue collectionAttributeValue, StoreOperations operations) {
         List<Object> collection = collectionAttributeValue.getTransientCollectionValue();
         List<Object> newCollection = new ArrayList<>(collection);
 
@@ -184,7 +223,7 @@ public class DynAttrManagerImpl implements DynAttrManager {
             for (CategoryAttributeValue existingChild : collectionAttributeValue.getChildValues()) {
                 if (existingChild.getDeleteTs() == null) {
                     if (!collection.contains(existingChild.getValue())) {
-                        entityManager.remove(existingChild);
+                        operations.remove(existingChild);
                     }
                     newCollection.remove(existingChild.getValue());
                 }
@@ -200,7 +239,7 @@ public class DynAttrManagerImpl implements DynAttrManager {
             }
             childValue.setCode(collectionAttributeValue.getCode());
             childValue.setCategoryAttribute(collectionAttributeValue.getCategoryAttribute());
-            entityManager.persist(childValue);
+            operations.persist(childValue);
         }
     }
 
@@ -523,4 +562,34 @@ public class DynAttrManagerImpl implements DynAttrManager {
             throw new IllegalArgumentException("Unsupported value type " + value.getClass());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Changes of {@code CategoryAttributeValue} entities collected for all stored entities. Removals and insertions
+     * are passed to the entity manager grouped by operation, so that the statements can be sent to the database by
+     * JDBC batches when batch writing is enabled.
+     */
+    protected static class StoreOperations {
+
+        protected final List<CategoryAttributeValue> toRemove = new ArrayList<>();
+        protected final List<CategoryAttributeValue> toPersist = new ArrayList<>();
+
+        public void remove(CategoryAttributeValue value) {
+            toRemove.add(value);
+        }
+
+        public void persist(CategoryAttributeValue value) {
+            toPersist.add(value);
+        }
+
+        public void execute(EntityManager entityManager) {
+            for (CategoryAttributeValue value : toRemove) {
+                entityManager.remove(value);
+            }
+            for (CategoryAttributeValue value : toPersist) {
+                entityManager.persist(value);
+            }
+            toRemove.clear();
+            toPersist.clear();
+        }
+    }
+}
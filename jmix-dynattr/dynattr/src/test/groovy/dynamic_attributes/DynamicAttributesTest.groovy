@@ -271,6 +271,46 @@ class DynamicAttributesTest extends Specification {
         EntityValues.getValue(user, '+userAttribute') == 'userName'
     }
 
+    def "save several users with dynamic attributes"() {
+        setup:
+
+        def users = (1..3).collect { i ->
+            def user = metadata.create(User)
+            user.login = "batchUser$i"
+            EntityValues.setValue(user, '+userAttribute', "userName$i")
+            user
+        }
+        dataManager.save(new SaveContext().saving(users))
+
+        when:
+
+        def loaded = dataManager.load(User)
+                .query('e.login like :login')
+                .parameter('login', 'batchUser%')
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .list()
+                .sort { it.login }
+
+        EntityValues.setValue(loaded[0], '+userAttribute', 'changedName')
+        EntityValues.setValue(loaded[1], '+userAttribute', null)
+        EntityValues.setValue(loaded[2], '+userIntCollectionAttribute', [1, 2])
+        dataManager.save(new SaveContext().saving(loaded))
+
+        def reloaded = dataManager.load(User)
+                .query('e.login like :login')
+                .parameter('login', 'batchUser%')
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .list()
+                .sort { it.login }
+
+        then:
+
+        EntityValues.getValue(reloaded[0], '+userAttribute') == 'changedName'
+        EntityValues.getValue(reloaded[1], '+userAttribute') == null
+        EntityValues.getValue(reloaded[2], '+userAttribute') == 'userName3'
+        EntityValues.getValue(reloaded[2], '+userIntCollectionAttribute') as Set == [1, 2] as Set
+    }
+
     def "load nested dynamic attributes"() {
         setup:
 
@@ -88,4 +88,36 @@ public interface StudioGridExportActions {
             }
     )
     void jsonExport();
+
+    @StudioAction(
+            type = "grdexp_csvExport",
+            description = "Action for export table content as CSV",
+            classFqn = "io.jmix.gridexportflowui.action.CsvExportAction",
+            target = {"io.jmix.flowui.component.ListDataComponent"},
+            documentationLink = "%VERSION%/grid-export/index.html",
+            availableInViewWizard = true,
+            properties = {
+                    @StudioProperty(xmlAttribute = "actionVariant", category = StudioProperty.Category.LOOK_AND_FEEL, type = StudioPropertyType.ENUMERATION,
+                            setMethod = "setVariant", classFqn = "io.jmix.flowui.kit.action.ActionVariant",
+                            defaultValue = "DEFAULT", options = {"DEFAULT", "PRIMARY", "DANGER", "SUCCESS"}),
+                    @StudioProperty(xmlAttribute = "description", category = StudioProperty.Category.GENERAL, type = StudioPropertyType.LOCALIZED_STRING),
+                    @StudioProperty(xmlAttribute = "enabled", category = StudioProperty.Category.GENERAL, type = StudioPropertyType.BOOLEAN, defaultValue = "true"),
+                    @StudioProperty(xmlAttribute = "icon", category = StudioProperty.Category.LOOK_AND_FEEL, type = StudioPropertyType.ICON,
+                            setParameterFqn = "com.vaadin.flow.component.icon.Icon", defaultValue = "FILE_TEXT_O"),
+                    @StudioProperty(xmlAttribute = "id", category = StudioProperty.Category.GENERAL,
+                            type = StudioPropertyType.COMPONENT_ID, required = true, initialValue = "csvExport"),
+                    @StudioProperty(xmlAttribute = "shortcutCombination", category = StudioProperty.Category.GENERAL, type = StudioPropertyType.SHORTCUT_COMBINATION),
+                    @StudioProperty(xmlAttribute = "text", category = StudioProperty.Category.GENERAL, type = StudioPropertyType.LOCALIZED_STRING,
+                            defaultValue = "msg:///csvExporter.label"),
+                    @StudioProperty(xmlAttribute = "visible", category = StudioProperty.Category.GENERAL, type = StudioPropertyType.BOOLEAN, defaultValue = "true")
+            },
+            items = {
+                    @StudioPropertiesItem(xmlAttribute = "availableExportModes", type = StudioPropertyType.VALUES_LIST,
+                            options = {"ALL_ROWS", "CURRENT_PAGE", "SELECTED_ROWS"}),
+                    @StudioPropertiesItem(xmlAttribute = "columnsToExport", type = StudioPropertyType.ENUMERATION,
+                            options = {"ALL_COLUMNS", "VISIBLE_COLUMNS"}),
+                    @StudioPropertiesItem(xmlAttribute = "columnKeysToExport", type = StudioPropertyType.VALUES_LIST)
+            }
+    )
+    void csvExport();
 }
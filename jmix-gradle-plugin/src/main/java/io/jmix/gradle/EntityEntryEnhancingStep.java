@@ -18,12 +18,17 @@ package io.jmix.gradle;
 
 import jakarta.annotation.Nullable;
 import javassist.*;
+import javassist.bytecode.Descriptor;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -143,7 +148,7 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         setupSoftDelete(nestedCtClass, ctClass, info);
         setupHasUuid(nestedCtClass, ctClass, info);
         setupVersion(nestedCtClass, ctClass, info);
-
+        setupAttributeAccessors(nestedCtClass, ctClass);
 
         nestedCtClass.writeFile(outputDir);
     }
@@ -281,6 +286,113 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         }
     }
 
+    /**
+     * Generates index-based accessors for attributes having a public getter and setter, so the entity entry can
+     * read and write them without the name lookup. Names are listed ancestors first in the static
+     * {@link MetaModelUtil#GEN_ATTRIBUTE_NAMES_VAR_NAME} field and are validated at runtime against the meta-property.
+     */
+    protected void setupAttributeAccessors(CtClass nestedClass, CtClass ctClass)
+            throws NotFoundException, CannotCompileException {
+        Map<String, CtMethod> publicMethods = new HashMap<>();
+        for (CtMethod method : ctClass.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                publicMethods.putIfAbsent(method.getName() + method.getSignature(), method);
+            }
+        }
+
+        List<String> names = new ArrayList<>();
+        List<CtMethod> getters = new ArrayList<>();
+        List<CtMethod> setters = new ArrayList<>();
+        for (CtField field : getHierarchyFields(ctClass)) {
+            String name = field.getName();
+            if (names.contains(name)) {
+                continue;
+            }
+            String capitalized = StringUtils.capitalize(name);
+            CtMethod getter = publicMethods.get("get" + capitalized + "()" + Descriptor.of(field.getType()));
+            if (getter == null) {
+                getter = publicMethods.values().stream()
+                        .filter(m -> (m.getName().equals("get" + capitalized) || m.getName().equals("is" + capitalized))
+                                && m.getSignature().startsWith("()"))
+                        .findFirst()
+                        .orElse(null);
+            }
+            if (getter == null || getter.getReturnType() == CtClass.voidType) {
+                continue;
+            }
+            CtClass type = getter.getReturnType();
+            CtMethod setter = publicMethods.get("set" + capitalized + "(" + Descriptor.of(type) + ")V");
+            if (setter == null) {
+                continue;
+            }
+            names.add(name);
+            getters.add(getter);
+            setters.add(setter);
+        }
+
+        if (names.isEmpty()) {
+            return;
+        }
+
+        nestedClass.addField(CtField.make(String.format("public static final String[] %s = new String[]{%s};",
+                GEN_ATTRIBUTE_NAMES_VAR_NAME,
+                names.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(","))), nestedClass));
+
+        CtClass objectClass = classPool.get(Object.class.getName());
+
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, classPool.get(String[].class.getName()),
+                "getAttributeNames", null, null,
+                String.format("return %s;", GEN_ATTRIBUTE_NAMES_VAR_NAME),
+                nestedClass));
+
+        StringBuilder getterBody = new StringBuilder("{ switch ($1) {");
+        StringBuilder setterBody = new StringBuilder("{ switch ($1) {");
+        for (int i = 0; i < names.size(); i++) {
+            getterBody.append(String.format(" case %d: return ($w)((%s)getSource()).%s();",
+                    i, ctClass.getName(), getters.get(i).getName()));
+            setterBody.append(String.format(" case %d: ((%s)getSource()).%s(%s); return;",
+                    i, ctClass.getName(), setters.get(i).getName(), unboxExpression(getters.get(i).getReturnType(), "$2")));
+        }
+        String throwStatement = " } throw new IllegalArgumentException(\"No attribute accessor with ordinal \" + $1); }";
+        getterBody.append(throwStatement);
+        setterBody.append(throwStatement);
+
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, objectClass,
+                "getAttributeValue", new CtClass[]{CtClass.intType}, null, getterBody.toString(), nestedClass));
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, CtClass.voidType,
+                "setAttributeValue", new CtClass[]{CtClass.intType, objectClass}, null, setterBody.toString(), nestedClass));
+
+        logger.debug(String.format("Entity %s attribute accessors: %s", ctClass.getSimpleName(), names));
+    }
+
+    protected List<CtField> getHierarchyFields(CtClass ctClass) throws NotFoundException {
+        LinkedList<CtClass> hierarchy = new LinkedList<>();
+        for (CtClass cls = ctClass; cls != null && !cls.getName().equals(Object.class.getName()); cls = cls.getSuperclass()) {
+            hierarchy.addFirst(cls);
+        }
+        List<CtField> fields = new ArrayList<>();
+        for (CtClass cls : hierarchy) {
+            for (CtField field : cls.getDeclaredFields()) {
+                String name = field.getName();
+                if (!Modifier.isStatic(field.getModifiers())
+                        && !name.startsWith("_persistence_")
+                        && !name.startsWith("__")
+                        && !name.equals(GEN_ENTITY_ENTRY_VAR_NAME)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    protected String unboxExpression(CtClass type, String expression) {
+        if (type.isPrimitive()) {
+            CtPrimitiveType primitiveType = (CtPrimitiveType) type;
+            return String.format("((%s)%s).%s()", primitiveType.getWrapperName(), expression, primitiveType.getGetMethodName());
+        }
+        return String.format("(%s)%s", type.getName(), expression);
+    }
+
     protected void setupHasUuidForField(CtClass nestedClass, CtClass ctClass, String uuidFieldName)
             throws NotFoundException, CannotCompileException {
         CtClass uuidClass = classPool.get(UUID.class.getName());
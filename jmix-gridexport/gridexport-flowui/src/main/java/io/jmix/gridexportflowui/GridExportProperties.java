@@ -21,6 +21,7 @@ import io.jmix.gridexportflowui.exporter.ColumnsToExport;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -39,6 +40,22 @@ public class GridExportProperties {
      */
     String exportAllPaginationStrategy;
 
+    /**
+     * Whether to export all records in a background task showing a progress dialog.
+     */
+    boolean exportAllInBackground;
+
+    /**
+     * Timeout of the background task exporting all records.
+     */
+    Duration exportAllTimeout;
+
+    /**
+     * Whether to load the next batch of records while the current batch is being written when exporting all
+     * records with the keyset pagination strategy.
+     */
+    boolean exportAllPrefetchEnabled;
+
     /**
      * A list of mods that used by default in the {@link ExportAction}
      */
@@ -56,12 +73,18 @@ public class GridExportProperties {
 
     public GridExportProperties(@DefaultValue("1000") int exportAllBatchSize,
                                 @DefaultValue("keyset") String exportAllPaginationStrategy,
+                                @DefaultValue("true") boolean exportAllInBackground,
+                                @DefaultValue("1h") Duration exportAllTimeout,
+                                @DefaultValue("true") boolean exportAllPrefetchEnabled,
                                 @DefaultValue({"ALL_ROWS", "CURRENT_PAGE", "SELECTED_ROWS"})
                                 List<String> defaultExportModes,
                                 @DefaultValue("VISIBLE_COLUMNS") String defaultColumnsToExport,
                                 @DefaultValue ExcelExporterProperties excel) {
         this.exportAllBatchSize = exportAllBatchSize;
         this.exportAllPaginationStrategy = exportAllPaginationStrategy;
+        this.exportAllInBackground = exportAllInBackground;
+        this.exportAllTimeout = exportAllTimeout;
+        this.exportAllPrefetchEnabled = exportAllPrefetchEnabled;
         this.defaultExportModes = defaultExportModes;
         this.defaultColumnsToExport = defaultColumnsToExport;
         this.excel = excel;
@@ -81,6 +104,27 @@ public class GridExportProperties {
         return exportAllPaginationStrategy;
     }
 
+    /**
+     * @see #exportAllInBackground
+     */
+    public boolean isExportAllInBackground() {
+        return exportAllInBackground;
+    }
+
+    /**
+     * @see #exportAllTimeout
+     */
+    public Duration getExportAllTimeout() {
+        return exportAllTimeout;
+    }
+
+    /**
+     * @see #exportAllPrefetchEnabled
+     */
+    public boolean isExportAllPrefetchEnabled() {
+        return exportAllPrefetchEnabled;
+    }
+
     /**
      * @see #defaultExportModes
      */
@@ -16,10 +16,13 @@
 
 package io.jmix.gridexportflowui.exporter;
 
+import com.google.common.base.Strings;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasText;
 import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.HeaderRow;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.data.renderer.Renderer;
 import io.jmix.core.*;
@@ -30,20 +33,38 @@ import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.metamodel.model.Range;
+import io.jmix.flowui.Dialogs;
 import io.jmix.flowui.UiProperties;
+import io.jmix.flowui.backgroundtask.BackgroundTask;
+import io.jmix.flowui.backgroundtask.TaskLifeCycle;
 import io.jmix.flowui.component.ListDataComponent;
+import io.jmix.flowui.component.UiComponentUtils;
+import io.jmix.flowui.component.grid.DataGrid;
 import io.jmix.flowui.component.grid.EnhancedDataGrid;
+import io.jmix.flowui.component.grid.TreeDataGrid;
+import io.jmix.flowui.component.grid.headerfilter.DataGridHeaderFilter;
+import io.jmix.flowui.data.grid.ContainerTreeDataGridItems;
 import io.jmix.flowui.data.grid.EntityDataGridItems;
+import io.jmix.flowui.download.DownloadFormat;
+import io.jmix.flowui.download.Downloader;
+import io.jmix.flowui.kit.component.grid.JmixGrid;
+import io.jmix.flowui.kit.component.grid.JmixTreeGrid;
 import io.jmix.flowui.model.InstanceContainer;
+import io.jmix.flowui.view.View;
+import io.jmix.gridexportflowui.GridExportProperties;
+import io.jmix.gridexportflowui.exporter.entitiesloader.AllEntitiesLoader;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.lang.Nullable;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public abstract class AbstractDataGridExporter<T extends AbstractDataGridExporter<?>> implements DataGridExporter {
 
@@ -53,6 +74,8 @@ public abstract class AbstractDataGridExporter<T extends AbstractDataGridExporte
     protected MetadataTools metadataTools;
     protected UiProperties uiProperties;
     protected CoreProperties coreProperties;
+    protected Dialogs dialogs;
+    protected GridExportProperties gridExportProperties;
 
     @Autowired
     public void setMessageTools(MessageTools messageTools) {
@@ -84,6 +107,16 @@ public abstract class AbstractDataGridExporter<T extends AbstractDataGridExporte
         this.coreProperties = coreProperties;
     }
 
+    @Autowired
+    public void setDialogs(Dialogs dialogs) {
+        this.dialogs = dialogs;
+    }
+
+    @Autowired
+    public void setGridExportProperties(GridExportProperties gridExportProperties) {
+        this.gridExportProperties = gridExportProperties;
+    }
+
     protected String fileName;
 
     protected Map<String, Function<ColumnValueContext, Object>> columnValueProviders;
@@ -170,6 +203,36 @@ public abstract class AbstractDataGridExporter<T extends AbstractDataGridExporte
         return cellValue;
     }
 
+    /**
+     * Resolves the exported columns in the UI thread. Values of columns bound to entity properties are extracted
+     * without accessing the grid, values of other columns are obtained by {@link #getColumnValue(Grid, Grid.Column, Object)}.
+     *
+     * @param dataGrid exported grid
+     * @param columns  exported columns
+     * @return resolved columns in the same order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected List<ExportedColumn> createExportedColumns(Grid<Object> dataGrid, List<Grid.Column<Object>> columns) {
+        List<ExportedColumn> exportedColumns = new ArrayList<>(columns.size());
+        for (Grid.Column<Object> column : columns) {
+            MetaPropertyPath metaPropertyPath = ((EnhancedDataGrid) dataGrid).getColumnMetaPropertyPath(column);
+            if (metaPropertyPath != null && getColumnValueProvider(column.getKey()) == null) {
+                exportedColumns.add(new ExportedColumn(column.getKey(), metaPropertyPath,
+                        instance -> EntityValues.getValueEx(instance, metaPropertyPath.getPath()), false));
+            } else {
+                exportedColumns.add(new ExportedColumn(column.getKey(), metaPropertyPath,
+                        instance -> getColumnValue(dataGrid, column, instance), true));
+            }
+        }
+        return exportedColumns;
+    }
+
+    protected String formatColumnValue(ExportedColumn column, @Nullable Object cellValue) {
+        return column.getMetaPropertyPath() != null
+                ? formatValue(cellValue, column.getMetaPropertyPath())
+                : formatValue(cellValue);
+    }
+
     protected Function<Object, InstanceContainer<Object>> createInstanceContainerProvider(
             Grid<?> dataGrid, Object item) {
         return entity -> {
@@ -247,4 +310,319 @@ public abstract class AbstractDataGridExporter<T extends AbstractDataGridExporte
             return cellValue.toString();
         }
     }
+
+    protected List<Grid.Column<Object>> getColumns(Grid<Object> grid, Predicate<Grid.Column<Object>> columnFilter) {
+        List<Grid.Column<Object>> columns = grid.getColumns().stream()
+                .filter(columnFilter)
+                .toList();
+
+        List<Grid.Column<Object>> allColumns = getOrderedColumns(grid);
+        if (allColumns.isEmpty()) {
+            return columns;
+        }
+
+        return allColumns.stream()
+                .filter(columns::contains)
+                .toList();
+    }
+
+    /**
+     * Returns a list of all columns (including those hidden by security) in the correct order for Jmix extensions
+     * of {@link Grid}. Otherwise, it returns {@link Grid#getColumns()}.
+     *
+     * @param grid grid from which to get all columns
+     * @return all (with hidden by security) columns list that has correct order
+     */
+    protected List<Grid.Column<Object>> getOrderedColumns(Grid<Object> grid) {
+        if (grid instanceof DataGrid<Object> dataGrid) {
+            return dataGrid.getAllColumns();
+        } else if (grid instanceof TreeDataGrid<Object> treeDataGrid) {
+            return treeDataGrid.getAllColumns();
+        }
+        return grid.getColumns();
+    }
+
+    protected String getColumnHeaderText(DataGrid.Column<?> column) {
+        String headerText = !isHeaderRowAppended(column)
+                ? column.getHeaderText()
+                : getDefaultHeaderText(column);
+
+        if (!Strings.isNullOrEmpty(headerText)) {
+            return headerText;
+        }
+
+        Component headerComponent = getDefaultHeaderComponent(column);
+
+        if (headerComponent instanceof HasText hasText) {
+            headerText = hasText.getText();
+        } else if (headerComponent instanceof DataGridHeaderFilter dataGridHeaderFilter
+                && dataGridHeaderFilter.getHeader() instanceof HasText hasText) {
+            headerText = hasText.getText();
+        }
+        return Strings.nullToEmpty(headerText);
+    }
+
+    protected boolean isHeaderRowAppended(DataGrid.Column<?> column) {
+        return column.getParent().isPresent() && !(column.getParent().get() instanceof DataGrid<?>);
+    }
+
+    @Nullable
+    protected String getDefaultHeaderText(Grid.Column<?> column) {
+        HeaderRow defaultHeaderRow = null;
+
+        if (column.getGrid() instanceof JmixGrid<?> jmixGrid) {
+            defaultHeaderRow = jmixGrid.getDefaultHeaderRow();
+        } else if (column.getGrid() instanceof JmixTreeGrid<?> jmixTreeGrid) {
+            defaultHeaderRow = jmixTreeGrid.getDefaultHeaderRow();
+        }
+
+        return defaultHeaderRow == null
+                ? null
+                : defaultHeaderRow.getCell(column).getText();
+    }
+
+    @Nullable
+    protected Component getDefaultHeaderComponent(DataGrid.Column<?> column) {
+        HeaderRow defaultHeaderRow = null;
+
+        if (column.getGrid() instanceof JmixGrid<?> jmixGrid) {
+            defaultHeaderRow = jmixGrid.getDefaultHeaderRow();
+        } else if (column.getGrid() instanceof JmixTreeGrid<?> jmixTreeGrid) {
+            defaultHeaderRow = jmixTreeGrid.getDefaultHeaderRow();
+        }
+
+        return defaultHeaderRow == null
+                ? null
+                : defaultHeaderRow.getCell(column).getComponent();
+    }
+
+    protected Collection<Object> getItems(Grid<Object> dataGrid, ExportMode exportMode) {
+        return ExportMode.CURRENT_PAGE == exportMode
+                ? getDataGridItems(dataGrid)
+                : dataGrid.getSelectedItems();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Collection<Object> getDataGridItems(Grid<Object> dataGrid) {
+        if (dataGrid instanceof TreeDataGrid) {
+            TreeDataGrid<Object> treeDataGrid = (TreeDataGrid<Object>) dataGrid;
+
+            return new ArrayList<>(
+                    ((ContainerTreeDataGridItems<Object>) treeDataGrid.getItems()).getContainer().getItems());
+        }
+
+        return dataGrid.getGenericDataView().getItems().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if the export should be performed in a background task showing a progress dialog. Column values
+     * obtained from value providers or rendered components, as well as entities loaded by a load delegate, require
+     * the UI thread, so such grids are exported in the current thread.
+     *
+     * @param exportMode export mode
+     * @param loading    prepared loading of all entities or null if not all rows are exported
+     * @param columns    exported columns
+     */
+    protected boolean isExportInBackground(ExportMode exportMode,
+                                           @Nullable AllEntitiesLoader.AllEntitiesLoading loading,
+                                           List<ExportedColumn> columns) {
+        return exportMode == ExportMode.ALL_ROWS
+                && gridExportProperties.isExportAllInBackground()
+                && loading != null
+                && loading.isBackgroundLoadingSupported()
+                && columns.stream().noneMatch(ExportedColumn::isUiThreadRequired);
+    }
+
+    /**
+     * Writes exported content to a temporary file in the current thread and downloads the file.
+     *
+     * @param downloader {@link Downloader} instance
+     * @param fileName   name of the downloaded file
+     * @param format     format of the downloaded file
+     * @param writer     writer of the exported content
+     */
+    protected void exportToFile(Downloader downloader, String fileName, DownloadFormat format, ExportWriter writer) {
+        File file = writeTempFile(writer, rowNumber -> true);
+        downloadTempFile(downloader, file, fileName, format);
+        onExportDone();
+    }
+
+    /**
+     * Writes exported content to a temporary file in a background task and downloads the file when the task is done.
+     * The progress of the task is shown in a dialog.
+     *
+     * @param downloader {@link Downloader} instance
+     * @param dataGrid   exported grid
+     * @param fileName   name of the downloaded file
+     * @param format     format of the downloaded file
+     * @param rowCount   number of exported rows or -1 if unknown
+     * @param writer     writer of the exported content
+     */
+    protected void exportInBackground(Downloader downloader, Grid<Object> dataGrid, String fileName,
+                                      DownloadFormat format, long rowCount, ExportWriter writer) {
+        ExportTask exportTask = new ExportTask(UiComponentUtils.findView(dataGrid), downloader, fileName, format, writer);
+        Dialogs.BackgroundTaskDialogBuilder<Integer, File> dialogBuilder = dialogs.createBackgroundTaskDialog(exportTask)
+                .withHeader(messages.getMessage("exportProgressDialog.header"))
+                .withText(messages.getMessage("exportProgressDialog.text"))
+                .withCancelAllowed(true);
+        if (rowCount > 0) {
+            dialogBuilder.withTotal(rowCount)
+                    .withShowProgressInPercentage(true);
+        }
+        dialogBuilder.open();
+    }
+
+    /**
+     * Downloads the temporary file with exported content. The file is deleted when the current UI is detached.
+     *
+     * @param downloader {@link Downloader} instance
+     * @param file       temporary file
+     * @param fileName   name of the downloaded file
+     * @param format     format of the downloaded file
+     */
+    protected void downloadTempFile(Downloader downloader, File file, String fileName, DownloadFormat format) {
+        TempFileDownloadDataProvider dataProvider = new TempFileDownloadDataProvider(file);
+        downloader.download(dataProvider, fileName, format);
+        UI ui = UI.getCurrent();
+        if (ui != null) {
+            dataProvider.deleteOnDetach(ui);
+        }
+    }
+
+    protected File writeTempFile(ExportWriter writer, ExportProgress progress) {
+        File file = new File(coreProperties.getTempDir(), UuidProvider.createUuid().toString());
+        try {
+            FileUtils.forceMkdirParent(file);
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+                writer.write(outputStream, progress);
+            }
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(file);
+            throw new RuntimeException("Unable to write exported data", e);
+        } catch (RuntimeException | Error e) {
+            FileUtils.deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Invoked in the UI thread after the exported file is passed to the {@link Downloader}.
+     */
+    protected void onExportDone() {
+    }
+
+    /**
+     * Writes exported content to the output stream.
+     */
+    @FunctionalInterface
+    public interface ExportWriter {
+
+        void write(OutputStream outputStream, ExportProgress progress) throws IOException;
+    }
+
+    /**
+     * Receives notifications about exported rows.
+     */
+    @FunctionalInterface
+    public interface ExportProgress {
+
+        /**
+         * @param rowNumber number of the exported row
+         * @return false if the export has been cancelled and writing must be stopped
+         */
+        boolean rowExported(int rowNumber);
+    }
+
+    /**
+     * Exported column resolved in the UI thread.
+     */
+    protected static class ExportedColumn {
+
+        protected final String key;
+        protected final MetaPropertyPath metaPropertyPath;
+        protected final Function<Object, Object> valueExtractor;
+        protected final boolean uiThreadRequired;
+
+        public ExportedColumn(String key, @Nullable MetaPropertyPath metaPropertyPath,
+                              Function<Object, Object> valueExtractor, boolean uiThreadRequired) {
+            this.key = key;
+            this.metaPropertyPath = metaPropertyPath;
+            this.valueExtractor = valueExtractor;
+            this.uiThreadRequired = uiThreadRequired;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        @Nullable
+        public MetaPropertyPath getMetaPropertyPath() {
+            return metaPropertyPath;
+        }
+
+        /**
+         * @return exported value of the column for the given entity instance
+         */
+        @Nullable
+        public Object getValue(Object instance) {
+            return valueExtractor.apply(instance);
+        }
+
+        /**
+         * @return true if the value is obtained from the grid, so it must be extracted in the UI thread
+         */
+        public boolean isUiThreadRequired() {
+            return uiThreadRequired;
+        }
+    }
+
+    protected class ExportTask extends BackgroundTask<Integer, File> {
+
+        protected Downloader downloader;
+        protected String fileName;
+        protected DownloadFormat format;
+        protected ExportWriter writer;
+
+        protected ExportTask(@Nullable View<?> view, Downloader downloader, String fileName, DownloadFormat format,
+                             ExportWriter writer) {
+            super(gridExportProperties.getExportAllTimeout().toMillis(), TimeUnit.MILLISECONDS, view);
+            this.downloader = downloader;
+            this.fileName = fileName;
+            this.format = format;
+            this.writer = writer;
+        }
+
+        @Override
+        public File run(TaskLifeCycle<Integer> taskLifeCycle) throws Exception {
+            int publishInterval = Math.max(gridExportProperties.getExportAllBatchSize(), 1);
+            File file = writeTempFile(writer, rowNumber -> {
+                if (taskLifeCycle.isCancelled() || taskLifeCycle.isInterrupted()) {
+                    return false;
+                }
+                if (rowNumber % publishInterval == 0) {
+                    try {
+                        taskLifeCycle.publish(rowNumber);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+                return true;
+            });
+            if (taskLifeCycle.isCancelled() || taskLifeCycle.isInterrupted()) {
+                FileUtils.deleteQuietly(file);
+                return null;
+            }
+            return file;
+        }
+
+        @Override
+        public void done(@Nullable File file) {
+            if (file != null) {
+                downloadTempFile(downloader, file, fileName, format);
+                onExportDone();
+            }
+        }
+    }
 }
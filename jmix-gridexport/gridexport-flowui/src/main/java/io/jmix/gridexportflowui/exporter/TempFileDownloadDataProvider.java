@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gridexportflowui.exporter;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.Registration;
+import io.jmix.flowui.download.DownloadDataProvider;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+
+/**
+ * Provides data of a temporary file with exported content. The file can be read several times, for example when
+ * the download is repeated, so it is not deleted when the stream is closed. The file is deleted by {@link #delete()},
+ * when the UI passed to {@link #deleteOnDetach(UI)} is detached, or on JVM exit.
+ */
+public class TempFileDownloadDataProvider implements DownloadDataProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(TempFileDownloadDataProvider.class);
+
+    protected File file;
+
+    public TempFileDownloadDataProvider(File file) {
+        this.file = file;
+        file.deleteOnExit();
+    }
+
+    @Nullable
+    @Override
+    public InputStream getStream() {
+        try {
+            return new FileInputStream(file);
+        } catch (FileNotFoundException e) {
+            log.warn("Unable to read temp file " + file.getAbsolutePath());
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the file when the given UI is detached, that is when the browser tab is closed or the session expires.
+     *
+     * @param ui UI the file is downloaded in
+     */
+    public void deleteOnDetach(UI ui) {
+        Registration[] registration = new Registration[1];
+        registration[0] = ui.addDetachListener(event -> {
+            registration[0].remove();
+            delete();
+        });
+    }
+
+    /**
+     * Deletes the file. The data cannot be downloaded afterwards.
+     */
+    public void delete() {
+        if (file.exists() && !FileUtils.deleteQuietly(file)) {
+            log.warn("Unable to delete temp file " + file.getAbsolutePath());
+        }
+    }
+}
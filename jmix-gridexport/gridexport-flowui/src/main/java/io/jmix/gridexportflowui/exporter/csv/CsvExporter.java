@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gridexportflowui.exporter.csv;
+
+import com.vaadin.flow.component.grid.Grid;
+import io.jmix.core.common.util.Preconditions;
+import io.jmix.flowui.component.ListDataComponent;
+import io.jmix.flowui.component.grid.DataGrid;
+import io.jmix.flowui.download.Downloader;
+import io.jmix.gridexportflowui.action.ExportAction;
+import io.jmix.gridexportflowui.exporter.AbstractDataGridExporter;
+import io.jmix.gridexportflowui.exporter.ExportMode;
+import io.jmix.gridexportflowui.exporter.entitiesloader.AllEntitiesLoader;
+import io.jmix.gridexportflowui.exporter.entitiesloader.AllEntitiesLoaderFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static io.jmix.flowui.download.DownloadFormat.CSV;
+
+/**
+ * Use this class to export {@link DataGrid} into CSV format.
+ * <br>Rows are written to the output one by one, so memory consumption doesn't depend on the number of exported rows.
+ * <br>Just create an instance of {@link ExportAction} with <code>withExporter</code> method.
+ */
+@Component("grdexp_CsvExporter")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class CsvExporter extends AbstractDataGridExporter<CsvExporter> {
+
+    protected static final String LINE_SEPARATOR = "\r\n";
+
+    protected final AllEntitiesLoaderFactory allEntitiesLoaderFactory;
+
+    protected char separator = ',';
+    protected Charset charset = StandardCharsets.UTF_8;
+
+    public CsvExporter(AllEntitiesLoaderFactory allEntitiesLoaderFactory) {
+        this.allEntitiesLoaderFactory = allEntitiesLoaderFactory;
+    }
+
+    /**
+     * @return separator of values within a row
+     */
+    public char getSeparator() {
+        return separator;
+    }
+
+    /**
+     * Sets separator of values within a row. Comma is used by default.
+     *
+     * @param separator separator of values within a row
+     */
+    public void setSeparator(char separator) {
+        this.separator = separator;
+    }
+
+    public CsvExporter withSeparator(char separator) {
+        setSeparator(separator);
+        return this;
+    }
+
+    /**
+     * @return charset of the exported file
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Sets charset of the exported file. UTF-8 is used by default.
+     *
+     * @param charset charset of the exported file
+     */
+    public void setCharset(Charset charset) {
+        Preconditions.checkNotNullArgument(charset);
+        this.charset = charset;
+    }
+
+    public CsvExporter withCharset(Charset charset) {
+        setCharset(charset);
+        return this;
+    }
+
+    @Override
+    public void exportDataGrid(Downloader downloader, Grid<Object> dataGrid, ExportMode exportMode,
+                               Predicate<Grid.Column<Object>> columnFilter) {
+        Preconditions.checkNotNullArgument(downloader, "Downloader is null");
+
+        ListDataComponent<?> listDataComponent = (ListDataComponent<?>) dataGrid;
+        if (listDataComponent.getItems() == null) {
+            throw new IllegalStateException("DataGrid is not bound to data");
+        }
+
+        List<Grid.Column<Object>> columns = getColumns(dataGrid, columnFilter);
+        List<String> headers = columns.stream()
+                .map(this::getColumnHeaderText)
+                .toList();
+        List<ExportedColumn> exportedColumns = createExportedColumns(dataGrid, columns);
+        String fileName = getFileName(dataGrid) + "." + CSV.getFileExt();
+
+        AllEntitiesLoader.AllEntitiesLoading loading = exportMode == ExportMode.ALL_ROWS
+                ? allEntitiesLoaderFactory.getEntitiesLoader().prepareLoadAll(listDataComponent.getItems())
+                : null;
+        Collection<Object> items = loading == null
+                ? getItems(dataGrid, exportMode)
+                : null;
+
+        ExportWriter exportWriter = (outputStream, progress) -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, charset));
+            writeRow(writer, headers);
+
+            if (loading != null) {
+                loading.loadAll(context -> {
+                    writeEntityRow(writer, exportedColumns, context.getEntity());
+                    return progress.rowExported(context.getEntityNumber());
+                });
+            } else {
+                for (Object entity : items) {
+                    writeEntityRow(writer, exportedColumns, entity);
+                }
+            }
+
+            writer.flush();
+        };
+
+        if (isExportInBackground(exportMode, loading, exportedColumns)) {
+            long rowCount = allEntitiesLoaderFactory.getEntitiesLoader().getCount(listDataComponent.getItems());
+            exportInBackground(downloader, dataGrid, fileName, CSV, rowCount, exportWriter);
+        } else {
+            exportToFile(downloader, fileName, CSV, exportWriter);
+        }
+    }
+
+    protected void writeEntityRow(Writer writer, List<ExportedColumn> columns, Object entity) {
+        List<String> values = columns.stream()
+                .map(column -> formatColumnValue(column, column.getValue(entity)))
+                .toList();
+
+        try {
+            writeRow(writer, values);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write CSV row", e);
+        }
+    }
+
+    protected void writeRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(separator);
+            }
+            writer.write(escapeValue(values.get(i)));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Quotes the value according to RFC 4180 if it contains the separator, a double quote or a line break.
+     *
+     * @param value value to escape
+     * @return value that can be safely written to a CSV row
+     */
+    protected String escapeValue(@Nullable String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        boolean quotingRequired = value.indexOf(separator) >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+
+        return quotingRequired
+                ? '"' + value.replace("\"", "\"\"") + '"'
+                : value;
+    }
+
+    @Override
+    public String getLabel() {
+        return messages.getMessage("csvExporter.label");
+    }
+}
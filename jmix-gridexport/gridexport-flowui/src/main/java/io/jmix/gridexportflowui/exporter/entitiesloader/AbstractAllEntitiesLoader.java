@@ -16,6 +16,7 @@
 
 package io.jmix.gridexportflowui.exporter.entitiesloader;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.entity.KeyValueEntity;
@@ -24,10 +25,22 @@ import io.jmix.flowui.data.DataUnit;
 import io.jmix.flowui.model.*;
 import io.jmix.gridexportflowui.GridExportProperties;
 import io.jmix.gridexportflowui.exporter.EntityExportContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Base class for the all entities loader which is used to export to other data formats such as excel or json
@@ -39,6 +52,8 @@ public abstract class AbstractAllEntitiesLoader implements AllEntitiesLoader {
     protected PlatformTransactionManager platformTransactionManager;
     protected GridExportProperties gridExportProperties;
 
+    protected volatile ExecutorService prefetchExecutor;
+
     public AbstractAllEntitiesLoader(MetadataTools metadataTools,
                                      DataManager dataManager,
                                      PlatformTransactionManager platformTransactionManager,
@@ -64,24 +79,76 @@ public abstract class AbstractAllEntitiesLoader implements AllEntitiesLoader {
         Preconditions.checkNotNullArgument(exportedEntityVisitor,
                 "Cannot export all rows. Entity exporter can't be null");
 
+        prepareLoadAll(dataUnit).loadAll(exportedEntityVisitor);
+    }
+
+    /**
+     * Creates the load context from the state of the data loader in the current thread. The returned loading copies
+     * this context for each batch and can be performed outside the UI thread unless the data loader has a load
+     * delegate.
+     *
+     * @param dataUnit data unit linked with the data
+     * @return loading of all entities
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public AllEntitiesLoading prepareLoadAll(DataUnit dataUnit) {
+        Preconditions.checkNotNullArgument(dataUnit,
+                "Cannot export all rows. DataUnit can't be null");
+
         DataLoader dataLoader = getDataLoader(dataUnit);
         int loadBatchSize = gridExportProperties.getExportAllBatchSize();
 
-        TransactionTemplate transactionTemplate = new TransactionTemplate(platformTransactionManager);
-        transactionTemplate.executeWithoutResult(transactionStatus -> {
-            if (dataLoader instanceof CollectionLoader<?> collectionLoader) {
-                loadEntities(collectionLoader, exportedEntityVisitor, loadBatchSize);
-            } else if (dataLoader instanceof KeyValueCollectionLoader keyValueCollectionLoader) {
-                loadKeyValueEntities(keyValueCollectionLoader, exportedEntityVisitor, loadBatchSize);
-            } else {
-                throw new IllegalArgumentException("Cannot export all rows. Loader type is not supported.");
+        if (dataLoader instanceof CollectionLoader<?> collectionLoader) {
+            LoadContext<?> loadContext = generateLoadContext(collectionLoader);
+            Function<LoadContext<?>, List<?>> loadDelegate = (Function) collectionLoader.getLoadDelegate();
+            return new PreparedLoading(loadDelegate == null, exportedEntityVisitor ->
+                    loadEntities(loadContext, loadDelegate, exportedEntityVisitor, loadBatchSize));
+        } else if (dataLoader instanceof KeyValueCollectionLoader keyValueCollectionLoader) {
+            ValueLoadContext loadContext = keyValueCollectionLoader.createLoadContext();
+            Function<ValueLoadContext, List<KeyValueEntity>> loadDelegate = keyValueCollectionLoader.getDelegate();
+            return new PreparedLoading(loadDelegate == null, exportedEntityVisitor ->
+                    loadKeyValueEntities(loadContext, loadDelegate, exportedEntityVisitor, loadBatchSize));
+        } else {
+            throw new IllegalArgumentException("Cannot export all rows. Loader type is not supported.");
+        }
+    }
+
+    @Override
+    public long getCount(DataUnit dataUnit) {
+        DataLoader dataLoader = getDataLoader(dataUnit);
+        if (dataLoader instanceof CollectionLoader<?> collectionLoader && collectionLoader.getLoadDelegate() == null) {
+            LoadContext<?> loadContext = collectionLoader.createLoadContext();
+            LoadContext.Query query = loadContext.getQuery();
+            if (query != null) {
+                query.setFirstResult(0);
+                query.setMaxResults(0);
+                return dataManager.getCount(loadContext);
             }
-        });
+        }
+        return -1;
     }
 
     protected abstract LoadContext generateLoadContext(CollectionLoader loader);
 
-    protected abstract void loadEntities(CollectionLoader<?> collectionLoader,
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void loadEntities(CollectionLoader<?> collectionLoader,
+                                ExportedEntityVisitor exportedEntityVisitor,
+                                int loadBatchSize) {
+        loadEntities(generateLoadContext(collectionLoader), (Function) collectionLoader.getLoadDelegate(),
+                exportedEntityVisitor, loadBatchSize);
+    }
+
+    /**
+     * Loads entities in batches and exports each of them. The method doesn't access the data loader, so it can be
+     * invoked outside the UI thread if the load delegate is null.
+     *
+     * @param loadContext  load context created by {@link #generateLoadContext(CollectionLoader)}, it is copied
+     *                     for each batch
+     * @param loadDelegate load delegate of the data loader or null if entities are loaded by {@link DataManager}
+     */
+    protected abstract void loadEntities(LoadContext<?> loadContext,
+                                         @Nullable Function<LoadContext<?>, List<?>> loadDelegate,
                                          ExportedEntityVisitor exportedEntityVisitor,
                                          int loadBatchSize);
 
@@ -100,20 +167,32 @@ public abstract class AbstractAllEntitiesLoader implements AllEntitiesLoader {
     protected void loadKeyValueEntities(KeyValueCollectionLoader loader,
                                         ExportedEntityVisitor exportedEntityVisitor,
                                         int loadBatchSize) {
+        loadKeyValueEntities(loader.createLoadContext(), loader.getDelegate(), exportedEntityVisitor, loadBatchSize);
+    }
+
+    /**
+     * Loads key-value entities in batches and exports each of them. The method doesn't access the data loader,
+     * so it can be invoked outside the UI thread if the load delegate is null.
+     *
+     * @param loadContext  load context created by the data loader, its query is paged for each batch
+     * @param loadDelegate load delegate of the data loader or null if entities are loaded by {@link DataManager}
+     */
+    protected void loadKeyValueEntities(ValueLoadContext loadContext,
+                                        @Nullable Function<ValueLoadContext, List<KeyValueEntity>> loadDelegate,
+                                        ExportedEntityVisitor exportedEntityVisitor,
+                                        int loadBatchSize) {
         int rowNumber = 0;
         boolean proceedToExport = true;
         boolean lastBatchLoaded = false;
+        ValueLoadContext.Query query = getValueLoadContextQuery(loadContext);
 
         for (int firstResult = 0; !lastBatchLoaded && proceedToExport; firstResult += loadBatchSize) {
-            ValueLoadContext loadContext = loader.createLoadContext();
-            ValueLoadContext.Query query = getValueLoadContextQuery(loadContext);
-
             query.setFirstResult(firstResult);
             query.setMaxResults(loadBatchSize);
 
-            List<KeyValueEntity> keyValueEntities = loader.getDelegate() == null
+            List<KeyValueEntity> keyValueEntities = loadDelegate == null
                     ? dataManager.loadValues(loadContext)
-                    : loader.getDelegate().apply(loadContext);
+                    : loadDelegate.apply(loadContext);
             for (KeyValueEntity keyValueEntity : keyValueEntities) {
                 EntityExportContext entityExportContext = new EntityExportContext(keyValueEntity, ++rowNumber);
                 proceedToExport = exportedEntityVisitor.visitEntity(entityExportContext);
@@ -134,5 +213,86 @@ public abstract class AbstractAllEntitiesLoader implements AllEntitiesLoader {
         }
         return query;
     }
-}
 
+    /**
+     * Loading of all entities performed in a single transaction.
+     */
+    protected class PreparedLoading implements AllEntitiesLoading {
+
+        protected final boolean backgroundLoadingSupported;
+        protected final Consumer<ExportedEntityVisitor> loader;
+
+        public PreparedLoading(boolean backgroundLoadingSupported, Consumer<ExportedEntityVisitor> loader) {
+            this.backgroundLoadingSupported = backgroundLoadingSupported;
+            this.loader = loader;
+        }
+
+        @Override
+        public void loadAll(ExportedEntityVisitor exportedEntityVisitor) {
+            Preconditions.checkNotNullArgument(exportedEntityVisitor,
+                    "Cannot export all rows. Entity exporter can't be null");
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(platformTransactionManager);
+            transactionTemplate.executeWithoutResult(transactionStatus -> loader.accept(exportedEntityVisitor));
+        }
+
+        @Override
+        public boolean isBackgroundLoadingSupported() {
+            return backgroundLoadingSupported;
+        }
+    }
+
+    /**
+     * Executes the action in a separate thread with the security context of the current thread.
+     */
+    protected <E> Future<E> prefetch(Supplier<E> action) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return getPrefetchExecutor().submit(() -> {
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(authentication);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return action.get();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+    }
+
+    protected <E> E getPrefetched(Future<E> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Export of all rows has been interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Cannot load entities to export", e.getCause());
+        }
+    }
+
+    protected ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            synchronized (this) {
+                if (prefetchExecutor == null) {
+                    prefetchExecutor = Executors.newCachedThreadPool(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jmix-GridExportPrefetch-%d")
+                                    .setDaemon(true)
+                                    .build());
+                }
+            }
+        }
+        return prefetchExecutor;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+}
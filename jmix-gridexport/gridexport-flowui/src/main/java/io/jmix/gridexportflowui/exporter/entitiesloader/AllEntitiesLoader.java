@@ -38,6 +38,25 @@ public interface AllEntitiesLoader {
         boolean visitEntity(EntityExportContext entityExportContext);
     }
 
+    /**
+     * Loading of all entities prepared by {@link #prepareLoadAll(DataUnit)}.
+     */
+    interface AllEntitiesLoading {
+
+        /**
+         * Load entities and export each entity using the {@link ExportedEntityVisitor}
+         */
+        void loadAll(ExportedEntityVisitor exportedEntityVisitor);
+
+        /**
+         * @return true if the loading doesn't invoke a load delegate of the view and can be performed outside the
+         * UI thread
+         */
+        default boolean isBackgroundLoadingSupported() {
+            return false;
+        }
+    }
+
     /**
      * Type of data loading strategy defined as string constant.
      * {@link AllEntitiesLoaderFactory#getEntitiesLoader()} returns loader which pagination strategy equals to
@@ -49,4 +68,27 @@ public interface AllEntitiesLoader {
      * Load entities and export each entity using the {@link ExportedEntityVisitor}
      */
     void loadAll(DataUnit dataUnit, ExportedEntityVisitor exportedEntityVisitor);
+
+    /**
+     * Prepares loading of all entities associated with the given {@code dataUnit}. Implementations create load
+     * contexts from the state of the data loader in the current thread, so that the returned loading can be performed
+     * in another thread. The default implementation defers to {@link #loadAll(DataUnit, ExportedEntityVisitor)}
+     * and doesn't support loading outside the UI thread.
+     *
+     * @param dataUnit data unit linked with the data
+     * @return loading of all entities
+     */
+    default AllEntitiesLoading prepareLoadAll(DataUnit dataUnit) {
+        return exportedEntityVisitor -> loadAll(dataUnit, exportedEntityVisitor);
+    }
+
+    /**
+     * Returns the number of entities that will be loaded by {@link #loadAll(DataUnit, ExportedEntityVisitor)}.
+     *
+     * @param dataUnit data unit linked with the data
+     * @return number of entities or -1 if it cannot be determined
+     */
+    default long getCount(DataUnit dataUnit) {
+        return -1;
+    }
 }
@@ -24,11 +24,14 @@ import io.jmix.core.querycondition.PropertyCondition;
 import io.jmix.flowui.model.CollectionLoader;
 import io.jmix.gridexportflowui.GridExportProperties;
 import io.jmix.gridexportflowui.exporter.EntityExportContext;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * This loader implements the keyset pagination strategy. Entities retrieval is based on sorting
@@ -94,48 +97,74 @@ public class KeysetAllEntitiesLoader extends AbstractAllEntitiesLoader {
 
     /**
      * Sort entities by the primary key, load the first batch and save the last entity primary key value.
-     * Load the next batch with primary keys after the last entity primary key.
+     * Load the next batch with primary keys after the last entity primary key. If
+     * {@link GridExportProperties#isExportAllPrefetchEnabled()} is on and entities are loaded by {@link DataManager},
+     * the next batch is loaded in a separate thread while the entities of the current batch are being exported.
      * @param exportedEntityVisitor {@link ExportedEntityVisitor#visitEntity(EntityExportContext)}
      * @param loadBatchSize {@link GridExportProperties#getExportAllBatchSize()} number of entities loaded in one query
      */
-    protected void loadEntities(CollectionLoader<?> collectionLoader,
+    @Override
+    protected void loadEntities(LoadContext<?> loadContext,
+                                @Nullable Function<LoadContext<?>, List<?>> loadDelegate,
                                 ExportedEntityVisitor exportedEntityVisitor,
                                 int loadBatchSize) {
         int rowNumber = 0;
-        boolean initialLoading = true;
-        Object lastLoadedPkValue = null;
-        boolean proceedToExport = true;
-        boolean lastBatchLoaded = false;
-
-        while (!lastBatchLoaded && proceedToExport) {
-            LoadContext<?> loadContext = generateLoadContext(collectionLoader);
-            //query is not null - checked when generated load context
-            LoadContext.Query query = Objects.requireNonNull(loadContext.getQuery());
-
-            if (initialLoading) {
-                initialLoading = false;
-            } else {
-                query.setParameter(LAST_LOADED_PK_CONDITION_PARAMETER_NAME, lastLoadedPkValue);
+        boolean prefetchEnabled = loadDelegate == null && gridExportProperties.isExportAllPrefetchEnabled();
+        List<?> entities = loadBatch(loadContext, loadDelegate, null, loadBatchSize);
+
+        while (true) {
+            int loadedEntitiesAmount = entities.size();
+            boolean lastBatchLoaded = loadedEntitiesAmount == 0 || loadedEntitiesAmount < loadBatchSize;
+
+            Object lastLoadedPkValue = null;
+            Future<List<?>> nextBatch = null;
+            if (!lastBatchLoaded) {
+                lastLoadedPkValue = Id.of(entities.get(loadedEntitiesAmount - 1)).getValue();
+                if (prefetchEnabled) {
+                    Object pkValue = lastLoadedPkValue;
+                    nextBatch = prefetch(() -> loadBatch(loadContext, null, pkValue, loadBatchSize));
+                }
             }
-            query.setMaxResults(loadBatchSize);
 
-            List<?> entities = collectionLoader.getLoadDelegate() == null
-                    ? dataManager.loadList(loadContext)
-                    : collectionLoader.getLoadDelegate().apply((LoadContext) loadContext);
             for (Object entity : entities) {
                 EntityExportContext entityExportContext = new EntityExportContext(entity, ++rowNumber);
-                proceedToExport = exportedEntityVisitor.visitEntity(entityExportContext);
-                if (!proceedToExport) {
-                    break;
+                if (!exportedEntityVisitor.visitEntity(entityExportContext)) {
+                    if (nextBatch != null) {
+                        nextBatch.cancel(true);
+                    }
+                    return;
                 }
             }
 
-            int loadedEntitiesAmount = entities.size();
-            if (loadedEntitiesAmount > 0) {
-                Object lastEntity = entities.get(loadedEntitiesAmount - 1);
-                lastLoadedPkValue = Id.of(lastEntity).getValue();
+            if (lastBatchLoaded) {
+                return;
             }
-            lastBatchLoaded = loadedEntitiesAmount == 0 || loadedEntitiesAmount < loadBatchSize;
+            entities = nextBatch != null
+                    ? getPrefetched(nextBatch)
+                    : loadBatch(loadContext, loadDelegate, lastLoadedPkValue, loadBatchSize);
         }
     }
+
+    /**
+     * Loads entities with primary keys greater than the given value.
+     *
+     * @param loadContext       load context created by {@link #generateLoadContext(CollectionLoader)}, it is not
+     *                          modified by this method
+     * @param lastLoadedPkValue primary key of the last entity of the previous batch or null to load the first batch
+     */
+    protected List<?> loadBatch(LoadContext<?> loadContext, @Nullable Function<LoadContext<?>, List<?>> loadDelegate,
+                                @Nullable Object lastLoadedPkValue, int loadBatchSize) {
+        LoadContext<?> batchLoadContext = loadContext.copy();
+        //query is not null - checked when generated load context
+        LoadContext.Query query = Objects.requireNonNull(batchLoadContext.getQuery());
+
+        if (lastLoadedPkValue != null) {
+            query.setParameter(LAST_LOADED_PK_CONDITION_PARAMETER_NAME, lastLoadedPkValue);
+        }
+        query.setMaxResults(loadBatchSize);
+
+        return loadDelegate == null
+                ? dataManager.loadList(batchLoadContext)
+                : loadDelegate.apply(batchLoadContext);
+    }
 }
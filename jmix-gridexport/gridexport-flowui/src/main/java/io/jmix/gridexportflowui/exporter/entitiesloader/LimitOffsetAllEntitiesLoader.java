@@ -23,11 +23,13 @@ import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.flowui.model.CollectionLoader;
 import io.jmix.gridexportflowui.GridExportProperties;
 import io.jmix.gridexportflowui.exporter.EntityExportContext;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * This loader implements limit-offset pagination strategy. Entities are fetched in the same order as in the data store.
@@ -73,7 +75,9 @@ public class LimitOffsetAllEntitiesLoader extends AbstractAllEntitiesLoader {
      * @param loadBatchSize {@link GridExportProperties#getExportAllBatchSize()} number of entities loaded in one query
      */
     @Override
-    protected void loadEntities(CollectionLoader<?> collectionLoader, ExportedEntityVisitor exportedEntityVisitor,
+    protected void loadEntities(LoadContext<?> loadContext,
+                                @Nullable Function<LoadContext<?>, List<?>> loadDelegate,
+                                ExportedEntityVisitor exportedEntityVisitor,
                                 int loadBatchSize) {
         int rowNumber = 0;
         int firstResultNumber = 0;
@@ -81,15 +85,15 @@ public class LimitOffsetAllEntitiesLoader extends AbstractAllEntitiesLoader {
         boolean lastBatchLoaded = false;
 
         while (!lastBatchLoaded && proceedToExport) {
-            LoadContext<?> loadContext = generateLoadContext(collectionLoader);
+            LoadContext<?> batchLoadContext = loadContext.copy();
             //query is not null - checked when generated load context
-            LoadContext.Query query = Objects.requireNonNull(loadContext.getQuery());
+            LoadContext.Query query = Objects.requireNonNull(batchLoadContext.getQuery());
             query.setFirstResult(firstResultNumber);
             query.setMaxResults(loadBatchSize);
 
-            List<?> entities = collectionLoader.getLoadDelegate() == null
-                    ? dataManager.loadList(loadContext)
-                    : collectionLoader.getLoadDelegate().apply((LoadContext) loadContext);
+            List<?> entities = loadDelegate == null
+                    ? dataManager.loadList(batchLoadContext)
+                    : loadDelegate.apply(batchLoadContext);
             for (Object entity : entities) {
                 EntityExportContext entityExportContext = new EntityExportContext(entity, ++rowNumber);
                 proceedToExport = exportedEntityVisitor.visitEntity(entityExportContext);
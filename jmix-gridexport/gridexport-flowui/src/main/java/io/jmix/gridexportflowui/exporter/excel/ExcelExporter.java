@@ -16,10 +16,7 @@
 
 package io.jmix.gridexportflowui.exporter.excel;
 
-import com.google.common.base.Strings;
-import com.vaadin.flow.component.HasText;
 import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.component.grid.HeaderRow;
 import com.vaadin.flow.component.treegrid.TreeGrid;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
 import io.jmix.core.DateTimeTransformations;
@@ -36,13 +33,9 @@ import io.jmix.flowui.component.ListDataComponent;
 import io.jmix.flowui.component.grid.DataGrid;
 import io.jmix.flowui.component.grid.EnhancedDataGrid;
 import io.jmix.flowui.component.grid.TreeDataGrid;
-import io.jmix.flowui.component.grid.headerfilter.DataGridHeaderFilter;
 import io.jmix.flowui.data.grid.ContainerDataGridItems;
 import io.jmix.flowui.data.grid.ContainerTreeDataGridItems;
-import io.jmix.flowui.download.ByteArrayDownloadDataProvider;
 import io.jmix.flowui.download.Downloader;
-import io.jmix.flowui.kit.component.grid.JmixGrid;
-import io.jmix.flowui.kit.component.grid.JmixTreeGrid;
 import io.jmix.flowui.model.InstanceContainer;
 import io.jmix.gridexportflowui.GridExportProperties;
 import io.jmix.gridexportflowui.action.ExportAction;
@@ -61,8 +54,6 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Time;
 import java.text.ParseException;
@@ -109,7 +100,6 @@ public class ExcelExporter extends AbstractDataGridExporter<ExcelExporter> {
 
     protected boolean isRowNumberExceeded = false;
 
-    protected GridExportProperties gridExportProperties;
     protected Notifications notifications;
     protected AllEntitiesLoaderFactory allEntitiesLoaderFactory;
     protected CurrentAuthentication currentAuthentication;
@@ -153,197 +143,180 @@ public class ExcelExporter extends AbstractDataGridExporter<ExcelExporter> {
                                Predicate<Grid.Column<Object>> columnFilter) {
         Preconditions.checkNotNullArgument(downloader, "Downloader is null");
 
+        ContainerDataGridItems<Object> dataGridSource = (ContainerDataGridItems) ((ListDataComponent<Object>) dataGrid).getItems();
+        if (dataGridSource == null) {
+            throw new IllegalStateException("DataGrid is not bound to data");
+        }
+
+        List<Grid.Column<Object>> columns = getColumns(dataGrid, columnFilter);
+        List<ExportedColumn> exportedColumns = createExportedColumns(dataGrid, columns);
+        String fileName = getFileName(dataGrid) + "." + XLSX.getFileExt();
+
+        AllEntitiesLoader.AllEntitiesLoading loading = exportMode == ExportMode.ALL_ROWS
+                ? allEntitiesLoaderFactory.getEntitiesLoader().prepareLoadAll(dataGridSource)
+                : null;
+
         createWorkbookWithSheet();
         try {
             createFonts();
             createFormats();
+            createHeaderRow(columns);
+        } catch (RuntimeException e) {
+            disposeWorkBook();
+            throw e;
+        }
+
+        ExportWriter writer = (outputStream, progress) -> {
+            try {
+                if (loading != null) {
+                    createRows(loading, exportedColumns, progress);
+                } else {
+                    createRows(dataGrid, dataGridSource, columns, exportMode, progress);
+                }
 
-            List<Grid.Column<Object>> columns = getColumns(dataGrid, columnFilter);
+                for (int c = 0; c < columns.size(); c++) {
+                    sheet.setColumnWidth(c, sizers[c].getWidth() * COL_WIDTH_MAGIC);
+                }
 
-            int r = 0;
+                wb.write(outputStream);
+            } finally {
+                disposeWorkBook();
+            }
+        };
+
+        if (isExportInBackground(exportMode, loading, exportedColumns)) {
+            long rowCount = allEntitiesLoaderFactory.getEntitiesLoader().getCount(dataGridSource);
+            exportInBackground(downloader, dataGrid, fileName, XLSX,
+                    rowCount < 0 ? rowCount : Math.min(rowCount, MAX_ROW_COUNT - 1), writer);
+        } else {
+            exportToFile(downloader, fileName, XLSX, writer);
+        }
+    }
 
-            Row row = sheet.createRow(r);
-            createAutoColumnSizers(columns.size());
+    protected void createHeaderRow(List<Grid.Column<Object>> columns) {
+        Row row = sheet.createRow(0);
+        createAutoColumnSizers(columns.size());
 
-            float maxHeight = sheet.getDefaultRowHeightInPoints();
+        float maxHeight = sheet.getDefaultRowHeightInPoints();
 
-            CellStyle headerCellStyle = wb.createCellStyle();
-            headerCellStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            for (DataGrid.Column<?> column : columns) {
-                String columnHeaderText = getColumnHeaderText(column);
+        CellStyle headerCellStyle = wb.createCellStyle();
+        headerCellStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+        for (DataGrid.Column<?> column : columns) {
+            String columnHeaderText = getColumnHeaderText(column);
 
-                int countOfReturnSymbols = StringUtils.countMatches(columnHeaderText, "\n");
-                if (countOfReturnSymbols > 0) {
-                    maxHeight = Math.max(maxHeight, (countOfReturnSymbols + 1) * sheet.getDefaultRowHeightInPoints());
-                    headerCellStyle.setWrapText(true);
-                }
+            int countOfReturnSymbols = StringUtils.countMatches(columnHeaderText, "\n");
+            if (countOfReturnSymbols > 0) {
+                maxHeight = Math.max(maxHeight, (countOfReturnSymbols + 1) * sheet.getDefaultRowHeightInPoints());
+                headerCellStyle.setWrapText(true);
             }
-            row.setHeightInPoints(maxHeight);
+        }
+        row.setHeightInPoints(maxHeight);
 
-            for (int c = 0; c < columns.size(); c++) {
-                DataGrid.Column<?> column = columns.get(c);
-                String columnHeaderText = getColumnHeaderText(column);
+        for (int c = 0; c < columns.size(); c++) {
+            DataGrid.Column<?> column = columns.get(c);
+            String columnHeaderText = getColumnHeaderText(column);
 
-                Cell cell = row.createCell(c);
-                RichTextString richTextString = createStringCellValue(columnHeaderText);
-                richTextString.applyFont(boldFont);
-                cell.setCellValue(richTextString);
+            Cell cell = row.createCell(c);
+            RichTextString richTextString = createStringCellValue(columnHeaderText);
+            richTextString.applyFont(boldFont);
+            cell.setCellValue(richTextString);
 
-                ExcelAutoColumnSizer sizer = new ExcelAutoColumnSizer();
-                sizer.notifyCellValue(columnHeaderText, boldFont);
-                sizers[c] = sizer;
+            ExcelAutoColumnSizer sizer = new ExcelAutoColumnSizer();
+            sizer.notifyCellValue(columnHeaderText, boldFont);
+            sizers[c] = sizer;
 
-                cell.setCellStyle(headerCellStyle);
-            }
+            cell.setCellStyle(headerCellStyle);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void createRows(Grid<Object> dataGrid, ContainerDataGridItems<Object> dataGridSource,
+                              List<Grid.Column<Object>> columns, ExportMode exportMode, ExportProgress progress) {
+        int r = 0;
+
+        if (exportMode == ExportMode.SELECTED_ROWS && dataGrid.getSelectedItems().size() > 0) {
+            Set<Object> selected = dataGrid.getSelectedItems();
+            List<Object> ordered = dataGridSource.getContainer().getItems().stream()
+                    .filter(selected::contains)
+                    .collect(Collectors.toList());
+
+            for (Object item : ordered) {
+                if (checkIsRowNumberExceed(r)) {
+                    break;
+                }
 
-            ContainerDataGridItems<Object> dataGridSource = (ContainerDataGridItems) ((ListDataComponent<Object>) dataGrid).getItems();
-            if (dataGridSource == null) {
-                throw new IllegalStateException("DataGrid is not bound to data");
+                createDataGridRow(dataGrid, columns, 0, ++r, Id.of(item).getValue());
             }
 
-            if (exportMode == ExportMode.SELECTED_ROWS && dataGrid.getSelectedItems().size() > 0) {
-                Set<Object> selected = dataGrid.getSelectedItems();
-                List<Object> ordered = dataGridSource.getContainer().getItems().stream()
-                        .filter(selected::contains)
-                        .collect(Collectors.toList());
+        } else if (exportMode == ExportMode.CURRENT_PAGE) {
+            if (dataGrid instanceof TreeDataGrid treeDataGrid
+                    && dataGridSource instanceof ContainerTreeDataGridItems containerTreeDataGridItems) {
+
+                // only top level items
+                List<Object> items = containerTreeDataGridItems.getContainer().getItems().stream()
+                        .filter(entity -> containerTreeDataGridItems.getLevel(entity) == 0)
+                        .toList();
 
-                for (Object item : ordered) {
+                for (Object item : items) {
                     if (checkIsRowNumberExceed(r)) {
                         break;
                     }
 
-                    createDataGridRow(dataGrid, columns, 0, ++r, Id.of(item).getValue());
+                    r = createDataGridHierarchicalRow(treeDataGrid, ((ContainerTreeDataGridItems) dataGridSource),
+                            columns, 0, r, item);
                 }
-
-            } else if (exportMode == ExportMode.CURRENT_PAGE) {
-                if (dataGrid instanceof TreeDataGrid treeDataGrid
-                        && dataGridSource instanceof ContainerTreeDataGridItems containerTreeDataGridItems) {
-
-                    // only top level items
-                    List<Object> items = containerTreeDataGridItems.getContainer().getItems().stream()
-                            .filter(entity -> containerTreeDataGridItems.getLevel(entity) == 0)
-                            .toList();
-
-                    for (Object item : items) {
-                        if (checkIsRowNumberExceed(r)) {
-                            break;
-                        }
-
-                        r = createDataGridHierarchicalRow(treeDataGrid, ((ContainerTreeDataGridItems) dataGridSource),
-                                columns, 0, r, item);
+            } else {
+                for (Object itemId : dataGridSource.getContainer().getItems().stream()
+                        .map(entity -> Id.of(entity).getValue())
+                        .collect(Collectors.toList())
+                ) {
+                    if (checkIsRowNumberExceed(r)) {
+                        break;
                     }
-                } else {
-                    for (Object itemId : dataGridSource.getContainer().getItems().stream()
-                            .map(entity -> Id.of(entity).getValue())
-                            .collect(Collectors.toList())
-                    ) {
-                        if (checkIsRowNumberExceed(r)) {
-                            break;
-                        }
 
-                        createDataGridRow(dataGrid, columns, 0, ++r, itemId);
-                    }
+                    createDataGridRow(dataGrid, columns, 0, ++r, itemId);
                 }
-
-            } else if (exportMode == ExportMode.ALL_ROWS) {
-                boolean addLevelPadding = !(dataGrid instanceof TreeDataGrid);
-
-                AllEntitiesLoader entitiesLoader = allEntitiesLoaderFactory.getEntitiesLoader();
-                entitiesLoader.loadAll(
-                        ((ListDataComponent<?>) dataGrid).getItems(),
-                        context -> {
-                            if (!checkIsRowNumberExceed(context.getEntityNumber())) {
-                                createDataGridRowForEntityInstance(
-                                        dataGrid,
-                                        columns,
-                                        0,
-                                        context.getEntityNumber(),
-                                        context.getEntity(),
-                                        addLevelPadding);
-                                return true;
-                            }
-                            return false;
-                        });
-            }
-
-            for (int c = 0; c < columns.size(); c++) {
-                sheet.setColumnWidth(c, sizers[c].getWidth() * COL_WIDTH_MAGIC);
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            try {
-                wb.write(out);
-            } catch (IOException e) {
-                throw new RuntimeException("Unable to write document", e);
-            }
-
-            if (isXlsxMaxRowNumberExceeded()) {
-                showWarnNotification();
             }
 
-            ByteArrayDownloadDataProvider dataProvider = new ByteArrayDownloadDataProvider(out.toByteArray(),
-                    uiProperties.getSaveExportedByteArrayDataThresholdBytes(), coreProperties.getTempDir());
-
-
-            downloader.download(dataProvider, getFileName(dataGrid) + "." + XLSX.getFileExt(), XLSX);
-
-        } finally {
-            disposeWorkBook();
+        } else if (exportMode == ExportMode.ALL_ROWS) {
+            createRows(allEntitiesLoaderFactory.getEntitiesLoader().prepareLoadAll(dataGridSource),
+                    createExportedColumns(dataGrid, columns), progress);
         }
     }
 
-    protected String getColumnHeaderText(DataGrid.Column<?> column) {
-        String headerText = !isHeaderRowAppended(column)
-                ? column.getHeaderText()
-                : getDefaultHeaderText(column);
-
-        if (!Strings.isNullOrEmpty(headerText)) {
-            return headerText;
-        }
-
-        com.vaadin.flow.component.Component headerComponent = getDefaultHeaderComponent(column);
-
-        if (headerComponent instanceof HasText hasText) {
-            headerText = hasText.getText();
-        } else if (headerComponent instanceof DataGridHeaderFilter dataGridHeaderFilter
-                && dataGridHeaderFilter.getHeader() instanceof HasText hasText) {
-            headerText = hasText.getText();
-        }
-        return Strings.nullToEmpty(headerText);
+    /**
+     * Creates rows for all entities. Doesn't access the grid, so it can be invoked outside the UI thread if the
+     * columns and the loading support it.
+     */
+    protected void createRows(AllEntitiesLoader.AllEntitiesLoading loading, List<ExportedColumn> columns,
+                              ExportProgress progress) {
+        loading.loadAll(context -> {
+            if (!checkIsRowNumberExceed(context.getEntityNumber())) {
+                createRowForEntityInstance(columns, context.getEntityNumber(), context.getEntity());
+                return progress.rowExported(context.getEntityNumber());
+            }
+            return false;
+        });
     }
 
-    protected boolean isHeaderRowAppended(DataGrid.Column<?> column) {
-        return column.getParent().isPresent() && !(column.getParent().get() instanceof DataGrid<?>);
-    }
+    protected void createRowForEntityInstance(List<ExportedColumn> columns, int rowNumber, Object entityInstance) {
+        Row row = sheet.createRow(rowNumber);
 
-    @Nullable
-    protected String getDefaultHeaderText(Grid.Column<?> column) {
-        HeaderRow defaultHeaderRow = null;
+        for (int c = 0; c < columns.size(); c++) {
+            Cell cell = row.createCell(c);
 
-        if (column.getGrid() instanceof JmixGrid<?> jmixGrid) {
-            defaultHeaderRow = jmixGrid.getDefaultHeaderRow();
-        } else if (column.getGrid() instanceof JmixTreeGrid<?> jmixTreeGrid) {
-            defaultHeaderRow = jmixTreeGrid.getDefaultHeaderRow();
-        }
+            ExportedColumn column = columns.get(c);
+            Object cellValue = column.getValue(entityInstance);
 
-        return defaultHeaderRow == null
-                ? null
-                : defaultHeaderRow.getCell(column).getText();
+            formatValueCell(cell, cellValue, column.getMetaPropertyPath(), c, rowNumber, 0, null);
+        }
     }
 
-    @Nullable
-    protected com.vaadin.flow.component.Component getDefaultHeaderComponent(DataGrid.Column<?> column) {
-        HeaderRow defaultHeaderRow = null;
-
-        if (column.getGrid() instanceof JmixGrid<?> jmixGrid) {
-            defaultHeaderRow = jmixGrid.getDefaultHeaderRow();
-        } else if (column.getGrid() instanceof JmixTreeGrid<?> jmixTreeGrid) {
-            defaultHeaderRow = jmixTreeGrid.getDefaultHeaderRow();
+    @Override
+    protected void onExportDone() {
+        if (isXlsxMaxRowNumberExceeded()) {
+            showWarnNotification();
         }
-
-        return defaultHeaderRow == null
-                ? null
-                : defaultHeaderRow.getCell(column).getComponent();
     }
 
     protected int createDataGridHierarchicalRow(TreeGrid<?> dataGrid, ContainerTreeDataGridItems<Object> treeDataGridItems,
@@ -732,35 +705,4 @@ public class ExcelExporter extends AbstractDataGridExporter<ExcelExporter> {
             ((SXSSFWorkbook) wb).dispose();
         }
     }
-
-    protected List<Grid.Column<Object>> getColumns(Grid<Object> grid, Predicate<Grid.Column<Object>> columnFilter) {
-        List<Grid.Column<Object>> columns = grid.getColumns().stream()
-                .filter(columnFilter)
-                .toList();
-
-        List<Grid.Column<Object>> allColumns = getOrderedColumns(grid);
-        if (allColumns.isEmpty()) {
-            return columns;
-        }
-
-        return allColumns.stream()
-                .filter(columns::contains)
-                .toList();
-    }
-
-    /**
-     * Returns a list of all columns (including those hidden by security) in the correct order for Jmix extensions
-     * of {@link Grid}. Otherwise, it returns {@link Grid#getColumns()}.
-     *
-     * @param grid grid from which to get all columns
-     * @return all (with hidden by security) columns list that has correct order
-     */
-    protected List<Grid.Column<Object>> getOrderedColumns(Grid<Object> grid) {
-        if (grid instanceof DataGrid<Object> dataGrid) {
-            return dataGrid.getAllColumns();
-        } else if (grid instanceof TreeDataGrid<Object> treeDataGrid) {
-            return treeDataGrid.getAllColumns();
-        }
-        return grid.getColumns();
-    }
 }
@@ -17,15 +17,11 @@
 package io.jmix.gridexportflowui.exporter.json;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonWriter;
 import com.vaadin.flow.component.grid.Grid;
 import io.jmix.core.Metadata;
-import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.flowui.component.ListDataComponent;
 import io.jmix.flowui.component.grid.DataGrid;
-import io.jmix.flowui.component.grid.EnhancedDataGrid;
-import io.jmix.flowui.component.grid.TreeDataGrid;
-import io.jmix.flowui.data.grid.ContainerTreeDataGridItems;
-import io.jmix.flowui.download.ByteArrayDownloadDataProvider;
 import io.jmix.flowui.download.DownloadFormat;
 import io.jmix.flowui.download.Downloader;
 import io.jmix.gridexportflowui.action.ExportAction;
@@ -37,13 +33,12 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * Use this class to export {@link DataGrid} into JSON format.
@@ -78,50 +73,67 @@ public class JsonExporter extends AbstractDataGridExporter<JsonExporter> {
     public void exportDataGrid(Downloader downloader, Grid<Object> dataGrid, ExportMode exportMode,
                                Predicate<Grid.Column<Object>> columnFilter) {
         Gson gson = createGsonForSerialization();
-        JsonArray jsonElements = new JsonArray();
-
-        if (exportMode == ExportMode.ALL_ROWS) {
-            AllEntitiesLoader entitiesLoader = allEntitiesLoaderFactory.getEntitiesLoader();
-            entitiesLoader.loadAll(((ListDataComponent<?>) dataGrid).getItems(),
-                    context -> {
-                        JsonObject jsonObject = createJsonObjectFromEntity(dataGrid, context.getEntity(), columnFilter);
-                        jsonElements.add(jsonObject);
-                        return true;
-                    });
-        } else {
-            Collection<Object> items = getItems(dataGrid, exportMode);
+        String fileName = getFileName(dataGrid) + ".json";
 
-            for (Object entity : items) {
-                JsonObject jsonObject = createJsonObjectFromEntity(dataGrid, entity, columnFilter);
-                jsonElements.add(jsonObject);
+        List<Grid.Column<Object>> columns = dataGrid.getColumns().stream()
+                .filter(columnFilter)
+                .toList();
+        List<ExportedColumn> exportedColumns = createExportedColumns(dataGrid, columns);
+
+        AllEntitiesLoader.AllEntitiesLoading loading = exportMode == ExportMode.ALL_ROWS
+                ? allEntitiesLoaderFactory.getEntitiesLoader().prepareLoadAll(((ListDataComponent<?>) dataGrid).getItems())
+                : null;
+        Collection<Object> items = loading == null
+                ? getItems(dataGrid, exportMode)
+                : null;
+
+        ExportWriter writer = (outputStream, progress) -> {
+            JsonWriter jsonWriter = gson.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            jsonWriter.beginArray();
+
+            if (loading != null) {
+                loading.loadAll(context -> {
+                    JsonObject jsonObject = createJsonObjectFromEntity(exportedColumns, context.getEntity());
+                    gson.toJson(jsonObject, jsonWriter);
+                    return progress.rowExported(context.getEntityNumber());
+                });
+            } else {
+                for (Object entity : items) {
+                    JsonObject jsonObject = createJsonObjectFromEntity(exportedColumns, entity);
+                    gson.toJson(jsonObject, jsonWriter);
+                }
             }
-        }
 
-        ByteArrayDownloadDataProvider downloadDataProvider = new ByteArrayDownloadDataProvider(
-                gson.toJson(jsonElements).getBytes(StandardCharsets.UTF_8),
-                uiProperties.getSaveExportedByteArrayDataThresholdBytes(),
-                coreProperties.getTempDir()
-        );
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        };
 
-        downloader.download(downloadDataProvider, getFileName(dataGrid) + ".json", DownloadFormat.JSON);
+        if (isExportInBackground(exportMode, loading, exportedColumns)) {
+            long rowCount = allEntitiesLoaderFactory.getEntitiesLoader().getCount(((ListDataComponent<?>) dataGrid).getItems());
+            exportInBackground(downloader, dataGrid, fileName, DownloadFormat.JSON, rowCount, writer);
+        } else {
+            exportToFile(downloader, fileName, DownloadFormat.JSON, writer);
+        }
     }
 
     protected JsonObject createJsonObjectFromEntity(Grid<Object> dataGrid, Object entity,
                                                     Predicate<Grid.Column<Object>> columnFilter) {
-        JsonObject jsonObject = new JsonObject();
-
         List<Grid.Column<Object>> columns = dataGrid.getColumns().stream()
                 .filter(columnFilter)
                 .toList();
 
-        for (Grid.Column<Object> column : columns) {
-            Object columnValue = getColumnValue(dataGrid, column, entity);
-            //noinspection unchecked,rawtypes
-            MetaPropertyPath metaPropertyPath = ((EnhancedDataGrid) dataGrid).getColumnMetaPropertyPath(column);
+        return createJsonObjectFromEntity(createExportedColumns(dataGrid, columns), entity);
+    }
+
+    protected JsonObject createJsonObjectFromEntity(List<ExportedColumn> columns, Object entity) {
+        JsonObject jsonObject = new JsonObject();
+
+        for (ExportedColumn column : columns) {
+            Object columnValue = column.getValue(entity);
 
             if (columnValue != null) {
                 jsonObject.add(column.getKey(),
-                        new JsonPrimitive(formatValue(columnValue, metaPropertyPath)));
+                        new JsonPrimitive(formatColumnValue(column, columnValue)));
             } else {
                 jsonObject.add(column.getKey(), JsonNull.INSTANCE);
             }
@@ -139,24 +151,6 @@ public class JsonExporter extends AbstractDataGridExporter<JsonExporter> {
         return gsonBuilder.create();
     }
 
-    protected Collection<Object> getItems(Grid<Object> dataGrid, ExportMode exportMode) {
-        return ExportMode.CURRENT_PAGE == exportMode
-                ? getDataGridItems(dataGrid)
-                : dataGrid.getSelectedItems();
-    }
-
-    @SuppressWarnings("unchecked")
-    protected Collection<Object> getDataGridItems(Grid<Object> dataGrid) {
-        if (dataGrid instanceof TreeDataGrid) {
-            TreeDataGrid<Object> treeDataGrid = (TreeDataGrid<Object>) dataGrid;
-
-            return new ArrayList<>(
-                    ((ContainerTreeDataGridItems<Object>) treeDataGrid.getItems()).getContainer().getItems());
-        }
-
-        return dataGrid.getGenericDataView().getItems().collect(Collectors.toList());
-    }
-
     @Override
     public String getLabel() {
         return messages.getMessage("jsonExporter.label");
@@ -19,6 +19,8 @@ package io.jmix.pessimisticlock;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.pslock")
 public class PessimisticLockProperties {
 
@@ -32,10 +34,27 @@ public class PessimisticLockProperties {
      */
     boolean useDefaultQuartzConfiguration;
 
+    /**
+     * Interval between full scans of the locks cache performed by the lock expiration. Locks acquired by the current
+     * application instance are expired by deadline without scanning, the full scan is needed only for locks acquired
+     * by other cluster members or before restart. Zero means scanning on every expiration run.
+     */
+    Duration expirationFullScanInterval;
+
+    /**
+     * Whether to put locks with timeouts to the cache with a per-entry expiry policy if the cache provider supports
+     * it natively (e.g. Hazelcast JCache). Such locks are expired by the cache provider.
+     */
+    boolean nativeTtlEnabled;
+
     public PessimisticLockProperties(@DefaultValue("0 * * * * ?") String expirationCron,
-                           @DefaultValue("true") boolean useDefaultQuartzConfiguration) {
+                           @DefaultValue("true") boolean useDefaultQuartzConfiguration,
+                           @DefaultValue("10m") Duration expirationFullScanInterval,
+                           @DefaultValue("false") boolean nativeTtlEnabled) {
         this.expirationCron = expirationCron;
         this.useDefaultQuartzConfiguration = useDefaultQuartzConfiguration;
+        this.expirationFullScanInterval = expirationFullScanInterval;
+        this.nativeTtlEnabled = nativeTtlEnabled;
     }
 
     /**
@@ -51,4 +70,18 @@ public class PessimisticLockProperties {
     public boolean isUseDefaultQuartzConfiguration() {
         return useDefaultQuartzConfiguration;
     }
+
+    /**
+     * @see #expirationFullScanInterval
+     */
+    public Duration getExpirationFullScanInterval() {
+        return expirationFullScanInterval;
+    }
+
+    /**
+     * @see #nativeTtlEnabled
+     */
+    public boolean isNativeTtlEnabled() {
+        return nativeTtlEnabled;
+    }
 }
\ No newline at end of file
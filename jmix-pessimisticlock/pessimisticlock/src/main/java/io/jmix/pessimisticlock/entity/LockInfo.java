@@ -41,6 +41,7 @@ public class LockInfo implements Serializable {
     private final String objectId;
     private final Date since;
     private final String username;
+    private final Date expiresAt;
 
     @Id
     @JmixProperty
@@ -52,15 +53,22 @@ public class LockInfo implements Serializable {
         this.objectId = null;
         this.since = null;
         this.username = null;
+        this.expiresAt = null;
     }
 
     public LockInfo(@Nullable String username, String objectType, String objectId,
                     Date since) {
+        this(username, objectType, objectId, since, null);
+    }
+
+    public LockInfo(@Nullable String username, String objectType, String objectId,
+                    Date since, @Nullable Date expiresAt) {
         this.id = UuidProvider.createUuid();
         this.objectType = objectType;
         this.objectId = objectId;
         this.since = since;
         this.username = username;
+        this.expiresAt = expiresAt;
     }
 
     public UUID getId() {
@@ -92,6 +100,14 @@ public class LockInfo implements Serializable {
         return since;
     }
 
+    /**
+     * @return when the lock expires or null if the lock has no timeout
+     */
+    @Nullable
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
     /**
      * @return username of the user which holds the lock
      */
@@ -23,6 +23,7 @@ import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.CurrentAuthentication;
 import io.jmix.pessimisticlock.LockDescriptorProvider;
 import io.jmix.pessimisticlock.LockManager;
+import io.jmix.pessimisticlock.PessimisticLockProperties;
 import io.jmix.pessimisticlock.entity.LockDescriptor;
 import io.jmix.pessimisticlock.entity.LockInfo;
 import io.jmix.pessimisticlock.entity.LockNotSupported;
@@ -35,10 +36,31 @@ import org.springframework.lang.Nullable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.MutableEntry;
 import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps pessimistic locks in the {@link LockManager#LOCKS_CACHE_NAME} cache.
+ * <p>
+ * Locks acquired by the current application instance are registered in a local index ordered by expiration deadline,
+ * so {@link #expireLocks()} removes expired locks without iterating over the cache. The cache is scanned only once
+ * in {@link PessimisticLockProperties#getExpirationFullScanInterval()} to expire locks acquired by other cluster
+ * members. Locks are removed only if the cache still contains the same lock, so concurrent expiration on several
+ * cluster members does not remove locks acquired again.
+ */
 @Component("pslock_LockManagerImpl")
 public class LockManagerImpl implements LockManager {
 
@@ -51,12 +73,36 @@ public class LockManagerImpl implements LockManager {
     protected final CurrentAuthentication currentAuthentication;
     protected final CacheManager cacheManager;
     protected final CacheOperations cacheOperations;
+    protected final PessimisticLockProperties properties;
     protected List<LockDescriptorProvider> lockDescriptorProviders;
 
     protected volatile Map<String, LockDescriptor> config;
 
     protected Cache locks;
 
+    /**
+     * Locks acquired by the current application instance and not expired by the cache provider.
+     */
+    protected final Map<LockKey, LocalLock> localLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Locks acquired by the current application instance having timeouts, ordered by deadline.
+     */
+    protected final NavigableSet<LocalLock> expirationQueue = new ConcurrentSkipListSet<>();
+
+    protected final AtomicLong localLockSequence = new AtomicLong();
+
+    protected volatile long lastFullScanTime;
+
+    /**
+     * {@code putIfAbsent(key, value, ExpiryPolicy)} method of the native cache if it supports per-entry expiration.
+     */
+    protected Method nativeTtlPutMethod;
+
+    protected final LongAdder lockCount = new LongAdder();
+    protected final LongAdder contentionCount = new LongAdder();
+    protected final LongAdder expiredCount = new LongAdder();
+
     public LockManagerImpl(ExtendedEntities extendedEntities,
                            Metadata metadata,
                            MetadataTools metadataTools,
@@ -64,6 +110,7 @@ public class LockManagerImpl implements LockManager {
                            CurrentAuthentication currentAuthentication,
                            CacheManager cacheManager,
                            CacheOperations cacheOperations,
+                           PessimisticLockProperties properties,
                            List<LockDescriptorProvider> lockDescriptorProviders) {
         this.extendedEntities = extendedEntities;
         this.metadata = metadata;
@@ -72,6 +119,7 @@ public class LockManagerImpl implements LockManager {
         this.currentAuthentication = currentAuthentication;
         this.cacheManager = cacheManager;
         this.cacheOperations = cacheOperations;
+        this.properties = properties;
         this.lockDescriptorProviders = lockDescriptorProviders;
     }
 
@@ -81,6 +129,25 @@ public class LockManagerImpl implements LockManager {
         if (locks == null) {
             throw new IllegalStateException(String.format("Unable to find cache: %s", LOCKS_CACHE_NAME));
         }
+        if (properties.isNativeTtlEnabled()) {
+            nativeTtlPutMethod = findNativeTtlPutMethod(locks.getNativeCache());
+            if (nativeTtlPutMethod == null) {
+                log.warn("Cache '{}' does not support per-entry expiration, locks are expired by LockManager",
+                        LOCKS_CACHE_NAME);
+            }
+        }
+    }
+
+    @Nullable
+    protected Method findNativeTtlPutMethod(Object nativeCache) {
+        if (nativeCache instanceof javax.cache.Cache) {
+            try {
+                return nativeCache.getClass().getMethod("putIfAbsent", Object.class, Object.class, ExpiryPolicy.class);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        return null;
     }
 
     protected Map<String, LockDescriptor> getConfig() {
@@ -108,19 +175,86 @@ public class LockManagerImpl implements LockManager {
 
         LockKey key = new LockKey(name, id);
         UserDetails user = currentAuthentication.getUser();
-        LockInfo lockInfo = new LockInfo(user.getUsername(), name, id, timeSource.currentTimestamp());
-
-        Cache.ValueWrapper lockInfoWrapper = locks.putIfAbsent(key, lockInfo);
-        if (lockInfoWrapper == null) {
+        Date since = timeSource.currentTimestamp();
+        Integer timeoutSec = ld.getTimeoutSec();
+        boolean hasTimeout = timeoutSec != null && timeoutSec > 0;
+        Date expiresAt = hasTimeout ? new Date(since.getTime() + TimeUnit.SECONDS.toMillis(timeoutSec)) : null;
+        LockInfo lockInfo = new LockInfo(user.getUsername(), name, id, since, expiresAt);
+
+        boolean nativeTtl = hasTimeout && nativeTtlPutMethod != null;
+        LockInfo existingLockInfo = nativeTtl
+                ? putIfAbsentWithTtl(key, lockInfo, timeoutSec)
+                : putIfAbsent(key, lockInfo);
+        if (existingLockInfo == null) {
             log.debug("Locked {}/{}", name, id);
+            lockCount.increment();
+            if (!nativeTtl) {
+                registerLocalLock(key, lockInfo);
+            }
             return null;
         } else {
-            LockInfo existingLockInfo = (LockInfo) lockInfoWrapper.get();
             log.debug("Already locked: {}", existingLockInfo);
+            contentionCount.increment();
             return existingLockInfo;
         }
     }
 
+    @Nullable
+    protected LockInfo putIfAbsent(LockKey key, LockInfo lockInfo) {
+        Cache.ValueWrapper lockInfoWrapper = locks.putIfAbsent(key, lockInfo);
+        return lockInfoWrapper == null ? null : (LockInfo) lockInfoWrapper.get();
+    }
+
+    @Nullable
+    protected LockInfo putIfAbsentWithTtl(LockKey key, LockInfo lockInfo, int timeoutSec) {
+        ExpiryPolicy expiryPolicy = new CreatedExpiryPolicy(new javax.cache.expiry.Duration(TimeUnit.SECONDS, timeoutSec));
+        try {
+            Boolean put = (Boolean) nativeTtlPutMethod.invoke(locks.getNativeCache(), key, lockInfo, expiryPolicy);
+            if (Boolean.TRUE.equals(put)) {
+                return null;
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException("Unable to put lock to the cache", e);
+        }
+        LockInfo existingLockInfo = locks.get(key, LockInfo.class);
+        // the existing lock has just expired
+        return existingLockInfo == null ? putIfAbsent(key, lockInfo) : existingLockInfo;
+    }
+
+    protected void registerLocalLock(LockKey key, LockInfo lockInfo) {
+        Date expiresAt = lockInfo.getExpiresAt();
+        LocalLock localLock = new LocalLock(key, lockInfo,
+                expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime(),
+                localLockSequence.incrementAndGet());
+        LocalLock previous = localLocks.put(key, localLock);
+        if (previous != null) {
+            expirationQueue.remove(previous);
+        }
+        if (expiresAt != null) {
+            expirationQueue.add(localLock);
+        }
+    }
+
+    protected void unregisterLocalLock(LockKey key) {
+        LocalLock localLock = localLocks.remove(key);
+        if (localLock != null) {
+            expirationQueue.remove(localLock);
+        }
+    }
+
+    protected void unregisterLocalLock(LockKey key, LockInfo lockInfo) {
+        LocalLock localLock = localLocks.get(key);
+        if (localLock != null && Objects.equals(localLock.lockInfo.getId(), lockInfo.getId())) {
+            unregisterLocalLock(localLock);
+        }
+    }
+
+    protected void unregisterLocalLock(LocalLock localLock) {
+        if (localLocks.remove(localLock.key, localLock)) {
+            expirationQueue.remove(localLock);
+        }
+    }
+
     @Nullable
     @Override
     public LockInfo lock(Object entity) {
@@ -134,7 +268,9 @@ public class LockManagerImpl implements LockManager {
 
     @Override
     public void unlock(String name, String id) {
-        if (locks.evictIfPresent(new LockKey(name, id))) {
+        LockKey key = new LockKey(name, id);
+        unregisterLocalLock(key);
+        if (locks.evictIfPresent(key)) {
             log.debug("Unlocked {}/{}", name, id);
         }
     }
@@ -171,40 +307,195 @@ public class LockManagerImpl implements LockManager {
 
     @Override
     public void expireLocks() {
-        if (cacheOperations.isIterableCache(locks)) {
-            log.trace("Start expiring locks operation");
-            Collection<LockKey> keys = cacheOperations.getKeys(locks);
-            for (LockKey key : keys) {
-                LockInfo lockInfo = locks.get(key, LockInfo.class);
-                if (lockInfo != null) {
-                    LockDescriptor ld = getConfig().get(key.name);
-                    if (ld == null) {
-                        log.debug("Lock {}/{} configuration not found, remove it", key.name, key.id);
-                        locks.evict(key);
-                    } else {
-                        Integer timeoutSec = ld.getTimeoutSec();
-                        if (timeoutSec != null && timeoutSec > 0) {
-                            Date since = lockInfo.getSince();
-                            if (since.getTime() + timeoutSec * 1000 < timeSource.currentTimestamp().getTime()) {
-                                log.debug("Lock {}/{} expired", key.name, key.id);
-                                locks.evict(key);
-                            }
-                        }
+        log.trace("Start expiring locks operation");
+        long now = timeSource.currentTimestamp().getTime();
+        expireLocalLocks(now);
+
+        Duration fullScanInterval = properties.getExpirationFullScanInterval();
+        if (now - lastFullScanTime >= fullScanInterval.toMillis()) {
+            lastFullScanTime = now;
+            if (cacheOperations.isIterableCache(locks)) {
+                expireCachedLocks(now);
+            } else if (nativeTtlPutMethod == null) {
+                log.debug("Expiring locks of other cluster members is unsupported by cache provider");
+            }
+        }
+    }
+
+    /**
+     * Removes expired locks acquired by the current application instance.
+     */
+    protected void expireLocalLocks(long now) {
+        while (!expirationQueue.isEmpty()) {
+            LocalLock localLock = expirationQueue.first();
+            if (localLock.deadline > now) {
+                break;
+            }
+            if (expirationQueue.remove(localLock)) {
+                localLocks.remove(localLock.key, localLock);
+                if (removeLock(localLock.key, localLock.lockInfo)) {
+                    log.debug("Lock {}/{} expired", localLock.key.name, localLock.key.id);
+                    expiredCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates over the locks cache and removes expired locks including the ones acquired by other cluster members.
+     */
+    protected void expireCachedLocks(long now) {
+        log.trace("Scan locks cache for expired locks");
+        long scanSequence = localLockSequence.get();
+        Collection<LockKey> keys = cacheOperations.getKeys(locks);
+        for (LockKey key : keys) {
+            LockInfo lockInfo = locks.get(key, LockInfo.class);
+            if (lockInfo != null) {
+                LockDescriptor ld = getConfig().get(key.name);
+                if (ld == null) {
+                    log.debug("Lock {}/{} configuration not found, remove it", key.name, key.id);
+                    if (removeLock(key, lockInfo)) {
+                        unregisterLocalLock(key, lockInfo);
                     }
-                } else {
-                    log.trace("Lock info not found for key '{}'", key);
+                } else if (isExpired(lockInfo, ld, now) && removeLock(key, lockInfo)) {
+                    log.debug("Lock {}/{} expired", key.name, key.id);
+                    unregisterLocalLock(key, lockInfo);
+                    expiredCount.increment();
                 }
+            } else {
+                log.trace("Lock info not found for key '{}'", key);
+            }
+        }
+
+        // locks released by other cluster members
+        for (LocalLock localLock : localLocks.values()) {
+            if (localLock.sequence <= scanSequence && !keys.contains(localLock.key)) {
+                unregisterLocalLock(localLock);
             }
-        } else {
-            log.debug("Expiring locks operation is unsupported by cache provider");
         }
     }
 
+    protected boolean isExpired(LockInfo lockInfo, LockDescriptor ld, long now) {
+        if (lockInfo.getExpiresAt() != null) {
+            return lockInfo.getExpiresAt().getTime() < now;
+        }
+        Integer timeoutSec = ld.getTimeoutSec();
+        return timeoutSec != null && timeoutSec > 0
+                && lockInfo.getSince().getTime() + TimeUnit.SECONDS.toMillis(timeoutSec) < now;
+    }
+
+    /**
+     * Removes the lock from the cache if the cache still contains the given lock. Locks are compared by
+     * {@link LockInfo#getId()}, so the method also works for caches storing copies of values.
+     *
+     * @return true if the lock was removed
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean removeLock(LockKey key, LockInfo lockInfo) {
+        Object nativeCache = locks.getNativeCache();
+        if (nativeCache instanceof javax.cache.Cache) {
+            Boolean removed = ((javax.cache.Cache<Object, Object>) nativeCache)
+                    .invoke(key, new RemoveLockEntryProcessor(lockInfo.getId()));
+            return Boolean.TRUE.equals(removed);
+        }
+        if (nativeCache instanceof ConcurrentMap) {
+            ConcurrentMap<Object, Object> map = (ConcurrentMap<Object, Object>) nativeCache;
+            Object storedValue = map.get(key);
+            if (storedValue == null) {
+                return false;
+            }
+            if (storedValue instanceof LockInfo current) {
+                return Objects.equals(current.getId(), lockInfo.getId()) && map.remove(key, storedValue);
+            }
+            // the map stores serialized values, fall back to the non-atomic removal
+        }
+        LockInfo current = locks.get(key, LockInfo.class);
+        if (current != null && Objects.equals(current.getId(), lockInfo.getId())) {
+            locks.evict(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return number of locks acquired by the current application instance and not released or expired yet
+     */
+    public int getLocalLockCount() {
+        return localLocks.size();
+    }
+
+    /**
+     * @return number of successful lock attempts
+     */
+    public long getLockCount() {
+        return lockCount.sum();
+    }
+
+    /**
+     * @return number of lock attempts on objects locked by somebody else
+     */
+    public long getContentionCount() {
+        return contentionCount.sum();
+    }
+
+    /**
+     * @return number of locks removed by expiration
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
     @Override
     public void reloadConfiguration() {
         config = null;
     }
 
+    /**
+     * Atomically removes a JCache entry if it contains the lock with the given id.
+     */
+    protected static class RemoveLockEntryProcessor implements EntryProcessor<Object, Object, Boolean>, Serializable {
+
+        private static final long serialVersionUID = 2880353466377419637L;
+
+        protected final UUID lockId;
+
+        public RemoveLockEntryProcessor(UUID lockId) {
+            this.lockId = lockId;
+        }
+
+        @Override
+        public Boolean process(MutableEntry<Object, Object> entry, Object... arguments) {
+            if (entry.exists()
+                    && entry.getValue() instanceof LockInfo current
+                    && Objects.equals(current.getId(), lockId)) {
+                entry.remove();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    protected static class LocalLock implements Comparable<LocalLock> {
+
+        protected final LockKey key;
+        protected final LockInfo lockInfo;
+        protected final long deadline;
+        protected final long sequence;
+
+        protected LocalLock(LockKey key, LockInfo lockInfo, long deadline, long sequence) {
+            this.key = key;
+            this.lockInfo = lockInfo;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(LocalLock o) {
+            int result = Long.compare(deadline, o.deadline);
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
+        }
+    }
+
     public static class LockKey implements Serializable {
         private static final long serialVersionUID = -79055072974087187L;
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.pessimisticlock.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+@ManagedResource(description = "Provides statistics of pessimistic locks", objectName = "jmix.pslock:type=LockManager")
+@Component("pslock_LockManagerManagementFacade")
+public class LockManagerManagementFacade {
+
+    @Autowired
+    private LockManagerImpl lockManager;
+
+    @ManagedAttribute(description = "Number of locks acquired by this application instance and not released yet")
+    public int getLocalLockCount() {
+        return lockManager.getLocalLockCount();
+    }
+
+    @ManagedAttribute(description = "Number of successful lock attempts")
+    public long getLockCount() {
+        return lockManager.getLockCount();
+    }
+
+    @ManagedAttribute(description = "Number of lock attempts on objects locked by somebody else")
+    public long getContentionCount() {
+        return lockManager.getContentionCount();
+    }
+
+    @ManagedAttribute(description = "Number of locks removed by expiration")
+    public long getExpiredCount() {
+        return lockManager.getExpiredCount();
+    }
+
+    @ManagedOperation(description = "Removes expired locks")
+    public void expireLocks() {
+        lockManager.expireLocks();
+    }
+}
@@ -21,10 +21,12 @@ import io.jmix.core.Metadata
 import io.jmix.core.security.SystemAuthenticator
 import io.jmix.pessimisticlock.LockManager
 import io.jmix.pessimisticlock.entity.LockInfo
+import io.jmix.pessimisticlock.impl.LockManagerImpl
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
 import test_support.PessimisticLockTestConfiguration
+import test_support.TestTimeSource
 import test_support.entity.LockableChildEntity
 import test_support.entity.LockableParentEntity
 
@@ -43,11 +45,15 @@ class LockManagerTest extends Specification {
     @Autowired
     SystemAuthenticator authenticator
 
+    @Autowired
+    TestTimeSource timeSource
+
     void setup() {
         authenticator.begin()
     }
 
     void cleanup() {
+        timeSource.reset()
         authenticator.end()
     }
 
@@ -92,4 +98,54 @@ class LockManagerTest extends Specification {
         then:
         assertNull(lockInfo)
     }
+
+    def "Test lock deadline and statistics"() {
+        LockableParentEntity entity = metadata.create(LockableParentEntity.class)
+        entity.setName("Test name")
+        LockManagerImpl lockManagerImpl = lockManager as LockManagerImpl
+        long lockCount = lockManagerImpl.lockCount
+        long contentionCount = lockManagerImpl.contentionCount
+
+        when:
+        lockManager.lock(entity)
+        LockInfo existingLockInfo = lockManager.lock(entity)
+        then:
+        existingLockInfo.expiresAt.time - existingLockInfo.since.time == 120_000
+        lockManagerImpl.lockCount == lockCount + 1
+        lockManagerImpl.contentionCount == contentionCount + 1
+        lockManagerImpl.localLockCount >= 1
+
+        when:
+        lockManager.expireLocks()
+        then:
+        lockManager.getLockInfo("pslock_LockableParentEntity", entity.getId().toString()) != null
+
+        when:
+        lockManager.unlock(entity)
+        then:
+        lockManager.getLockInfo("pslock_LockableParentEntity", entity.getId().toString()) == null
+    }
+
+    def "Test expired lock is removed"() {
+        LockableParentEntity entity = metadata.create(LockableParentEntity.class)
+        entity.setName("Test name")
+        LockManagerImpl lockManagerImpl = lockManager as LockManagerImpl
+        long expiredCount = lockManagerImpl.expiredCount
+
+        when:
+        lockManager.lock(entity)
+        timeSource.shift(121_000)
+        lockManager.expireLocks()
+        then:
+        lockManager.getLockInfo("pslock_LockableParentEntity", entity.getId().toString()) == null
+        lockManagerImpl.expiredCount == expiredCount + 1
+
+        when:
+        LockInfo existingLockInfo = lockManager.lock(entity)
+        then:
+        existingLockInfo == null
+
+        cleanup:
+        lockManager.unlock(entity)
+    }
 }
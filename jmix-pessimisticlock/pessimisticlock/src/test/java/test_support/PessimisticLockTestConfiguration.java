@@ -27,6 +27,7 @@ import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 
 @Configuration
@@ -36,7 +37,16 @@ public class PessimisticLockTestConfiguration {
 
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        // store copies of values like JCache and distributed caches do
+        cacheManager.setStoreByValue(true);
+        return cacheManager;
+    }
+
+    @Bean
+    @Primary
+    public TestTimeSource testTimeSource() {
+        return new TestTimeSource();
     }
 
     @Bean
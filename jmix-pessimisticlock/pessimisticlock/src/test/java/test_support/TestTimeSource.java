@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support;
+
+import io.jmix.core.TimeSource;
+
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+/**
+ * {@link TimeSource} which allows tests to move the current time forward.
+ */
+public class TestTimeSource implements TimeSource {
+
+    private volatile long offsetMillis;
+
+    public void shift(long millis) {
+        offsetMillis += millis;
+    }
+
+    public void reset() {
+        offsetMillis = 0;
+    }
+
+    @Override
+    public Date currentTimestamp() {
+        return new Date(currentTimeMillis());
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis() + offsetMillis;
+    }
+
+    @Override
+    public ZonedDateTime now() {
+        return ZonedDateTime.now().plusNanos(offsetMillis * 1_000_000);
+    }
+}
@@ -154,6 +154,20 @@ public class ReportsProperties {
      */
     boolean multilineStringsProcessingEnabled;
 
+    /**
+     * If enabled - rows of XLSX reports are written directly to the result file instead of the in-memory document,
+     * so that large reports are rendered in constant memory. Applied only to templates consisting of plain tabular
+     * bands: horizontal bands occupying their own rows without formulas, images and hints.
+     */
+    boolean xlsxStreamingEnabled;
+
+    /**
+     * Maximum number of first level bands of a report loaded concurrently. Bands are loaded one by one if the value
+     * is 1. Bands using the same parameters and bands with Groovy datasets are always loaded in the order of
+     * definition.
+     */
+    int bandExtractionParallelism;
+
     public ReportsProperties(@DefaultValue("/") String officePath,
                              @DefaultValue({"8100", "8101", "8102", "8103"}) List<Integer> officePorts,
                              @DefaultValue("20") int docFormatterTimeout,
@@ -178,6 +192,8 @@ public class ReportsProperties {
                              @DefaultValue("false") boolean useOfficeForDocumentConversion,
                              @DefaultValue("false") boolean formulasPostProcessingEvaluationEnabled,
                              @DefaultValue("false") boolean multilineStringsProcessingEnabled,
+                             @DefaultValue("false") boolean xlsxStreamingEnabled,
+                             @DefaultValue("1") int bandExtractionParallelism,
                              @DefaultValue({"htm", "html", "jpg", "png", "jpeg", "pdf"}) List<String> viewFileExtensions) {
         this.officePath = officePath;
         this.officePorts = officePorts;
@@ -203,6 +219,8 @@ public class ReportsProperties {
         this.useOfficeForDocumentConversion = useOfficeForDocumentConversion;
         this.formulasPostProcessingEvaluationEnabled = formulasPostProcessingEvaluationEnabled;
         this.multilineStringsProcessingEnabled = multilineStringsProcessingEnabled;
+        this.xlsxStreamingEnabled = xlsxStreamingEnabled;
+        this.bandExtractionParallelism = bandExtractionParallelism;
         this.viewFileExtensions = viewFileExtensions;
     }
 
@@ -369,4 +387,18 @@ public class ReportsProperties {
     public boolean isMultilineStringsProcessingEnabled() {
         return multilineStringsProcessingEnabled;
     }
-}
\ No newline at end of file
+
+    /**
+     * @see #xlsxStreamingEnabled
+     */
+    public boolean isXlsxStreamingEnabled() {
+        return xlsxStreamingEnabled;
+    }
+
+    /**
+     * @see #bandExtractionParallelism
+     */
+    public int getBandExtractionParallelism() {
+        return bandExtractionParallelism;
+    }
+}
@@ -88,6 +88,13 @@ public class ReportExecution {
     @Lob
     private String errorMessage;
 
+    /**
+     * Time spent on loading data of the first level bands
+     */
+    @Column(name = "BAND_TIMINGS")
+    @Lob
+    private String bandTimings;
+
     @PostConstruct
     public void postConstruct() {
         success = false;
@@ -206,6 +213,14 @@ public class ReportExecution {
         this.errorMessage = errorMessage;
     }
 
+    public String getBandTimings() {
+        return bandTimings;
+    }
+
+    public void setBandTimings(String bandTimings) {
+        this.bandTimings = bandTimings;
+    }
+
     @JmixProperty
     @DependsOnProperties({"finishTime", "startTime"})
     public Long getExecutionTimeSec() {
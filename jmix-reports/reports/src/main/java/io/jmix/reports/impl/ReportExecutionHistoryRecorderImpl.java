@@ -91,6 +91,7 @@ public class ReportExecutionHistoryRecorderImpl implements ReportExecutionHistor
         handleSessionExpired(() -> {
             execution.setSuccess(true);
             execution.setFinishTime(timeSource.currentTimestamp());
+            setBandTimings(execution, document);
             if (shouldSaveDocument(execution, document)) {
                 try {
                     FileRef reference = saveDocument(document);
@@ -138,6 +139,18 @@ public class ReportExecutionHistoryRecorderImpl implements ReportExecutionHistor
         reportExecution.setParams(builder.toString());
     }
 
+    protected void setBandTimings(ReportExecution execution, ReportOutputDocument document) {
+        Map<String, Long> bandExtractionTimes = document.getBandExtractionTimes();
+        if (bandExtractionTimes == null || bandExtractionTimes.isEmpty()) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> entry : bandExtractionTimes.entrySet()) {
+            builder.append(String.format("band: %s, time: %d ms", entry.getKey(), entry.getValue())).append("\n");
+        }
+        execution.setBandTimings(builder.toString());
+    }
+
     private void handleNewReportEntity(ReportExecution entity) {
         Report report = entity.getReport();
 
@@ -16,10 +16,22 @@
 
 package io.jmix.reports.libintegration;
 
+import io.jmix.reports.entity.DataSet;
 import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory;
 import io.jmix.reports.ReportsProperties;
+import io.jmix.reports.yarg.loaders.impl.AbstractDbDataLoader;
 import io.jmix.reports.yarg.reporting.DataExtractorImpl;
+import io.jmix.reports.yarg.structure.ReportQuery;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
 
 public class JmixDataExtractor extends DataExtractorImpl {
 
@@ -34,4 +46,67 @@ public class JmixDataExtractor extends DataExtractorImpl {
     public boolean getPutEmptyRowIfNoDataSelected() {
         return Boolean.TRUE.equals(reportsProperties.getPutEmptyRowIfNoDataSelected());
     }
-}
\ No newline at end of file
+
+    @Override
+    public int getBandExtractionParallelism() {
+        return reportsProperties.getBandExtractionParallelism();
+    }
+
+    @Override
+    protected <T> Supplier<T> decorateBandExtraction(Supplier<T> task) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return () -> {
+            // the context is not shared, so authentication changes in the worker do not affect the caller
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(authentication);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return task.get();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    @Override
+    protected void collectQueryParameters(ReportQuery query, BandParameters bandParameters) {
+        String loaderType = query.getLoaderType();
+        Map<String, Object> additionalParams = query.getAdditionalParams();
+        if ("jpql".equals(loaderType)) {
+            if (Boolean.TRUE.equals(query.getProcessTemplate())) {
+                bandParameters.setReadsAll(true);
+            } else {
+                Matcher matcher = AbstractDbDataLoader.COMMON_PARAM_PATTERN.matcher(
+                        StringUtils.defaultString(query.getScript()));
+                while (matcher.find()) {
+                    bandParameters.getRead().add(matcher.group(1));
+                }
+            }
+        } else if ("single".equals(loaderType)) {
+            String paramName = additionalParams == null ? null : (String) additionalParams.get(DataSet.ENTITY_PARAM_NAME);
+            if (StringUtils.isBlank(paramName)) {
+                paramName = SingleEntityDataLoader.DEFAULT_ENTITY_PARAM_NAME;
+            }
+            // the loader replaces the parameter value with the reloaded entity
+            bandParameters.getRead().add(paramName);
+            bandParameters.getWritten().add(paramName);
+        } else if ("multi".equals(loaderType)) {
+            String paramName = additionalParams == null ? null : (String) additionalParams.get(DataSet.LIST_ENTITIES_PARAM_NAME);
+            if (StringUtils.isBlank(paramName)) {
+                paramName = MultiEntityDataLoader.DEFAULT_LIST_ENTITIES_PARAM_NAME;
+            }
+            bandParameters.getRead().add(paramName);
+            bandParameters.getRead().add(
+                    StringUtils.substringBefore(paramName, MultiEntityDataLoader.NESTED_COLLECTION_SEPARATOR));
+            bandParameters.getWritten().add(paramName);
+        } else {
+            super.collectQueryParameters(query, bandParameters);
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void shutdown() {
+        super.shutdown();
+    }
+}
@@ -65,6 +65,7 @@ public class JmixFormatterFactory extends DefaultFormatterFactory {
             xlsxFormatter.setDocumentConverter(documentConverter);
             xlsxFormatter.setScripting(scripting);
             xlsxFormatter.setFormulasPostProcessingEvaluationEnabled(reportsProperties.isFormulasPostProcessingEvaluationEnabled());
+            xlsxFormatter.setStreamingEnabled(reportsProperties.isXlsxStreamingEnabled());
             return xlsxFormatter;
         };
         formattersMap.put("xlsx", xlsxCreator);
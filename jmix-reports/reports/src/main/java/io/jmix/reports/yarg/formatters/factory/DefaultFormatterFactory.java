@@ -50,6 +50,8 @@ public class DefaultFormatterFactory implements ReportFormatterFactory {
 
     protected boolean formulasPostProcessingEvaluationEnabled;
 
+    protected boolean xlsxStreamingEnabled;
+
     public DefaultFormatterFactory() {
         htmlImportProcessor = new HtmlImportProcessorImpl();
         htmlToPdfConverterFactory = new HtmlToPdfConverterFactory();
@@ -96,6 +98,7 @@ public class DefaultFormatterFactory implements ReportFormatterFactory {
             xlsxFormatter.setDocumentConverter(documentConverter);
             xlsxFormatter.setScripting(scripting);
             xlsxFormatter.setFormulasPostProcessingEvaluationEnabled(formulasPostProcessingEvaluationEnabled);
+            xlsxFormatter.setStreamingEnabled(xlsxStreamingEnabled);
             return xlsxFormatter;
         };
         formattersMap.put("xlsx", xlsxCreator);
@@ -160,6 +163,14 @@ public class DefaultFormatterFactory implements ReportFormatterFactory {
         this.formulasPostProcessingEvaluationEnabled = formulasPostProcessingEvaluationEnabled;
     }
 
+    public boolean isXlsxStreamingEnabled() {
+        return xlsxStreamingEnabled;
+    }
+
+    public void setXlsxStreamingEnabled(boolean xlsxStreamingEnabled) {
+        this.xlsxStreamingEnabled = xlsxStreamingEnabled;
+    }
+
     public ReportFormatter createFormatter(FormatterFactoryInput factoryInput) {
         String templateExtension = factoryInput.templateExtension;
         BandData rootBand = factoryInput.rootBand;
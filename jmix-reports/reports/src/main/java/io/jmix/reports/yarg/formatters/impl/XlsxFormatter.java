@@ -27,7 +27,9 @@ import io.jmix.reports.yarg.formatters.impl.xlsx.ChartUtils;
 import io.jmix.reports.yarg.formatters.impl.xlsx.Document;
 import io.jmix.reports.yarg.formatters.impl.xlsx.Range;
 import io.jmix.reports.yarg.formatters.impl.xlsx.RangeDependencies;
+import io.jmix.reports.yarg.formatters.impl.xlsx.StreamingSheetWriter;
 import io.jmix.reports.yarg.formatters.impl.xlsx.XlsxImage;
+import io.jmix.reports.yarg.formatters.impl.xlsx.XlsxUtils;
 import io.jmix.reports.yarg.formatters.impl.xlsx.hints.XslxHintProcessor;
 import io.jmix.reports.yarg.structure.BandData;
 import io.jmix.reports.yarg.structure.BandOrientation;
@@ -69,6 +71,7 @@ import org.docx4j.openpackaging.parts.WordprocessingML.BinaryPartAbstractImage;
 import org.docx4j.openpackaging.parts.relationships.RelationshipsPart;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 import org.xlsx4j.jaxb.Context;
 import org.xlsx4j.sml.*;
 
@@ -78,6 +81,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.List;
 import java.util.regex.Matcher;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import static io.jmix.reports.yarg.formatters.impl.xlsx.XlsxUtils.attachImageToCell;
 import static io.jmix.reports.yarg.formatters.impl.xlsx.XlsxUtils.computeColumnIndex;
@@ -113,6 +119,13 @@ public class XlsxFormatter extends AbstractFormatter {
 
     protected boolean formulasPostProcessingEvaluationEnabled = false;
 
+    protected boolean streamingEnabled = false;
+    protected boolean streaming;
+    protected Map<String, StreamedBandTemplate> streamedBandTemplates = new HashMap<>();
+    protected Map<String, StreamingSheetWriter> streamingSheetWriters = new LinkedHashMap<>();
+    protected Map<Range, Range> firstStreamedRanges = new LinkedHashMap<>();
+    protected Map<Range, Range> lastStreamedRanges = new HashMap<>();
+
     protected Unmarshaller unmarshaller;
     protected Marshaller marshaller;
 
@@ -129,6 +142,15 @@ public class XlsxFormatter extends AbstractFormatter {
         this.formulasPostProcessingEvaluationEnabled = formulasPostProcessingEvaluationEnabled;
     }
 
+    /**
+     * Enables writing rows of the result directly to the worksheet XML instead of the docx4j document, so that
+     * memory consumption does not depend on the number of rendered rows. Used only if the template consists of
+     * plain tabular bands, see {@link #isStreamingApplicable()}.
+     */
+    public void setStreamingEnabled(boolean streamingEnabled) {
+        this.streamingEnabled = streamingEnabled;
+    }
+
     @Override
     public void renderDocument() {
         init();
@@ -141,22 +163,35 @@ public class XlsxFormatter extends AbstractFormatter {
         result.clearWorkbook();
         result.clearBandDefinedNames(rootBand);
 
-        for (BandData childBand : rootBand.getChildrenList()) {
-            checkThreadInterrupted();
-            writeBand(childBand);
-        }
-
-        updateOutlines();
-        updateMergeRegions();
-        updateCharts();
-        updateFormulas();
-        updatePivotTables();
-        updateConditionalFormatting();
-        updateHeaderAndFooter();
-        updateSheetNames();
-        hintProcessor.apply();
+        streaming = isStreamingApplicable();
+        try {
+            if (streaming) {
+                writeStreamedBands();
+            } else {
+                for (BandData childBand : rootBand.getChildrenList()) {
+                    checkThreadInterrupted();
+                    writeBand(childBand);
+                }
+            }
 
-        saveAndClose();
+            updateOutlines();
+            if (streaming) {
+                updateStreamedMergeRegions();
+            } else {
+                updateMergeRegions();
+            }
+            updateCharts();
+            updateFormulas();
+            updatePivotTables();
+            updateConditionalFormatting();
+            updateHeaderAndFooter();
+            updateSheetNames();
+            hintProcessor.apply();
+
+            saveAndClose();
+        } finally {
+            closeStreamingSheetWriters();
+        }
 
         templateImages.clear();
     }
@@ -184,7 +219,10 @@ public class XlsxFormatter extends AbstractFormatter {
                 calcChain.remove();
             }
 
-            if (ReportOutputType.csv.equals(outputType)) {
+            if (streaming) {
+                writeStreamedPackage(outputStream);
+                outputStream.flush();
+            } else if (ReportOutputType.csv.equals(outputType)) {
                 saveXlsxAsCsv(result, outputStream);
                 outputStream.flush();
             } else {
@@ -463,6 +501,11 @@ public class XlsxFormatter extends AbstractFormatter {
                     for (Range templateRange : rangeDependencies.templates()) {
                         if (templateRange.contains(formulaRange)) {
                             List<Range> resultRanges = new ArrayList<>(rangeDependencies.resultsForTemplate(templateRange));
+                            if (streaming) {
+                                // only the first and the last rendered ranges are kept, cover everything between them
+                                references.add(calculateFormulaRangeChange(formulaRange, templateRange, resultRanges).toRange());
+                                continue;
+                            }
                             for (Range resultRange : resultRanges) {
                                 Offset offset = calculateOffset(templateRange, resultRange);
                                 Range shift = formulaRange.copy().shift(offset.downOffset, offset.rightOffset);
@@ -1139,6 +1182,305 @@ public class XlsxFormatter extends AbstractFormatter {
         }
     }
 
+    /**
+     * Checks whether rows of the result can be written directly to the worksheet XML. It is possible if streaming is
+     * enabled, the result is XLSX and all bands are horizontal, occupy their own rows and do not contain formulas,
+     * images, hints and content inliners.
+     */
+    protected boolean isStreamingApplicable() {
+        if (!streamingEnabled) {
+            return false;
+        }
+        if (!ReportOutputType.xlsx.equals(outputType)) {
+            return streamingNotApplicable("output type is " + outputType);
+        }
+        if (!templateImages.isEmpty()) {
+            return streamingNotApplicable("bands contain images");
+        }
+        for (CTDefinedName definedName : template.getWorkbook().getDefinedNames().getDefinedName()) {
+            if (hintProcessor.isHintDefinedName(definedName.getName())) {
+                return streamingNotApplicable("template contains hints");
+            }
+        }
+        if (!isStreamingApplicable(rootBand.getChildrenList())) {
+            return false;
+        }
+
+        List<Range> bandRanges = new ArrayList<>();
+        for (StreamedBandTemplate bandTemplate : streamedBandTemplates.values()) {
+            if (bandTemplate != null) {
+                bandRanges.add(bandTemplate.range);
+            }
+        }
+        for (int i = 0; i < bandRanges.size(); i++) {
+            for (int j = i + 1; j < bandRanges.size(); j++) {
+                if (bandRanges.get(i).intersectsByVertical(bandRanges.get(j))) {
+                    return streamingNotApplicable(String.format("named ranges %s and %s share rows",
+                            bandRanges.get(i), bandRanges.get(j)));
+                }
+            }
+        }
+        return true;
+    }
+
+    protected boolean isStreamingApplicable(List<BandData> bands) {
+        for (BandData band : bands) {
+            if (BandOrientation.HORIZONTAL != band.getOrientation()) {
+                return streamingNotApplicable(String.format("band [%s] is vertical", band.getName()));
+            }
+            if (!streamedBandTemplates.containsKey(band.getName())) {
+                Range templateRange = getBandRange(band);
+                if (templateRange != null && !isStreamingApplicable(band.getName(), templateRange)) {
+                    return false;
+                }
+                streamedBandTemplates.put(band.getName(),
+                        templateRange != null ? createStreamedBandTemplate(templateRange) : null);
+            }
+            // children of a band without named range are not rendered
+            if (streamedBandTemplates.get(band.getName()) != null && !isStreamingApplicable(band.getChildrenList())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean isStreamingApplicable(String bandName, Range templateRange) {
+        for (Cell templateCell : template.getCellsByRange(templateRange).values()) {
+            if (templateCell.getF() != null) {
+                return streamingNotApplicable(String.format("cell [%s] of band [%s] contains formula",
+                        templateCell.getR(), bandName));
+            }
+            if (templateCell.getIs() != null) {
+                return streamingNotApplicable(String.format("cell [%s] of band [%s] contains rich text",
+                        templateCell.getR(), bandName));
+            }
+            String cellValue = template.getCellValue(templateCell);
+            if (cellValue != null && UNIVERSAL_ALIAS_PATTERN.matcher(cellValue).matches()) {
+                String parameterName = unwrapParameterName(cellValue);
+                String formatString = getFormatString(parameterName, bandName + "." + parameterName);
+                if (getContentInlinerForFormat(formatString) != null) {
+                    return streamingNotApplicable(String.format("cell [%s] of band [%s] uses content inliner",
+                            templateCell.getR(), bandName));
+                }
+            }
+        }
+        return true;
+    }
+
+    protected boolean streamingNotApplicable(String reason) {
+        log.debug("Streaming is not applicable to template [{}]: {}", reportTemplate.getDocumentName(), reason);
+        return false;
+    }
+
+    protected StreamedBandTemplate createStreamedBandTemplate(Range templateRange) {
+        Worksheet templateSheet = template.getSheetByName(templateRange.getSheet());
+        StreamedBandTemplate bandTemplate = new StreamedBandTemplate(templateRange);
+        for (int i = 0; i <= templateRange.getLastRow() - templateRange.getFirstRow(); i++) {
+            Range oneRowRange = new Range(templateRange.getSheet(),
+                    templateRange.getFirstColumn(), templateRange.getFirstRow() + i,
+                    templateRange.getLastColumn(), templateRange.getFirstRow() + i);
+            Map<CellReference, Cell> cellsForOneRowRange = template.getCellsByRange(oneRowRange);
+            List<Cell> templateCells = new ArrayList<>(cellsForOneRowRange.values());
+            Row templateRow = !templateCells.isEmpty() ? (Row) templateCells.get(0).getParent() : null;
+
+            createFakeTemplateCellsForEmptyOnes(oneRowRange, cellsForOneRowRange, templateCells);
+
+            StreamedRowTemplate rowTemplate = new StreamedRowTemplate(templateRow, findRowBreak(templateSheet, templateRow));
+            for (Cell templateCell : templateCells) {
+                CellReference cellReference = new CellReference(templateRange.getSheet(), templateCell.getR());
+                rowTemplate.cells.add(templateCell);
+                rowTemplate.columns.add(XlsxUtils.getColumnReferenceFromNumber(cellReference.getColumn()));
+            }
+            bandTemplate.rows.add(rowTemplate);
+        }
+
+        if (templateSheet.getMergeCells() != null && templateSheet.getMergeCells().getMergeCell() != null) {
+            for (CTMergeCell templateMergeRegion : templateSheet.getMergeCells().getMergeCell()) {
+                Range mergeRange = Range.fromRange(templateRange.getSheet(), templateMergeRegion.getRef());
+                if (templateRange.contains(mergeRange) || templateRange.isOneCellRange() && mergeRange.contains(templateRange)) {
+                    bandTemplate.mergeRanges.add(mergeRange);
+                }
+            }
+        }
+        return bandTemplate;
+    }
+
+    @Nullable
+    protected CTBreak findRowBreak(Worksheet templateSheet, @Nullable Row templateRow) {
+        CTPageBreak rowBreaks = templateSheet.getRowBreaks();
+        if (templateRow != null && rowBreaks != null && rowBreaks.getBrk() != null) {
+            for (CTBreak templateBreak : rowBreaks.getBrk()) {
+                if (templateRow.getR().equals(templateBreak.getId())) {
+                    return templateBreak;
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void writeStreamedBands() {
+        for (BandData childBand : rootBand.getChildrenList()) {
+            checkThreadInterrupted();
+            writeStreamedBand(childBand);
+        }
+
+        // charts and pivot tables need only the first and the last rendered ranges
+        for (Map.Entry<Range, Range> entry : firstStreamedRanges.entrySet()) {
+            Range templateRange = entry.getKey();
+            Range lastResultRange = lastStreamedRanges.get(templateRange);
+            rangeDependencies.addDependency(templateRange, entry.getValue());
+            if (!lastResultRange.equals(entry.getValue())) {
+                rangeDependencies.addDependency(templateRange, lastResultRange);
+            }
+        }
+    }
+
+    protected void writeStreamedBand(BandData band) {
+        StreamedBandTemplate bandTemplate = streamedBandTemplates.get(band.getName());
+        if (bandTemplate == null) {
+            return;
+        }
+
+        Range templateRange = bandTemplate.range;
+        StreamingSheetWriter writer = getStreamingSheetWriter(templateRange.getSheet());
+        int offset = (int) writer.getLastRow() + 1 - templateRange.getFirstRow();
+        try {
+            for (StreamedRowTemplate rowTemplate : bandTemplate.rows) {
+                long rowNumber = writer.startRow(rowTemplate.height, rowTemplate.outlineLevel);
+                for (int i = 0; i < rowTemplate.cells.size(); i++) {
+                    checkThreadInterrupted();
+                    Cell newCell = createStreamedCell(rowTemplate.cells.get(i), rowTemplate.columns.get(i) + rowNumber);
+                    updateCell(null, band, newCell);
+                    writer.writeCell(newCell.getR(), newCell.getS(), newCell.getT(), newCell.getV());
+                }
+                writer.endRow();
+
+                if (rowTemplate.rowBreak != null) {
+                    addRowBreak(templateRange.getSheet(), rowTemplate.rowBreak, rowNumber);
+                }
+            }
+            for (Range mergeRange : bandTemplate.mergeRanges) {
+                writer.writeMergeCell(mergeRange.copy().shift(offset, 0).toRange());
+            }
+        } catch (ReportingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw wrapWithReportingException(String.format("An error occurred while rendering band [%s]", band.getName()), e);
+        }
+
+        Range resultRange = templateRange.copy().shift(offset, 0);
+        firstStreamedRanges.putIfAbsent(templateRange, resultRange);
+        lastStreamedRanges.put(templateRange, resultRange);
+
+        for (BandData child : band.getChildrenList()) {
+            writeStreamedBand(child);
+        }
+    }
+
+    protected Cell createStreamedCell(Cell templateCell, String reference) {
+        Cell newCell = Context.getsmlObjectFactory().createCell();
+        newCell.setR(reference);
+        newCell.setS(templateCell.getS());
+        newCell.setT(templateCell.getT());
+        newCell.setV(templateCell.getV());
+        return newCell;
+    }
+
+    protected void addRowBreak(String sheetName, CTBreak templateBreak, long rowNumber) {
+        CTPageBreak resultRowBreaks = result.getSheetByName(sheetName).getRowBreaks();
+        CTBreak newBreak = XmlUtils.deepCopy(templateBreak, Context.jcSML);
+        newBreak.setId(rowNumber);
+        resultRowBreaks.getBrk().add(newBreak);
+
+        long rowBreaksCount = resultRowBreaks.getBrk().size();
+        resultRowBreaks.setCount(rowBreaksCount);
+        resultRowBreaks.setManualBreakCount(rowBreaksCount);
+    }
+
+    protected StreamingSheetWriter getStreamingSheetWriter(String sheetName) {
+        StreamingSheetWriter writer = streamingSheetWriters.get(sheetName);
+        if (writer == null) {
+            try {
+                writer = new StreamingSheetWriter(sheetName);
+            } catch (IOException e) {
+                throw wrapWithReportingException("Unable to create temporary file for rows of sheet " + sheetName, e);
+            }
+            streamingSheetWriters.put(sheetName, writer);
+        }
+        return writer;
+    }
+
+    protected void updateStreamedMergeRegions() {
+        for (StreamingSheetWriter writer : streamingSheetWriters.values()) {
+            if (writer.getMergeCellsCount() > 0) {
+                Worksheet resultSheet = result.getSheetByName(writer.getSheetName());
+                if (resultSheet.getMergeCells() == null) {
+                    CTMergeCells resultMergeCells = new CTMergeCells();
+                    resultMergeCells.setParent(resultSheet);
+                    resultSheet.setMergeCells(resultMergeCells);
+                }
+                CTMergeCell placeholder = new CTMergeCell();
+                placeholder.setRef(StreamingSheetWriter.MERGE_CELLS_PLACEHOLDER);
+                placeholder.setParent(resultSheet.getMergeCells());
+                resultSheet.getMergeCells().getMergeCell().add(placeholder);
+                resultSheet.getMergeCells().setCount(null);
+            }
+        }
+    }
+
+    /**
+     * Saves the result package and replaces the placeholders in the worksheets with the streamed rows.
+     */
+    protected void writeStreamedPackage(OutputStream outputStream) throws IOException, Docx4JException {
+        Map<String, StreamingSheetWriter> writersByEntryName = new HashMap<>();
+        for (Document.SheetWrapper sheetWrapper : result.getWorksheets()) {
+            StreamingSheetWriter writer = streamingSheetWriters.get(sheetWrapper.getName());
+            if (writer != null) {
+                Row placeholder = Context.getsmlObjectFactory().createRow();
+                placeholder.setR(StreamingSheetWriter.ROWS_PLACEHOLDER);
+                Worksheet worksheet = result.getWorksheetContents(sheetWrapper);
+                placeholder.setParent(worksheet.getSheetData());
+                worksheet.getSheetData().getRow().add(placeholder);
+
+                String partName = sheetWrapper.getWorksheet().getPartName().getName();
+                writersByEntryName.put(StringUtils.removeStart(partName, "/"), writer);
+            }
+        }
+
+        ByteArrayOutputStream packageBos = new ByteArrayOutputStream();
+        writeToOutputStream(result.getPackage(), packageBos);
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(packageBos.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                checkThreadInterrupted();
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+                StreamingSheetWriter writer = writersByEntryName.get(entry.getName());
+                if (writer != null) {
+                    Writer entryWriter = new BufferedWriter(new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8));
+                    writer.writeWorksheet(new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8), entryWriter);
+                    entryWriter.flush();
+                } else {
+                    zipInputStream.transferTo(zipOutputStream);
+                }
+                zipOutputStream.closeEntry();
+            }
+        }
+        zipOutputStream.finish();
+    }
+
+    protected void closeStreamingSheetWriters() {
+        for (StreamingSheetWriter writer : streamingSheetWriters.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Unable to delete temporary files of sheet {}", writer.getSheetName(), e);
+            }
+        }
+        streamingSheetWriters.clear();
+    }
+
     protected <T> T getFirst(List<T> list) {
         if (list != null && !list.isEmpty()) {
             return list.get(0);
@@ -1255,6 +1597,30 @@ public class XlsxFormatter extends AbstractFormatter {
         }
     }
 
+    protected static class StreamedBandTemplate {
+        protected final Range range;
+        protected final List<StreamedRowTemplate> rows = new ArrayList<>();
+        protected final List<Range> mergeRanges = new ArrayList<>();
+
+        protected StreamedBandTemplate(Range range) {
+            this.range = range;
+        }
+    }
+
+    protected static class StreamedRowTemplate {
+        protected final Double height;
+        protected final short outlineLevel;
+        protected final CTBreak rowBreak;
+        protected final List<Cell> cells = new ArrayList<>();
+        protected final List<String> columns = new ArrayList<>();
+
+        protected StreamedRowTemplate(@Nullable Row templateRow, @Nullable CTBreak rowBreak) {
+            this.height = templateRow != null ? templateRow.getHt() : null;
+            this.outlineLevel = templateRow != null ? templateRow.getOutlineLevel() : 0;
+            this.rowBreak = rowBreak;
+        }
+    }
+
     protected class LastRowBandVisitor implements BandVisitor {
         private int lastRow = 0;
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.reports.yarg.formatters.impl.xlsx;
+
+import org.springframework.lang.Nullable;
+import org.xlsx4j.sml.STCellType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes rows and merged regions of a result worksheet to temporary files, so that a report is rendered without
+ * keeping its rows in memory.
+ * <p>
+ * The rest of the worksheet is saved by docx4j with the {@link #ROWS_PLACEHOLDER} row in the sheet data and the
+ * {@link #MERGE_CELLS_PLACEHOLDER} merged region. {@link #writeWorksheet(String, Writer)} replaces them with
+ * the written content.
+ */
+public class StreamingSheetWriter implements Closeable {
+
+    /**
+     * Number of the row that marks the place of the written rows in the worksheet XML.
+     */
+    public static final long ROWS_PLACEHOLDER = Long.MAX_VALUE;
+
+    /**
+     * Reference of the merged region that marks the place of the written merged regions in the worksheet XML.
+     */
+    public static final String MERGE_CELLS_PLACEHOLDER = "STREAMED_MERGE_CELLS";
+
+    protected static final Pattern ROWS_PLACEHOLDER_PATTERN = Pattern.compile(
+            "<(?:(\\w+):)?row r=\"" + ROWS_PLACEHOLDER + "\"\\s*(?:/>|>\\s*</(?:\\w+:)?row>)");
+    protected static final Pattern MERGE_CELLS_PLACEHOLDER_PATTERN = Pattern.compile(
+            "<(?:\\w+:)?mergeCell ref=\"" + MERGE_CELLS_PLACEHOLDER + "\"\\s*(?:/>|>\\s*</(?:\\w+:)?mergeCell>)");
+
+    protected final String sheetName;
+    protected final Path rowsFile;
+    protected final Path mergeCellsFile;
+    protected final Writer rows;
+    protected final Writer mergeCells;
+
+    protected long lastRow;
+    protected long mergeCellsCount;
+
+    public StreamingSheetWriter(String sheetName) throws IOException {
+        this.sheetName = sheetName;
+        rowsFile = Files.createTempFile("jmix-report-rows", ".xml");
+        mergeCellsFile = Files.createTempFile("jmix-report-merges", ".xml");
+        rows = Files.newBufferedWriter(rowsFile, StandardCharsets.UTF_8);
+        mergeCells = Files.newBufferedWriter(mergeCellsFile, StandardCharsets.UTF_8);
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return number of the last written row or 0 if no rows have been written
+     */
+    public long getLastRow() {
+        return lastRow;
+    }
+
+    public long getMergeCellsCount() {
+        return mergeCellsCount;
+    }
+
+    /**
+     * Starts the next row of the worksheet.
+     *
+     * @return number of the started row
+     */
+    public long startRow(@Nullable Double height, short outlineLevel) throws IOException {
+        lastRow++;
+        rows.write("<row r=\"");
+        rows.write(Long.toString(lastRow));
+        rows.write('"');
+        if (height != null) {
+            rows.write(" ht=\"");
+            rows.write(Double.toString(height));
+            rows.write('"');
+        }
+        rows.write(" customHeight=\"1\"");
+        if (outlineLevel != 0) {
+            rows.write(" outlineLevel=\"");
+            rows.write(Short.toString(outlineLevel));
+            rows.write('"');
+        }
+        rows.write('>');
+        return lastRow;
+    }
+
+    public void writeCell(String reference, long style, @Nullable STCellType type, @Nullable String value)
+            throws IOException {
+        rows.write("<c r=\"");
+        rows.write(reference);
+        rows.write('"');
+        if (style != 0) {
+            rows.write(" s=\"");
+            rows.write(Long.toString(style));
+            rows.write('"');
+        }
+        if (type != null && type != STCellType.N) {
+            rows.write(" t=\"");
+            rows.write(type.value());
+            rows.write('"');
+        }
+        if (value == null) {
+            rows.write("/>");
+        } else {
+            rows.write("><v>");
+            writeEscaped(rows, value);
+            rows.write("</v></c>");
+        }
+    }
+
+    public void endRow() throws IOException {
+        rows.write("</row>");
+    }
+
+    public void writeMergeCell(String reference) throws IOException {
+        mergeCells.write("<mergeCell ref=\"");
+        mergeCells.write(reference);
+        mergeCells.write("\"/>");
+        mergeCellsCount++;
+    }
+
+    /**
+     * Writes the worksheet XML saved by docx4j replacing the placeholders with the written rows and merged regions.
+     */
+    public void writeWorksheet(String worksheetXml, Writer out) throws IOException {
+        rows.flush();
+        mergeCells.flush();
+
+        Matcher rowsMatcher = ROWS_PLACEHOLDER_PATTERN.matcher(worksheetXml);
+        if (!rowsMatcher.find()) {
+            throw new IOException(String.format("Rows placeholder is not found in worksheet [%s]", sheetName));
+        }
+        // rows are written without namespace prefix, so add the prefix of the worksheet elements if there is one
+        String prefix = rowsMatcher.group(1) != null ? rowsMatcher.group(1) + ":" : "";
+
+        out.write(worksheetXml, 0, rowsMatcher.start());
+        copy(rowsFile, out, prefix);
+
+        int tailStart = rowsMatcher.end();
+        Matcher mergeCellsMatcher = MERGE_CELLS_PLACEHOLDER_PATTERN.matcher(worksheetXml);
+        if (mergeCellsMatcher.find(tailStart)) {
+            out.write(worksheetXml, tailStart, mergeCellsMatcher.start() - tailStart);
+            copy(mergeCellsFile, out, prefix);
+            tailStart = mergeCellsMatcher.end();
+        }
+        out.write(worksheetXml, tailStart, worksheetXml.length() - tailStart);
+    }
+
+    protected void copy(Path file, Writer out, String prefix) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (prefix.isEmpty()) {
+                reader.transferTo(out);
+                return;
+            }
+            // values are escaped, so every '<' starts a tag
+            int ch;
+            while ((ch = reader.read()) != -1) {
+                out.write(ch);
+                if (ch == '<') {
+                    int next = reader.read();
+                    if (next == '/') {
+                        out.write(next);
+                        out.write(prefix);
+                    } else {
+                        out.write(prefix);
+                        if (next != -1) {
+                            out.write(next);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    protected void writeEscaped(Writer writer, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '&' -> writer.write("&amp;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    // characters not allowed in XML 1.0 are skipped
+                    if (ch >= 0x20 || ch == '\t' || ch == '\n' || ch == '\r') {
+                        writer.write(ch);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            rows.close();
+            mergeCells.close();
+        } finally {
+            Files.deleteIfExists(rowsFile);
+            Files.deleteIfExists(mergeCellsFile);
+        }
+    }
+}
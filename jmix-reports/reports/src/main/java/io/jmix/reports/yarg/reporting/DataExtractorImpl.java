@@ -17,31 +17,45 @@
 package io.jmix.reports.yarg.reporting;
 
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.reports.entity.BandDefinition;
+import io.jmix.reports.yarg.exception.ReportingException;
+import io.jmix.reports.yarg.exception.ReportingInterruptedException;
+import io.jmix.reports.yarg.loaders.impl.AbstractDbDataLoader;
 import io.jmix.reports.yarg.reporting.extraction.DefaultExtractionContextFactory;
 import io.jmix.reports.yarg.reporting.extraction.DefaultExtractionControllerFactory;
 import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory;
 import io.jmix.reports.yarg.reporting.extraction.ExtractionContextFactory;
 import io.jmix.reports.yarg.reporting.extraction.ExtractionControllerFactory;
 import io.jmix.reports.yarg.structure.BandData;
+import io.jmix.reports.yarg.structure.BandOrientation;
 import io.jmix.reports.yarg.structure.Report;
 import io.jmix.reports.yarg.structure.ReportBand;
+import io.jmix.reports.yarg.structure.ReportQuery;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class DataExtractorImpl implements DataExtractor {
     protected static final Map<String, Object> EMPTY_MAP = Collections.emptyMap();
 
+    protected static final Pattern JSON_PARAMETER_PATTERN = Pattern.compile("parameter=([A-z0-9_]+)");
+
     protected ReportLoaderFactory loaderFactory;
     protected ExtractionContextFactory contextFactory;
     protected ExtractionControllerFactory controllerFactory;
 
     protected boolean putEmptyRowIfNoDataSelected = true;
+    protected int bandExtractionParallelism = 1;
+
+    protected volatile ExecutorService bandExtractionExecutor;
 
     public DataExtractorImpl(ReportLoaderFactory loaderFactory) {
         checkNotNull(loaderFactory, "\"loaderFactory\" parameter can not be null");
@@ -70,12 +84,171 @@ public class DataExtractorImpl implements DataExtractor {
         List<ReportBand> firstLevelBands = report.getRootBand().getChildren().stream()
                 .sorted((b1, b2) -> b1.getPosition() - b2.getPosition()).toList();
         if (firstLevelBands != null) {
-            for (ReportBand definition : firstLevelBands) {
-                List<BandData> bands = createBands(definition, rootBand, params);
-                rootBand.addChildren(bands);
-                rootBand.getFirstLevelBandDefinitionNames().add(definition.getName());
+            if (getBandExtractionParallelism() > 1 && firstLevelBands.size() > 1) {
+                extractBandsConcurrently(firstLevelBands, rootBand, params);
+            } else {
+                for (ReportBand definition : firstLevelBands) {
+                    long start = System.nanoTime();
+                    List<BandData> bands = createBands(definition, rootBand, params);
+                    registerExtractionTime(rootBand, definition, System.nanoTime() - start);
+                    rootBand.addChildren(bands);
+                    rootBand.getFirstLevelBandDefinitionNames().add(definition.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads data of the first level bands on the band extraction executor. A band is started when all preceding bands
+     * it depends on are loaded. Bands depend on each other if one of them can change a parameter used by another,
+     * see {@link #collectBandParameters(ReportBand)}. Each band works on a copy of the parameters, its changes are
+     * visible to the bands started after it. Loaded bands are added to the root band in the order of definitions.
+     */
+    protected void extractBandsConcurrently(List<ReportBand> definitions, BandData rootBand, Map<String, Object> params) {
+        List<BandParameters> bandParameters = new ArrayList<>(definitions.size());
+        for (ReportBand definition : definitions) {
+            bandParameters.add(collectBandParameters(definition));
+        }
+
+        ConcurrentExtraction extraction = new ConcurrentExtraction(definitions, rootBand, params);
+        ExecutorService executor = getBandExtractionExecutor();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(definitions.size());
+        for (int i = 0; i < definitions.size(); i++) {
+            List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                if (bandParameters.get(j).conflictsWith(bandParameters.get(i))) {
+                    dependencies.add(futures.get(j));
+                }
+            }
+            int index = i;
+            Supplier<Void> task = decorateBandExtraction(() -> {
+                extraction.extract(index);
+                return null;
+            });
+            futures.add(CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+                    .thenApplyAsync(result -> task.get(), executor));
+        }
+
+        try {
+            for (CompletableFuture<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            extraction.cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new ReportingInterruptedException("Data extraction interrupted");
+        } catch (ExecutionException e) {
+            extraction.cancel(futures);
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ReportingException(cause);
+        }
+    }
+
+    /**
+     * Wraps loading of a band executed in a separate thread. The method is invoked in the thread that runs the report,
+     * so it can be used to pass thread-bound state to the worker.
+     */
+    protected <T> Supplier<T> decorateBandExtraction(Supplier<T> task) {
+        return task;
+    }
+
+    /**
+     * Collects names of parameters read and changed while loading data of the band and its children.
+     */
+    protected BandParameters collectBandParameters(ReportBand definition) {
+        BandParameters bandParameters = new BandParameters();
+        collectBandParameters(definition, bandParameters);
+        return bandParameters;
+    }
+
+    protected void collectBandParameters(ReportBand definition, BandParameters bandParameters) {
+        if (definition.getBandOrientation() == BandOrientation.CROSS) {
+            // crosstab queries put their results to the parameters
+            bandParameters.readsAll = true;
+            bandParameters.writesAll = true;
+        }
+        if (CollectionUtils.isEmpty(definition.getReportQueries())) {
+            // a band without queries gets all parameters as its data
+            bandParameters.readsAll = true;
+        } else {
+            for (ReportQuery query : definition.getReportQueries()) {
+                collectQueryParameters(query, bandParameters);
+            }
+        }
+        if (definition.getChildren() != null) {
+            for (ReportBand child : definition.getChildren()) {
+                collectBandParameters(child, bandParameters);
+            }
+        }
+    }
+
+    /**
+     * Collects parameters used by the query. Queries of other loaders, e.g. groovy scripts, can use any parameters
+     * and the bands loaded before, so such bands are loaded after all preceding bands and before the following ones.
+     */
+    protected void collectQueryParameters(ReportQuery query, BandParameters bandParameters) {
+        String loaderType = query.getLoaderType();
+        String script = StringUtils.defaultString(query.getScript());
+        if ("sql".equals(loaderType)) {
+            if (Boolean.TRUE.equals(query.getProcessTemplate())) {
+                bandParameters.readsAll = true;
+            } else {
+                Matcher matcher = AbstractDbDataLoader.COMMON_PARAM_PATTERN.matcher(script);
+                while (matcher.find()) {
+                    bandParameters.read.add(matcher.group(1));
+                }
+            }
+        } else if ("json".equals(loaderType)) {
+            Matcher matcher = JSON_PARAMETER_PATTERN.matcher(script);
+            if (matcher.find()) {
+                bandParameters.read.add(matcher.group(1));
+            } else {
+                bandParameters.readsAll = true;
+            }
+        } else {
+            bandParameters.exclusive = true;
+        }
+    }
+
+    protected void registerExtractionTime(BandData rootBand, ReportBand definition, long timeNanos) {
+        rootBand.getExtractionTimes().merge(definition.getName(), TimeUnit.NANOSECONDS.toMillis(timeNanos), Long::sum);
+    }
+
+    public int getBandExtractionParallelism() {
+        return bandExtractionParallelism;
+    }
+
+    public void setBandExtractionParallelism(int bandExtractionParallelism) {
+        this.bandExtractionParallelism = bandExtractionParallelism;
+    }
+
+    protected ExecutorService getBandExtractionExecutor() {
+        if (bandExtractionExecutor == null) {
+            synchronized (this) {
+                if (bandExtractionExecutor == null) {
+                    bandExtractionExecutor = Executors.newFixedThreadPool(getBandExtractionParallelism(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jmix-ReportBandExtractor-%d")
+                                    .setDaemon(true)
+                                    .build());
+                }
             }
         }
+        return bandExtractionExecutor;
+    }
+
+    public void shutdown() {
+        if (bandExtractionExecutor != null) {
+            bandExtractionExecutor.shutdownNow();
+        }
     }
 
     public void setPutEmptyRowIfNoDataSelected(boolean putEmptyRowIfNoDataSelected) {
@@ -101,4 +274,125 @@ public class DataExtractorImpl implements DataExtractor {
         return controllerFactory.controllerBy(definition.getBandOrientation())
                 .extract(contextFactory.context(definition, parentBandData, params));
     }
+
+    /**
+     * Names of parameters read and changed by a band. The {@code readsAll} and {@code writesAll} flags are set
+     * if the names cannot be determined. An {@code exclusive} band is never loaded together with other bands.
+     */
+    protected static class BandParameters {
+        protected final Set<String> read = new HashSet<>();
+        protected final Set<String> written = new HashSet<>();
+        protected boolean readsAll;
+        protected boolean writesAll;
+        protected boolean exclusive;
+
+        public Set<String> getRead() {
+            return read;
+        }
+
+        public Set<String> getWritten() {
+            return written;
+        }
+
+        public void setReadsAll(boolean readsAll) {
+            this.readsAll = readsAll;
+        }
+
+        public void setWritesAll(boolean writesAll) {
+            this.writesAll = writesAll;
+        }
+
+        public void setExclusive(boolean exclusive) {
+            this.exclusive = exclusive;
+        }
+
+        public boolean conflictsWith(BandParameters other) {
+            return exclusive || other.exclusive
+                    || intersects(writesAll, written, other.readsAll, other.read)
+                    || intersects(readsAll, read, other.writesAll, other.written)
+                    || intersects(writesAll, written, other.writesAll, other.written);
+        }
+
+        protected static boolean intersects(boolean all1, Set<String> names1, boolean all2, Set<String> names2) {
+            if (all1 && all2) {
+                return true;
+            }
+            if (all1) {
+                return !names2.isEmpty();
+            }
+            if (all2) {
+                return !names1.isEmpty();
+            }
+            return !Collections.disjoint(names1, names2);
+        }
+    }
+
+    /**
+     * State of loading the first level bands of a report in several threads.
+     */
+    protected class ConcurrentExtraction {
+        protected final List<ReportBand> definitions;
+        protected final BandData rootBand;
+        protected final Map<String, Object> params;
+        protected final List<List<BandData>> results;
+        protected final long[] times;
+        protected final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        protected int addedCount;
+
+        protected ConcurrentExtraction(List<ReportBand> definitions, BandData rootBand, Map<String, Object> params) {
+            this.definitions = definitions;
+            this.rootBand = rootBand;
+            this.params = params;
+            this.results = new ArrayList<>(Collections.nCopies(definitions.size(), null));
+            this.times = new long[definitions.size()];
+        }
+
+        protected void extract(int index) {
+            ReportBand definition = definitions.get(index);
+            Map<String, Object> initialParams;
+            synchronized (params) {
+                initialParams = new HashMap<>(params);
+            }
+            Map<String, Object> bandParams = new HashMap<>(initialParams);
+
+            workers.add(Thread.currentThread());
+            List<BandData> bands;
+            long start = System.nanoTime();
+            try {
+                bands = createBands(definition, rootBand, bandParams);
+            } finally {
+                workers.remove(Thread.currentThread());
+            }
+            long time = System.nanoTime() - start;
+
+            synchronized (params) {
+                for (Map.Entry<String, Object> entry : bandParams.entrySet()) {
+                    if (!initialParams.containsKey(entry.getKey())
+                            || initialParams.get(entry.getKey()) != entry.getValue()) {
+                        params.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            synchronized (rootBand) {
+                results.set(index, bands);
+                times[index] = time;
+                // bands are added in the order of definitions as soon as all preceding bands are loaded
+                while (addedCount < results.size() && results.get(addedCount) != null) {
+                    registerExtractionTime(rootBand, definitions.get(addedCount), times[addedCount]);
+                    rootBand.addChildren(results.get(addedCount));
+                    rootBand.getFirstLevelBandDefinitionNames().add(definitions.get(addedCount).getName());
+                    addedCount++;
+                }
+            }
+        }
+
+        protected void cancel(List<CompletableFuture<Void>> futures) {
+            for (CompletableFuture<Void> future : futures) {
+                future.cancel(false);
+            }
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+        }
+    }
 }
@@ -19,6 +19,8 @@ import io.jmix.reports.yarg.structure.Report;
 import io.jmix.reports.yarg.structure.ReportOutputType;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * This interface describes reporting result object.
@@ -41,4 +43,15 @@ public interface ReportOutputDocument extends Serializable {
     void setDocumentName(String documentName);
 
     void setReportOutputType(ReportOutputType reportOutputType);
+
+    /**
+     * @return time in milliseconds spent on loading data of first level bands, by band names, or an empty map
+     * if the implementation doesn't collect it
+     */
+    default Map<String, Long> getBandExtractionTimes() {
+        return Collections.emptyMap();
+    }
+
+    default void setBandExtractionTimes(Map<String, Long> bandExtractionTimes) {
+    }
 }
\ No newline at end of file
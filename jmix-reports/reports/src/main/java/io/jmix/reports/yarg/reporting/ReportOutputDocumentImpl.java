@@ -18,12 +18,16 @@ package io.jmix.reports.yarg.reporting;
 import io.jmix.reports.yarg.structure.Report;
 import io.jmix.reports.yarg.structure.ReportOutputType;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class ReportOutputDocumentImpl implements ReportOutputDocument {
 
     protected Report report;
     protected byte[] content;
     protected String documentName;
     protected ReportOutputType reportOutputType;
+    protected Map<String, Long> bandExtractionTimes = Collections.emptyMap();
 
     public ReportOutputDocumentImpl(Report report, byte[] content, String documentName, ReportOutputType reportOutputType) {
         this.report = report;
@@ -67,4 +71,14 @@ public class ReportOutputDocumentImpl implements ReportOutputDocument {
     public void setReportOutputType(ReportOutputType reportOutputType) {
         this.reportOutputType = reportOutputType;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<String, Long> getBandExtractionTimes() {
+        return bandExtractionTimes;
+    }
+
+    @Override
+    public void setBandExtractionTimes(Map<String, Long> bandExtractionTimes) {
+        this.bandExtractionTimes = bandExtractionTimes;
+    }
+}
@@ -37,6 +37,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -182,7 +183,9 @@ public class Reporting implements ReportingAPI {
     }
 
     protected ReportOutputDocument createReportOutputDocument(Report report, ReportOutputType outputType, String outputName, BandData rootBand) {
-        return new ReportOutputDocumentImpl(report, null, outputName, outputType);
+        ReportOutputDocument document = new ReportOutputDocumentImpl(report, null, outputName, outputType);
+        document.setBandExtractionTimes(new LinkedHashMap<>(rootBand.getExtractionTimes()));
+        return document;
     }
 
     protected String resolveOutputFileName(RunParams runParams, BandData rootBand) {
@@ -33,6 +33,7 @@ public class BandData implements Serializable {
     protected Set<String> firstLevelBandDefinitionNames = null;
     protected int level;
     protected Map<String, ReportFieldFormat> reportFieldFormats = new HashMap<>();
+    protected Map<String, Long> extractionTimes = new LinkedHashMap<>();
 
 
     public BandData(String name) {
@@ -205,6 +206,14 @@ public class BandData implements Serializable {
         return reportFieldFormats;
     }
 
+    /**
+     * @return time in milliseconds spent on loading data of first level bands, by band names.
+     * Filled for the root band only.
+     */
+    public Map<String, Long> getExtractionTimes() {
+        return extractionTimes;
+    }
+
     @Override
     public String toString() {
         StringBuilder sbf = new StringBuilder();
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package extraction
+
+import io.jmix.reports.yarg.loaders.ReportDataLoader
+import io.jmix.reports.yarg.loaders.factory.ReportLoaderFactory
+import io.jmix.reports.yarg.reporting.DataExtractorImpl
+import io.jmix.reports.yarg.structure.BandData
+import io.jmix.reports.yarg.structure.BandOrientation
+import io.jmix.reports.yarg.structure.Report
+import io.jmix.reports.yarg.structure.ReportBand
+import io.jmix.reports.yarg.structure.ReportQuery
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class DataExtractorImplTest extends Specification {
+
+    DataExtractorImpl extractor
+
+    void cleanup() {
+        extractor?.shutdown()
+    }
+
+    def "independent bands are loaded concurrently and added in the order of definitions"() {
+        given: "both loaders wait for each other"
+            def latch = new CountDownLatch(2)
+            ReportDataLoader loader = { ReportQuery query, BandData parentBand, Map<String, Object> params ->
+                latch.countDown()
+                def loadedTogether = latch.await(10, TimeUnit.SECONDS)
+                [[name: query.getName(), together: loadedTogether] as Map<String, Object>]
+            } as ReportDataLoader
+            extractor = createExtractor(["sql": loader])
+            def report = createReport([
+                    createBand("First", 1, createQuery("first", "sql", "select * from FIRST")),
+                    createBand("Second", 2, createQuery("second", "sql", "select * from SECOND"))
+            ])
+            def rootBand = createRootBand()
+
+        when:
+            extractor.extractData(report, [:], rootBand)
+
+        then:
+            rootBand.getChildrenBands().keySet().toList() == ["First", "Second"]
+            rootBand.getChildByName("First").getData().get("together") == true
+            rootBand.getChildByName("Second").getData().get("together") == true
+            rootBand.getExtractionTimes().keySet().toList() == ["First", "Second"]
+    }
+
+    def "groovy band is loaded after preceding bands"() {
+        given:
+            ReportDataLoader sqlLoader = { ReportQuery query, BandData parentBand, Map<String, Object> params ->
+                Thread.sleep(100)
+                [[value: 1] as Map<String, Object>]
+            } as ReportDataLoader
+            ReportDataLoader groovyLoader = { ReportQuery query, BandData parentBand, Map<String, Object> params ->
+                [[firstLoaded: parentBand.getChildByName("First") != null] as Map<String, Object>]
+            } as ReportDataLoader
+            extractor = createExtractor(["sql": sqlLoader, "groovy": groovyLoader])
+            def report = createReport([
+                    createBand("First", 1, createQuery("first", "sql", "select * from FIRST")),
+                    createBand("Second", 2, createQuery("second", "groovy", "return []"))
+            ])
+            def rootBand = createRootBand()
+
+        when:
+            extractor.extractData(report, [:], rootBand)
+
+        then:
+            rootBand.getChildByName("Second").getData().get("firstLoaded") == true
+    }
+
+    def "band using a changed parameter is loaded after the band changing it"() {
+        given:
+            ReportDataLoader sqlLoader = { ReportQuery query, BandData parentBand, Map<String, Object> params ->
+                [[value: params.get("entity")] as Map<String, Object>]
+            } as ReportDataLoader
+            ReportDataLoader groovyLoader = { ReportQuery query, BandData parentBand, Map<String, Object> params ->
+                Thread.sleep(100)
+                params.put("entity", "reloaded")
+                [[:] as Map<String, Object>]
+            } as ReportDataLoader
+            extractor = createExtractor(["sql": sqlLoader, "groovy": groovyLoader])
+            def report = createReport([
+                    createBand("First", 1, createQuery("first", "groovy", "params.entity = 'reloaded'")),
+                    createBand("Second", 2, createQuery("second", "sql", 'select ${entity} from DUAL'))
+            ])
+            def params = [entity: "initial"] as Map<String, Object>
+
+        when:
+            extractor.extractData(report, params, createRootBand())
+
+        then:
+            params.get("entity") == "reloaded"
+    }
+
+    protected DataExtractorImpl createExtractor(Map<String, ReportDataLoader> loaders) {
+        def extractor = new DataExtractorImpl({ String loaderType -> loaders.get(loaderType) } as ReportLoaderFactory)
+        extractor.setBandExtractionParallelism(4)
+        return extractor
+    }
+
+    protected BandData createRootBand() {
+        def rootBand = new BandData(BandData.ROOT_BAND_NAME)
+        rootBand.setFirstLevelBandDefinitionNames(new HashSet<>())
+        return rootBand
+    }
+
+    protected Report createReport(List<ReportBand> bands) {
+        def rootBand = createBand(BandData.ROOT_BAND_NAME, 0, null, bands)
+        Report report = Stub()
+        report.getRootBand() >> rootBand
+        return report
+    }
+
+    protected ReportBand createBand(String name, int position, ReportQuery query, List<ReportBand> children = []) {
+        ReportBand band = Stub()
+        band.getName() >> name
+        band.getPosition() >> position
+        band.getBandOrientation() >> BandOrientation.HORIZONTAL
+        band.getReportQueries() >> (query != null ? [query] : [])
+        band.getChildren() >> children
+        return band
+    }
+
+    protected ReportQuery createQuery(String name, String loaderType, String script) {
+        ReportQuery query = Stub()
+        query.getName() >> name
+        query.getLoaderType() >> loaderType
+        query.getScript() >> script
+        query.getProcessTemplate() >> false
+        query.getAdditionalParams() >> [:]
+        return query
+    }
+}
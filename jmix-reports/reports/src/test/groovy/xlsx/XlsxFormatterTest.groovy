@@ -21,6 +21,7 @@ import io.jmix.reports.yarg.formatters.factory.FormatterFactoryInput
 import io.jmix.reports.yarg.formatters.impl.XlsxFormatter
 import io.jmix.reports.yarg.structure.BandData
 import io.jmix.reports.yarg.structure.ReportOutputType
+import org.apache.poi.ss.util.CellRangeAddress
 import org.apache.poi.xssf.usermodel.XSSFShape
 import org.apache.poi.xssf.usermodel.XSSFWorkbook
 import spock.lang.Specification
@@ -74,6 +75,70 @@ class XlsxFormatterTest extends Specification {
             cnt == 12
     }
 
+    def "streaming rendering produces the same document as in-memory rendering"() {
+        given: "Template with header band and tabular band containing merged region"
+            def templateWorkbook = new XSSFWorkbook()
+            def sheet = templateWorkbook.createSheet("Sheet1")
+            def headerRow = sheet.createRow(0)
+            headerRow.createCell(0).setCellValue("Id")
+            headerRow.createCell(1).setCellValue("Email")
+            def dataRow = sheet.createRow(1)
+            dataRow.createCell(0).setCellValue('${id}')
+            dataRow.createCell(1).setCellValue('${email}')
+            dataRow.createCell(3).setCellValue('${amount}')
+            sheet.addMergedRegion(new CellRangeAddress(1, 1, 1, 2))
+            def headerName = templateWorkbook.createName()
+            headerName.setNameName("Header")
+            headerName.setRefersToFormula('Sheet1!$A$1:$D$1')
+            def usersName = templateWorkbook.createName()
+            usersName.setNameName("Users")
+            usersName.setRefersToFormula('Sheet1!$A$2:$D$2')
+            templateWorkbook.setForceFormulaRecalculation(true)
+            def templateBos = new ByteArrayOutputStream()
+            templateWorkbook.write(templateBos)
+
+            def rootBand = new BandData("Root")
+            rootBand.setFirstLevelBandDefinitionNames(["Root", "Header", "Users"].toSet())
+            rootBand.addChild(new BandData("Header", rootBand))
+            for (int i = 1; i <= 1000; i++) {
+                def userBand = new BandData("Users", rootBand)
+                userBand.setData([id: String.valueOf(i), email: "mail${i}@example.com <&>".toString(), amount: i * 10])
+                rootBand.addChild(userBand)
+            }
+
+        when: "Document is rendered in both modes"
+            def inMemory = render(rootBand, templateBos.toByteArray(), false)
+            def streamed = render(rootBand, templateBos.toByteArray(), true)
+
+        then: "Documents have the same rows, values and merged regions"
+            def inMemorySheet = inMemory.getSheetAt(0)
+            def streamedSheet = streamed.getSheetAt(0)
+            streamedSheet.getLastRowNum() == 1000
+            streamedSheet.getLastRowNum() == inMemorySheet.getLastRowNum()
+            streamedSheet.getNumMergedRegions() == 1000
+            streamedSheet.getMergedRegions().collect { it.formatAsString() } ==
+                    inMemorySheet.getMergedRegions().collect { it.formatAsString() }
+            (0..1000).every { int rowIdx ->
+                (0..3).every { int colIdx ->
+                    def streamedCell = streamedSheet.getRow(rowIdx).getCell(colIdx)
+                    def inMemoryCell = inMemorySheet.getRow(rowIdx).getCell(colIdx)
+                    streamedCell?.toString() == inMemoryCell?.toString()
+                }
+            }
+            streamedSheet.getRow(1000).getCell(1).getStringCellValue() == "mail1000@example.com <&>"
+            streamedSheet.getRow(1000).getCell(3).getNumericCellValue() == 10000d
+    }
+
+    protected XSSFWorkbook render(BandData rootBand, byte[] templateContent, boolean streamingEnabled) {
+        def os = new ByteArrayOutputStream()
+        def template = new ReportTemplate()
+        template.setContent(templateContent)
+        def formatter = new XlsxFormatter(new FormatterFactoryInput("xlsx", rootBand, template, ReportOutputType.xlsx, os))
+        formatter.setStreamingEnabled(streamingEnabled)
+        formatter.renderDocument()
+        return new XSSFWorkbook(new ByteArrayInputStream(os.toByteArray()))
+    }
+
     protected byte[] readFile(String fileName) throws IOException, URISyntaxException {
         URL resource = XlsxFormatterTest.class
                 .getResource("/xlsx/" + fileName)
@@ -120,6 +120,18 @@ public class RestProperties {
      */
     private final String queriesConfig;
 
+    /**
+     * Maximum number of entities returned by the entities and queries endpoints when the response is streamed
+     * as newline delimited JSON ('Accept: application/x-ndjson'). A smaller limit set for an entity
+     * in 'entityMaxFetchSize' takes precedence.
+     */
+    private final int streamMaxFetchSize;
+
+    /**
+     * Number of entities loaded from the database at once when the response is streamed as newline delimited JSON.
+     */
+    private final int streamPageSize;
+
     public RestProperties(
             @DefaultValue("/rest") String basePath,
             @DefaultValue("/entities") String entitiesPath,
@@ -140,7 +152,9 @@ public class RestProperties {
             @Nullable Map<String, Integer> entityMaxFetchSize,
             @DefaultValue("true") boolean inlineFetchPlanEnabled,
             String servicesConfig,
-            String queriesConfig) {
+            String queriesConfig,
+            @DefaultValue("100000") int streamMaxFetchSize,
+            @DefaultValue("1000") int streamPageSize) {
         this.basePath = checkPath("jmix.rest.base-path", basePath);
         this.entitiesPath = checkPath("jmix.rest.entities-path", entitiesPath);
         this.docsPath = checkPath("jmix.rest.docs-path", docsPath);
@@ -161,6 +175,8 @@ public class RestProperties {
         this.inlineFetchPlanEnabled = inlineFetchPlanEnabled;
         this.servicesConfig = servicesConfig;
         this.queriesConfig = queriesConfig;
+        this.streamMaxFetchSize = streamMaxFetchSize;
+        this.streamPageSize = streamPageSize;
     }
 
     private String checkPath(String property, @Nullable String value) {
@@ -300,4 +316,27 @@ public class RestProperties {
     public String getQueriesConfig() {
         return queriesConfig;
     }
+
+    /**
+     * @see #streamMaxFetchSize
+     */
+    public int getStreamMaxFetchSize() {
+        return streamMaxFetchSize;
+    }
+
+    /**
+     * @return maximum number of streamed entities of the given type: the smaller of {@link #getStreamMaxFetchSize()}
+     * and the limit set for the entity in 'entityMaxFetchSize', if any
+     */
+    public int getStreamMaxFetchSize(String entityName) {
+        Integer maxFetchSize = entityMaxFetchSize.get(entityName);
+        return maxFetchSize == null ? streamMaxFetchSize : Math.min(streamMaxFetchSize, maxFetchSize);
+    }
+
+    /**
+     * @see #streamPageSize
+     */
+    public int getStreamPageSize() {
+        return streamPageSize;
+    }
 }
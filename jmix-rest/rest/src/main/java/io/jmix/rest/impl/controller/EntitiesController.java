@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import io.jmix.rest.impl.service.EntitiesControllerManager;
+import io.jmix.rest.impl.service.EntitiesStreamWriter;
 import io.jmix.rest.impl.service.filter.data.EntitiesSearchResult;
 import io.jmix.rest.impl.service.filter.data.ResponseInfo;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,6 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller that performs CRUD entity operations
@@ -72,6 +74,22 @@ public class EntitiesController {
         return responseBuilder.body(entitiesSearchResult.getJson());
     }
 
+    @GetMapping(value = "/{entityName}", produces = EntitiesStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEntitiesList(@PathVariable String entityName,
+                                                                    @RequestParam(required = false) String fetchPlan,
+                                                                    @RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) Integer offset,
+                                                                    @RequestParam(required = false) String sort,
+                                                                    @RequestParam(required = false) Boolean returnNulls,
+                                                                    @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                    @RequestParam(required = false) String modelVersion) {
+        StreamingResponseBody responseBody = entitiesControllerManager.streamEntitiesList(entityName, fetchPlan,
+                limit, offset, sort, returnNulls, dynamicAttributes, modelVersion);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EntitiesStreamWriter.APPLICATION_NDJSON_VALUE))
+                .body(responseBody);
+    }
+
     @GetMapping("/{entityName}/search")
     public ResponseEntity<String> searchEntitiesListGet(@PathVariable String entityName,
                                                         @RequestParam String filter,
@@ -92,6 +110,23 @@ public class EntitiesController {
         return responseBuilder.body(entitiesSearchResult.getJson());
     }
 
+    @GetMapping(value = "/{entityName}/search", produces = EntitiesStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearchEntitiesListGet(@PathVariable String entityName,
+                                                                             @RequestParam String filter,
+                                                                             @RequestParam(required = false) String fetchPlan,
+                                                                             @RequestParam(required = false) Integer limit,
+                                                                             @RequestParam(required = false) Integer offset,
+                                                                             @RequestParam(required = false) String sort,
+                                                                             @RequestParam(required = false) Boolean returnNulls,
+                                                                             @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                             @RequestParam(required = false) String modelVersion) {
+        StreamingResponseBody responseBody = entitiesControllerManager.streamSearchEntities(entityName, filter,
+                fetchPlan, limit, offset, sort, returnNulls, dynamicAttributes, modelVersion);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EntitiesStreamWriter.APPLICATION_NDJSON_VALUE))
+                .body(responseBody);
+    }
+
     @GetMapping("/{entityName}/search/count")
     public String countSearchEntitiesListGet(@PathVariable String entityName,
                                              @RequestParam String filter,
@@ -112,6 +147,15 @@ public class EntitiesController {
         return responseBuilder.body(entitiesSearchResult.getJson());
     }
 
+    @PostMapping(value = "/{entityName}/search", produces = EntitiesStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearchEntitiesListPost(@PathVariable String entityName,
+                                                                              @RequestBody String requestBodyJson) {
+        StreamingResponseBody responseBody = entitiesControllerManager.streamSearchEntities(entityName, requestBodyJson);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EntitiesStreamWriter.APPLICATION_NDJSON_VALUE))
+                .body(responseBody);
+    }
+
     @PostMapping("/{entityName}/search/count")
     public String countSearchEntitiesListPost(@PathVariable String entityName,
                                               @RequestBody String requestBodyJson) {
@@ -17,6 +17,7 @@
 package io.jmix.rest.impl.controller;
 
 import io.jmix.rest.impl.config.RestQueriesConfiguration;
+import io.jmix.rest.impl.service.EntitiesStreamWriter;
 import io.jmix.rest.impl.service.QueriesControllerManager;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +26,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.text.ParseException;
 import java.util.List;
@@ -86,6 +88,40 @@ public class QueriesController {
         return responseBuilder.body(resultJson);
     }
 
+    @GetMapping(value = "/{entityName}/{queryName}", produces = EntitiesStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamQueryGet(@PathVariable String entityName,
+                                                                @PathVariable String queryName,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                @RequestParam(required = false) Integer offset,
+                                                                @RequestParam(required = false) String fetchPlan,
+                                                                @RequestParam(required = false) Boolean returnNulls,
+                                                                @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                @RequestParam(required = false) String modelVersion,
+                                                                @RequestParam Map<String, String> params) {
+        StreamingResponseBody responseBody = queriesControllerManager.streamQueryGet(entityName, queryName, limit, offset,
+                fetchPlan, returnNulls, dynamicAttributes, modelVersion, params);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EntitiesStreamWriter.APPLICATION_NDJSON_VALUE))
+                .body(responseBody);
+    }
+
+    @PostMapping(value = "/{entityName}/{queryName}", produces = EntitiesStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamQueryPost(@PathVariable String entityName,
+                                                                 @PathVariable String queryName,
+                                                                 @RequestParam(required = false) Integer limit,
+                                                                 @RequestParam(required = false) Integer offset,
+                                                                 @RequestParam(required = false) String fetchPlan,
+                                                                 @RequestParam(required = false) Boolean returnNulls,
+                                                                 @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                 @RequestParam(required = false) String modelVersion,
+                                                                 @RequestBody String paramsJson) {
+        StreamingResponseBody responseBody = queriesControllerManager.streamQueryPost(entityName, queryName, limit, offset,
+                fetchPlan, returnNulls, dynamicAttributes, modelVersion, paramsJson);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EntitiesStreamWriter.APPLICATION_NDJSON_VALUE))
+                .body(responseBody);
+    }
+
     @GetMapping(value = "/{entityName}/{queryName}/count")
     public String getCountGet(@PathVariable String entityName,
                               @PathVariable String queryName,
@@ -55,6 +55,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -119,6 +120,9 @@ public class EntitiesControllerManager {
     @Autowired
     protected List<QueryStringProcessor> queryStringProcessors;
 
+    @Autowired
+    protected EntitiesStreamWriter entitiesStreamWriter;
+
     public String loadEntity(String entityName,
                              String entityId,
                              @Nullable String fetchPlanNameOrJson,
@@ -189,6 +193,22 @@ public class EntitiesControllerManager {
 
     }
 
+    public StreamingResponseBody streamEntitiesList(String entityName,
+                                                    @Nullable String fetchPlanNameOrJson,
+                                                    @Nullable Integer limit,
+                                                    @Nullable Integer offset,
+                                                    @Nullable String sort,
+                                                    @Nullable Boolean returnNulls,
+                                                    @Nullable Boolean dynamicAttributes,
+                                                    @Nullable String modelVersion) {
+        MetaClass metaClass = getMetaClass(entityName, modelVersion);
+        checkCanReadEntity(metaClass);
+
+        FetchPlan fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(metaClass, fetchPlanNameOrJson);
+        return streamEntities(LogicalCondition.and(), fetchPlan, limit, offset, sort, returnNulls,
+                dynamicAttributes, modelVersion, metaClass);
+    }
+
     public EntitiesSearchResult searchEntities(String entityName,
                                                String filterJson,
                                                @Nullable String fetchPlanNameOrJson,
@@ -245,6 +265,66 @@ public class EntitiesControllerManager {
         return new EntitiesSearchResult(json, count);
     }
 
+    public StreamingResponseBody streamSearchEntities(String entityName,
+                                                      String filterJson,
+                                                      @Nullable String fetchPlanNameOrJson,
+                                                      @Nullable Integer limit,
+                                                      @Nullable Integer offset,
+                                                      @Nullable String sort,
+                                                      @Nullable Boolean returnNulls,
+                                                      @Nullable Boolean dynamicAttributes,
+                                                      @Nullable String modelVersion) {
+        MetaClass metaClass = getMetaClass(entityName, modelVersion);
+        FetchPlan fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(metaClass, fetchPlanNameOrJson);
+        return streamSearchEntities(metaClass, filterJson, fetchPlan, limit, offset, sort, returnNulls,
+                dynamicAttributes, modelVersion);
+    }
+
+    public StreamingResponseBody streamSearchEntities(String entityName, String searchRequestBody) {
+        SearchEntitiesRequestDTO searchEntitiesRequest = new Gson()
+                .fromJson(searchRequestBody, SearchEntitiesRequestDTO.class);
+
+        if (searchEntitiesRequest.getFilter() == null) {
+            throw new RestAPIException("Cannot parse entities filter", "Entities filter cannot be null", HttpStatus.BAD_REQUEST);
+        }
+
+        MetaClass metaClass = getMetaClass(entityName, searchEntitiesRequest.getModelVersion());
+        return streamSearchEntities(metaClass,
+                searchEntitiesRequest.getFilter().toString(),
+                getFetchPlan(searchEntitiesRequest, entityName),
+                searchEntitiesRequest.getLimit(),
+                searchEntitiesRequest.getOffset(),
+                searchEntitiesRequest.getSort(),
+                searchEntitiesRequest.getReturnNulls(),
+                searchEntitiesRequest.getDynamicAttributes(),
+                searchEntitiesRequest.getModelVersion());
+    }
+
+    protected StreamingResponseBody streamSearchEntities(MetaClass metaClass,
+                                                         String filterJson,
+                                                         @Nullable FetchPlan fetchPlan,
+                                                         @Nullable Integer limit,
+                                                         @Nullable Integer offset,
+                                                         @Nullable String sort,
+                                                         @Nullable Boolean returnNulls,
+                                                         @Nullable Boolean dynamicAttributes,
+                                                         @Nullable String modelVersion) {
+        if (filterJson == null) {
+            throw new RestAPIException("Cannot parse entities filter", "Entities filter cannot be null", HttpStatus.BAD_REQUEST);
+        }
+        checkCanReadEntity(metaClass);
+
+        Condition jmixCondition;
+        try {
+            jmixCondition = restFilterParser.parse(filterJson, metaClass);
+        } catch (RestFilterParseException e) {
+            throw new RestAPIException("Cannot parse entities filter", e.getMessage(), HttpStatus.BAD_REQUEST, e);
+        }
+
+        return streamEntities(jmixCondition, fetchPlan, limit, offset, sort, returnNulls,
+                dynamicAttributes, modelVersion, metaClass);
+    }
+
     protected MetaClass getMetaClass(String entityName, @Nullable String modelVersion) {
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, modelVersion, JsonTransformationDirection.FROM_VERSION);
         return restControllerUtils.getMetaClass(entityName);
@@ -294,6 +374,21 @@ public class EntitiesControllerManager {
             throw new RestAPIException("Cannot parse entities filter", "Entities filter cannot be null", HttpStatus.BAD_REQUEST);
         }
 
+        return searchEntities(entityName,
+                searchEntitiesRequest.getFilter().toString(),
+                getFetchPlan(searchEntitiesRequest, entityName),
+                searchEntitiesRequest.getLimit(),
+                searchEntitiesRequest.getOffset(),
+                searchEntitiesRequest.getSort(),
+                searchEntitiesRequest.getReturnNulls(),
+                searchEntitiesRequest.getReturnCount(),
+                searchEntitiesRequest.getDynamicAttributes(),
+                searchEntitiesRequest.getModelVersion()
+        );
+    }
+
+    @Nullable
+    protected FetchPlan getFetchPlan(SearchEntitiesRequestDTO searchEntitiesRequest, String entityName) {
         FetchPlan fetchPlan = null;
         if (searchEntitiesRequest.getFetchPlan() != null) {
             JsonElement jsonElement = searchEntitiesRequest.getFetchPlan();
@@ -305,19 +400,7 @@ public class EntitiesControllerManager {
             } else
                 throw new RestAPIException("Invalid FetchPlan definition", jsonElement.toString(), HttpStatus.BAD_REQUEST);
         }
-
-
-        return searchEntities(entityName,
-                searchEntitiesRequest.getFilter().toString(),
-                fetchPlan,
-                searchEntitiesRequest.getLimit(),
-                searchEntitiesRequest.getOffset(),
-                searchEntitiesRequest.getSort(),
-                searchEntitiesRequest.getReturnNulls(),
-                searchEntitiesRequest.getReturnCount(),
-                searchEntitiesRequest.getDynamicAttributes(),
-                searchEntitiesRequest.getModelVersion()
-        );
+        return fetchPlan;
     }
 
     public Long countSearchEntities(String entityName, String searchRequestBody) {
@@ -339,6 +422,24 @@ public class EntitiesControllerManager {
                                       @Nullable Boolean dynamicAttributes,
                                       @Nullable String modelVersion,
                                       MetaClass metaClass) {
+        LoadContext<Object> ctx = createEntitiesLoadContext(condition, fetchPlan, limit, offset, sort, dynamicAttributes,
+                metaClass, restProperties.getEntityMaxFetchSize(metaClass.getName()));
+
+        List<Object> entities = dataManager.loadList(ctx);
+
+        String json = entitySerialization.toJson(entities, fetchPlan, getSerializationOptions(returnNulls));
+        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    protected LoadContext<Object> createEntitiesLoadContext(Condition condition,
+                                                            @Nullable FetchPlan fetchPlan,
+                                                            @Nullable Integer limit,
+                                                            @Nullable Integer offset,
+                                                            @Nullable String sort,
+                                                            @Nullable Boolean dynamicAttributes,
+                                                            MetaClass metaClass,
+                                                            int maxFetchSize) {
         LoadContext<Object> ctx = new LoadContext<>(metaClass);
 
         String queryString = createSimpleSelect(metaClass);
@@ -351,14 +452,13 @@ public class EntitiesControllerManager {
 
         query.setCondition(condition);
 
-        int limitFromProperties = restProperties.getEntityMaxFetchSize(metaClass.getName());
-        if (limit != null && limit > limitFromProperties) {
+        if (limit != null && limit > maxFetchSize) {
             throw new RestAPIException("The value of limit exceeded", "The value of the limit exceeds the maximum possible value from application.properties", HttpStatus.BAD_REQUEST);
         }
         if (limit != null) {
             query.setMaxResults(limit);
         } else {
-            query.setMaxResults(limitFromProperties);
+            query.setMaxResults(maxFetchSize);
         }
         if (offset != null) {
             query.setFirstResult(offset);
@@ -370,17 +470,37 @@ public class EntitiesControllerManager {
         }
 
         ctx.setHint("jmix.dynattr", BooleanUtils.isTrue(dynamicAttributes));
+        return ctx;
+    }
 
-        List<Object> entities = dataManager.loadList(ctx);
-
+    protected EntitySerializationOption[] getSerializationOptions(@Nullable Boolean returnNulls) {
         List<EntitySerializationOption> serializationOptions = new ArrayList<>();
         serializationOptions.add(SERIALIZE_INSTANCE_NAME);
         serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
         if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(SERIALIZE_NULLS);
+        return serializationOptions.toArray(new EntitySerializationOption[0]);
+    }
 
-        String json = entitySerialization.toJson(entities, fetchPlan, serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+    /**
+     * Creates a response body that streams the entities loaded by the given condition as newline delimited JSON.
+     * The number of entities is limited by {@link RestProperties#getStreamMaxFetchSize(String)}.
+     */
+    protected StreamingResponseBody streamEntities(Condition condition,
+                                                   @Nullable FetchPlan fetchPlan,
+                                                   @Nullable Integer limit,
+                                                   @Nullable Integer offset,
+                                                   @Nullable String sort,
+                                                   @Nullable Boolean returnNulls,
+                                                   @Nullable Boolean dynamicAttributes,
+                                                   @Nullable String modelVersion,
+                                                   MetaClass metaClass) {
+        LoadContext<Object> ctx = createEntitiesLoadContext(condition, fetchPlan, limit, offset, sort, dynamicAttributes,
+                metaClass, restProperties.getStreamMaxFetchSize(metaClass.getName()));
+        EntitySerializationOption[] serializationOptions = getSerializationOptions(returnNulls);
+        return entitiesStreamWriter.createResponseBody(ctx, Strings.isNullOrEmpty(sort), entity -> {
+            String json = entitySerialization.toJson(entity, fetchPlan, serializationOptions);
+            return restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        });
     }
 
     protected String addOrderBy(String queryString, @Nullable String sort, MetaClass metaClass) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.rest.impl.service;
+
+import io.jmix.core.*;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.impl.TransactionManagerLocator;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.jmix.rest.RestProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes entities to the response as newline delimited JSON (one entity per line) while loading them by pages,
+ * so that the whole result is never kept in memory.
+ * <p>
+ * Each page of JPA entities is loaded in its own read-only transaction, so the loaded instances are not kept
+ * in a persistence context until the whole response is written. If the query is not sorted, the pages are loaded by
+ * primary key ranges (keyset pagination), otherwise by offsets. Writing stops when the client disconnects
+ * or the request processing thread is interrupted.
+ */
+@Component("rest_EntitiesStreamWriter")
+public class EntitiesStreamWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitiesStreamWriter.class);
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    @Autowired
+    protected DataManager dataManager;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    @Autowired
+    protected TransactionManagerLocator transactionManagerLocator;
+
+    @Autowired
+    protected RestProperties restProperties;
+
+    /**
+     * Creates a response body that writes the entities loaded by the given load context. The maximum number of
+     * written entities and the first entity position are taken from the query of the load context.
+     *
+     * @param loadContext  load context
+     * @param keysetPaging whether pages can be loaded by primary key ranges if the query is not sorted
+     * @param entityToJson function that serializes an entity to JSON
+     * @return response body
+     */
+    public StreamingResponseBody createResponseBody(LoadContext<?> loadContext,
+                                                    boolean keysetPaging,
+                                                    Function<Object, String> entityToJson) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                writeEntities(loadContext, keysetPaging, entityToJson, writer);
+            } catch (UncheckedIOException e) {
+                log.debug("Entities streaming is cancelled: {}", e.getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    /**
+     * Loads a page of entities. JPA entities are loaded in a separate read-only transaction.
+     */
+    protected List<?> loadPage(LoadContext<?> pageContext) {
+        MetaClass metaClass = pageContext.getEntityMetaClass();
+        if (!metadataTools.isJpaEntity(metaClass)) {
+            return dataManager.loadList(pageContext);
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                transactionManagerLocator.getTransactionManager(metaClass.getStore().getName()));
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> dataManager.loadList(pageContext));
+    }
+
+    protected void writeEntities(LoadContext<?> loadContext, boolean keysetPaging,
+                                 Function<Object, String> entityToJson, Writer writer) {
+        MetaClass metaClass = loadContext.getEntityMetaClass();
+        LoadContext.Query query = loadContext.getQuery();
+        int maxRows = query.getMaxResults();
+        int firstResult = query.getFirstResult();
+        Condition condition = query.getCondition();
+        String primaryKeyName = isKeysetPagingApplicable(loadContext, keysetPaging) ?
+                metadataTools.getPrimaryKeyName(metaClass) : null;
+
+        int written = 0;
+        Object lastId = null;
+        while (maxRows <= 0 || written < maxRows) {
+            int pageSize = maxRows <= 0 ?
+                    restProperties.getStreamPageSize() :
+                    Math.min(restProperties.getStreamPageSize(), maxRows - written);
+
+            LoadContext<?> pageContext = loadContext.copy();
+            LoadContext.Query pageQuery = pageContext.getQuery();
+            pageQuery.setMaxResults(pageSize);
+            if (primaryKeyName != null) {
+                pageQuery.setSort(Sort.by(primaryKeyName));
+                if (lastId != null) {
+                    Condition keyCondition = PropertyCondition.greater(primaryKeyName, lastId);
+                    pageQuery.setCondition(condition == null ? keyCondition : LogicalCondition.and(condition, keyCondition));
+                    pageQuery.setFirstResult(0);
+                }
+            } else {
+                pageQuery.setFirstResult(firstResult + written);
+            }
+
+            List<?> entities = loadPage(pageContext);
+            try {
+                for (Object entity : entities) {
+                    writer.write(entityToJson.apply(entity));
+                    writer.write('\n');
+                }
+                // detects the client disconnect before the next page is loaded
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            written += entities.size();
+            if (entities.size() < pageSize) {
+                break;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                log.debug("Entities streaming is interrupted after {} entities", written);
+                break;
+            }
+            if (primaryKeyName != null) {
+                lastId = EntityValues.getId(entities.get(entities.size() - 1));
+            }
+        }
+    }
+
+    protected boolean isKeysetPagingApplicable(LoadContext<?> loadContext, boolean keysetPaging) {
+        MetaClass metaClass = loadContext.getEntityMetaClass();
+        LoadContext.Query query = loadContext.getQuery();
+        String queryString = query.getQueryString();
+        return keysetPaging
+                && metadataTools.isJpaEntity(metaClass)
+                && !metadataTools.hasCompositePrimaryKey(metaClass)
+                && metadataTools.getPrimaryKeyName(metaClass) != null
+                && query.getSort() == null
+                && (queryString == null || !queryString.toLowerCase().contains(" order by "));
+    }
+}
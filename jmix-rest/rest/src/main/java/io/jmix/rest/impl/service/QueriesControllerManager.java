@@ -39,6 +39,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import org.springframework.lang.Nullable;
 import java.math.BigDecimal;
@@ -80,6 +81,9 @@ public class QueriesControllerManager {
     @Autowired
     protected RestProperties restProperties;
 
+    @Autowired
+    protected EntitiesStreamWriter entitiesStreamWriter;
+
     public String executeQueryGet(String entityName,
                                   String queryName,
                                   @Nullable Integer limit,
@@ -114,10 +118,77 @@ public class QueriesControllerManager {
                                    @Nullable Boolean dynamicAttributes,
                                    @Nullable String version,
                                    Map<String, String> params) {
-        LoadContext<?> ctx;
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, version, JsonTransformationDirection.FROM_VERSION);
+        LoadContext<?> ctx = createQueryLoadContext(entityName, queryName, limit, offset, fetchPlanName, dynamicAttributes,
+                params, restProperties.getEntityMaxFetchSize(entityName));
+        List<?> entities = dataManager.loadList(ctx);
+
+        String json = entitySerializationAPI.toJson(entities, ctx.getFetchPlan(), getSerializationOptions(returnNulls));
+        json = restControllerUtils.transformJsonIfRequired(entityName, version, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    public StreamingResponseBody streamQueryGet(String entityName,
+                                                String queryName,
+                                                @Nullable Integer limit,
+                                                @Nullable Integer offset,
+                                                @Nullable String fetchPlanName,
+                                                @Nullable Boolean returnNulls,
+                                                @Nullable Boolean dynamicAttributes,
+                                                @Nullable String version,
+                                                Map<String, String> params) {
+        return _streamQuery(entityName, queryName, limit, offset, fetchPlanName, returnNulls, dynamicAttributes, version, params);
+    }
+
+    public StreamingResponseBody streamQueryPost(String entityName,
+                                                 String queryName,
+                                                 @Nullable Integer limit,
+                                                 @Nullable Integer offset,
+                                                 @Nullable String fetchPlanName,
+                                                 @Nullable Boolean returnNulls,
+                                                 @Nullable Boolean dynamicAttributes,
+                                                 @Nullable String version,
+                                                 String paramsJson) {
+        Map<String, String> paramsMap = restParseUtils.parseParamsJson(paramsJson);
+        return _streamQuery(entityName, queryName, limit, offset, fetchPlanName, returnNulls, dynamicAttributes, version, paramsMap);
+    }
+
+    /**
+     * Creates a response body that streams the query result as newline delimited JSON. The number of entities
+     * is limited by {@link RestProperties#getStreamMaxFetchSize(String)}. Pages are loaded by offsets since the predefined
+     * queries may define their own ordering.
+     */
+    protected StreamingResponseBody _streamQuery(String entityName,
+                                                 String queryName,
+                                                 @Nullable Integer limit,
+                                                 @Nullable Integer offset,
+                                                 @Nullable String fetchPlanName,
+                                                 @Nullable Boolean returnNulls,
+                                                 @Nullable Boolean dynamicAttributes,
+                                                 @Nullable String version,
+                                                 Map<String, String> params) {
+        String transformedEntityName = restControllerUtils.transformEntityNameIfRequired(entityName, version, JsonTransformationDirection.FROM_VERSION);
+        LoadContext<?> ctx = createQueryLoadContext(transformedEntityName, queryName, limit, offset, fetchPlanName, dynamicAttributes,
+                params, restProperties.getStreamMaxFetchSize(transformedEntityName));
+        FetchPlan fetchPlan = ctx.getFetchPlan();
+        EntitySerializationOption[] serializationOptions = getSerializationOptions(returnNulls);
+        return entitiesStreamWriter.createResponseBody(ctx, false, entity -> {
+            String json = entitySerializationAPI.toJson(entity, fetchPlan, serializationOptions);
+            return restControllerUtils.transformJsonIfRequired(transformedEntityName, version, JsonTransformationDirection.TO_VERSION, json);
+        });
+    }
+
+    protected LoadContext<?> createQueryLoadContext(String entityName,
+                                                    String queryName,
+                                                    @Nullable Integer limit,
+                                                    @Nullable Integer offset,
+                                                    @Nullable String fetchPlanName,
+                                                    @Nullable Boolean dynamicAttributes,
+                                                    Map<String, String> params,
+                                                    int maxFetchSize) {
+        LoadContext<?> ctx;
         try {
-            ctx = createQueryLoadContext(entityName, queryName, limit, offset, params);
+            ctx = createQueryLoadContext(entityName, queryName, limit, offset, params, maxFetchSize);
         } catch (ClassNotFoundException | ParseException e) {
             throw new RestAPIException("Error on executing the query", e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, e);
         }
@@ -129,16 +200,15 @@ public class QueriesControllerManager {
         if (fetchPlan != null) {
             ctx.setFetchPlan(fetchPlan);
         }
-        List<?> entities = dataManager.loadList(ctx);
+        return ctx;
+    }
 
+    protected EntitySerializationOption[] getSerializationOptions(@Nullable Boolean returnNulls) {
         List<EntitySerializationOption> serializationOptions = new ArrayList<>();
         serializationOptions.add(EntitySerializationOption.SERIALIZE_INSTANCE_NAME);
         serializationOptions.add(EntitySerializationOption.DO_NOT_SERIALIZE_DENIED_PROPERTY);
         if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(EntitySerializationOption.SERIALIZE_NULLS);
-
-        String json = entitySerializationAPI.toJson(entities, ctx.getFetchPlan(), serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(entityName, version, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+        return serializationOptions.toArray(new EntitySerializationOption[0]);
     }
 
     public String getCountGet(String entityName,
@@ -179,6 +249,15 @@ public class QueriesControllerManager {
                                                     @Nullable Integer limit,
                                                     @Nullable Integer offset,
                                                     Map<String, String> params) throws ClassNotFoundException, ParseException {
+        return createQueryLoadContext(entityName, queryName, limit, offset, params, restProperties.getEntityMaxFetchSize(entityName));
+    }
+
+    protected LoadContext<?> createQueryLoadContext(String entityName,
+                                                    String queryName,
+                                                    @Nullable Integer limit,
+                                                    @Nullable Integer offset,
+                                                    Map<String, String> params,
+                                                    int maxFetchSize) throws ClassNotFoundException, ParseException {
         MetaClass metaClass = restControllerUtils.getMetaClass(entityName);
         checkCanReadEntity(metaClass);
 
@@ -192,8 +271,7 @@ public class QueriesControllerManager {
         LoadContext<?> ctx = new LoadContext<>(metaClass);
         LoadContext.Query query = new LoadContext.Query(queryInfo.getJpql());
 
-        int limitFromProperties = restProperties.getEntityMaxFetchSize(entityName);
-        if (limit != null && limit > limitFromProperties || queryInfo.getLimit() != null && queryInfo.getLimit() > limitFromProperties) {
+        if (limit != null && limit > maxFetchSize || queryInfo.getLimit() != null && queryInfo.getLimit() > maxFetchSize) {
             throw new RestAPIException("The value of limit exceeded", "The value of the limit exceeds the maximum possible value from application.properties", HttpStatus.BAD_REQUEST);
         }
         if (limit != null) {
@@ -201,7 +279,7 @@ public class QueriesControllerManager {
         } else if (queryInfo.getLimit() != null) {
             query.setMaxResults(queryInfo.getLimit());
         } else {
-            query.setMaxResults(limitFromProperties);
+            query.setMaxResults(maxFetchSize);
         }
 
         if (offset != null) {
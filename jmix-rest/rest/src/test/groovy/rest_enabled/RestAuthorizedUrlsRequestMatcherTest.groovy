@@ -25,7 +25,7 @@ class RestAuthorizedUrlsRequestMatcherTest extends Specification {
 
     def restProperties = new RestProperties('/rest', '/entities', '/docs', '/metadata', '/files', '/messages',
             '/permissions', '/queries', '/services', '/userInfo', '/user-session', '/capabilities',
-            false, true, 1000, null, null, true, null, null)
+            false, true, 1000, null, null, true, null, null, 100000, 1000)
 
     def "test without servlet context"() {
         def matcher = new RestAuthorizedUrlsRequestMatcher(restProperties)
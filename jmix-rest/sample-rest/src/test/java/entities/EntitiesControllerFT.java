@@ -17,6 +17,7 @@
 package entities;
 
 
+import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
 import io.jmix.core.Id;
@@ -333,6 +334,30 @@ class EntitiesControllerFT extends AbstractRestControllerFT {
         }
     }
 
+    @Test
+    void loadEntitiesListAsNdjson() throws Exception {
+        String url = baseUrl + "/entities/ref$Colour";
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Accept", "application/x-ndjson");
+        try (CloseableHttpResponse response = sendGetWithHeaders(url, oauthToken, null, headers)) {
+            assertEquals(HttpStatus.SC_OK, statusCode(response));
+            assertTrue(responseContentType(response).startsWith("application/x-ndjson"));
+
+            String[] lines = responseToString(response).split("\n");
+            int count;
+            try (PreparedStatement stmt = conn.prepareStatement("select count(*) from REF_COLOUR where delete_ts is null")) {
+                ResultSet rs = stmt.executeQuery();
+                assertTrue(rs.next());
+                count = rs.getInt(1);
+            }
+            assertEquals(count, lines.length);
+            for (String line : lines) {
+                ReadContext ctx = JsonPath.parse(line);
+                assertNotNull(ctx.read("$._instanceName"));
+            }
+        }
+    }
+
     @Test
     void loadEntitiesListWithCountHeader() throws Exception {
         String url = baseUrl + "/entities/ref$Colour";
@@ -33,10 +33,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -275,35 +272,75 @@ public class RestDataStore extends AbstractDataStore {
     protected Set<Object> saveAll(SaveContext context) {
         Set<Object> saved = new HashSet<>();
         Set<FileRef> fileRefs = saveContextProcessor.process(context);
-        for (Object entity : context.getEntitiesToSave()) {
-            String entityName = getEntityName(metadata.getClass(entity));
-            FetchPlan fetchPlan = null;
-            String savedEntityJson;
-            boolean isNew = entityStates.isNew(entity);
-            if (isNew) {
-                entityEventManager.publishEntitySavingEvent(entity, true);
-                String entityJson = serializeToJson(entity, true, fileRefs);
-                savedEntityJson = restInvoker.create(entityName, entityJson);
+        for (BulkOperationGroup group : groupBulkOperations(context.getEntitiesToSave(), false)) {
+            if (group.entities.size() == 1) {
+                saved.add(saveEntity(group.entities.get(0), fileRefs));
             } else {
-                Object id = EntityValues.getId(entity);
-                if (id == null) {
-                    throw new IllegalArgumentException("Entity id is null for " + entity);
-                }
-                entityEventManager.publishEntitySavingEvent(entity, false);
+                saved.addAll(saveEntities(group, fileRefs));
+            }
+        }
+        return saved;
+    }
 
-                String entityJson = serializeToJson(entity, false, fileRefs);
-                savedEntityJson = restInvoker.update(entityName, id.toString(), entityJson);
+    private Object saveEntity(Object entity, Set<FileRef> fileRefs) {
+        String entityName = getEntityName(metadata.getClass(entity));
+        FetchPlan fetchPlan = null;
+        String savedEntityJson;
+        boolean isNew = entityStates.isNew(entity);
+        if (isNew) {
+            entityEventManager.publishEntitySavingEvent(entity, true);
+            String entityJson = serializeToJson(entity, true, fileRefs);
+            savedEntityJson = restInvoker.create(entityName, entityJson);
+        } else {
+            Object id = EntityValues.getId(entity);
+            if (id == null) {
+                throw new IllegalArgumentException("Entity id is null for " + entity);
             }
-            Object savedEntity = restSerialization.fromJson(savedEntityJson, entity.getClass());
-            if (savedEntity == null) {
-                throw new IllegalStateException("Saved entity is null");
+            entityEventManager.publishEntitySavingEvent(entity, false);
+
+            String entityJson = serializeToJson(entity, false, fileRefs);
+            savedEntityJson = restInvoker.update(entityName, id.toString(), entityJson);
+        }
+        Object savedEntity = restSerialization.fromJson(savedEntityJson, entity.getClass());
+        if (savedEntity == null) {
+            throw new IllegalStateException("Saved entity is null");
+        }
+        if (isNew && EntityValues.getId(entity) == null) {
+            // set new ID to the passed instance to let the framework match the saved instance with the original one
+            EntityValues.setId(entity, EntityValues.getId(savedEntity));
+        }
+        updateEntityState(savedEntity, fetchPlan);
+        entityEventManager.publishEntitySavedEvent(entity, savedEntity, isNew);
+        return savedEntity;
+    }
+
+    private List<Object> saveEntities(BulkOperationGroup group, Set<FileRef> fileRefs) {
+        List<String> entityJsons = new ArrayList<>(group.entities.size());
+        for (Object entity : group.entities) {
+            entityEventManager.publishEntitySavingEvent(entity, group.isNew);
+            entityJsons.add(serializeToJson(entity, group.isNew, fileRefs));
+        }
+        List<String> savedEntitiesJsons = group.isNew
+                ? restInvoker.createAll(group.entityName, entityJsons)
+                : restInvoker.updateAll(group.entityName, entityJsons);
+
+        // bulk responses don't guarantee the order of entities, so match saved instances with the original ones by id
+        Class<?> entityClass = group.entities.get(0).getClass();
+        Map<Object, Object> savedEntitiesById = new HashMap<>();
+        for (String savedEntitiesJson : savedEntitiesJsons) {
+            for (Object savedEntity : restSerialization.fromJsonCollection(savedEntitiesJson, entityClass)) {
+                savedEntitiesById.put(EntityValues.getId(savedEntity), savedEntity);
             }
-            if (isNew && EntityValues.getId(entity) == null) {
-                // set new ID to the passed instance to let the framework match the saved instance with the original one
-                EntityValues.setId(entity, EntityValues.getId(savedEntity));
+        }
+
+        List<Object> saved = new ArrayList<>(group.entities.size());
+        for (Object entity : group.entities) {
+            Object savedEntity = savedEntitiesById.get(EntityValues.getId(entity));
+            if (savedEntity == null) {
+                throw new IllegalStateException("Saved entity is not returned for " + entity);
             }
-            updateEntityState(savedEntity, fetchPlan);
-            entityEventManager.publishEntitySavedEvent(entity, savedEntity, isNew);
+            updateEntityState(savedEntity, null);
+            entityEventManager.publishEntitySavedEvent(entity, savedEntity, group.isNew);
             saved.add(savedEntity);
         }
         return saved;
@@ -335,19 +372,105 @@ public class RestDataStore extends AbstractDataStore {
     @Override
     protected Set<Object> deleteAll(SaveContext context) {
         Set<Object> saved = new HashSet<>();
-        for (Object entity : context.getEntitiesToRemove()) {
-            String entityName = getEntityName(metadata.getClass(entity));
-            Object id = EntityValues.getId(entity);
-            if (id == null) {
-                throw new IllegalArgumentException("Entity id is null for " + entity);
+        for (BulkOperationGroup group : groupBulkOperations(context.getEntitiesToRemove(), true)) {
+            List<String> ids = new ArrayList<>(group.entities.size());
+            for (Object entity : group.entities) {
+                Object id = EntityValues.getId(entity);
+                if (id == null) {
+                    throw new IllegalArgumentException("Entity id is null for " + entity);
+                }
+                ids.add(id.toString());
+            }
+            if (ids.size() == 1) {
+                restInvoker.delete(group.entityName, ids.get(0));
+            } else {
+                restInvoker.deleteAll(group.entityName, ids);
+            }
+            for (Object entity : group.entities) {
+                entityEventManager.publishEntityRemovedEvent(entity);
+                saved.add(entity);
             }
-            restInvoker.delete(entityName, id.toString());
-            entityEventManager.publishEntityRemovedEvent(entity);
-            saved.add(entity);
         }
         return saved;
     }
 
+    /**
+     * Splits entities into groups that can be saved or removed by bulk requests. A group contains entities
+     * of the same type and operation. When saving, an entity is placed into a group executed after the groups
+     * of the entities it references; when removing, after the groups of the entities referencing it.
+     * New entities without id are saved one by one because they can be matched with the saved instances only
+     * by the order of the response, which is not guaranteed.
+     */
+    private List<BulkOperationGroup> groupBulkOperations(Collection<Object> entities, boolean remove) {
+        boolean bulkEnabled = restInvoker.getBulkChunkSize() > 1;
+        List<BulkOperationGroup> groups = new ArrayList<>();
+        Map<Object, Integer> groupIndexes = new HashMap<>();
+        Map<Object, Integer> referrerGroupIndexes = new HashMap<>();
+
+        for (Object entity : entities) {
+            String entityName = getEntityName(metadata.getClass(entity));
+            boolean isNew = !remove && entityStates.isNew(entity);
+            boolean bulk = bulkEnabled && (!isNew || EntityValues.getId(entity) != null);
+            List<Object> references = getReferences(entity);
+
+            int minGroupIndex = 0;
+            if (remove) {
+                Integer referrerGroupIndex = referrerGroupIndexes.get(entity);
+                if (referrerGroupIndex != null) {
+                    minGroupIndex = referrerGroupIndex + 1;
+                }
+            } else {
+                for (Object reference : references) {
+                    Integer referenceGroupIndex = groupIndexes.get(reference);
+                    if (referenceGroupIndex != null) {
+                        minGroupIndex = Math.max(minGroupIndex, referenceGroupIndex + 1);
+                    }
+                }
+            }
+
+            int groupIndex = -1;
+            if (bulk) {
+                for (int i = minGroupIndex; i < groups.size(); i++) {
+                    BulkOperationGroup group = groups.get(i);
+                    if (group.bulk && group.isNew == isNew && group.entityName.equals(entityName)) {
+                        groupIndex = i;
+                        break;
+                    }
+                }
+            }
+            if (groupIndex == -1) {
+                groups.add(new BulkOperationGroup(entityName, isNew, bulk));
+                groupIndex = groups.size() - 1;
+            }
+            groups.get(groupIndex).entities.add(entity);
+
+            groupIndexes.put(entity, groupIndex);
+            if (remove) {
+                for (Object reference : references) {
+                    referrerGroupIndexes.merge(reference, groupIndex, Math::max);
+                }
+            }
+        }
+        return groups;
+    }
+
+    private List<Object> getReferences(Object entity) {
+        List<Object> references = new ArrayList<>();
+        for (MetaProperty property : metadata.getClass(entity).getProperties()) {
+            if (property.getRange().isClass()
+                    && !metadataTools.isEmbedded(property)
+                    && entityStates.isLoaded(entity, property.getName())) {
+                Object value = EntityValues.getValue(entity, property.getName());
+                if (value instanceof Collection<?> collection) {
+                    references.addAll(collection);
+                } else if (value != null) {
+                    references.add(value);
+                }
+            }
+        }
+        return references;
+    }
+
     @Override
     protected List<Object> loadAllValues(ValueLoadContext context) {
         throw new UnsupportedOperationException("Loading scalar values is not supported");
@@ -398,6 +521,20 @@ public class RestDataStore extends AbstractDataStore {
     private static class DummyTransactionContextState implements TransactionContextState {
     }
 
+    private static class BulkOperationGroup {
+
+        private final String entityName;
+        private final boolean isNew;
+        private final boolean bulk;
+        private final List<Object> entities = new ArrayList<>();
+
+        private BulkOperationGroup(String entityName, boolean isNew, boolean bulk) {
+            this.entityName = entityName;
+            this.isNew = isNew;
+            this.bulk = bulk;
+        }
+    }
+
     private static class UpdatingLoadedPropertiesListener implements EntityPropertyChangeListener, Serializable {
         @Override
         public void propertyChanged(EntityPropertyChangeEvent event) {
@@ -19,6 +19,7 @@ package io.jmix.restds.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
 import io.jmix.restds.exception.RestDataStoreAccessException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,15 +37,24 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.lang.Nullable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.UriBuilder;
 
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @SuppressWarnings("UnnecessaryLocalVariable")
 @Component("restds_RestInvoker")
@@ -55,6 +65,8 @@ public class RestInvoker implements InitializingBean {
 
     public static final String DEFAULT_AUTHENTICATOR = "restds_RestClientCredentialsAuthenticator";
 
+    public static final int DEFAULT_BULK_CHUNK_SIZE = 100;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private final String dataStoreName;
@@ -69,6 +81,11 @@ public class RestInvoker implements InitializingBean {
     private String permissionsPath;
     private String capabilitiesPath;
 
+    private int bulkChunkSize;
+    private int bulkParallelism;
+
+    private volatile ExecutorService bulkExecutor;
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -116,6 +133,9 @@ public class RestInvoker implements InitializingBean {
         permissionsPath = environment.getProperty(dataStoreName + ".permissionsPath", "/permissions");
         capabilitiesPath = environment.getProperty(dataStoreName + ".capabilitiesPath", "/capabilities");
 
+        bulkChunkSize = environment.getProperty(dataStoreName + ".bulkChunkSize", Integer.class, DEFAULT_BULK_CHUNK_SIZE);
+        bulkParallelism = environment.getProperty(dataStoreName + ".bulkParallelism", Integer.class, 1);
+
         restClient = RestClient.builder()
                 .baseUrl(baseUrl)
                 .messageConverters(converters ->
@@ -286,6 +306,158 @@ public class RestInvoker implements InitializingBean {
         }
     }
 
+    /**
+     * Returns the maximum number of entities sent in one bulk request. Values less than 2 mean that entities
+     * are created, updated and deleted one by one.
+     */
+    public int getBulkChunkSize() {
+        return bulkChunkSize;
+    }
+
+    /**
+     * Creates entities of the same type by bulk requests containing up to {@link #getBulkChunkSize()} entities.
+     *
+     * @param entityName  remote entity name
+     * @param entityJsons JSON of each entity to create
+     * @return JSON arrays of created entities, one for each request
+     */
+    public List<String> createAll(String entityName, List<String> entityJsons) {
+        return invokeInChunks(entityJsons, chunk -> {
+            try {
+                String resultJson = restClient.post()
+                        .uri(basePath + entitiesPath + "/{entityName}?responseFetchPlan=_base", entityName)
+                        .body(toJsonArray(chunk))
+                        .retrieve()
+                        .body(String.class);
+
+                return resultJson;
+            } catch (ResourceAccessException e) {
+                throw new RestDataStoreAccessException(dataStoreName, e);
+            }
+        });
+    }
+
+    /**
+     * Updates entities of the same type by bulk requests containing up to {@link #getBulkChunkSize()} entities.
+     *
+     * @param entityName  remote entity name
+     * @param entityJsons JSON of each entity to update, including its id
+     * @return JSON arrays of updated entities, one for each request
+     */
+    public List<String> updateAll(String entityName, List<String> entityJsons) {
+        return invokeInChunks(entityJsons, chunk -> {
+            try {
+                String resultJson = restClient.put()
+                        .uri(basePath + entitiesPath + "/{entityName}?responseFetchPlan=_base", entityName)
+                        .body(toJsonArray(chunk))
+                        .retrieve()
+                        .body(String.class);
+
+                return resultJson;
+            } catch (ResourceAccessException e) {
+                throw new RestDataStoreAccessException(dataStoreName, e);
+            }
+        });
+    }
+
+    /**
+     * Deletes entities of the same type by bulk requests containing up to {@link #getBulkChunkSize()} ids.
+     *
+     * @param entityName remote entity name
+     * @param entityIds  ids of entities to delete
+     */
+    public void deleteAll(String entityName, List<String> entityIds) {
+        invokeInChunks(entityIds, chunk -> {
+            try {
+                restClient.method(HttpMethod.DELETE)
+                        .uri(basePath + entitiesPath + "/{entityName}", entityName)
+                        .body(objectMapper.writeValueAsString(chunk))
+                        .retrieve()
+                        .toBodilessEntity();
+                return null;
+            } catch (ResourceAccessException e) {
+                throw new RestDataStoreAccessException(dataStoreName, e);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Error creating request body", e);
+            }
+        });
+    }
+
+    private String toJsonArray(List<String> jsons) {
+        return "[" + String.join(",", jsons) + "]";
+    }
+
+    /**
+     * Splits the items into chunks of {@link #getBulkChunkSize()} size and invokes the function for each chunk.
+     * If {@code bulkParallelism} property is greater than 1, chunks are sent concurrently, the caller's security
+     * context and request attributes are propagated to the worker threads.
+     */
+    private <T> List<T> invokeInChunks(List<String> items, Function<List<String>, T> chunkInvoker) {
+        List<List<String>> chunks = Lists.partition(items, Math.max(bulkChunkSize, 1));
+        List<T> results = new ArrayList<>(chunks.size());
+        if (chunks.size() == 1 || bulkParallelism <= 1) {
+            for (List<String> chunk : chunks) {
+                results.add(chunkInvoker.apply(chunk));
+            }
+            return results;
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        List<Future<T>> futures = new ArrayList<>(chunks.size());
+        for (List<String> chunk : chunks) {
+            futures.add(getBulkExecutor().submit(() -> {
+                SecurityContextHolder.setContext(securityContext);
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return chunkInvoker.apply(chunk);
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Error executing bulk request", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while executing bulk requests", e);
+        }
+        return results;
+    }
+
+    private ExecutorService getBulkExecutor() {
+        if (bulkExecutor == null) {
+            synchronized (this) {
+                if (bulkExecutor == null) {
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(bulkParallelism, bulkParallelism,
+                            60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                            runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "restds-" + dataStoreName + "-bulk-" + threadNumber.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    // the invoker is a prototype bean without destruction callbacks, so let idle threads finish
+                    executor.allowCoreThreadTimeOut(true);
+                    bulkExecutor = executor;
+                }
+            }
+        }
+        return bulkExecutor;
+    }
+
     public String userInfo() {
         try {
             String resultJson = restClient.get()
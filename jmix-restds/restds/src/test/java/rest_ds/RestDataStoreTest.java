@@ -16,10 +16,7 @@
 
 package rest_ds;
 
-import io.jmix.core.DataManager;
-import io.jmix.core.Id;
-import io.jmix.core.LoadContext;
-import io.jmix.core.Metadata;
+import io.jmix.core.*;
 import io.jmix.core.entity.KeyValueEntity;
 import io.jmix.core.querycondition.PropertyCondition;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +30,7 @@ import test_support.entity.Customer;
 import test_support.entity.CustomerRegionDto;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -97,6 +95,45 @@ public class RestDataStoreTest extends BaseRestDsIntegrationTest {
         assertThat(deletedCustomer).isNull();
     }
 
+    @Test
+    void testBulkCreateUpdateDelete() {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Customer customer = dataManager.create(Customer.class);
+            customer.setLastName("bulk-cust-" + i + "-" + now);
+            customer.setEmail("bulk" + i + "@mail.com");
+            customers.add(customer);
+        }
+
+        EntitySet createdCustomers = dataManager.save(new SaveContext().saving(customers.toArray()));
+
+        for (Customer customer : customers) {
+            Customer createdCustomer = createdCustomers.get(customer);
+            assertThat(createdCustomer).isNotNull();
+            assertThat(createdCustomer.getLastName()).isEqualTo(customer.getLastName());
+            assertThat(createdCustomer.getCreatedDate()).isNotNull();
+
+            createdCustomer.setEmail("updated-" + customer.getEmail());
+        }
+
+        EntitySet updatedCustomers = dataManager.save(new SaveContext().saving(createdCustomers.getAll(Customer.class).toArray()));
+
+        for (Customer customer : customers) {
+            Customer updatedCustomer = updatedCustomers.get(customer);
+            assertThat(updatedCustomer).isNotNull();
+            assertThat(updatedCustomer.getEmail()).isEqualTo("updated-" + customer.getEmail());
+            assertThat(updatedCustomer.getLastModifiedBy()).isEqualTo(SampleServiceConnection.CLIENT_ID);
+        }
+
+        dataManager.save(new SaveContext().removing(updatedCustomers.getAll(Customer.class).toArray()));
+
+        List<Customer> deletedCustomers = dataManager.load(Customer.class)
+                .ids(customers.stream().map(Customer::getId).toList())
+                .list();
+
+        assertThat(deletedCustomers).isEmpty();
+    }
+
     @Test
     void testCount() {
         Customer customer = createCustomer(null, "new-cust-1-" + now);
@@ -28,6 +28,8 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @ConfigurationProperties(prefix = "jmix.search")
 public class SearchProperties {
@@ -54,6 +56,28 @@ public class SearchProperties {
      */
     protected final int processQueueBatchSize;
 
+    /**
+     * Number of partitions the indexing queue is split into. Items related to the same entity instance always belong
+     * to the same partition. Value greater than 1 enables parallel processing of partitions.
+     */
+    protected final int processQueuePartitionCount;
+
+    /**
+     * Number of threads processing queue partitions in parallel on this node.
+     *
+     * @see #processQueuePartitionCount
+     */
+    protected final int processQueueThreadCount;
+
+    /**
+     * Partitions of the indexing queue processed by this node. Allows to share the queue between several nodes of a
+     * cluster by assigning disjoint sets of partitions to them. Each value should be in range
+     * [0, processQueuePartitionCount). Empty list means all partitions.
+     *
+     * @see #processQueuePartitionCount
+     */
+    protected final List<Integer> processQueueNodePartitions;
+
     /**
      * Amount of entity instances enqueued in single batch during entity reindex process.
      */
@@ -64,6 +88,13 @@ public class SearchProperties {
      */
     protected final boolean changedEntitiesIndexingEnabled;
 
+    /**
+     * Whether entities dependent on changed entities are resolved during the Indexing Queue processing
+     * instead of the transaction that changes entities. Makes commits faster at the cost of reindexing
+     * all dependents of a changed entity regardless of the changed attributes.
+     */
+    protected final boolean changedEntitiesDependentsResolutionDeferred;
+
     /**
      * Whether the default Indexing Queue processing quartz scheduling configuration is used.
      */
@@ -141,10 +172,14 @@ public class SearchProperties {
             @DefaultValue("100") int maxSearchPageCount,
             @DefaultValue("100") int searchReloadEntitiesBatchSize,
             @DefaultValue("100") int processQueueBatchSize,
+            @DefaultValue("1") int processQueuePartitionCount,
+            @DefaultValue("4") int processQueueThreadCount,
+            @DefaultValue("") String processQueueNodePartitions,
             @DefaultValue("100") int reindexEntityEnqueueBatchSize,
             @DefaultValue("3") int minPrefixLength,
             @DefaultValue("8") int maxPrefixLength,
             @DefaultValue("true") boolean changedEntitiesIndexingEnabled,
+            @DefaultValue("false") boolean changedEntitiesDependentsResolutionDeferred,
             @DefaultValue("true") boolean useDefaultIndexingQueueProcessingQuartzConfiguration,
             @DefaultValue("true") boolean useDefaultEnqueueingSessionProcessingQuartzConfiguration,
             @DefaultValue("true") boolean enqueueIndexAllOnStartupIndexRecreationEnabled,
@@ -160,8 +195,12 @@ public class SearchProperties {
         this.maxSearchPageCount = maxSearchPageCount;
         this.searchReloadEntitiesBatchSize = searchReloadEntitiesBatchSize;
         this.processQueueBatchSize = processQueueBatchSize;
+        this.processQueuePartitionCount = processQueuePartitionCount;
+        this.processQueueThreadCount = processQueueThreadCount;
+        this.processQueueNodePartitions = prepareNodePartitions(processQueueNodePartitions, processQueuePartitionCount);
         this.reindexEntityEnqueueBatchSize = reindexEntityEnqueueBatchSize;
         this.changedEntitiesIndexingEnabled = changedEntitiesIndexingEnabled;
+        this.changedEntitiesDependentsResolutionDeferred = changedEntitiesDependentsResolutionDeferred;
         this.useDefaultIndexingQueueProcessingQuartzConfiguration = useDefaultIndexingQueueProcessingQuartzConfiguration;
         this.useDefaultEnqueueingSessionProcessingQuartzConfiguration = useDefaultEnqueueingSessionProcessingQuartzConfiguration;
         this.indexingQueueProcessingCron = indexingQueueProcessingCron;
@@ -205,6 +244,27 @@ public class SearchProperties {
         return processQueueBatchSize;
     }
 
+    /**
+     * @see #processQueuePartitionCount
+     */
+    public int getProcessQueuePartitionCount() {
+        return processQueuePartitionCount;
+    }
+
+    /**
+     * @see #processQueueThreadCount
+     */
+    public int getProcessQueueThreadCount() {
+        return processQueueThreadCount;
+    }
+
+    /**
+     * @see #processQueueNodePartitions
+     */
+    public List<Integer> getProcessQueueNodePartitions() {
+        return processQueueNodePartitions;
+    }
+
     /**
      * @see #reindexEntityEnqueueBatchSize
      */
@@ -231,6 +291,13 @@ public class SearchProperties {
         return changedEntitiesIndexingEnabled;
     }
 
+    /**
+     * @see #changedEntitiesDependentsResolutionDeferred
+     */
+    public boolean isChangedEntitiesDependentsResolutionDeferred() {
+        return changedEntitiesDependentsResolutionDeferred;
+    }
+
     /**
      * @see #useDefaultIndexingQueueProcessingQuartzConfiguration
      */
@@ -360,6 +427,42 @@ public class SearchProperties {
         return result;
     }
 
+    protected List<Integer> prepareNodePartitions(String processQueueNodePartitions, int partitionCount) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid indexing queue partition count: %s. It should be at least 1", partitionCount));
+        }
+        if (StringUtils.isBlank(processQueueNodePartitions)) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> result = Arrays.stream(processQueueNodePartitions.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .distinct()
+                .collect(Collectors.toList());
+        for (Integer partition : result) {
+            if (partition < 0 || partition >= partitionCount) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid indexing queue node partition: %s. It should be in range [0, %s)",
+                        partition, partitionCount));
+            }
+        }
+
+        if (partitionCount == 1) {
+            log.warn("Indexing queue node partitions {} are ignored because the queue is not partitioned", result);
+        } else if (result.size() < partitionCount) {
+            List<Integer> uncovered = IntStream.range(0, partitionCount)
+                    .filter(partition -> !result.contains(partition))
+                    .boxed()
+                    .collect(Collectors.toList());
+            log.warn("Indexing queue partitions {} are not processed by this node. " +
+                    "Make sure they are assigned to other nodes of the cluster, " +
+                    "otherwise their items will never be indexed", uncovered);
+        }
+        return result;
+    }
+
     public static class Server {
 
         /**
@@ -73,11 +73,20 @@ public interface IndexingQueueManager {
      */
     int enqueueIndexCollectionByEntityIds(Collection<Id<?>> entityIds);
 
+    /**
+     * Enqueues indexing of entity instances that depend on the instance with provided id.
+     * The dependent instances are resolved later, during the queue processing.
+     *
+     * @param entityId id of the instance that has been changed
+     * @return amount of enqueued items
+     */
+    int enqueueIndexDependentsByEntityId(Id<?> entityId);
+
     /**
      * Synchronously sends all instances of all index-configured entities to indexing queue.
      * <p>
-     * Don't use it on a huge amount of data - all ids (per entity) will be kept in memory during this process.
-     * Use {@link #initAsyncEnqueueIndexAll} methods instead.
+     * Ids are loaded and enqueued page by page, each page in a separate transaction.
+     * See {@link #enqueueIndexAll(String)}.
      *
      * @return amount of enqueued instances
      */
@@ -86,8 +95,11 @@ public interface IndexingQueueManager {
     /**
      * Synchronously sends all instances of provided entity to indexing queue.
      * <p>
-     * Don't use it on a huge amount of data - all ids will be kept in memory during this process.
-     * Use {@link #initAsyncEnqueueIndexAll} methods instead.
+     * Ids are loaded in pages ordered by primary key and each page is enqueued in a separate transaction,
+     * so the memory consumption doesn't depend on the amount of data. The progress is stored in the enqueueing
+     * session of the entity: if the process is interrupted, the next invocation continues after the last
+     * enqueued page. If the session has been suspended, nothing is enqueued until it is resumed or terminated.
+     * To run the process in background, use {@link #initAsyncEnqueueIndexAll} methods.
      *
      * @param entityName entity name
      * @return amount of enqueued instances
@@ -52,6 +52,9 @@ public class IndexingQueueItem {
     @Column(name = "ENTITY_NAME")
     private String entityName;
 
+    @Column(name = "PARTITION_KEY")
+    private Integer partitionKey;
+
     @CreatedBy
     @Column(name = "CREATED_BY")
     private String createdBy;
@@ -84,6 +87,18 @@ public class IndexingQueueItem {
         this.operation = operation.getId();
     }
 
+    /**
+     * Non-negative hash of the entity id. Items of the same entity instance always have the same key,
+     * so they are processed by the same worker when the queue is processed by partitions.
+     */
+    public Integer getPartitionKey() {
+        return partitionKey;
+    }
+
+    public void setPartitionKey(Integer partitionKey) {
+        this.partitionKey = partitionKey;
+    }
+
     public Date getCreatedDate() {
         return createdDate;
     }
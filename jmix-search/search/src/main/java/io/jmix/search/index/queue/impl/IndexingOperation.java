@@ -24,7 +24,12 @@ import org.springframework.lang.Nullable;
 public enum IndexingOperation implements EnumClass<String> {
 
     INDEX("index"),
-    DELETE("delete");
+    DELETE("delete"),
+    /**
+     * Enqueues indexing of instances that depend on the instance. The dependent instances are resolved
+     * during the queue processing.
+     */
+    INDEX_DEPENDENTS("indexDependents");
 
     private final String id;
 
@@ -16,9 +16,12 @@
 
 package io.jmix.search.index.queue.impl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.security.SystemAuthenticator;
 import io.jmix.data.StoreAwareLocator;
 import io.jmix.search.SearchProperties;
@@ -33,6 +36,7 @@ import io.jmix.search.index.queue.EntityIdsLoader.ResultHolder;
 import io.jmix.search.index.queue.IndexingQueueManager;
 import io.jmix.search.index.queue.entity.EnqueueingSession;
 import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.jmix.search.listener.DependentEntitiesResolver;
 import org.apache.commons.collections4.MapUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,14 +45,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import org.springframework.lang.Nullable;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static java.lang.String.format;
-
 @Component("search_JpaIndexingQueueManager")
 public class JpaIndexingQueueManager implements IndexingQueueManager {
 
@@ -67,6 +75,8 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
     @Autowired
     protected IndexConfigurationManager indexConfigurationManager;
     @Autowired
+    protected DependentEntitiesResolver dependentEntitiesResolver;
+    @Autowired
     protected IdSerialization idSerialization;
     @Autowired
     protected SystemAuthenticator authenticator;
@@ -81,6 +91,8 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
     @Autowired
     protected EntityIdsLoaderProvider entityIdsLoaderProvider;
 
+    protected volatile ExecutorService queueProcessingExecutor;
+
     @Override
     public int emptyQueue() {
         TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
@@ -137,6 +149,14 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return enqueueByIds(entityIds, IndexingOperation.INDEX);
     }
 
+    @Override
+    public int enqueueIndexDependentsByEntityId(Id<?> entityId) {
+        Preconditions.checkNotNullArgument(entityId);
+        MetaClass metaClass = metadata.getClass(entityId.getEntityClass());
+        IndexingQueueItem queueItem = createQueueItem(metaClass, idSerialization.idToString(entityId), IndexingOperation.INDEX_DEPENDENTS);
+        return enqueue(Collections.singletonList(queueItem));
+    }
+
     @Override
     public int enqueueIndexAll() {
         return indexConfigurationManager.getAllIndexConfigurations().stream()
@@ -337,11 +357,11 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         log.debug("Next {} enqueuing instances of entity '{}': {}", ids.size(), entityName, ids);
         int processed = processRawIds(ids, entityClass, batchSize);
         log.debug("Processed {} instances of entity '{}'", processed, entityName);
-        if (ids.size() < batchSize) {
+        Object lastOrderingValue = resultHolder.getLastOrderingValue();
+        if (ids.size() < batchSize || lastOrderingValue == null) {
             log.debug("All instances of entity '{}' have been processed", entityName);
             enqueueingSessionManager.removeSession(session);
         } else {
-            Object lastOrderingValue = resultHolder.getLastOrderingValue();
             enqueueingSessionManager.updateOrderingValue(session, lastOrderingValue);
         }
         return processed;
@@ -362,37 +382,35 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         }
 
         try {
-            MetaClass metaClass = metadata.getClass(entityName);
-            List<?> rawIds = loadRawIds(metaClass);
-            return processRawIds(rawIds, metaClass, batchSize);
+            EnqueueingSession session = enqueueingSessionManager.getSession(entityName);
+            if (session == null) {
+                if (!enqueueingSessionManager.initSession(entityName)) {
+                    log.info("Unable to enqueue all instances of entity '{}' for indexing: session is locked", entityName);
+                    return 0;
+                }
+                session = enqueueingSessionManager.getSession(entityName);
+            } else if (session.getStatus() == EnqueueingSessionStatus.SUSPENDED) {
+                log.info("Unable to enqueue all instances of entity '{}' for indexing: enqueueing session is suspended. " +
+                        "Resume or terminate the session first", entityName);
+                return 0;
+            } else {
+                log.info("Resume enqueueing all instances of entity '{}' after value '{}'",
+                        entityName, session.getLastProcessedValue());
+            }
+
+            int totalEnqueued = 0;
+            // stop if the session is suspended while enqueueing
+            while (session != null && session.getStatus() == EnqueueingSessionStatus.ACTIVE) {
+                totalEnqueued += enqueueNextBatchInternal(session, batchSize);
+                // the session keeps the last enqueued value and is removed when all instances are enqueued
+                session = enqueueingSessionManager.getSession(entityName);
+            }
+            return totalEnqueued;
         } finally {
             locker.unlockEntityForEnqueueIndexAll(entityName);
         }
     }
 
-    protected List<?> loadRawIds(MetaClass metaClass) {
-        String entityName = metaClass.getName();
-        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
-        log.debug("Primary key of entity '{}': '{}'", entityName, primaryKeyName);
-        if (primaryKeyName == null) {
-            throw new IllegalArgumentException(String.format("Unable to enqueue instances of entity '%s' - entity doesn't have primary key", entityName));
-        }
-
-        List<?> rawIds;
-        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(metaClass.getStore().getName());
-        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
-        rawIds = transactionTemplate.execute(status -> {
-            EntityManager em = storeAwareLocator.getEntityManager(metaClass.getStore().getName());
-            String discriminatorCondition = metaClass.getDescendants().isEmpty() ? "" : "where TYPE(e) = " + entityName;
-            Query query = em.createQuery(format("select e.%s from %s e %s", primaryKeyName, entityName, discriminatorCondition));
-            return query.getResultList();
-        });
-        if (rawIds == null) {
-            rawIds = Collections.emptyList();
-        }
-        return rawIds;
-    }
-
     protected int processRawIds(List<?> rawIds, MetaClass metaClass, int batchSize) {
         Class<Object> entityClass = metaClass.getJavaClass();
         String entityName = metaClass.getName();
@@ -441,13 +459,54 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         }
 
         log.debug("Start processing queue");
+        try {
+            if (searchProperties.getProcessQueuePartitionCount() > 1) {
+                count = processQueueByPartitions(batchSize, processEntireQueue);
+            } else {
+                count = processPartition(null, batchSize, processEntireQueue);
+            }
+        } finally {
+            locker.unlockQueueProcessing();
+        }
+
+        log.debug("{} queue items have been successfully processed", count);
+        return count;
+    }
+
+    /**
+     * Processes partitions of the queue assigned to this node in parallel. Each partition is processed by a single
+     * thread, so queue items of the same entity instance are never processed concurrently or out of order.
+     */
+    protected int processQueueByPartitions(int batchSize, boolean processEntireQueue) {
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (Integer partition : getNodePartitions()) {
+            futures.add(getQueueProcessingExecutor().submit(() -> processPartition(partition, batchSize, processEntireQueue)));
+        }
+
+        int count = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                count += future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                log.error("Error processing indexing queue partition", e.getCause());
+            }
+        }
+        return count;
+    }
+
+    protected int processPartition(@Nullable Integer partition, int batchSize, boolean processEntireQueue) {
+        int count = 0;
         try {
             authenticator.begin();
 
             List<IndexingQueueItem> queueItems;
             do {
                 List<String> unavailableEntities = indexStateRegistry.getAllUnavailableIndexedEntities();
-                LoadContext<IndexingQueueItem> loadContext = createDequeueLoadContext(unavailableEntities, batchSize);
+                LoadContext<IndexingQueueItem> loadContext = createDequeueLoadContext(unavailableEntities, partition, batchSize);
                 log.trace("Dequeue items by load context: {}", loadContext);
                 queueItems = dataManager.loadList(loadContext);
                 log.debug("Dequeued {} items: {}", queueItems.size(), queueItems);
@@ -464,21 +523,72 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
                 count += successfullyProcessedQueueItems.size();
             } while (processEntireQueue && queueItems.size() == batchSize);
         } finally {
-            locker.unlockQueueProcessing();
             authenticator.end();
         }
-
-        log.debug("{} queue items have been successfully processed", count);
         return count;
     }
 
+    protected List<Integer> getNodePartitions() {
+        List<Integer> nodePartitions = searchProperties.getProcessQueueNodePartitions();
+        if (!nodePartitions.isEmpty()) {
+            return nodePartitions;
+        }
+        List<Integer> partitions = new ArrayList<>();
+        for (int i = 0; i < searchProperties.getProcessQueuePartitionCount(); i++) {
+            partitions.add(i);
+        }
+        return partitions;
+    }
+
+    protected ExecutorService getQueueProcessingExecutor() {
+        if (queueProcessingExecutor == null) {
+            synchronized (this) {
+                if (queueProcessingExecutor == null) {
+                    queueProcessingExecutor = Executors.newFixedThreadPool(
+                            Math.max(searchProperties.getProcessQueueThreadCount(), 1),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jmix-IndexingQueue-%d")
+                                    .setDaemon(true)
+                                    .build()
+                    );
+                }
+            }
+        }
+        return queueProcessingExecutor;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (queueProcessingExecutor != null) {
+            queueProcessingExecutor.shutdownNow();
+        }
+    }
+
     protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities, int batchSize) {
+        return createDequeueLoadContext(unavailableEntities, null, batchSize);
+    }
+
+    protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities,
+                                                                      @Nullable Integer partition,
+                                                                      int batchSize) {
         LoadContext.Query query = new LoadContext.Query("");
         StringBuilder sb = new StringBuilder("select q from search_IndexingQueue q");
+        List<String> conditions = new ArrayList<>(2);
         if (!unavailableEntities.isEmpty()) {
-            sb.append(" where q.entityName not in :unavailableEntities");
+            conditions.add("q.entityName not in :unavailableEntities");
             query.setParameter("unavailableEntities", unavailableEntities);
         }
+        if (partition != null) {
+            String partitionCondition = "MOD(q.partitionKey, " + searchProperties.getProcessQueuePartitionCount() + ") = " + partition;
+            if (partition == 0) {
+                // items enqueued before partition keys were introduced
+                partitionCondition = "(" + partitionCondition + " or q.partitionKey is null)";
+            }
+            conditions.add(partitionCondition);
+        }
+        if (!conditions.isEmpty()) {
+            sb.append(" where ").append(String.join(" and ", conditions));
+        }
         sb.append(" order by q.createdDate asc");
         query.setQueryString(sb.toString());
         query.setMaxResults(batchSize);
@@ -487,12 +597,26 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
     }
 
     protected List<IndexingQueueItem> processQueueItems(List<IndexingQueueItem> queueItems) {
-        QueueItemsAggregator queueItemsAggregator = new QueueItemsAggregator(queueItems);
+        List<IndexingQueueItem> dependentsItems = new ArrayList<>();
+        List<IndexingQueueItem> instanceItems = new ArrayList<>(queueItems.size());
+        for (IndexingQueueItem queueItem : queueItems) {
+            if (IndexingOperation.INDEX_DEPENDENTS.equals(queueItem.getOperation())) {
+                dependentsItems.add(queueItem);
+            } else {
+                instanceItems.add(queueItem);
+            }
+        }
+
+        List<IndexingQueueItem> successfullyProcessedQueueItems = new ArrayList<>(queueItems.size());
+        if (!dependentsItems.isEmpty()) {
+            successfullyProcessedQueueItems.addAll(processIndexDependentsItems(dependentsItems));
+        }
+
+        QueueItemsAggregator queueItemsAggregator = new QueueItemsAggregator(instanceItems);
 
         Map<Id<?>, List<IndexingQueueItem>> itemsForIndex = queueItemsAggregator.getIndexItemsGroup();
         Map<Id<?>, List<IndexingQueueItem>> itemsForDelete = queueItemsAggregator.getDeleteItemsGroup();
 
-        List<IndexingQueueItem> successfullyProcessedQueueItems = new ArrayList<>(queueItems.size());
         if (MapUtils.isNotEmpty(itemsForIndex)) {
             successfullyProcessedQueueItems.addAll(
                     processQueueItemsGroup(itemsForIndex, entityIndexer::indexCollectionByEntityIds)
@@ -507,6 +631,42 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return successfullyProcessedQueueItems;
     }
 
+    /**
+     * Resolves instances that depend on the changed instances referred by the provided items and enqueues them
+     * for indexing. Changed attributes are not stored in the queue, so all dependencies of the changed entities
+     * are taken into account.
+     *
+     * @return processed items
+     */
+    protected List<IndexingQueueItem> processIndexDependentsItems(List<IndexingQueueItem> queueItems) {
+        Map<MetaClass, Set<Id<?>>> idsByMetaClass = new LinkedHashMap<>();
+        for (IndexingQueueItem queueItem : queueItems) {
+            Id<?> entityId = idSerialization.stringToId(queueItem.getEntityId());
+            idsByMetaClass.computeIfAbsent(metadata.getClass(entityId.getEntityClass()), k -> new LinkedHashSet<>()).add(entityId);
+        }
+
+        List<IndexingQueueItem> processedItems = new ArrayList<>(queueItems.size());
+        idsByMetaClass.forEach((metaClass, ids) -> {
+            try {
+                Set<String> propertyNames = metaClass.getProperties().stream()
+                        .map(MetaProperty::getName)
+                        .collect(Collectors.toSet());
+                Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData =
+                        indexConfigurationManager.getDependenciesMetaDataForUpdate(metaClass.getJavaClass(), propertyNames);
+                Set<Id<?>> dependentEntityIds = dependentEntitiesResolver.loadDependentEntityIds(metaClass, ids, dependenciesMetaData);
+                if (!dependentEntityIds.isEmpty()) {
+                    enqueueIndexCollectionByEntityIds(dependentEntityIds);
+                }
+                queueItems.stream()
+                        .filter(item -> metaClass.getName().equals(item.getEntityName()))
+                        .forEach(processedItems::add);
+            } catch (Exception e) {
+                log.error("Failed to enqueue entities dependent on {} instances {}", metaClass.getName(), ids, e);
+            }
+        });
+        return processedItems;
+    }
+
     protected List<IndexingQueueItem> processQueueItemsGroup(Map<Id<?>, List<IndexingQueueItem>> itemsGroup,
                                                              Function<Collection<Id<?>>, IndexResult> processingFunction) {
         Set<Id<?>> entityIds = itemsGroup.keySet();
@@ -580,6 +740,7 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         queueItem.setOperation(operation);
         queueItem.setEntityId(entityId);
         queueItem.setEntityName(entityName);
+        queueItem.setPartitionKey(entityId.hashCode() & Integer.MAX_VALUE);
         return queueItem;
     }
 
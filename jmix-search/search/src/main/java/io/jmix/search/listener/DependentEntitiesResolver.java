@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.listener;
+
+import com.google.common.collect.Iterables;
+import io.jmix.core.Id;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.data.PersistenceHints;
+import io.jmix.data.persistence.DbmsSpecifics;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads ids of indexed entities that reference the given instances via dependency property paths.
+ * <p>
+ * Instances of the same entity are resolved together: one query with an {@code IN} condition is executed for each
+ * dependency path and each chunk of ids. The chunk size is limited by the DBMS restriction on the number of
+ * {@code IN} parameters.
+ */
+@Component("search_DependentEntitiesResolver")
+public class DependentEntitiesResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(DependentEntitiesResolver.class);
+
+    protected static final int DEFAULT_IDS_BATCH_SIZE = 1000;
+
+    @Autowired
+    protected UnconstrainedDataManager dataManager;
+    @Autowired
+    protected MetadataTools metadataTools;
+    @Autowired
+    protected DbmsSpecifics dbmsSpecifics;
+
+    /**
+     * Loads ids of entities dependent on the provided instances.
+     *
+     * @param targetMetaClass    class of the referenced instances
+     * @param targetIds          ids of the referenced instances
+     * @param dependencyMetaData dependent classes and property paths leading from them to the referenced class
+     * @return ids of dependent entities
+     */
+    public Set<Id<?>> loadDependentEntityIds(MetaClass targetMetaClass,
+                                             Collection<Id<?>> targetIds,
+                                             Map<MetaClass, Set<MetaPropertyPath>> dependencyMetaData) {
+        if (targetIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        log.debug("Load dependent entity pks for {} instances of {}: {}", targetIds.size(), targetMetaClass, dependencyMetaData);
+
+        List<Object> targetIdValues = targetIds.stream()
+                .map(Id::getValue)
+                .distinct()
+                .collect(Collectors.toList());
+        // composite keys cannot be used in the IN condition
+        boolean singleIdQueries = metadataTools.hasCompositePrimaryKey(targetMetaClass);
+
+        Set<Id<?>> result = new HashSet<>();
+        for (Map.Entry<MetaClass, Set<MetaPropertyPath>> entry : dependencyMetaData.entrySet()) {
+            Set<MetaPropertyPath> properties = entry.getValue();
+            if (properties.isEmpty()) {
+                continue;
+            }
+
+            MetaClass metaClass = entry.getKey();
+            String entityName = metaClass.getName();
+            int batchSize = singleIdQueries ? 1 : getIdsBatchSize(metaClass);
+            for (MetaPropertyPath propertyPath : properties) {
+                log.debug("Load entities '{}' dependent via property '{}'", entityName, propertyPath);
+
+                for (List<Object> idsBatch : Iterables.partition(targetIdValues, batchSize)) {
+                    DependentEntitiesQuery dependentEntitiesQuery = new DependentEntitiesQueryBuilder()
+                            .loadEntity(entityName)
+                            .byProperty(propertyPath)
+                            .dependedOn(targetMetaClass, idsBatch, singleIdQueries)
+                            .buildQuery();
+                    log.debug("{}", dependentEntitiesQuery);
+
+                    List<Id<?>> refObjectIds = performLoadingDependentEntityIds(metaClass, dependentEntitiesQuery);
+                    log.debug("Loaded primary keys of dependent references ({}): {}", refObjectIds.size(), refObjectIds);
+                    result.addAll(refObjectIds);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    protected int getIdsBatchSize(MetaClass metaClass) {
+        Integer maxIdsBatchSize = dbmsSpecifics.getDbmsFeatures(metaClass.getStore().getName()).getMaxIdsBatchSize();
+        return maxIdsBatchSize == null ? DEFAULT_IDS_BATCH_SIZE : Math.min(maxIdsBatchSize, DEFAULT_IDS_BATCH_SIZE);
+    }
+
+    protected List<Id<?>> performLoadingDependentEntityIds(MetaClass metaClass, DependentEntitiesQuery dependentEntitiesQuery) {
+        return dataManager.load(metaClass.getJavaClass())
+                .query(dependentEntitiesQuery.getQuery())
+                .parameters(dependentEntitiesQuery.getParameters())
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .joinTransaction(true)
+                .list()
+                .stream()
+                .map(Id::of)
+                .collect(Collectors.toList());
+    }
+
+    private class DependentEntitiesQueryBuilder {
+
+        private String entityName;
+        private MetaPropertyPath propertyPath;
+        private MetaClass targetMetaClass;
+        private List<Object> targetIdValues;
+        private boolean singleId;
+
+        private int currentEntityIndex;
+        private String currentEntityAlias;
+        private StringBuilder currentPropertyPathSb;
+        private StringBuilder querySb;
+        private int propertiesLevels;
+        private MetaProperty currentLevelProperty;
+        private int currentLevelPropertyIndex;
+        private String targetPrimaryKeyName;
+
+        private Map<String, Object> parameters;
+
+        protected DependentEntitiesQueryBuilder loadEntity(String entityName) {
+            this.entityName = entityName;
+            return this;
+        }
+
+        protected DependentEntitiesQueryBuilder byProperty(MetaPropertyPath propertyPath) {
+            this.propertyPath = propertyPath;
+            return this;
+        }
+
+        protected DependentEntitiesQueryBuilder dependedOn(MetaClass metaClass, List<Object> idValues, boolean singleId) {
+            this.targetMetaClass = metaClass;
+            this.targetIdValues = idValues;
+            this.singleId = singleId;
+            return this;
+        }
+
+        protected DependentEntitiesQuery buildQuery() {
+            initQuery();
+            processProperties();
+            return new DependentEntitiesQuery(querySb.toString(), parameters);
+        }
+
+        private void initQuery() {
+            parameters = new HashMap<>();
+            currentEntityIndex = 1;
+            currentEntityAlias = "e1";
+            initPropertyPathStringBuilderForCurrentEntity();
+            querySb = new StringBuilder("select ")
+                    .append(currentEntityAlias)
+                    .append(" from ")
+                    .append(entityName)
+                    .append(' ')
+                    .append(currentEntityAlias);
+        }
+
+        private void processProperties() {
+            targetPrimaryKeyName = metadataTools.getPrimaryKeyName(targetMetaClass);
+            MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+            propertiesLevels = metaProperties.length;
+            currentLevelPropertyIndex = 0;
+            Stream.of(metaProperties).forEach(this::processPropertyLevel);
+        }
+
+        private void processPropertyLevel(MetaProperty property) {
+            currentLevelProperty = property;
+
+            appendCurrentLevelProperty();
+            if (isJoinRequired(property)) {
+                joinWithNextEntity();
+                initPropertyPathStringBuilderForCurrentEntity();
+            }
+            if (isLastLevelProperty()) {
+                appendWhereBlock();
+            }
+
+            currentLevelPropertyIndex++;
+        }
+
+        private boolean isLastLevelProperty() {
+            return currentLevelPropertyIndex == propertiesLevels - 1;
+        }
+
+        private boolean isJoinRequired(MetaProperty property) {
+            boolean oneToMany = property.getAnnotatedElement().isAnnotationPresent(OneToMany.class);
+            boolean manyToMany = property.getAnnotatedElement().isAnnotationPresent(ManyToMany.class);
+            return oneToMany || manyToMany;
+        }
+
+        private void appendCurrentLevelProperty() {
+            currentPropertyPathSb.append('.').append(currentLevelProperty.getName());
+        }
+
+        private void joinWithNextEntity() {
+            currentEntityIndex++;
+            currentEntityAlias = "e" + currentEntityIndex;
+            querySb.append(" join ").append(currentPropertyPathSb).append(' ').append(currentEntityAlias);
+        }
+
+        private void initPropertyPathStringBuilderForCurrentEntity() {
+            currentPropertyPathSb = new StringBuilder(currentEntityAlias);
+        }
+
+        private void appendWhereBlock() {
+            querySb.append(" where ").append(currentPropertyPathSb).append('.').append(targetPrimaryKeyName);
+            if (singleId) {
+                querySb.append(" = :ref");
+                parameters.put("ref", targetIdValues.get(0));
+            } else {
+                querySb.append(" in :refs");
+                parameters.put("refs", targetIdValues);
+            }
+        }
+    }
+
+    protected static class DependentEntitiesQuery {
+        private final String query;
+        private final Map<String, Object> parameters;
+
+        private DependentEntitiesQuery(String query, Map<String, Object> parameters) {
+            this.query = query;
+            this.parameters = parameters;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public String toString() {
+            return "DependentEntitiesQuery{" +
+                    "query='" + query + '\'' +
+                    ", parameters=" + parameters +
+                    '}';
+        }
+    }
+}
@@ -26,9 +26,7 @@ import io.jmix.core.datastore.DataStoreEventListener;
 import io.jmix.core.event.AttributeChanges;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
-import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
-import io.jmix.data.PersistenceHints;
 import io.jmix.data.StoreAwareLocator;
 import io.jmix.search.SearchProperties;
 import io.jmix.search.index.mapping.IndexConfigurationManager;
@@ -40,13 +38,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import jakarta.persistence.ManyToMany;
-import jakarta.persistence.OneToMany;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Component("search_EntityTrackingListener")
 public class EntityTrackingListener implements DataStoreEventListener, DataStoreCustomizer {
@@ -67,6 +64,10 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
     protected SearchProperties searchProperties;
     @Autowired
     protected MetadataTools metadataTools;
+    @Autowired
+    protected DependentEntitiesResolver dependentEntitiesResolver;
+
+    protected static final String PENDING_DEPENDENCIES_KEY = EntityTrackingListener.class.getName() + ".pendingDependencies";
 
     protected Cache<Id<?>, Set<Id<?>>> removalDependencies = CacheBuilder.newBuilder()
             .expireAfterWrite(1, TimeUnit.MINUTES)
@@ -101,17 +102,20 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
          */
         if (isChangeTrackingEnabled()) {
             SaveContext saveContext = event.getSaveContext();
-            Collection<Object> entitiesToRemove = saveContext.getEntitiesToRemove();
-            for (Object entity : entitiesToRemove) {
+            Map<MetaClass, List<Id<?>>> removedEntityIds = new LinkedHashMap<>();
+            for (Object entity : saveContext.getEntitiesToRemove()) {
                 if (isRemovedEntityProcessingRequired(entity)) {
-                    try {
-                        log.trace("Process entity: {}", entity);
-                        processRemovedEntity(entity);
-                    } catch (Exception e) {
-                        log.error("Failed to process entity {}", entity, e);
-                    }
+                    removedEntityIds.computeIfAbsent(metadata.getClass(entity), k -> new ArrayList<>()).add(Id.of(entity));
                 }
             }
+            removedEntityIds.forEach((metaClass, ids) -> {
+                try {
+                    log.trace("Process removed entities of {}: {}", metaClass, ids);
+                    processRemovedEntities(metaClass, ids);
+                } catch (Exception e) {
+                    log.error("Failed to process removed entities {}", ids, e);
+                }
+            });
         }
     }
 
@@ -127,13 +131,21 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         }
     }
 
-    protected void processRemovedEntity(Object removedEntity) {
-        Id<?> removedEntityId = Id.of(removedEntity);
-        MetaClass metaClass = metadata.getClass(removedEntity);
+    protected void processRemovedEntities(MetaClass metaClass, List<Id<?>> removedEntityIds) {
+        Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData;
+        dependenciesMetaData = indexConfigurationManager.getDependenciesMetaDataForDelete(metaClass.getJavaClass());
+        if (dependenciesMetaData.isEmpty()) {
+            return;
+        }
 
-        Set<Id<?>> dependentEntityIds = getEntityIdsDependentOnRemovedEntity(removedEntityId, metaClass);
+        Set<Id<?>> dependentEntityIds = dependentEntitiesResolver.loadDependentEntityIds(metaClass, removedEntityIds, dependenciesMetaData);
         if (!dependentEntityIds.isEmpty()) {
-            removalDependencies.put(removedEntityId, dependentEntityIds);
+            // dependents of all removed instances are enqueued once, on the first deletion event
+            Set<Id<?>> sharedDependentEntityIds = ConcurrentHashMap.newKeySet();
+            sharedDependentEntityIds.addAll(dependentEntityIds);
+            for (Id<?> removedEntityId : removedEntityIds) {
+                removalDependencies.put(removedEntityId, sharedDependentEntityIds);
+            }
         }
     }
 
@@ -164,17 +176,26 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         }
 
         if (EntityChangedEvent.Type.UPDATED.equals(eventType)) {
-            Set<Id<?>> dependentEntityIds = getEntityIdsDependentOnUpdatedEntity(entityId, metaClass, changes);
-
-            if (!dependentEntityIds.isEmpty()) {
-                indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
+            Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData;
+            dependenciesMetaData = indexConfigurationManager.getDependenciesMetaDataForUpdate(entityClass, changes.getAttributes());
+            if (!dependenciesMetaData.isEmpty()) {
+                if (searchProperties.isChangedEntitiesDependentsResolutionDeferred()) {
+                    indexingQueueManager.enqueueIndexDependentsByEntityId(entityId);
+                } else {
+                    registerUpdatedEntity(entityId, metaClass, dependenciesMetaData);
+                }
             }
         } else if (EntityChangedEvent.Type.DELETED.equals(eventType)) {
             Set<Id<?>> dependentEntityIds = removalDependencies.getIfPresent(entityId);
             if (CollectionUtils.isNotEmpty(dependentEntityIds)) {
-                indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
-                removalDependencies.invalidate(entityId);
+                Set<Id<?>> idsToEnqueue;
+                synchronized (dependentEntityIds) {
+                    idsToEnqueue = new HashSet<>(dependentEntityIds);
+                    dependentEntityIds.clear();
+                }
+                enqueueDependentEntities(idsToEnqueue);
             }
+            removalDependencies.invalidate(entityId);
         }
     }
 
@@ -210,194 +231,101 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         return !IndexingQueueItem.class.equals(entityClass) && indexConfigurationManager.isAffectedEntityClass(entityClass);
     }
 
-    protected Set<Id<?>> getEntityIdsDependentOnUpdatedEntity(Id<?> updatedEntityId, MetaClass metaClass, AttributeChanges changes) {
-        Class<?> entityClass = updatedEntityId.getEntityClass();
-        Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData;
-        dependenciesMetaData = indexConfigurationManager.getDependenciesMetaDataForUpdate(entityClass, changes.getAttributes());
-        return loadDependentEntityIds(updatedEntityId, metaClass, dependenciesMetaData);
-    }
-
-    protected Set<Id<?>> getEntityIdsDependentOnRemovedEntity(Id<?> removedEntityId, MetaClass metaClass) {
-        Class<?> entityClass = removedEntityId.getEntityClass();
-        Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData;
-        dependenciesMetaData = indexConfigurationManager.getDependenciesMetaDataForDelete(entityClass);
-        return loadDependentEntityIds(removedEntityId, metaClass, dependenciesMetaData);
-    }
-
     protected Set<Id<?>> loadDependentEntityIds(Id<?> targetEntityId,
                                                 MetaClass targetMetaClass,
                                                 Map<MetaClass, Set<MetaPropertyPath>> dependencyMetaData) {
-        log.debug("Load dependent entity pks for entity {}: {}", targetEntityId, dependencyMetaData);
-
-        Set<Id<?>> result = new HashSet<>();
-        for (Map.Entry<MetaClass, Set<MetaPropertyPath>> entry : dependencyMetaData.entrySet()) {
-            Set<MetaPropertyPath> properties = entry.getValue();
-            if (properties.isEmpty()) {
-                continue;
-            }
-
-            MetaClass metaClass = entry.getKey();
-            String entityName = metaClass.getName();
-            for (MetaPropertyPath propertyPath : properties) {
-                log.debug("Load entities '{}' dependent via property '{}'", entityName, propertyPath);
-
-                DependentEntitiesQuery dependentEntitiesQuery = new DependentEntitiesQueryBuilder()
-                        .loadEntity(entityName)
-                        .byProperty(propertyPath)
-                        .dependedOn(targetMetaClass, targetEntityId)
-                        .buildQuery();
-                log.debug("{}", dependentEntitiesQuery);
-
-                List<Id<?>> refObjectIds = performLoadingDependentEntityIds(metaClass, dependentEntitiesQuery);
-                log.debug("Loaded primary keys of dependent references ({}): {}", refObjectIds.size(), refObjectIds);
-                result.addAll(refObjectIds);
-            }
-        }
-
-        return result;
-    }
-
-    protected List<Id<?>> performLoadingDependentEntityIds(MetaClass metaClass, DependentEntitiesQuery dependentEntitiesQuery) {
-        return dataManager.load(metaClass.getJavaClass())
-                .query(dependentEntitiesQuery.getQuery())
-                .parameters(dependentEntitiesQuery.getParameters())
-                .hint(PersistenceHints.SOFT_DELETION, false)
-                .joinTransaction(true)
-                .list()
-                .stream()
-                .map(Id::of)
-                .collect(Collectors.toList());
+        return dependentEntitiesResolver.loadDependentEntityIds(targetMetaClass,
+                Collections.singletonList(targetEntityId), dependencyMetaData);
     }
 
-    private class DependentEntitiesQueryBuilder {
-
-        private String entityName;
-        private MetaPropertyPath propertyPath;
-        private MetaClass targetMetaClass;
-        private Id<?> targetEntityId;
-
-        private int currentEntityIndex;
-        private String currentEntityAlias;
-        private StringBuilder currentPropertyPathSb;
-        private StringBuilder querySb;
-        private int propertiesLevels;
-        private MetaProperty currentLevelProperty;
-        private int currentLevelPropertyIndex;
-        private String targetPrimaryKeyName;
-
-        private Map<String, Object> parameters;
-
-        protected DependentEntitiesQueryBuilder loadEntity(String entityName) {
-            this.entityName = entityName;
-            return this;
-        }
-
-        protected DependentEntitiesQueryBuilder byProperty(MetaPropertyPath propertyPath) {
-            this.propertyPath = propertyPath;
-            return this;
-        }
-
-        protected DependentEntitiesQueryBuilder dependedOn(MetaClass metaClass, Id<?> entityId) {
-            this.targetMetaClass = metaClass;
-            this.targetEntityId = entityId;
-            return this;
-        }
-
-        protected DependentEntitiesQuery buildQuery() {
-            initQuery();
-            processProperties();
-            return new DependentEntitiesQuery(querySb.toString(), parameters);
+    /**
+     * Registers updated instance whose dependent entities are resolved before commit together with other
+     * instances updated in the same transaction.
+     */
+    protected void registerUpdatedEntity(Id<?> entityId, MetaClass metaClass,
+                                         Map<MetaClass, Set<MetaPropertyPath>> dependencyMetaData) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueueDependentEntities(loadDependentEntityIds(entityId, metaClass, dependencyMetaData));
+            return;
         }
-
-        private void initQuery() {
-            parameters = new HashMap<>();
-            currentEntityIndex = 1;
-            currentEntityAlias = "e1";
-            initPropertyPathStringBuilderForCurrentEntity();
-            querySb = new StringBuilder("select ")
-                    .append(currentEntityAlias)
-                    .append(" from ")
-                    .append(entityName)
-                    .append(' ')
-                    .append(currentEntityAlias);
-        }
-
-        private void processProperties() {
-            targetPrimaryKeyName = metadataTools.getPrimaryKeyName(targetMetaClass);
-            MetaProperty[] metaProperties = propertyPath.getMetaProperties();
-            propertiesLevels = metaProperties.length;
-            currentLevelPropertyIndex = 0;
-            Stream.of(metaProperties).forEach(this::processPropertyLevel);
+        PendingDependencies pendingDependencies =
+                (PendingDependencies) TransactionSynchronizationManager.getResource(PENDING_DEPENDENCIES_KEY);
+        if (pendingDependencies == null) {
+            pendingDependencies = new PendingDependencies();
+            TransactionSynchronizationManager.bindResource(PENDING_DEPENDENCIES_KEY, pendingDependencies);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new PendingDependenciesSynchronization(pendingDependencies));
         }
+        pendingDependencies.add(entityId, metaClass, dependencyMetaData);
+    }
 
-        private void processPropertyLevel(MetaProperty property) {
-            currentLevelProperty = property;
-
-            appendCurrentLevelProperty();
-            if (isJoinRequired(property)) {
-                joinWithNextEntity();
-                initPropertyPathStringBuilderForCurrentEntity();
-            }
-            if (isLastLevelProperty()) {
-                appendWhereBlock();
-            }
+    protected void resolvePendingDependencies(PendingDependencies pendingDependencies) {
+        Set<Id<?>> dependentEntityIds = new HashSet<>();
+        pendingDependencies.forEach((targetMetaClass, metaClass, propertyPath, targetIds) ->
+                dependentEntityIds.addAll(dependentEntitiesResolver.loadDependentEntityIds(targetMetaClass, targetIds,
+                        Collections.singletonMap(metaClass, Collections.singleton(propertyPath)))));
+        enqueueDependentEntities(dependentEntityIds);
+    }
 
-            currentLevelPropertyIndex++;
+    protected void enqueueDependentEntities(Set<Id<?>> dependentEntityIds) {
+        if (!dependentEntityIds.isEmpty()) {
+            indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
         }
+    }
 
-        private boolean isLastLevelProperty() {
-            return currentLevelPropertyIndex == propertiesLevels - 1;
-        }
+    /**
+     * Ids of updated instances collected within a transaction, grouped by class of updated instances,
+     * dependent class and dependency property path.
+     */
+    protected static class PendingDependencies {
 
-        private boolean isJoinRequired(MetaProperty property) {
-            boolean oneToMany = property.getAnnotatedElement().isAnnotationPresent(OneToMany.class);
-            boolean manyToMany = property.getAnnotatedElement().isAnnotationPresent(ManyToMany.class);
-            return oneToMany || manyToMany;
-        }
+        protected final Map<MetaClass, Map<MetaClass, Map<MetaPropertyPath, Set<Id<?>>>>> ids = new LinkedHashMap<>();
 
-        private void appendCurrentLevelProperty() {
-            currentPropertyPathSb.append('.').append(currentLevelProperty.getName());
+        protected void add(Id<?> entityId, MetaClass metaClass, Map<MetaClass, Set<MetaPropertyPath>> dependencyMetaData) {
+            Map<MetaClass, Map<MetaPropertyPath, Set<Id<?>>>> dependencies = ids.computeIfAbsent(metaClass, k -> new HashMap<>());
+            dependencyMetaData.forEach((dependentMetaClass, propertyPaths) -> {
+                Map<MetaPropertyPath, Set<Id<?>>> idsByPath = dependencies.computeIfAbsent(dependentMetaClass, k -> new HashMap<>());
+                for (MetaPropertyPath propertyPath : propertyPaths) {
+                    idsByPath.computeIfAbsent(propertyPath, k -> new LinkedHashSet<>()).add(entityId);
+                }
+            });
         }
 
-        private void joinWithNextEntity() {
-            currentEntityIndex++;
-            currentEntityAlias = "e" + currentEntityIndex;
-            querySb.append(" join ").append(currentPropertyPathSb).append(' ').append(currentEntityAlias);
+        protected void forEach(PendingDependencyConsumer consumer) {
+            ids.forEach((targetMetaClass, dependencies) ->
+                    dependencies.forEach((metaClass, idsByPath) ->
+                            idsByPath.forEach((propertyPath, targetIds) ->
+                                    consumer.accept(targetMetaClass, metaClass, propertyPath, targetIds))));
         }
+    }
 
-        private void initPropertyPathStringBuilderForCurrentEntity() {
-            currentPropertyPathSb = new StringBuilder(currentEntityAlias);
-        }
+    protected interface PendingDependencyConsumer {
 
-        private void appendWhereBlock() {
-            querySb.append(" where ").append(currentPropertyPathSb).append('.').append(targetPrimaryKeyName).append(" = :ref");
-            parameters.put("ref", targetEntityId.getValue());
-        }
+        void accept(MetaClass targetMetaClass, MetaClass metaClass, MetaPropertyPath propertyPath, Set<Id<?>> targetIds);
     }
 
-    private static class DependentEntitiesQuery {
-        private final String query;
-        private final Map<String, Object> parameters;
+    protected class PendingDependenciesSynchronization implements TransactionSynchronization {
 
-        private DependentEntitiesQuery(String query, Map<String, Object> parameters) {
-            this.query = query;
-            this.parameters = parameters;
-        }
+        protected final PendingDependencies pendingDependencies;
 
-        public String getQuery() {
-            return query;
+        protected PendingDependenciesSynchronization(PendingDependencies pendingDependencies) {
+            this.pendingDependencies = pendingDependencies;
         }
 
-        public Map<String, Object> getParameters() {
-            return parameters;
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // instances updated after this point are collected by a new synchronization
+            TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DEPENDENCIES_KEY);
+            try {
+                resolvePendingDependencies(pendingDependencies);
+            } catch (Exception e) {
+                log.error("Failed to enqueue dependent entities", e);
+            }
         }
 
         @Override
-        public String toString() {
-            return "DependentEntitiesQuery{" +
-                    "query='" + query + '\'' +
-                    ", parameters=" + parameters +
-                    '}';
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DEPENDENCIES_KEY);
         }
     }
 }
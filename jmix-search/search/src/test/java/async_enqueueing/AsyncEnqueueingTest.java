@@ -19,6 +19,7 @@ package async_enqueueing;
 import io.jmix.core.DataManager;
 import io.jmix.core.Metadata;
 import io.jmix.search.index.queue.entity.EnqueueingSession;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
 import io.jmix.search.index.queue.impl.EnqueueingSessionStatus;
 import io.jmix.search.index.queue.impl.IndexingOperation;
 import org.junit.Assert;
@@ -71,6 +72,9 @@ public class AsyncEnqueueingTest {
 
         List<TestRootEntity> entities = dataManager.load(TestRootEntity.class).all().list();
         entities.forEach(entity -> dataManager.remove(entity));
+
+        List<IndexingQueueItem> queueItems = dataManager.load(IndexingQueueItem.class).all().list();
+        queueItems.forEach(item -> dataManager.remove(item));
     }
 
     @Test
@@ -227,6 +231,66 @@ public class AsyncEnqueueingTest {
         Assert.assertTrue(sessions.isEmpty());
     }
 
+    @Test
+    @DisplayName("Enqueue all instances of entity synchronously")
+    public void enqueueIndexAll() {
+        ewm.createTestRootEntity().save();
+        ewm.createTestRootEntity().save();
+        ewm.createTestRootEntity().save();
+        String entityName = metadata.getClass(TestRootEntity.class).getName();
+
+        int enqueued = indexingQueueManager.enqueueIndexAll(entityName);
+        int itemsInQueue = indexingQueueItemsTracker.getAmountOfItemsForEntity(entityName, IndexingOperation.INDEX);
+        Assert.assertEquals(3, enqueued);
+        Assert.assertEquals(3, itemsInQueue);
+
+        List<IndexingQueueItem> queueItems = dataManager.load(IndexingQueueItem.class).all().list();
+        Assert.assertTrue(queueItems.stream().allMatch(item -> item.getPartitionKey() != null && item.getPartitionKey() >= 0));
+
+        List<EnqueueingSession> sessions = dataManager.load(EnqueueingSession.class).all().list();
+        Assert.assertTrue(sessions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Enqueue all instances of entity synchronously continues existing session")
+    public void enqueueIndexAllResumesSession() {
+        ewm.createTestRootEntity().save();
+        ewm.createTestRootEntity().save();
+        ewm.createTestRootEntity().save();
+        String entityName = metadata.getClass(TestRootEntity.class).getName();
+        indexingQueueManager.initAsyncEnqueueIndexAll(entityName);
+
+        int processed = indexingQueueManager.processEnqueueingSession(entityName, 2);
+        Assert.assertEquals(2, processed);
+
+        int enqueued = indexingQueueManager.enqueueIndexAll(entityName);
+        int itemsInQueue = indexingQueueItemsTracker.getAmountOfItemsForEntity(entityName, IndexingOperation.INDEX);
+        Assert.assertEquals(1, enqueued);
+        Assert.assertEquals(3, itemsInQueue);
+
+        List<EnqueueingSession> sessions = dataManager.load(EnqueueingSession.class).all().list();
+        Assert.assertTrue(sessions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Enqueue all instances of entity synchronously skips suspended session")
+    public void enqueueIndexAllSkipsSuspendedSession() {
+        ewm.createTestRootEntity().save();
+        ewm.createTestRootEntity().save();
+        ewm.createTestRootEntity().save();
+        String entityName = metadata.getClass(TestRootEntity.class).getName();
+        indexingQueueManager.initAsyncEnqueueIndexAll(entityName);
+        indexingQueueManager.suspendAsyncEnqueueIndexAll(entityName);
+
+        int enqueued = indexingQueueManager.enqueueIndexAll(entityName);
+        int itemsInQueue = indexingQueueItemsTracker.getAmountOfItemsForEntity(entityName, IndexingOperation.INDEX);
+        Assert.assertEquals(0, enqueued);
+        Assert.assertEquals(0, itemsInQueue);
+
+        EnqueueingSession session = dataManager.load(EnqueueingSession.class).all().one();
+        Assert.assertEquals(EnqueueingSessionStatus.SUSPENDED, session.getStatus());
+    }
+
     @Test
     @DisplayName("Init enqueueing session during processing of session for the same entity (not last page)")
     public void initDuringProcessingNotLastPage() throws Exception {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package change_tracking;
+
+import io.jmix.core.DataManager;
+import io.jmix.search.index.queue.IndexingQueueManager;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.jmix.search.index.queue.impl.IndexingOperation;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import test_support.EntityChangeTrackingTestConfiguration;
+import test_support.TestCommonEntityWrapperManager;
+import test_support.TestDependentEntitiesResolver;
+import test_support.TestIndexingQueueItemsTracker;
+import test_support.entity.TestReferenceEntity;
+import test_support.entity.TestRootEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(
+        classes = {EntityChangeTrackingTestConfiguration.class}
+)
+@TestPropertySource(properties = {"jmix.search.changed-entities-dependents-resolution-deferred=true"})
+public class DeferredDependentsResolutionTest {
+
+    @Autowired
+    TestIndexingQueueItemsTracker indexingQueueItemsTracker;
+    @Autowired
+    TestDependentEntitiesResolver dependentEntitiesResolver;
+    @Autowired
+    IndexingQueueManager indexingQueueManager;
+    @Autowired
+    TestCommonEntityWrapperManager ewm;
+    @Autowired
+    DataManager dataManager;
+
+    @BeforeEach
+    public void setUp() {
+        List<IndexingQueueItem> queueItems = dataManager.load(IndexingQueueItem.class).all().list();
+        queueItems.forEach(item -> dataManager.remove(item));
+
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+    }
+
+    @Test
+    @DisplayName("Update of reference enqueues item for resolution of dependents instead of resolving them in transaction")
+    public void enqueueIndexDependentsItem() {
+        TestReferenceEntity reference = ewm.createTestReferenceEntity().save();
+        TestRootEntity rootEntity = ewm.createTestRootEntity().setOneToOneAssociation(reference).save();
+        indexingQueueItemsTracker.clear();
+
+        ewm.wrap(reference).setTextValue("Updated text value").save();
+
+        Assert.assertEquals(0, dependentEntitiesResolver.getQueriesCount());
+        Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(reference, IndexingOperation.INDEX_DEPENDENTS, 1));
+        Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 0));
+    }
+
+    @Test
+    @DisplayName("Processing of queue resolves dependents of enqueued references in batch and enqueues them")
+    public void processIndexDependentsItems() {
+        List<TestReferenceEntity> references = new ArrayList<>();
+        List<TestRootEntity> rootEntities = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TestReferenceEntity reference = ewm.createTestReferenceEntity().save();
+            references.add(reference);
+            rootEntities.add(ewm.createTestRootEntity().setOneToOneAssociation(reference).save());
+        }
+
+        // dependents of a single reference
+        references.set(0, ewm.wrap(references.get(0)).setTextValue("Updated text value").save());
+        indexingQueueManager.processEntireQueue();
+        int singleReferenceQueries = dependentEntitiesResolver.getQueriesCount();
+        Assert.assertTrue(singleReferenceQueries > 0);
+        Assert.assertTrue(indexingQueueItemsTracker.containsAnyQueueItemsForEntityAndOperation(rootEntities.get(0), IndexingOperation.INDEX));
+
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+
+        // dependents of several references updated in separate transactions
+        for (TestReferenceEntity reference : references) {
+            ewm.wrap(reference).setTextValue("Another text value").save();
+        }
+        Assert.assertEquals(0, dependentEntitiesResolver.getQueriesCount());
+        for (TestReferenceEntity reference : references) {
+            Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(reference, IndexingOperation.INDEX_DEPENDENTS, 1));
+        }
+
+        indexingQueueManager.processEntireQueue();
+
+        Assert.assertEquals(singleReferenceQueries, dependentEntitiesResolver.getQueriesCount());
+        for (TestRootEntity rootEntity : rootEntities) {
+            Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 1));
+        }
+        boolean dependentsItemsLeft = dataManager.load(IndexingQueueItem.class).all().list().stream()
+                .anyMatch(item -> IndexingOperation.INDEX_DEPENDENTS.equals(item.getOperation()));
+        Assert.assertFalse(dependentsItemsLeft);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package change_tracking;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.SaveContext;
+import io.jmix.search.index.queue.impl.IndexingOperation;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import test_support.EntityChangeTrackingTestConfiguration;
+import test_support.TestCommonEntityWrapperManager;
+import test_support.TestDependentEntitiesResolver;
+import test_support.TestIndexingQueueItemsTracker;
+import test_support.entity.TestReferenceEntity;
+import test_support.entity.TestRootEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(
+        classes = {EntityChangeTrackingTestConfiguration.class}
+)
+public class DependentEntitiesResolutionTest {
+
+    @Autowired
+    TestIndexingQueueItemsTracker indexingQueueItemsTracker;
+    @Autowired
+    TestDependentEntitiesResolver dependentEntitiesResolver;
+    @Autowired
+    TestCommonEntityWrapperManager ewm;
+    @Autowired
+    DataManager dataManager;
+
+    @BeforeEach
+    public void setUp() {
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dependentEntitiesResolver.setIdsBatchSize(null);
+    }
+
+    @Test
+    @DisplayName("Dependents of references updated in one transaction are resolved by single query per dependency")
+    public void resolveDependentsOfUpdatedReferencesTogether() {
+        int singleUpdateQueries = countQueriesOfSingleReferenceUpdate();
+
+        List<TestReferenceEntity> references = new ArrayList<>();
+        List<TestRootEntity> rootEntities = new ArrayList<>();
+        createRootEntities(3, references, rootEntities);
+
+        references.forEach(reference -> reference.setTextValue("Updated text value"));
+        dataManager.save(new SaveContext().saving(references.toArray()));
+
+        Assert.assertEquals(singleUpdateQueries, dependentEntitiesResolver.getQueriesCount());
+        for (TestRootEntity rootEntity : rootEntities) {
+            boolean enqueued = indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 1);
+            Assert.assertTrue(enqueued);
+        }
+    }
+
+    @Test
+    @DisplayName("Dependents of updated references are resolved by batches of limited size")
+    public void resolveDependentsOfUpdatedReferencesByBatches() {
+        int singleUpdateQueries = countQueriesOfSingleReferenceUpdate();
+        dependentEntitiesResolver.setIdsBatchSize(2);
+
+        List<TestReferenceEntity> references = new ArrayList<>();
+        List<TestRootEntity> rootEntities = new ArrayList<>();
+        createRootEntities(3, references, rootEntities);
+
+        references.forEach(reference -> reference.setTextValue("Updated text value"));
+        dataManager.save(new SaveContext().saving(references.toArray()));
+
+        Assert.assertEquals(2 * singleUpdateQueries, dependentEntitiesResolver.getQueriesCount());
+        for (TestRootEntity rootEntity : rootEntities) {
+            boolean enqueued = indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 1);
+            Assert.assertTrue(enqueued);
+        }
+    }
+
+    @Test
+    @DisplayName("Dependents of references removed in one transaction are resolved by single query per dependency")
+    public void resolveDependentsOfRemovedReferencesTogether() {
+        List<TestReferenceEntity> references = new ArrayList<>();
+        List<TestRootEntity> rootEntities = new ArrayList<>();
+        createRootEntities(4, references, rootEntities);
+
+        dataManager.remove(references.get(0));
+        int singleRemovalQueries = dependentEntitiesResolver.getQueriesCount();
+        Assert.assertTrue(singleRemovalQueries > 0);
+
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+
+        dataManager.save(new SaveContext().removing(references.subList(1, 4).toArray()));
+
+        Assert.assertEquals(singleRemovalQueries, dependentEntitiesResolver.getQueriesCount());
+        for (TestRootEntity rootEntity : rootEntities.subList(1, 4)) {
+            boolean enqueued = indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 1);
+            Assert.assertTrue(enqueued);
+        }
+    }
+
+    protected int countQueriesOfSingleReferenceUpdate() {
+        TestReferenceEntity reference = ewm.createTestReferenceEntity().save();
+        TestRootEntity rootEntity = ewm.createTestRootEntity().setOneToOneAssociation(reference).save();
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+
+        ewm.wrap(reference).setTextValue("Updated text value").save();
+        int queries = dependentEntitiesResolver.getQueriesCount();
+        Assert.assertTrue(queries > 0);
+        Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 1));
+
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+        return queries;
+    }
+
+    protected void createRootEntities(int amount, List<TestReferenceEntity> references, List<TestRootEntity> rootEntities) {
+        for (int i = 0; i < amount; i++) {
+            TestReferenceEntity reference = ewm.createTestReferenceEntity().save();
+            references.add(reference);
+            rootEntities.add(ewm.createTestRootEntity().setOneToOneAssociation(reference).save());
+        }
+        indexingQueueItemsTracker.clear();
+        dependentEntitiesResolver.resetQueriesCount();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package queue_processing;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.Metadata;
+import io.jmix.search.SearchProperties;
+import io.jmix.search.index.queue.entity.EnqueueingSession;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import test_support.AsyncEnqueueingTestConfiguration;
+import test_support.TestCommonEntityWrapperManager;
+import test_support.TestJpaIndexingQueueManager;
+import test_support.entity.TestRootEntity;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(
+        classes = {AsyncEnqueueingTestConfiguration.class}
+)
+@TestPropertySource(properties = {
+        "jmix.search.process-queue-partition-count=4",
+        "jmix.search.process-queue-thread-count=2"
+})
+public class PartitionedQueueProcessingTest {
+
+    @Autowired
+    TestJpaIndexingQueueManager indexingQueueManager;
+    @Autowired
+    TestCommonEntityWrapperManager ewm;
+    @Autowired
+    SearchProperties searchProperties;
+
+    @Autowired
+    Metadata metadata;
+    @Autowired
+    DataManager dataManager;
+
+    @BeforeEach
+    public void setUp() {
+        indexingQueueManager.setIdsProcessingDelayMs(0);
+
+        List<EnqueueingSession> sessions = dataManager.load(EnqueueingSession.class).all().list();
+        sessions.forEach(session -> dataManager.remove(session));
+
+        List<TestRootEntity> entities = dataManager.load(TestRootEntity.class).all().list();
+        entities.forEach(entity -> dataManager.remove(entity));
+
+        List<IndexingQueueItem> queueItems = dataManager.load(IndexingQueueItem.class).all().list();
+        queueItems.forEach(item -> dataManager.remove(item));
+    }
+
+    @Test
+    @DisplayName("Process queue items of all partitions")
+    public void processAllPartitions() {
+        int partitionCount = searchProperties.getProcessQueuePartitionCount();
+        Assert.assertEquals(4, partitionCount);
+
+        for (int i = 0; i < 50; i++) {
+            ewm.createTestRootEntity().save();
+        }
+        String entityName = metadata.getClass(TestRootEntity.class).getName();
+        indexingQueueManager.enqueueIndexAll(entityName);
+
+        List<IndexingQueueItem> queueItems = dataManager.load(IndexingQueueItem.class).all().list();
+        Assert.assertEquals(50, queueItems.size());
+
+        Set<Integer> partitions = queueItems.stream()
+                .map(item -> item.getPartitionKey() % partitionCount)
+                .collect(Collectors.toSet());
+        Assert.assertTrue("Queue items should belong to several partitions", partitions.size() > 1);
+
+        // batch size smaller than the partition size makes each partition to be dequeued several times
+        int processed = indexingQueueManager.processEntireQueue(5);
+
+        Assert.assertEquals(50, processed);
+        Assert.assertTrue(dataManager.load(IndexingQueueItem.class).all().list().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Process only queue items of partitions assigned to the node")
+    public void processNodePartitions() {
+        for (int i = 0; i < 50; i++) {
+            ewm.createTestRootEntity().save();
+        }
+        String entityName = metadata.getClass(TestRootEntity.class).getName();
+        indexingQueueManager.enqueueIndexAll(entityName);
+
+        List<IndexingQueueItem> queueItems = dataManager.load(IndexingQueueItem.class).all().list();
+        long nodeItems = queueItems.stream()
+                .filter(item -> item.getPartitionKey() % 4 == 1 || item.getPartitionKey() % 4 == 3)
+                .count();
+
+        indexingQueueManager.setNodePartitions(List.of(1, 3));
+        try {
+            int processed = indexingQueueManager.processEntireQueue(5);
+
+            Assert.assertEquals(nodeItems, processed);
+            List<IndexingQueueItem> remainingItems = dataManager.load(IndexingQueueItem.class).all().list();
+            Assert.assertEquals(queueItems.size() - nodeItems, remainingItems.size());
+            Assert.assertTrue(remainingItems.stream()
+                    .allMatch(item -> item.getPartitionKey() % 4 == 0 || item.getPartitionKey() % 4 == 2));
+        } finally {
+            indexingQueueManager.setNodePartitions(null);
+        }
+    }
+}
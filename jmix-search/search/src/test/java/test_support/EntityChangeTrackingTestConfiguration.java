@@ -35,6 +35,7 @@ import io.jmix.core.IdSerialization;
 import io.jmix.core.Metadata;
 import io.jmix.core.annotation.JmixModule;
 import io.jmix.search.index.queue.IndexingQueueManager;
+import io.jmix.search.listener.DependentEntitiesResolver;
 import liquibase.integration.spring.SpringLiquibase;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
@@ -77,6 +78,12 @@ public class EntityChangeTrackingTestConfiguration {
         return beanFactory.createBean(TestJpaIndexingQueueManager.class);
     }
 
+    @Bean("search_DependentEntitiesResolver")
+    @Primary
+    public DependentEntitiesResolver dependentEntitiesResolver() {
+        return beanFactory.createBean(TestDependentEntitiesResolver.class);
+    }
+
     @Bean
     public TestCommonEntityWrapperManager testCommonEntityWrapperManager(Metadata metadata, DataManager dataManager) {
         return new TestCommonEntityWrapperManager(metadata, dataManager);
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support;
+
+import io.jmix.core.Id;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.search.listener.DependentEntitiesResolver;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DependentEntitiesResolver counting executed queries and allowing to limit the size of ids batches
+ */
+public class TestDependentEntitiesResolver extends DependentEntitiesResolver {
+
+    protected final AtomicInteger queriesCount = new AtomicInteger();
+
+    protected Integer idsBatchSize;
+
+    public int getQueriesCount() {
+        return queriesCount.get();
+    }
+
+    public void resetQueriesCount() {
+        queriesCount.set(0);
+    }
+
+    public void setIdsBatchSize(Integer idsBatchSize) {
+        this.idsBatchSize = idsBatchSize;
+    }
+
+    @Override
+    protected int getIdsBatchSize(MetaClass metaClass) {
+        return idsBatchSize != null ? idsBatchSize : super.getIdsBatchSize(metaClass);
+    }
+
+    @Override
+    protected List<Id<?>> performLoadingDependentEntityIds(MetaClass metaClass, DependentEntitiesQuery dependentEntitiesQuery) {
+        queriesCount.incrementAndGet();
+        return super.performLoadingDependentEntityIds(metaClass, dependentEntitiesQuery);
+    }
+}
@@ -19,6 +19,7 @@ package test_support;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.search.index.queue.entity.IndexingQueueItem;
 import io.jmix.search.index.queue.impl.JpaIndexingQueueManager;
+import org.springframework.lang.Nullable;
 
 import jakarta.annotation.Nonnull;
 import java.util.Collection;
@@ -33,6 +34,8 @@ public class TestJpaIndexingQueueManager extends JpaIndexingQueueManager {
 
     protected long idsProcessingDelay = 0;
 
+    protected List<Integer> nodePartitions;
+
     public TestJpaIndexingQueueManager(TestIndexingQueueItemsTracker indexingQueueItemsTracker) {
         this.indexingQueueItemsTracker = indexingQueueItemsTracker;
     }
@@ -45,6 +48,15 @@ public class TestJpaIndexingQueueManager extends JpaIndexingQueueManager {
         this.idsProcessingDelay = idsProcessingDelay;
     }
 
+    public void setNodePartitions(@Nullable List<Integer> nodePartitions) {
+        this.nodePartitions = nodePartitions;
+    }
+
+    @Override
+    protected List<Integer> getNodePartitions() {
+        return nodePartitions != null ? nodePartitions : super.getNodePartitions();
+    }
+
     @Override
     protected int enqueue(@Nonnull Collection<IndexingQueueItem> queueItems) {
         indexingQueueItemsTracker.accept(queueItems);
@@ -20,7 +20,11 @@ package database_role_provider
 import io.jmix.core.Metadata
 import io.jmix.core.SaveContext
 import io.jmix.core.UnconstrainedDataManager
+import io.jmix.core.security.SecurityContextHelper
+import io.jmix.security.constraint.PolicyStore
+import io.jmix.security.constraint.SecureOperations
 import io.jmix.security.model.*
+import io.jmix.security.role.RoleGrantedAuthorityUtils
 import io.jmix.securitydata.entity.ResourcePolicyEntity
 import io.jmix.securitydata.entity.ResourceRoleEntity
 import io.jmix.securitydata.entity.RowLevelPolicyEntity
@@ -29,6 +33,8 @@ import io.jmix.securitydata.impl.role.provider.DatabaseResourceRoleProvider
 import io.jmix.securitydata.impl.role.provider.DatabaseRowLevelRoleProvider
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.context.ApplicationContext
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.Authentication
 import test_support.SecurityDataSpecification
 import test_support.entity.TestOrder
 
@@ -49,8 +55,24 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
     @Autowired
     ApplicationContext applicationContext
 
+    @Autowired
+    SecureOperations secureOperations
+
+    @Autowired
+    PolicyStore policyStore
+
+    @Autowired
+    RoleGrantedAuthorityUtils roleGrantedAuthorityUtils
+
+    Authentication systemAuthentication
+
     def setup() {
         prepareTestData()
+        systemAuthentication = SecurityContextHelper.getAuthentication()
+    }
+
+    def cleanup() {
+        SecurityContextHelper.setAuthentication(systemAuthentication)
     }
 
     def "get all resource roles"() {
@@ -153,6 +175,32 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
 
     }
 
+    def "entity permissions are updated after database role is modified"() {
+        setup:
+
+        SecurityContextHelper.setAuthentication(new UsernamePasswordAuthenticationToken('user1', null,
+                [roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority('role1')]))
+        def orderMetaClass = metadata.getClass(TestOrder)
+
+        expect:
+
+        !secureOperations.isEntityReadPermitted(orderMetaClass, policyStore)
+
+        when:
+
+        def role1 = dataManager.load(ResourceRoleEntity)
+                .query('e.code = :code')
+                .parameter('code', 'role1')
+                .one()
+        dataManager.save(createResourcePolicyEntity(ResourcePolicyType.ENTITY, 'test_Order',
+                EntityPolicyAction.READ.id, ResourcePolicyEffect.ALLOW, 'policyGroup1', role1))
+
+        then:
+
+        secureOperations.isEntityReadPermitted(orderMetaClass, policyStore)
+        !secureOperations.isEntityDeletePermitted(orderMetaClass, policyStore)
+    }
+
     private void prepareTestData() {
         ResourceRoleEntity role1 = metadata.create(ResourceRoleEntity)
         role1.code = 'role1'
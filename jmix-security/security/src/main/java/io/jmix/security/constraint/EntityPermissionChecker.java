@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.constraint;
+
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.security.model.EntityPolicyAction;
+
+/**
+ * Checks entity and entity attribute permissions of the current user without evaluating each policy.
+ *
+ * @see PolicyStore#getEntityPermissionChecker()
+ */
+public interface EntityPermissionChecker {
+
+    /**
+     * Returns true if the action is permitted on the entity.
+     */
+    boolean isEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction action);
+
+    /**
+     * Returns true if the entity attribute can be viewed or modified.
+     */
+    boolean isEntityAttrReadPermitted(MetaClass metaClass, String attribute);
+
+    /**
+     * Returns true if the entity attribute can be modified.
+     */
+    boolean isEntityAttrUpdatePermitted(MetaClass metaClass, String attribute);
+}
@@ -19,6 +19,7 @@ package io.jmix.security.constraint;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.security.model.ResourcePolicy;
 import io.jmix.security.model.RowLevelPolicy;
+import org.springframework.lang.Nullable;
 
 import java.util.stream.Stream;
 
@@ -41,4 +42,13 @@ public interface PolicyStore {
 
     @Deprecated(forRemoval = true)
     Stream<ResourcePolicy> getGraphQLResourcePolicies(String resourceName);
+
+    /**
+     * Returns an object checking entity and entity attribute permissions consistently with the policies provided
+     * by this store, or null if the permissions should be evaluated from the policies.
+     */
+    @Nullable
+    default EntityPermissionChecker getEntityPermissionChecker() {
+        return null;
+    }
 }
@@ -17,33 +17,49 @@
 package io.jmix.security.impl.constraint;
 
 import io.jmix.core.ExtendedEntities;
+import io.jmix.core.UuidProvider;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.ClientDetails;
 import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.security.constraint.EntityPermissionChecker;
 import io.jmix.security.constraint.PolicyStore;
 import io.jmix.security.model.*;
 import io.jmix.security.role.ResourceRoleRepository;
 import io.jmix.security.role.RoleGrantedAuthorityUtils;
 import io.jmix.security.role.RowLevelRoleRepository;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.function.Function;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
+/**
+ * Provides policies of the current authentication.
+ * <p>
+ * Roles of a distinct set of granted authorities and scope are compiled to {@link CompiledPolicies} once and
+ * cached until resource or row-level roles are modified, see {@link #invalidateCache()}. Compiled policies are also
+ * keyed by version stamps kept in the role caches, so clearing a shared role cache on any cluster member discards
+ * them on all members.
+ * <p>
+ * Entity permissions are checked by the compiled policies, see {@link #getEntityPermissionChecker()}. Subclasses
+ * changing the provided entity policies should override this method as well.
+ */
 @Component("sec_AuthenticationPolicyStore")
 public class AuthenticationPolicyStore implements PolicyStore {
 
     private static final Logger log = LoggerFactory.getLogger(AuthenticationPolicyStore.class);
 
+    protected static final int MAX_CACHE_SIZE = 1000;
+
     @Autowired
     protected CurrentAuthentication currentAuthentication;
     @Autowired
@@ -58,140 +74,163 @@ public class AuthenticationPolicyStore implements PolicyStore {
     @Autowired
     protected RoleGrantedAuthorityUtils roleGrantedAuthorityUtils;
 
-    @Override
-    public Stream<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        Set<String> suitableMetaClassNames = new HashSet<>();
-        suitableMetaClassNames.add(metaClass.getName());
-        if (originalMetaClass != null) {
-            suitableMetaClassNames.add(originalMetaClass.getName());
-            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
-                suitableMetaClassNames.add(ancestor.getName());
-            }
-        }
-        for (MetaClass ancestor : metaClass.getAncestors()) {
-            suitableMetaClassNames.add(ancestor.getName());
+    @Autowired
+    protected CacheManager cacheManager;
+
+    protected Cache resourceRolesCache;
+
+    protected Cache rowLevelRolesCache;
+
+    protected volatile Map<CacheKey, CompiledPolicies> compiledPoliciesCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    protected void init() {
+        resourceRolesCache = getCache(ResourceRoleRepository.RESOURCE_ROLES_CACHE_NAME);
+        rowLevelRolesCache = getCache(RowLevelRoleRepository.ROW_LEVEL_ROLES_CACHE_NAME);
+    }
+
+    protected Cache getCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException(String.format("Unable to find cache: %s", name));
         }
+        return cache;
+    }
 
-        return extractRowLevelPoliciesFromAuthentication(rowLevelRole ->
-                suitableMetaClassNames.stream()
-                                .flatMap(metaClassName ->
-                                        rowLevelRole.getAllRowLevelPoliciesIndex().getRowLevelPoliciesByEntityName(metaClassName).stream())
-        );
+    @Override
+    public Stream<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
+        return getCompiledPolicies().getRowLevelPolicies(metaClass).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePolicies(MetaClass metaClass) {
         MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName());
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName());
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY, resources);
-        });
+        CompiledPolicies compiledPolicies = getCompiledPolicies();
+        Stream<ResourcePolicy> stream = compiledPolicies.getResourcePolicies(ResourcePolicyType.ENTITY, metaClass.getName()).stream();
+        if (originalMetaClass != null && !originalMetaClass.getName().equals(metaClass.getName())) {
+            stream = Stream.concat(stream,
+                    compiledPolicies.getResourcePolicies(ResourcePolicyType.ENTITY, originalMetaClass.getName()).stream());
+        }
+        return stream;
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePoliciesByWildcard(String wildcard) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-            getPoliciesStreamByTypeAndResources(resourceRole,
-                    ResourcePolicyType.ENTITY,
-                    Set.of(wildcard))
-        );
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.ENTITY, wildcard).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePolicies(MetaClass metaClass, String attribute) {
         MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName() + "." + attribute);
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName() + "." + attribute);
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY_ATTRIBUTE, resources);
-        });
+        CompiledPolicies compiledPolicies = getCompiledPolicies();
+        Stream<ResourcePolicy> stream = compiledPolicies.getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE,
+                metaClass.getName() + "." + attribute).stream();
+        if (originalMetaClass != null && !originalMetaClass.getName().equals(metaClass.getName())) {
+            stream = Stream.concat(stream, compiledPolicies.getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE,
+                    originalMetaClass.getName() + "." + attribute).stream());
+        }
+        return stream;
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePoliciesByWildcard(String entityWildcard, String attributeWildcard) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.ENTITY_ATTRIBUTE,
-                        Set.of(entityWildcard + "." + attributeWildcard)));
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE,
+                entityWildcard + "." + attributeWildcard).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getSpecificResourcePolicies(String resourceName) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.SPECIFIC,
-                        Set.of(resourceName)));
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.SPECIFIC, resourceName).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getGraphQLResourcePolicies(String resourceName) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.GRAPHQL,
-                        Set.of(resourceName)));
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.GRAPHQL, resourceName).stream();
     }
 
-    protected Stream<ResourcePolicy> extractResourcePoliciesFromAuthenticationByScope(Function<ResourceRole, Stream<ResourcePolicy>> extractor) {
-        Stream<ResourcePolicy> stream = Stream.empty();
+    @Override
+    public EntityPermissionChecker getEntityPermissionChecker() {
+        return getCompiledPolicies();
+    }
 
+    /**
+     * Returns policies of the current authentication.
+     */
+    public CompiledPolicies getCompiledPolicies() {
         Authentication authentication = currentAuthentication.getAuthentication();
         String scope = getScope(authentication);
+        Set<String> authorities = new HashSet<>();
         for (GrantedAuthority authority : authentication.getAuthorities()) {
             if (authority.getAuthority() != null) {
-                String roleCode = authority.getAuthority();
-                String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
-                if (roleCode.startsWith(defaultRolePrefix)) {
-                    roleCode = roleCode.substring(defaultRolePrefix.length());
-                    ResourceRole resourceRole = resourceRoleRepository.findRoleByCode(roleCode);
-                    if (resourceRole == null) {
-                        log.trace("ResourceRole '{}' not found", roleCode);
-                        continue;
-                    }
-                    if (isAppliedForScope(resourceRole, scope)) {
-                        Stream<ResourcePolicy> extractedStream = extractor.apply(resourceRole);
-                        if (extractedStream != null) {
-                            stream = Stream.concat(stream, extractedStream);
-                        }
-                    }
-                }
+                authorities.add(authority.getAuthority());
             }
         }
 
-        return stream;
+        Map<CacheKey, CompiledPolicies> cache = compiledPoliciesCache;
+        CacheKey cacheKey = new CacheKey(authorities, scope,
+                getRolesVersion(resourceRolesCache), getRolesVersion(rowLevelRolesCache));
+        CompiledPolicies compiledPolicies = cache.get(cacheKey);
+        if (compiledPolicies == null) {
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                log.debug("Compiled policies cache exceeded {} entries, clearing", MAX_CACHE_SIZE);
+                cache.clear();
+            }
+            compiledPolicies = cache.computeIfAbsent(cacheKey, key -> compilePolicies(key.authorities, key.scope));
+        }
+        return compiledPolicies;
+    }
+
+    /**
+     * Discards compiled policies. Invoked when resource or row-level roles are modified.
+     */
+    public void invalidateCache() {
+        // replace the map, so that policies being compiled from outdated roles are not visible after invalidation
+        compiledPoliciesCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the version stamp of roles kept in the given role cache. The stamp is removed together with the roles
+     * when the cache is cleared, and a new one is created on the next request.
+     */
+    @Nullable
+    protected Object getRolesVersion(Cache rolesCache) {
+        Cache.ValueWrapper versionWrapper = rolesCache.get(RolesVersionKey.INSTANCE);
+        if (versionWrapper == null) {
+            UUID version = UuidProvider.createUuid();
+            versionWrapper = rolesCache.putIfAbsent(RolesVersionKey.INSTANCE, version);
+            return versionWrapper == null ? version : versionWrapper.get();
+        }
+        return versionWrapper.get();
     }
 
-    protected Stream<RowLevelPolicy> extractRowLevelPoliciesFromAuthentication(Function<RowLevelRole, Stream<RowLevelPolicy>> extractor) {
-        Stream<RowLevelPolicy> stream = Stream.empty();
+    protected CompiledPolicies compilePolicies(Set<String> authorities, @Nullable String scope) {
+        List<ResourceRole> resourceRoles = new ArrayList<>();
+        List<RowLevelRole> rowLevelRoles = new ArrayList<>();
 
-        Authentication authentication = currentAuthentication.getAuthentication();
-        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
-            if (grantedAuthority.getAuthority() != null) {
-                String roleName = grantedAuthority.getAuthority();
-                String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
-                if (roleName.startsWith(defaultRowLevelRolePrefix)) {
-                    roleName = roleName.substring(defaultRowLevelRolePrefix.length());
-                    RowLevelRole rowLevelRole = rowLevelRoleRepository.findRoleByCode(roleName);
-                    if (rowLevelRole == null) {
-                        log.trace("RowLevelRole '{}' not found", roleName);
-                        continue;
-                    }
-                    Stream<RowLevelPolicy> extractedStream = extractor.apply(rowLevelRole);
-                    if (extractedStream != null) {
-                        stream = Stream.concat(stream, extractedStream);
-                    }
+        String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
+        String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
+        for (String authority : authorities) {
+            if (authority.startsWith(defaultRolePrefix)) {
+                String roleCode = authority.substring(defaultRolePrefix.length());
+                ResourceRole resourceRole = resourceRoleRepository.findRoleByCode(roleCode);
+                if (resourceRole == null) {
+                    log.trace("ResourceRole '{}' not found", roleCode);
+                } else if (isAppliedForScope(resourceRole, scope)) {
+                    resourceRoles.add(resourceRole);
+                }
+            }
+            if (authority.startsWith(defaultRowLevelRolePrefix)) {
+                String roleCode = authority.substring(defaultRowLevelRolePrefix.length());
+                RowLevelRole rowLevelRole = rowLevelRoleRepository.findRoleByCode(roleCode);
+                if (rowLevelRole == null) {
+                    log.trace("RowLevelRole '{}' not found", roleCode);
+                } else {
+                    rowLevelRoles.add(rowLevelRole);
                 }
             }
         }
 
-        return stream;
+        return new CompiledPolicies(resourceRoles, rowLevelRoles, extendedEntities);
     }
 
     @Nullable
@@ -207,10 +246,41 @@ public class AuthenticationPolicyStore implements PolicyStore {
         return scope == null || resourceRole.getScopes().contains(scope);
     }
 
-    protected Stream<ResourcePolicy> getPoliciesStreamByTypeAndResources(ResourceRole resourceRole,
-                                                                         String policyType,
-                                                                         Collection<String> resources) {
-        return resources.stream()
-                .flatMap(r -> resourceRole.getAllResourcePoliciesIndex().getPoliciesByTypeAndResource(policyType, r).stream());
+    /**
+     * Key of the roles version stamp in the role caches.
+     */
+    protected enum RolesVersionKey {
+        INSTANCE
+    }
+
+    protected static class CacheKey {
+
+        protected final Set<String> authorities;
+        protected final String scope;
+        protected final Object resourceRolesVersion;
+        protected final Object rowLevelRolesVersion;
+
+        protected CacheKey(Set<String> authorities, @Nullable String scope,
+                           @Nullable Object resourceRolesVersion, @Nullable Object rowLevelRolesVersion) {
+            this.authorities = authorities;
+            this.scope = scope;
+            this.resourceRolesVersion = resourceRolesVersion;
+            this.rowLevelRolesVersion = rowLevelRolesVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey that = (CacheKey) o;
+            return authorities.equals(that.authorities) && Objects.equals(scope, that.scope)
+                    && Objects.equals(resourceRolesVersion, that.resourceRolesVersion)
+                    && Objects.equals(rowLevelRolesVersion, that.rowLevelRolesVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(authorities, scope, resourceRolesVersion, rowLevelRolesVersion);
+        }
     }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.constraint;
+
+import io.jmix.core.ExtendedEntities;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.security.constraint.EntityPermissionChecker;
+import io.jmix.security.model.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of resource and row-level policies of a set of roles, built by
+ * {@link AuthenticationPolicyStore} for a distinct set of granted authorities and scope.
+ * <p>
+ * Policies of all roles are merged by type and resource, so that extracting them does not require iterating
+ * over the roles. Entity and entity attribute permissions are compiled to bit masks of permitted actions on the
+ * first request for a {@link MetaClass} and are checked by a single lookup afterwards.
+ */
+public class CompiledPolicies implements EntityPermissionChecker {
+
+    protected static final int ATTR_VIEW = 1;
+    protected static final int ATTR_MODIFY = 1 << 1;
+
+    protected final ExtendedEntities extendedEntities;
+
+    /**
+     * The key of external map is policy type. The value is a map of resources to policies of all roles.
+     */
+    protected final Map<String, Map<String, List<ResourcePolicy>>> resourcePolicies;
+
+    protected final Map<String, List<RowLevelPolicy>> rowLevelPolicies;
+
+    protected final Map<MetaClass, EntityPermissions> entityPermissions = new ConcurrentHashMap<>();
+
+    protected final Map<MetaClass, List<RowLevelPolicy>> rowLevelPoliciesByMetaClass = new ConcurrentHashMap<>();
+
+    public CompiledPolicies(Collection<ResourceRole> resourceRoles,
+                            Collection<RowLevelRole> rowLevelRoles,
+                            ExtendedEntities extendedEntities) {
+        this.extendedEntities = extendedEntities;
+
+        Map<String, Map<String, List<ResourcePolicy>>> resourcePolicies = new HashMap<>();
+        for (ResourceRole resourceRole : resourceRoles) {
+            for (ResourcePolicy policy : resourceRole.getAllResourcePolicies()) {
+                resourcePolicies.computeIfAbsent(policy.getType(), type -> new HashMap<>())
+                        .computeIfAbsent(policy.getResource(), resource -> new ArrayList<>())
+                        .add(policy);
+            }
+        }
+        this.resourcePolicies = resourcePolicies;
+
+        Map<String, List<RowLevelPolicy>> rowLevelPolicies = new HashMap<>();
+        for (RowLevelRole rowLevelRole : rowLevelRoles) {
+            for (RowLevelPolicy policy : rowLevelRole.getAllRowLevelPolicies()) {
+                rowLevelPolicies.computeIfAbsent(policy.getEntityName(), entityName -> new ArrayList<>())
+                        .add(policy);
+            }
+        }
+        this.rowLevelPolicies = rowLevelPolicies;
+    }
+
+    /**
+     * Returns policies of the specified type and resource of all roles.
+     */
+    public List<ResourcePolicy> getResourcePolicies(String policyType, String resource) {
+        Map<String, List<ResourcePolicy>> policiesByResource = resourcePolicies.get(policyType);
+        if (policiesByResource == null) {
+            return Collections.emptyList();
+        }
+        return policiesByResource.getOrDefault(resource, Collections.emptyList());
+    }
+
+    /**
+     * Returns row-level policies of the entity, its original entity if the entity is extended and their ancestors.
+     */
+    public List<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
+        if (rowLevelPolicies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return rowLevelPoliciesByMetaClass.computeIfAbsent(metaClass, this::collectRowLevelPolicies);
+    }
+
+    protected List<RowLevelPolicy> collectRowLevelPolicies(MetaClass metaClass) {
+        Set<String> suitableMetaClassNames = new LinkedHashSet<>();
+        suitableMetaClassNames.add(metaClass.getName());
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        if (originalMetaClass != null) {
+            suitableMetaClassNames.add(originalMetaClass.getName());
+            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
+                suitableMetaClassNames.add(ancestor.getName());
+            }
+        }
+        for (MetaClass ancestor : metaClass.getAncestors()) {
+            suitableMetaClassNames.add(ancestor.getName());
+        }
+
+        List<RowLevelPolicy> result = new ArrayList<>();
+        for (String metaClassName : suitableMetaClassNames) {
+            result.addAll(rowLevelPolicies.getOrDefault(metaClassName, Collections.emptyList()));
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns true if any role allows the action on the entity or on all entities.
+     */
+    @Override
+    public boolean isEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction action) {
+        return (getEntityPermissions(metaClass).entityActions & entityActionBit(action)) != 0;
+    }
+
+    /**
+     * Returns true if any role allows to view or modify the entity attribute.
+     */
+    @Override
+    public boolean isEntityAttrReadPermitted(MetaClass metaClass, String attribute) {
+        return (getEntityPermissions(metaClass).getAttributeActions(attribute) & (ATTR_VIEW | ATTR_MODIFY)) != 0;
+    }
+
+    /**
+     * Returns true if any role allows to modify the entity attribute.
+     */
+    @Override
+    public boolean isEntityAttrUpdatePermitted(MetaClass metaClass, String attribute) {
+        return (getEntityPermissions(metaClass).getAttributeActions(attribute) & ATTR_MODIFY) != 0;
+    }
+
+    protected EntityPermissions getEntityPermissions(MetaClass metaClass) {
+        return entityPermissions.computeIfAbsent(metaClass, EntityPermissions::new);
+    }
+
+    protected List<String> getEntityNames(MetaClass metaClass) {
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        return originalMetaClass == null
+                ? List.of(metaClass.getName())
+                : List.of(metaClass.getName(), originalMetaClass.getName());
+    }
+
+    protected static int entityActionBit(EntityPolicyAction action) {
+        return 1 << action.ordinal();
+    }
+
+    protected int getEntityActions(String resource) {
+        int result = 0;
+        for (ResourcePolicy policy : getResourcePolicies(ResourcePolicyType.ENTITY, resource)) {
+            if (ResourcePolicyEffect.ALLOW.equals(policy.getEffect())) {
+                for (EntityPolicyAction action : EntityPolicyAction.values()) {
+                    if (action.getId().equals(policy.getAction())) {
+                        result |= action == EntityPolicyAction.ALL ? -1 : entityActionBit(action);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    protected int getAttributeActions(String resource) {
+        int result = 0;
+        for (ResourcePolicy policy : getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE, resource)) {
+            if (ResourcePolicyEffect.ALLOW.equals(policy.getEffect())) {
+                if (EntityAttributePolicyAction.VIEW.getId().equals(policy.getAction())) {
+                    result |= ATTR_VIEW;
+                } else if (EntityAttributePolicyAction.MODIFY.getId().equals(policy.getAction())) {
+                    result |= ATTR_MODIFY;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bit masks of permitted actions on an entity and its attributes.
+     */
+    protected class EntityPermissions {
+
+        protected final List<String> entityNames;
+        protected final int entityActions;
+        protected final int allAttributesActions;
+        protected final Map<String, Integer> attributeActions = new ConcurrentHashMap<>();
+
+        protected EntityPermissions(MetaClass metaClass) {
+            entityNames = getEntityNames(metaClass);
+
+            int entityActions = getEntityActions("*");
+            int allAttributesActions = CompiledPolicies.this.getAttributeActions("*.*");
+            for (String entityName : entityNames) {
+                entityActions |= getEntityActions(entityName);
+                allAttributesActions |= CompiledPolicies.this.getAttributeActions(entityName + ".*");
+            }
+            this.entityActions = entityActions;
+            this.allAttributesActions = allAttributesActions;
+        }
+
+        protected int getAttributeActions(String attribute) {
+            return attributeActions.computeIfAbsent(attribute, name -> {
+                int result = allAttributesActions;
+                for (String entityName : entityNames) {
+                    result |= CompiledPolicies.this.getAttributeActions(entityName + "." + name);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -19,6 +19,7 @@ package io.jmix.security.impl.constraint;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.security.constraint.EntityPermissionChecker;
 import io.jmix.security.constraint.PolicyStore;
 import io.jmix.security.constraint.SecureOperations;
 import io.jmix.security.model.EntityAttributePolicyAction;
@@ -53,6 +54,10 @@ public class SecureOperationsImpl implements SecureOperations {
 
     protected boolean isEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction entityPolicyAction,
                                                  PolicyStore policyStore) {
+        EntityPermissionChecker permissionChecker = policyStore.getEntityPermissionChecker();
+        if (permissionChecker != null) {
+            return permissionChecker.isEntityOperationPermitted(metaClass, entityPolicyAction);
+        }
 
         boolean result = policyStore.getEntityResourcePolicies(metaClass)
                 .anyMatch(policy -> isEntityOperationPermitted(policy, entityPolicyAction));
@@ -73,6 +78,16 @@ public class SecureOperationsImpl implements SecureOperations {
 
     @Override
     public boolean isEntityAttrReadPermitted(MetaPropertyPath metaPropertyPath, PolicyStore policyStore) {
+        EntityPermissionChecker permissionChecker = policyStore.getEntityPermissionChecker();
+        if (permissionChecker != null) {
+            for (MetaProperty metaProperty : metaPropertyPath.getMetaProperties()) {
+                if (!permissionChecker.isEntityAttrReadPermitted(metaProperty.getDomain(), metaProperty.getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         for (MetaProperty metaProperty : metaPropertyPath.getMetaProperties()) {
             if (!isEntityAttrPermitted(metaProperty.getDomain(), metaProperty.getName(),
                     new EntityAttributePolicyAction[]{EntityAttributePolicyAction.VIEW, EntityAttributePolicyAction.MODIFY},
@@ -85,6 +100,16 @@ public class SecureOperationsImpl implements SecureOperations {
 
     @Override
     public boolean isEntityAttrUpdatePermitted(MetaPropertyPath metaPropertyPath, PolicyStore policyStore) {
+        EntityPermissionChecker permissionChecker = policyStore.getEntityPermissionChecker();
+        if (permissionChecker != null) {
+            for (MetaProperty metaProperty : metaPropertyPath.getMetaProperties()) {
+                if (!permissionChecker.isEntityAttrUpdatePermitted(metaProperty.getDomain(), metaProperty.getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         for (MetaProperty metaProperty : metaPropertyPath.getMetaProperties()) {
             if (!isEntityAttrPermitted(metaProperty.getDomain(), metaProperty.getName(),
                     new EntityAttributePolicyAction[]{EntityAttributePolicyAction.MODIFY},